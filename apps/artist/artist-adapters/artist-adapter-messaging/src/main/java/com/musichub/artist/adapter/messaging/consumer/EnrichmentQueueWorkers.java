@@ -0,0 +1,122 @@
+package com.musichub.artist.adapter.messaging.consumer;
+
+import com.musichub.artist.application.ports.in.ProcessEnrichmentQueueUseCase;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the enrichment queue in the background.
+ * <p>
+ * {@code artist.enrichment.queue.workers} threads each claim batches of at
+ * most {@code artist.enrichment.queue.batch-size} due artists and enrich them,
+ * back to back while artists are due, then poll every
+ * {@code artist.enrichment.queue.poll-interval}. Enrichment load is then
+ * bounded by the number of workers and smoothed over time, however bursty the
+ * track registrations that queue artists. Zero workers disables draining in
+ * this instance.
+ */
+@ApplicationScoped
+public class EnrichmentQueueWorkers {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrichmentQueueWorkers.class);
+    private static final long STOP_TIMEOUT_MS = 10_000;
+
+    @Inject
+    ProcessEnrichmentQueueUseCase enrichmentQueue;
+
+    @ConfigProperty(name = "artist.enrichment.queue.workers", defaultValue = "2")
+    int workerCount;
+
+    @ConfigProperty(name = "artist.enrichment.queue.batch-size", defaultValue = "16")
+    int batchSize;
+
+    @ConfigProperty(name = "artist.enrichment.queue.poll-interval", defaultValue = "PT5S")
+    Duration pollInterval;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private CountDownLatch stopping;
+
+    @PostConstruct
+    void start() {
+        if (workerCount < 0) {
+            throw new IllegalArgumentException("artist.enrichment.queue.workers must not be negative, got: " + workerCount);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("artist.enrichment.queue.batch-size must be positive, got: " + batchSize);
+        }
+        stopping = new CountDownLatch(1);
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::work, "artist-enrichment-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        // Nothing to do: observing startup creates the bean, hence starts the workers
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        stop();
+    }
+
+    /**
+     * Stops the workers once their current batch is over. Artists they had
+     * claimed but not processed are claimed again when their lease ends.
+     */
+    void stop() {
+        stopping.countDown();
+        for (Thread worker : workers) {
+            try {
+                worker.join(STOP_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        workers.clear();
+    }
+
+    private void work() {
+        while (stopping.getCount() > 0) {
+            int claimed;
+            try {
+                claimed = enrichmentQueue.processBatch(batchSize);
+            } catch (RuntimeException e) {
+                log.warn("Could not process the enrichment queue, retrying in {}", pollInterval, e);
+                claimed = 0;
+            }
+            if (claimed == 0 && pause()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Waits for the poll interval, or until the workers are stopping.
+     *
+     * @return true if the workers are stopping
+     */
+    private boolean pause() {
+        try {
+            return stopping.await(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+    }
+}
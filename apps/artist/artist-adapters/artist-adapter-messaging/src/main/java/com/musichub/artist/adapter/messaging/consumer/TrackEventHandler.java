@@ -2,25 +2,170 @@ package com.musichub.artist.adapter.messaging.consumer;
 
 import com.musichub.artist.application.ports.in.ArtistTrackRegistrationUseCase;
 import com.musichub.shared.events.TrackWasRegistered;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
 import io.quarkus.vertx.ConsumeEvent;
 import io.smallrye.common.annotation.Blocking;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consumes {@code track-registered} events in micro-batches.
+ * <p>
+ * Events are queued as they arrive, and a single drainer thread hands them to
+ * the use case in batches of at most {@code artist.track-events.batch-size}
+ * events, collected for at most {@code artist.track-events.batch-window} after
+ * the first one. During bulk imports a batch then costs one artist lookup and
+ * one transaction instead of several per credit, while a lone event waits no
+ * longer than the window. A full queue blocks the event bus workers rather
+ * than dropping events, and a batch that fails is retried event by event so
+ * that one bad event does not take the others down with it.
+ */
 @ApplicationScoped
 public class TrackEventHandler {
 
     private static final Logger log = LoggerFactory.getLogger(TrackEventHandler.class);
+    private static final long IDLE_POLL_MS = 200;
+    private static final long IDLE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(IDLE_POLL_MS);
+    private static final long STOP_TIMEOUT_MS = 10_000;
 
     @Inject
     ArtistTrackRegistrationUseCase artistService;
 
+    @ConfigProperty(name = "artist.track-events.batch-size", defaultValue = "200")
+    int batchSize;
+
+    @ConfigProperty(name = "artist.track-events.batch-window", defaultValue = "PT0.05S")
+    Duration batchWindow;
+
+    @ConfigProperty(name = "artist.track-events.queue-capacity", defaultValue = "10000")
+    int queueCapacity;
+
+    private BlockingQueue<TrackWasRegistered> queue;
+    private Thread drainer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("artist.track-events.batch-size must be positive, got: " + batchSize);
+        }
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        running = true;
+        drainer = new Thread(this::drain, "artist-track-events");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        // Nothing to do: observing startup creates the bean, hence starts the drainer, before the first event
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        stop();
+    }
+
+    /**
+     * Stops the drainer once the events already queued are processed.
+     */
+    void stop() {
+        running = false;
+        try {
+            drainer.join(STOP_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Events queued while the drainer was exiting
+        List<TrackWasRegistered> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            process(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
     @ConsumeEvent("track-registered")
     @Blocking
     public void handle(TrackWasRegistered event) {
-        log.info("Received track registration event: {}", event);
-        artistService.handleTrackRegistration(event);
+        log.debug("Received track registration event: {}", event);
+        if (!running) {
+            process(List.of(event));
+            return;
+        }
+        try {
+            queue.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while queueing track registration {}, processing it directly", event.isrc().value());
+            process(List.of(event));
+        }
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            List<TrackWasRegistered> batch = new ArrayList<>(batchSize);
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            process(batch);
+        }
+    }
+
+    /**
+     * Waits for an event, then collects more until the batch is full, the window has elapsed or the
+     * handler is stopping. Returns with an empty batch when no event arrives for a while, so that the
+     * drainer notices a stop.
+     */
+    private void collect(List<TrackWasRegistered> batch) throws InterruptedException {
+        TrackWasRegistered first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + batchWindow.toNanos();
+        while (true) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            TrackWasRegistered next = queue.poll(Math.min(remaining, IDLE_POLL_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    private void process(List<TrackWasRegistered> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            artistService.handleTrackRegistrations(batch);
+            log.debug("Processed a batch of {} track registrations", batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} track registrations failed, retrying them one by one", batch.size(), e);
+            for (TrackWasRegistered event : batch) {
+                try {
+                    artistService.handleTrackRegistrations(List.of(event));
+                } catch (RuntimeException eventFailure) {
+                    log.error("Could not process track registration {}", event.isrc().value(), eventFailure);
+                }
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package com.musichub.artist.adapter.messaging.consumer;
+
+import com.musichub.artist.application.ports.in.ProcessEnrichmentQueueUseCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EnrichmentQueueWorkers Unit Tests")
+class EnrichmentQueueWorkersTest {
+
+    @Mock
+    private ProcessEnrichmentQueueUseCase enrichmentQueue;
+
+    private EnrichmentQueueWorkers workers;
+
+    @BeforeEach
+    void setUp() {
+        workers = new EnrichmentQueueWorkers();
+        workers.enrichmentQueue = enrichmentQueue;
+        workers.workerCount = 1;
+        workers.batchSize = 4;
+        workers.pollInterval = Duration.ofSeconds(5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.stop();
+    }
+
+    @Test
+    @DisplayName("Should claim batches back to back while artists are due")
+    void shouldDrainWithoutPausingWhileArtistsAreDue() {
+        when(enrichmentQueue.processBatch(4)).thenReturn(4, 4, 1, 0);
+
+        workers.start();
+
+        verify(enrichmentQueue, timeout(2_000).times(4)).processBatch(4);
+    }
+
+    @Test
+    @DisplayName("Should poll at the configured interval once the queue is empty")
+    void shouldPauseWhenQueueIsEmpty() {
+        when(enrichmentQueue.processBatch(4)).thenReturn(0);
+
+        workers.start();
+
+        verify(enrichmentQueue, timeout(2_000)).processBatch(4);
+        verify(enrichmentQueue, after(500).atMost(1)).processBatch(4);
+    }
+
+    @Test
+    @DisplayName("Should keep working after a failed batch")
+    void shouldSurviveFailures() {
+        workers.pollInterval = Duration.ofMillis(50);
+        when(enrichmentQueue.processBatch(4))
+                .thenThrow(new IllegalStateException("Database error"))
+                .thenReturn(0);
+
+        workers.start();
+
+        verify(enrichmentQueue, timeout(2_000).atLeast(2)).processBatch(4);
+    }
+
+    @Test
+    @DisplayName("Should stop promptly, even while pausing")
+    void shouldStopPromptly() {
+        when(enrichmentQueue.processBatch(4)).thenReturn(0);
+        workers.start();
+        verify(enrichmentQueue, timeout(2_000)).processBatch(4);
+
+        workers.stop();
+        clearInvocations(enrichmentQueue);
+
+        verify(enrichmentQueue, after(200).never()).processBatch(4);
+    }
+
+    @Test
+    @DisplayName("Should not start any worker when disabled")
+    void shouldNotStartWhenDisabled() {
+        workers.workerCount = 0;
+
+        workers.start();
+
+        verify(enrichmentQueue, after(200).never()).processBatch(4);
+    }
+}
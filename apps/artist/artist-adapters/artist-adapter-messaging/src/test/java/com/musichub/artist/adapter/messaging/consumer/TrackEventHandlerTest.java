@@ -0,0 +1,112 @@
+package com.musichub.artist.adapter.messaging.consumer;
+
+import com.musichub.artist.application.ports.in.ArtistTrackRegistrationUseCase;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.events.ArtistCreditInfo;
+import com.musichub.shared.events.TrackWasRegistered;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrackEventHandler Unit Tests")
+class TrackEventHandlerTest {
+
+    @Mock
+    private ArtistTrackRegistrationUseCase artistService;
+
+    private TrackEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new TrackEventHandler();
+        handler.artistService = artistService;
+        handler.batchSize = 3;
+        handler.batchWindow = Duration.ofSeconds(5);
+        handler.queueCapacity = 100;
+        handler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        handler.stop();
+    }
+
+    @Test
+    @DisplayName("Should hand events over in full batches without waiting for the window")
+    void shouldProcessFullBatches() {
+        List<TrackWasRegistered> events = events(6);
+
+        events.forEach(handler::handle);
+
+        verify(artistService, timeout(2_000)).handleTrackRegistrations(events.subList(0, 3));
+        verify(artistService, timeout(2_000)).handleTrackRegistrations(events.subList(3, 6));
+    }
+
+    @Test
+    @DisplayName("Should hand over a partial batch once the window has elapsed")
+    void shouldProcessPartialBatchAfterWindow() {
+        handler.stop();
+        handler.batchWindow = Duration.ofMillis(200);
+        handler.start();
+        List<TrackWasRegistered> events = events(2);
+
+        events.forEach(handler::handle);
+
+        verify(artistService, timeout(2_000)).handleTrackRegistrations(events);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch event by event")
+    void shouldRetryFailedBatchOneByOne() {
+        List<TrackWasRegistered> events = events(3);
+        doThrow(new IllegalStateException("Database error")).when(artistService).handleTrackRegistrations(events);
+
+        events.forEach(handler::handle);
+
+        verify(artistService, timeout(2_000)).handleTrackRegistrations(List.of(events.get(0)));
+        verify(artistService, timeout(2_000)).handleTrackRegistrations(List.of(events.get(1)));
+        verify(artistService, timeout(2_000)).handleTrackRegistrations(List.of(events.get(2)));
+    }
+
+    @Test
+    @DisplayName("Should process queued events when stopping")
+    void shouldFlushQueuedEventsOnStop() {
+        List<TrackWasRegistered> events = events(2);
+
+        events.forEach(handler::handle);
+        handler.stop();
+
+        // The batch window is far from over: only stopping makes the events processed
+        ArgumentCaptor<List<TrackWasRegistered>> batches = ArgumentCaptor.forClass(List.class);
+        verify(artistService, atLeastOnce()).handleTrackRegistrations(batches.capture());
+        assertThat(batches.getAllValues().stream().flatMap(List::stream).toList()).isEqualTo(events);
+    }
+
+    private static List<TrackWasRegistered> events(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(n -> new TrackWasRegistered(
+                ISRC.of(String.format("FRLA124%05d", n)),
+                "Track " + n,
+                UUID.randomUUID(),
+                List.of(ArtistCreditInfo.withName("Artist " + n)),
+                List.of()))
+            .toList();
+    }
+}
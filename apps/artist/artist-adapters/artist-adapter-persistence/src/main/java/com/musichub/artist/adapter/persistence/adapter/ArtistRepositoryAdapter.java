@@ -1,5 +1,6 @@
 package com.musichub.artist.adapter.persistence.adapter;
 
+import com.musichub.artist.adapter.persistence.cache.ArtistIdCache;
 import com.musichub.artist.adapter.persistence.entity.ArtistEntity;
 import com.musichub.artist.adapter.persistence.entity.ContributionEntity;
 import com.musichub.artist.adapter.persistence.entity.SourceEntity;
@@ -7,6 +8,7 @@ import com.musichub.artist.adapter.persistence.exception.ArtistPersistenceExcept
 import com.musichub.artist.adapter.persistence.mapper.ArtistMapper;
 import com.musichub.artist.application.ports.out.ArtistRepository;
 import com.musichub.artist.domain.model.Artist;
+import com.musichub.artist.domain.values.ArtistName;
 import com.musichub.shared.domain.id.ArtistId;
 import com.musichub.shared.domain.values.SourceType;
 
@@ -18,22 +20,44 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * JPA implementation of ArtistRepository.
  * Handles persistence of complete Artist aggregates including contributions and sources.
+ * <p>
+ * Artists are looked up by normalized name ({@link ArtistName#normalize}); the
+ * {@link ArtistIdCache} resolves hot names to their id, so that the artist is
+ * loaded by primary key rather than by name.
  */
 @ApplicationScoped
 public class ArtistRepositoryAdapter implements ArtistRepository, PanacheRepositoryBase<ArtistEntity, UUID> {
 
     private static final Logger log = LoggerFactory.getLogger(ArtistRepositoryAdapter.class);
     private static final String CORRELATION_ID_KEY = "correlationId";
+    // Contributions and sources are both bags, which Hibernate cannot fetch in the same query
+    private static final String WITH_CONTRIBUTIONS_BY_NORMALIZED_NAMES =
+            "select distinct a from ArtistEntity a left join fetch a.contributions where a.normalizedName in ?1";
+    private static final String WITH_CONTRIBUTIONS_BY_IDS =
+            "select distinct a from ArtistEntity a left join fetch a.contributions where a.id in ?1";
+    private static final String WITH_SOURCES_BY_IDS =
+            "select distinct a from ArtistEntity a left join fetch a.sources where a.id in ?1";
 
     @Inject
     private ArtistMapper artistMapper;
 
+    @Inject
+    private ArtistIdCache artistIdCache;
 
     @Override
     public Optional<Artist> findByName(String name) {
@@ -41,13 +65,19 @@ public class ArtistRepositoryAdapter implements ArtistRepository, PanacheReposit
         log.debug("Querying database for artist with name: {}, correlationId: {}", name, correlationId);
 
         try {
-            Optional<ArtistEntity> entityOpt = find("name", name).firstResultOptional();
+            String normalizedName = ArtistName.normalize(name);
+            if (normalizedName.isEmpty()) {
+                return Optional.empty();
+            }
+            Optional<ArtistEntity> entityOpt = findCached(normalizedName)
+                    .or(() -> find("normalizedName", normalizedName).firstResultOptional());
 
             if (entityOpt.isEmpty()) {
                 log.debug("No artist found with name: {}", name);
                 return Optional.empty();
             }
 
+            remember(entityOpt.get());
             Artist artist = artistMapper.toDomain(entityOpt.get());
             log.debug("Successfully retrieved artist by name: {}, id: {}, contributions: {}", 
                     name, artist.getId().value(), artist.getContributions().size());
@@ -116,6 +146,65 @@ public class ArtistRepositoryAdapter implements ArtistRepository, PanacheReposit
         }
     }
 
+    @Override
+    @Transactional
+    public List<Artist> findByNames(Collection<String> names) {
+        String correlationId = MDC.get(CORRELATION_ID_KEY);
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        log.debug("Querying database for {} artist names, correlationId: {}", names.size(), correlationId);
+
+        try {
+            Map<String, UUID> cachedIds = new HashMap<>();
+            Set<String> uncachedNames = new LinkedHashSet<>();
+            for (String name : names) {
+                String normalizedName = ArtistName.normalize(name);
+                if (!normalizedName.isEmpty()) {
+                    artistIdCache.get(normalizedName).ifPresentOrElse(
+                            id -> cachedIds.put(normalizedName, id),
+                            () -> uncachedNames.add(normalizedName));
+                }
+            }
+
+            List<ArtistEntity> entities = new ArrayList<>();
+            if (!cachedIds.isEmpty()) {
+                Map<UUID, ArtistEntity> entitiesById = find(WITH_CONTRIBUTIONS_BY_IDS, List.copyOf(cachedIds.values()))
+                        .list().stream()
+                        .collect(Collectors.toMap(entity -> entity.id, Function.identity()));
+                cachedIds.forEach((normalizedName, id) -> {
+                    ArtistEntity entity = entitiesById.get(id);
+                    if (entity != null && normalizedName.equals(entity.normalizedName)) {
+                        entities.add(entity);
+                    } else {
+                        // Stale hint: the artist was renamed or never committed
+                        artistIdCache.invalidate(normalizedName);
+                        uncachedNames.add(normalizedName);
+                    }
+                });
+            }
+            if (!uncachedNames.isEmpty()) {
+                List<ArtistEntity> found = find(WITH_CONTRIBUTIONS_BY_NORMALIZED_NAMES, uncachedNames).list();
+                found.forEach(this::remember);
+                entities.addAll(found);
+            }
+            if (!entities.isEmpty()) {
+                // Fills in the sources of the entities already loaded in this session
+                find(WITH_SOURCES_BY_IDS, entities.stream().map(entity -> entity.id).toList()).list();
+            }
+
+            List<Artist> artists = entities.stream().map(artistMapper::toDomain).toList();
+            log.debug("Retrieved {} artists for {} names", artists.size(), names.size());
+
+            return artists;
+
+        } catch (Exception e) {
+            throw new ArtistPersistenceException(
+                    String.format("Failed to retrieve artists for %d names (correlationId: %s)",
+                            names.size(), correlationId), e);
+        }
+    }
+
     @Override
     @Transactional
     public Artist save(Artist artist) {
@@ -142,6 +231,7 @@ public class ArtistRepositoryAdapter implements ArtistRepository, PanacheReposit
                 log.debug("Created new artist entity - id: {}, name: {}", 
                         artistId.value(), artistName);
             }
+            remember(entityToSave);
 
             Artist savedArtist = artistMapper.toDomain(entityToSave);
 
@@ -158,31 +248,111 @@ public class ArtistRepositoryAdapter implements ArtistRepository, PanacheReposit
         }
     }
 
+    @Override
+    @Transactional
+    public List<Artist> saveAll(Collection<Artist> artists) {
+        String correlationId = MDC.get(CORRELATION_ID_KEY);
+        if (artists.isEmpty()) {
+            return List.of();
+        }
+        log.debug("Saving {} artists to database, correlationId: {}", artists.size(), correlationId);
+
+        try {
+            List<UUID> ids = artists.stream().map(artist -> artist.getId().value()).toList();
+            // Collections are loaded up front, two statements for all artists, to be diffed in place
+            Map<UUID, ArtistEntity> existingEntities = find(WITH_CONTRIBUTIONS_BY_IDS, ids).list().stream()
+                    .collect(Collectors.toMap(entity -> entity.id, Function.identity()));
+            if (!existingEntities.isEmpty()) {
+                find(WITH_SOURCES_BY_IDS, List.copyOf(existingEntities.keySet())).list();
+            }
+
+            List<ArtistEntity> savedEntities = new ArrayList<>(artists.size());
+            for (Artist artist : artists) {
+                ArtistEntity entity = existingEntities.get(artist.getId().value());
+                if (entity != null) {
+                    updateEntityFromDomain(entity, artist);
+                } else {
+                    entity = artistMapper.toDbo(artist);
+                    persist(entity);
+                }
+                remember(entity);
+                savedEntities.add(entity);
+            }
+
+            List<Artist> savedArtists = savedEntities.stream().map(artistMapper::toDomain).toList();
+            log.info("Artists saved successfully - created: {}, updated: {}, correlationId: {}",
+                    artists.size() - existingEntities.size(), existingEntities.size(), correlationId);
+
+            return savedArtists;
+
+        } catch (Exception e) {
+            throw new ArtistPersistenceException(
+                    String.format("Failed to save %d artists (correlationId: %s)",
+                            artists.size(), correlationId), e);
+        }
+    }
+
+    /**
+     * Loads the artist a cached name resolves to, dropping the cache entry
+     * when it no longer holds.
+     */
+    private Optional<ArtistEntity> findCached(String normalizedName) {
+        return artistIdCache.get(normalizedName).flatMap(id -> {
+            Optional<ArtistEntity> entity = findByIdOptional(id)
+                    .filter(candidate -> normalizedName.equals(candidate.normalizedName));
+            if (entity.isEmpty()) {
+                artistIdCache.invalidate(normalizedName);
+            }
+            return entity;
+        });
+    }
+
+    private void remember(ArtistEntity entity) {
+        if (entity.normalizedName != null) {
+            artistIdCache.put(entity.normalizedName, entity.id);
+        }
+    }
+
     /**
      * Updates an existing JPA entity with data from the domain model.
-     * Handles collections properly to avoid JPA issues.
+     * Collections are updated in place, element by element, so that only the
+     * rows of the contributions and sources that changed are written.
      */
     private void updateEntityFromDomain(ArtistEntity entity, Artist domain) {
+        String normalizedName = domain.getName().normalized();
+        if (entity.normalizedName != null && !entity.normalizedName.equals(normalizedName)) {
+            artistIdCache.invalidate(entity.normalizedName);
+        }
         entity.name = domain.getNameValue();
+        entity.normalizedName = normalizedName;
         entity.status = domain.getStatus();
 
-        // Clear and repopulate contributions
-        entity.contributions.clear();
+        Set<ContributionEntity> contributions = new LinkedHashSet<>();
         domain.getContributions().forEach(contribution -> 
-            entity.contributions.add(new ContributionEntity(
+            contributions.add(new ContributionEntity(
                 contribution.trackId().value(),
                 contribution.title(),
                 contribution.isrc().value()
             ))
         );
+        replaceElements(entity.contributions, contributions);
 
-        // Clear and repopulate sources
-        entity.sources.clear();
+        Set<SourceEntity> sources = new LinkedHashSet<>();
         domain.getSources().forEach(source -> 
-            entity.sources.add(new SourceEntity(
+            sources.add(new SourceEntity(
                 source.sourceType(),
                 source.sourceId()
             ))
         );
+        replaceElements(entity.sources, sources);
+    }
+
+    /**
+     * Makes {@code persisted} hold exactly {@code wanted}, leaving the elements
+     * present in both untouched.
+     */
+    private static <E> void replaceElements(Set<E> persisted, Set<E> wanted) {
+        persisted.retainAll(wanted);
+        persisted.addAll(wanted);
     }
-}
\ No newline at end of file
+}
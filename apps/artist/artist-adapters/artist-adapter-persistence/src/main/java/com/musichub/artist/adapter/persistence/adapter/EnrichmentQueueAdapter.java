@@ -0,0 +1,122 @@
+package com.musichub.artist.adapter.persistence.adapter;
+
+import com.musichub.artist.adapter.persistence.entity.EnrichmentQueueEntity;
+import com.musichub.artist.adapter.persistence.exception.ArtistPersistenceException;
+import com.musichub.artist.application.dto.EnrichmentTask;
+import com.musichub.artist.application.ports.out.EnrichmentQueue;
+import com.musichub.shared.domain.id.ArtistId;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * JPA implementation of EnrichmentQueue, on the {@code artist_enrichment_queue} table.
+ * <p>
+ * Claims lock the due rows with {@code SELECT ... FOR UPDATE SKIP LOCKED}, so
+ * that concurrent workers, in this instance or others, each get different
+ * rows without waiting for one another, and push them past the lease before
+ * committing. The lock is only held for the claim itself. Hibernate renders
+ * the skip-locked hint for the dialect: databases that do not support it, like
+ * H2, get a plain {@code FOR UPDATE}, under which concurrent claims wait for
+ * each other instead, then skip the rows already claimed as they are no
+ * longer due.
+ */
+@ApplicationScoped
+public class EnrichmentQueueAdapter implements EnrichmentQueue, PanacheRepositoryBase<EnrichmentQueueEntity, UUID> {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrichmentQueueAdapter.class);
+    private static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
+    // Lock timeout value meaning SKIP LOCKED to Hibernate
+    private static final int SKIP_LOCKED = -2;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Override
+    @Transactional
+    public void enqueue(Collection<ArtistId> artistIds) {
+        if (artistIds.isEmpty()) {
+            return;
+        }
+        Set<UUID> ids = artistIds.stream().map(ArtistId::value).collect(Collectors.toSet());
+        try {
+            Set<UUID> queued = list("artistId in ?1", ids).stream()
+                    .map(entry -> entry.artistId)
+                    .collect(Collectors.toSet());
+            Instant now = Instant.now();
+            for (UUID id : ids) {
+                if (!queued.contains(id)) {
+                    persist(new EnrichmentQueueEntity(id, now));
+                }
+            }
+            log.debug("Queued {} artists for enrichment, {} already queued", ids.size() - queued.size(), queued.size());
+        } catch (Exception e) {
+            throw new ArtistPersistenceException(
+                    String.format("Failed to queue %d artists for enrichment", ids.size()), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<EnrichmentTask> claim(int limit, Duration lease) {
+        try {
+            Instant now = Instant.now();
+            List<EnrichmentQueueEntity> due = find("nextAttemptAt <= ?1 order by nextAttemptAt", now)
+                    .withLock(LockModeType.PESSIMISTIC_WRITE)
+                    .withHint(LOCK_TIMEOUT_HINT, SKIP_LOCKED)
+                    .page(0, limit)
+                    .list();
+
+            Instant leaseEnd = now.plus(lease);
+            for (EnrichmentQueueEntity entry : due) {
+                entry.attempts++;
+                entry.nextAttemptAt = leaseEnd;
+            }
+            if (!due.isEmpty()) {
+                log.debug("Claimed {} artists for enrichment until {}", due.size(), leaseEnd);
+            }
+            return due.stream()
+                    .map(entry -> new EnrichmentTask(new ArtistId(entry.artistId), entry.attempts))
+                    .toList();
+        } catch (Exception e) {
+            throw new ArtistPersistenceException("Failed to claim artists for enrichment", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void complete(ArtistId artistId) {
+        try {
+            deleteById(artistId.value());
+        } catch (Exception e) {
+            throw new ArtistPersistenceException(
+                    String.format("Failed to remove artist '%s' from the enrichment queue", artistId.value()), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void retryAt(ArtistId artistId, Instant nextAttemptAt, String error) {
+        try {
+            findByIdOptional(artistId.value()).ifPresent(entry -> {
+                entry.nextAttemptAt = nextAttemptAt;
+                entry.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                        ? error.substring(0, MAX_ERROR_LENGTH)
+                        : error;
+            });
+        } catch (Exception e) {
+            throw new ArtistPersistenceException(
+                    String.format("Failed to reschedule the enrichment of artist '%s'", artistId.value()), e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.musichub.artist.adapter.persistence.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Bounded cache from normalized artist name to artist id, so that resolving a
+ * hot artist by name skips the name query.
+ * <p>
+ * Entries are hints, not truth: an entry may outlive a rolled back
+ * transaction, or a rename made by another instance, so callers check that the
+ * artist loaded by id still has the name it was looked up by, and invalidate
+ * the entry otherwise. Entries expire after {@code artist.name-cache.ttl}.
+ * Hits, misses, evictions and size are published through Micrometer under the
+ * {@code artist-ids} cache name.
+ */
+@ApplicationScoped
+public class ArtistIdCache {
+
+    static final String CACHE_NAME = "artist-ids";
+
+    private final Cache<String, UUID> cache;
+
+    @Inject
+    public ArtistIdCache(
+            @ConfigProperty(name = "artist.name-cache.ttl", defaultValue = "PT10M") Duration ttl,
+            @ConfigProperty(name = "artist.name-cache.max-size", defaultValue = "10000") long maxSize,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @param normalizedName a name normalized by {@code ArtistName.normalize}
+     * @return the id last seen for that name, if cached
+     */
+    public Optional<UUID> get(String normalizedName) {
+        return Optional.ofNullable(cache.getIfPresent(normalizedName));
+    }
+
+    public void put(String normalizedName, UUID artistId) {
+        cache.put(normalizedName, artistId);
+    }
+
+    public void invalidate(String normalizedName) {
+        cache.invalidate(normalizedName);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -1,15 +1,20 @@
 package com.musichub.artist.adapter.persistence.entity;
 
 import com.musichub.artist.domain.model.ArtistStatus;
+import com.musichub.artist.domain.values.ArtistName;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import jakarta.persistence.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * JPA entity for Artist aggregate.
  * Maps the rich Artist domain model to database tables.
+ * <p>
+ * Contributions and sources are sets rather than bags: Hibernate deletes and
+ * inserts only the rows of the elements removed or added, where a bag is
+ * rewritten entirely on any change.
  */
 @Entity
 @Table(name = "artists")
@@ -21,6 +26,12 @@ public class ArtistEntity extends PanacheEntityBase {
     @Column(name = "name", nullable = false, length = 255)
     public String name;
 
+    /**
+     * The key the artist is looked up by, see {@code ArtistName.normalized()}.
+     */
+    @Column(name = "normalized_name", length = 1024, unique = true)
+    public String normalizedName;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
     public ArtistStatus status;
@@ -30,14 +41,16 @@ public class ArtistEntity extends PanacheEntityBase {
         name = "artist_contributions",
         joinColumns = @JoinColumn(name = "artist_id")
     )
-    public List<ContributionEntity> contributions = new ArrayList<>();
+    @OrderBy("isrc, trackId")
+    public Set<ContributionEntity> contributions = new LinkedHashSet<>();
 
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(
         name = "artist_sources",
         joinColumns = @JoinColumn(name = "artist_id")
     )
-    public List<SourceEntity> sources = new ArrayList<>();
+    @OrderBy("sourceType")
+    public Set<SourceEntity> sources = new LinkedHashSet<>();
 
     public ArtistEntity() {
         // JPA requires default constructor
@@ -46,8 +59,9 @@ public class ArtistEntity extends PanacheEntityBase {
     public ArtistEntity(UUID id, String name, ArtistStatus status) {
         this.id = id;
         this.name = name;
+        this.normalizedName = ArtistName.normalize(name);
         this.status = status;
-        this.contributions = new ArrayList<>();
-        this.sources = new ArrayList<>();
+        this.contributions = new LinkedHashSet<>();
+        this.sources = new LinkedHashSet<>();
     }
 }
@@ -0,0 +1,47 @@
+package com.musichub.artist.adapter.persistence.entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA entity for an artist waiting for enrichment.
+ */
+@Entity
+@Table(name = "artist_enrichment_queue")
+public class EnrichmentQueueEntity extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "artist_id")
+    public UUID artistId;
+
+    @Column(name = "attempts", nullable = false)
+    public int attempts;
+
+    /**
+     * When the artist is due, or when the lease of the claimer that holds it ends.
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    public Instant nextAttemptAt;
+
+    @Column(name = "enqueued_at", nullable = false)
+    public Instant enqueuedAt;
+
+    @Column(name = "last_error", length = 500)
+    public String lastError;
+
+    public EnrichmentQueueEntity() {
+        // JPA requires default constructor
+    }
+
+    public EnrichmentQueueEntity(UUID artistId, Instant enqueuedAt) {
+        this.artistId = artistId;
+        this.attempts = 0;
+        this.nextAttemptAt = enqueuedAt;
+        this.enqueuedAt = enqueuedAt;
+    }
+}
@@ -31,6 +31,7 @@ public interface ArtistMapper {
      */
     @Mapping(target = "id", source = "id", qualifiedByName = "artistIdToUuid")
     @Mapping(target = "name", source = "nameValue")
+    @Mapping(target = "normalizedName", expression = "java(domain.getName().normalized())")
     @Mapping(target = "status", source = "status")
     @Mapping(target = "contributions", source = "contributions")
     @Mapping(target = "sources", source = "sources")
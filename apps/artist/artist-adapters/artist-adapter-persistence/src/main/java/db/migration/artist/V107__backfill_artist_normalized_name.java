@@ -0,0 +1,158 @@
+package db.migration.artist;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.musichub.artist.domain.values.ArtistName;
+
+/**
+ * Artist context migration: backfill_artist_normalized_name
+ * <p>
+ * V105 could only approximate {@link ArtistName#normalize(String)} in SQL, and
+ * left a null key on the artists whose approximate keys collided. Since artists
+ * are only looked up by their key, those were unreachable by name. This
+ * migration recomputes every key with the normalization the application uses.
+ * <p>
+ * Artists whose names normalize to the same key designate the same artist and
+ * are merged into one survivor: the first verified artist of the group by id,
+ * or else the first one. The contributions, sources, enrichment queue entry and
+ * producer track credits of the others are moved to the survivor, unless the
+ * survivor already has the same row, then the others are deleted. Every merge
+ * is logged.
+ */
+public class V107__backfill_artist_normalized_name extends BaseJavaMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(V107__backfill_artist_normalized_name.class);
+
+    private static final String VERIFIED = "VERIFIED";
+
+    private static final String MOVE_CONTRIBUTIONS =
+            "UPDATE artist_contributions SET artist_id = ? WHERE artist_id = ? AND NOT EXISTS ("
+                    + "SELECT 1 FROM artist_contributions s WHERE s.artist_id = ? "
+                    + "AND s.track_isrc = artist_contributions.track_isrc "
+                    + "AND s.track_id = artist_contributions.track_id)";
+    // One source per platform: the survivor keeps its own when it has one
+    private static final String MOVE_SOURCES =
+            "UPDATE artist_sources SET artist_id = ? WHERE artist_id = ? AND NOT EXISTS ("
+                    + "SELECT 1 FROM artist_sources s WHERE s.artist_id = ? "
+                    + "AND s.source_type = artist_sources.source_type)";
+    private static final String MOVE_QUEUE_ENTRY =
+            "UPDATE artist_enrichment_queue SET artist_id = ? WHERE artist_id = ? AND NOT EXISTS ("
+                    + "SELECT 1 FROM artist_enrichment_queue s WHERE s.artist_id = ?)";
+    // Owned by the producer context, in the same database: credits must not point to a deleted artist
+    private static final String MOVE_TRACK_CREDITS =
+            "UPDATE track_artist_credits SET artist_id = ? WHERE artist_id = ?";
+    // Leftover contributions, sources and queue entry are deleted in cascade
+    private static final String DELETE_ARTIST = "DELETE FROM artists WHERE id = ?";
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        Map<String, List<ArtistRow>> artistsByKey = loadArtistsByKey(connection);
+
+        // Recomputed keys may equal the stale key of another row: clear them all first
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE artists SET normalized_name = NULL");
+        }
+
+        boolean trackCreditsPresent = tableExists(connection, "track_artist_credits");
+        int merged = 0;
+        try (PreparedStatement setKey = connection.prepareStatement(
+                "UPDATE artists SET normalized_name = ? WHERE id = ?")) {
+            for (Map.Entry<String, List<ArtistRow>> group : artistsByKey.entrySet()) {
+                List<ArtistRow> artists = group.getValue();
+                ArtistRow survivor = artists.stream()
+                        .filter(artist -> VERIFIED.equals(artist.status()))
+                        .findFirst()
+                        .orElse(artists.get(0));
+                for (ArtistRow duplicate : artists) {
+                    if (duplicate != survivor) {
+                        log.warn("Merging artist {} '{}' into artist {} '{}': both are named '{}' once normalized",
+                                duplicate.id(), duplicate.name(), survivor.id(), survivor.name(), group.getKey());
+                        merge(connection, survivor, duplicate, trackCreditsPresent);
+                        merged++;
+                    }
+                }
+                setKey.setString(1, group.getKey());
+                setKey.setObject(2, survivor.id());
+                setKey.addBatch();
+            }
+            setKey.executeBatch();
+        }
+        log.info("Backfilled the normalized name of {} artist(s), merged {} duplicate(s)",
+                artistsByKey.size(), merged);
+    }
+
+    private static Map<String, List<ArtistRow>> loadArtistsByKey(Connection connection) throws SQLException {
+        Map<String, List<ArtistRow>> artistsByKey = new LinkedHashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT id, name, status FROM artists ORDER BY id")) {
+            while (rows.next()) {
+                ArtistRow artist = new ArtistRow(rows.getObject(1), rows.getString(2), rows.getString(3));
+                String key = ArtistName.normalize(artist.name());
+                if (key.isEmpty()) {
+                    // Not a valid ArtistName: it could not have been found by name before either
+                    log.warn("Artist {} has a blank name, it keeps no normalized name", artist.id());
+                    continue;
+                }
+                artistsByKey.computeIfAbsent(key, ignored -> new ArrayList<>()).add(artist);
+            }
+        }
+        return artistsByKey;
+    }
+
+    private static void merge(Connection connection, ArtistRow survivor, ArtistRow duplicate,
+                              boolean trackCreditsPresent) throws SQLException {
+        moveRows(connection, MOVE_CONTRIBUTIONS, survivor, duplicate, true);
+        moveRows(connection, MOVE_SOURCES, survivor, duplicate, true);
+        moveRows(connection, MOVE_QUEUE_ENTRY, survivor, duplicate, true);
+        if (trackCreditsPresent) {
+            moveRows(connection, MOVE_TRACK_CREDITS, survivor, duplicate, false);
+        }
+        try (PreparedStatement delete = connection.prepareStatement(DELETE_ARTIST)) {
+            delete.setObject(1, duplicate.id());
+            delete.executeUpdate();
+        }
+    }
+
+    private static void moveRows(Connection connection, String sql, ArtistRow survivor, ArtistRow duplicate,
+                                 boolean unlessOnSurvivor) throws SQLException {
+        try (PreparedStatement move = connection.prepareStatement(sql)) {
+            move.setObject(1, survivor.id());
+            move.setObject(2, duplicate.id());
+            if (unlessOnSurvivor) {
+                move.setObject(3, survivor.id());
+            }
+            move.executeUpdate();
+        }
+    }
+
+    private static boolean tableExists(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        // Unquoted identifiers are stored lower case by PostgreSQL and upper case by H2
+        for (String name : List.of(table, table.toUpperCase())) {
+            try (ResultSet tables = metaData.getTables(null, null, name, new String[] {"TABLE"})) {
+                if (tables.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private record ArtistRow(Object id, String name, String status) {
+    }
+}
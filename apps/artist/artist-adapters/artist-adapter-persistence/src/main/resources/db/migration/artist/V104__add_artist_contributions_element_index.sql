@@ -0,0 +1,14 @@
+-- Artist context migration: add_artist_contributions_element_index
+-- Version: V104
+-- Description: Index the columns identifying a contribution row
+
+-- Contributions are persisted as a set: adding or removing one contribution
+-- inserts or deletes that single row, the delete matching the row on all of
+-- its columns. This index lets such a delete find the row directly instead of
+-- scanning every contribution of the artist.
+
+CREATE INDEX IF NOT EXISTS idx_artist_contributions_element
+    ON artist_contributions (artist_id, track_isrc, track_id);
+
+-- Rollback strategy:
+-- DROP INDEX idx_artist_contributions_element;
@@ -0,0 +1,28 @@
+-- Artist context migration: add_artist_normalized_name
+-- Version: V105
+-- Description: Identify artists by their normalized name
+
+-- Artists are looked up by ArtistName.normalized(): NFKC, case folded, with
+-- whitespace runs collapsed. The column is written by the application on
+-- every save; names differing only by these designate the same artist, which
+-- the unique index now enforces.
+ALTER TABLE artists ADD COLUMN normalized_name VARCHAR(1024);
+
+-- Backfill existing rows with what SQL can portably compute (case and
+-- surrounding whitespace); the next save of an artist writes the exact key.
+-- Of existing artists that collide, only the oldest-keyed one gets the key,
+-- the others keep a null key until merged.
+UPDATE artists a
+SET normalized_name = LOWER(TRIM(a.name))
+WHERE NOT EXISTS (
+    SELECT 1 FROM artists b
+    WHERE LOWER(TRIM(b.name)) = LOWER(TRIM(a.name))
+      AND b.id < a.id
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_artists_normalized_name
+    ON artists (normalized_name);
+
+-- Rollback strategy:
+-- DROP INDEX idx_artists_normalized_name;
+-- ALTER TABLE artists DROP COLUMN normalized_name;
@@ -0,0 +1,31 @@
+-- Artist context migration: create_artist_enrichment_queue
+-- Version: V106
+-- Description: Durable queue of the artists waiting for enrichment
+
+-- An artist is queued in the transaction that creates it, and leaves the
+-- queue once enriched or given up on. Workers claim the entries due, the
+-- oldest first, and push next_attempt_at forward for the duration of their
+-- lease, then for the backoff when the attempt fails.
+CREATE TABLE IF NOT EXISTS artist_enrichment_queue (
+    artist_id UUID PRIMARY KEY,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    enqueued_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_error VARCHAR(500),
+    CONSTRAINT fk_artist_enrichment_queue_artist
+        FOREIGN KEY (artist_id) REFERENCES artists(id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_artist_enrichment_queue_next_attempt
+    ON artist_enrichment_queue (next_attempt_at);
+
+-- Provisional artists created before the queue existed had their enrichment
+-- fired and forgotten: give them another chance
+INSERT INTO artist_enrichment_queue (artist_id, attempts, next_attempt_at, enqueued_at)
+SELECT id, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+FROM artists
+WHERE status = 'PROVISIONAL';
+
+-- Rollback strategy:
+-- DROP TABLE artist_enrichment_queue;
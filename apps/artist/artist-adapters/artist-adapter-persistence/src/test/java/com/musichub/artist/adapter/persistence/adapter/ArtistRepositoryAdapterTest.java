@@ -1,5 +1,6 @@
 package com.musichub.artist.adapter.persistence.adapter;
 
+import com.musichub.artist.adapter.persistence.cache.ArtistIdCache;
 import com.musichub.artist.adapter.persistence.config.PersistenceTestProfile;
 import com.musichub.artist.domain.model.Artist;
 import com.musichub.artist.domain.model.ArtistStatus;
@@ -14,6 +15,10 @@ import io.quarkus.test.TestTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
 import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +26,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
 @QuarkusTest
@@ -31,6 +37,15 @@ class ArtistRepositoryAdapterTest {
     @Inject
     ArtistRepositoryAdapter repository;
 
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    ArtistIdCache artistIdCache;
+
     // =================================
     // PERSISTENCE AND RETRIEVAL TESTS
     // =================================
@@ -235,21 +250,74 @@ class ArtistRepositoryAdapterTest {
 
     @Test
     @TestTransaction
-    @DisplayName("Should handle case-sensitive name searches correctly")
-    void shouldHandleCaseSensitiveNameSearches() {
+    @DisplayName("Should find artists by name regardless of case, whitespace and Unicode forms")
+    void shouldFindArtistsByNormalizedName() {
         // Given
-        repository.save(Artist.createProvisional("The Beatles"));
+        var saved = repository.save(Artist.createProvisional("The Beatles"));
 
         // When/Then - Exact match should work
         assertThat(repository.findByName("The Beatles"))
                 .isPresent();
 
-        // When/Then - Different case should not match (assuming case-sensitive DB)
+        // When/Then - Other spellings of the same name resolve to the same artist
         assertThat(repository.findByName("the beatles"))
+                .get()
+                .extracting(Artist::getId)
+                .isEqualTo(saved.getId());
+
+        assertThat(repository.findByName("  THE \t BEATLES "))
+                .get()
+                .extracting(Artist::getNameValue)
+                .isEqualTo("The Beatles");
+
+        assertThat(repository.findByName("\uFF34he Beatles"))
+                .isPresent();
+
+        assertThat(repository.findByName("The Beatle"))
+                .isEmpty();
+        assertThat(repository.findByName("   "))
                 .isEmpty();
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should reject a second artist whose name only differs by case and whitespace")
+    void shouldRejectDuplicateNormalizedName() {
+        // Given
+        repository.save(Artist.createProvisional("Daft Punk"));
+        entityManager.flush();
+
+        // When
+        repository.save(Artist.createProvisional("DAFT  punk"));
+
+        // Then
+        assertThatThrownBy(() -> entityManager.flush())
+                .isInstanceOf(PersistenceException.class);
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should ignore cached ids that no longer resolve to the looked up name")
+    void shouldIgnoreStaleCachedIds() {
+        // Given
+        var queen = repository.save(createTestArtistWithName("Queen"));
+        var beatles = repository.save(createTestArtistWithName("The Beatles"));
+        artistIdCache.put("queen", beatles.getId().value());
+        artistIdCache.put("pink floyd", UUID.randomUUID());
 
-        assertThat(repository.findByName("THE BEATLES"))
+        // When/Then
+        assertThat(repository.findByName("Queen"))
+                .get()
+                .extracting(Artist::getId)
+                .isEqualTo(queen.getId());
+        assertThat(repository.findByName("Pink Floyd"))
                 .isEmpty();
+
+        artistIdCache.put("queen", beatles.getId().value());
+        assertThat(repository.findByNames(List.of("Queen", "The Beatles")))
+                .extracting(Artist::getId)
+                .containsExactlyInAnyOrder(queen.getId(), beatles.getId());
+        assertThat(artistIdCache.get("queen")).contains(queen.getId().value());
     }
 
     // =======================
@@ -468,6 +536,120 @@ class ArtistRepositoryAdapterTest {
                 });
     }
 
+    @Test
+    @TestTransaction
+    @DisplayName("Should write only the added contribution when updating a prolific artist")
+    void shouldWriteOnlyTheChangedRowsOnUpdate() {
+        // Given - a persisted artist with many contributions, loaded as in a later transaction
+        var savedArtist = repository.save(createArtistWithManyRelations());
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        var updatedArtist = savedArtist.addContribution(Contribution.of(
+                new TrackId(UUID.randomUUID()),
+                "Track 11",
+                ISRC.of("US-S1Z-99-00011")
+        ));
+
+        // When
+        repository.save(updatedArtist);
+        entityManager.flush();
+
+        // Then - the artist and its two collections are read, one contribution row is inserted
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(statistics.getCollectionRemoveCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(repository.findById(savedArtist.getId()))
+                .get()
+                .satisfies(artist -> assertThat(artist.getContributions()).hasSize(11));
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should replace a source of the same platform without rewriting the others")
+    void shouldReplaceOnlyTheChangedSource() {
+        // Given
+        var savedArtist = repository.save(createArtistWithManyRelations());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        repository.save(savedArtist.addSource(Source.of("SPOTIFY", "spotify:artist:replaced")));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(repository.findById(savedArtist.getId()))
+                .get()
+                .satisfies(artist -> {
+                    assertThat(artist.getContributions()).hasSize(10);
+                    assertThat(artist.getSources())
+                            .hasSize(4)
+                            .extracting(Source::sourceId)
+                            .contains("spotify:artist:replaced")
+                            .doesNotContain("spotify:artist:many1");
+                });
+    }
+
+    // ===============
+    // BATCH TESTS
+    // ===============
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should find several artists by name with their contributions and sources")
+    void shouldFindArtistsByNamesWithCompleteData() {
+        // Given
+        repository.save(createCompleteTestArtist());
+        repository.save(createTestArtistWithName("Queen"));
+        repository.save(createTestArtistWithName("Pink Floyd"));
+
+        // When
+        var artists = repository.findByNames(List.of("The Beatles", "QUEEN ", "Unknown Artist"));
+
+        // Then
+        assertThat(artists)
+                .extracting(Artist::getNameValue, artist -> artist.getContributions().size(), artist -> artist.getSources().size())
+                .containsExactlyInAnyOrder(
+                        tuple("The Beatles", 2, 2),
+                        tuple("Queen", 1, 1)
+                );
+        assertThat(repository.findByNames(List.of())).isEmpty();
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should create and update several artists at once")
+    void shouldSaveNewAndExistingArtistsAtOnce() {
+        // Given
+        var existing = repository.save(createTestArtistWithName("Queen"));
+        var updated = existing.addContribution(Contribution.of(
+                new TrackId(UUID.randomUUID()),
+                "Bohemian Rhapsody",
+                ISRC.of("GB-EMI-75-00001")
+        ));
+        var created = createTestArtistWithName("Pink Floyd");
+
+        // When
+        var saved = repository.saveAll(List.of(updated, created));
+
+        // Then
+        assertThat(saved)
+                .extracting(Artist::getId, artist -> artist.getContributions().size())
+                .containsExactly(
+                        tuple(existing.getId(), 2),
+                        tuple(created.getId(), 1)
+                );
+        assertThat(repository.findById(existing.getId()))
+                .get()
+                .satisfies(artist -> assertThat(artist.getContributions())
+                        .extracting(Contribution::title)
+                        .contains("Bohemian Rhapsody"));
+        assertThat(repository.findByName("Pink Floyd")).isPresent();
+    }
+
     // ===============
     // HELPER METHODS
     // ===============
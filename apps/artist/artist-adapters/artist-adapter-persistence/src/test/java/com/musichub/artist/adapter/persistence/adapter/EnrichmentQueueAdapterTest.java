@@ -0,0 +1,136 @@
+package com.musichub.artist.adapter.persistence.adapter;
+
+import com.musichub.artist.adapter.persistence.config.PersistenceTestProfile;
+import com.musichub.artist.adapter.persistence.entity.EnrichmentQueueEntity;
+import com.musichub.artist.application.dto.EnrichmentTask;
+import com.musichub.artist.domain.model.Artist;
+import com.musichub.shared.domain.id.ArtistId;
+import io.quarkus.test.TestTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@QuarkusTest
+@DisplayName("EnrichmentQueueAdapter Integration Tests")
+@TestProfile(PersistenceTestProfile.class)
+class EnrichmentQueueAdapterTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Inject
+    EnrichmentQueueAdapter queue;
+
+    @Inject
+    ArtistRepositoryAdapter artistRepository;
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should hand a queued artist to a single claim until its lease ends")
+    void shouldClaimQueuedArtistsOnce() {
+        // Given
+        ArtistId queen = savedArtist("Queen");
+        ArtistId beatles = savedArtist("The Beatles");
+        queue.enqueue(List.of(queen, beatles));
+
+        // When
+        List<EnrichmentTask> claimed = queue.claim(10, LEASE);
+
+        // Then
+        assertThat(claimed)
+                .extracting(EnrichmentTask::artistId, EnrichmentTask::attempts)
+                .containsExactlyInAnyOrder(tuple(queen, 1), tuple(beatles, 1));
+        assertThat(queue.claim(10, LEASE)).isEmpty();
+        assertThat(queue.findById(queen.value()).nextAttemptAt).isAfter(Instant.now().plus(LEASE).minusSeconds(60));
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should claim at most the limit, the longest due first")
+    void shouldClaimUpToLimitInDueOrder() {
+        // Given
+        ArtistId first = savedArtist("First");
+        ArtistId second = savedArtist("Second");
+        ArtistId third = savedArtist("Third");
+        queue.enqueue(List.of(first, second, third));
+        Instant now = Instant.now();
+        queue.retryAt(first, now.minusSeconds(30), null);
+        queue.retryAt(second, now.minusSeconds(20), null);
+        queue.retryAt(third, now.minusSeconds(10), null);
+
+        // When
+        List<EnrichmentTask> claimed = queue.claim(2, LEASE);
+
+        // Then
+        assertThat(claimed).extracting(EnrichmentTask::artistId).containsExactly(first, second);
+        assertThat(queue.claim(2, LEASE)).extracting(EnrichmentTask::artistId).containsExactly(third);
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should keep a single entry for an artist queued twice")
+    void shouldNotQueueAnArtistTwice() {
+        // Given
+        ArtistId queen = savedArtist("Queen");
+        queue.enqueue(List.of(queen));
+        queue.claim(10, LEASE);
+
+        // When
+        queue.enqueue(List.of(queen));
+
+        // Then
+        assertThat(queue.count()).isEqualTo(1);
+        assertThat(queue.findById(queen.value()).attempts).isEqualTo(1);
+        assertThat(queue.claim(10, LEASE)).isEmpty();
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should make a rescheduled artist due again at the given time, keeping the error")
+    void shouldRescheduleArtists() {
+        // Given
+        ArtistId due = savedArtist("Due Again");
+        ArtistId later = savedArtist("Later");
+        queue.enqueue(List.of(due, later));
+        queue.claim(10, LEASE);
+
+        // When
+        queue.retryAt(due, Instant.now().minusSeconds(1), "x".repeat(600));
+        queue.retryAt(later, Instant.now().plus(Duration.ofHours(1)), "not found on any external source");
+
+        // Then
+        assertThat(queue.claim(10, LEASE))
+                .extracting(EnrichmentTask::artistId, EnrichmentTask::attempts)
+                .containsExactly(tuple(due, 2));
+        EnrichmentQueueEntity entry = queue.findById(due.value());
+        assertThat(entry.lastError).hasSize(500);
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should remove completed artists from the queue")
+    void shouldRemoveCompletedArtists() {
+        // Given
+        ArtistId queen = savedArtist("Queen");
+        queue.enqueue(List.of(queen));
+
+        // When
+        queue.complete(queen);
+
+        // Then
+        assertThat(queue.count()).isZero();
+        assertThat(queue.claim(10, LEASE)).isEmpty();
+    }
+
+    private ArtistId savedArtist(String name) {
+        return artistRepository.save(Artist.createProvisional(name)).getId();
+    }
+}
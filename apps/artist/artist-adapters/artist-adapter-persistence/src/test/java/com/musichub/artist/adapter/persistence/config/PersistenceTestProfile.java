@@ -15,6 +15,8 @@ public class PersistenceTestProfile implements QuarkusTestProfile {
 
         // Exclusion des composants de l'application
         config.put("quarkus.arc.exclude-types", "com.musichub.artist.application.**");
+        // Statement and collection write counts are asserted by the update tests
+        config.put("quarkus.hibernate-orm.statistics", "true");
         return config;
     }
 
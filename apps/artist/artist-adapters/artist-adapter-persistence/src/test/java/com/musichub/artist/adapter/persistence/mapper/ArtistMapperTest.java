@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -61,6 +62,7 @@ class ArtistMapperTest {
                 .satisfies(e -> {
                     assertThat(e.id).isEqualTo(artistId.value());
                     assertThat(e.name).isEqualTo("The Beatles");
+                    assertThat(e.normalizedName).isEqualTo("the beatles");
                     assertThat(e.status).isEqualTo(ArtistStatus.VERIFIED);
                 });
 
@@ -389,15 +391,15 @@ class ArtistMapperTest {
         entity.name = "Queen";
         entity.status = ArtistStatus.VERIFIED;
 
-        entity.contributions = List.of(
+        entity.contributions = new LinkedHashSet<>(List.of(
             createContributionEntity(UUID.randomUUID(), "Bohemian Rhapsody", "GB-UM7-15-00362"),
             createContributionEntity(UUID.randomUUID(), "We Will Rock You", "GB-UM7-77-00385")
-        );
+        ));
 
-        entity.sources = List.of(
+        entity.sources = new LinkedHashSet<>(List.of(
             createSourceEntity(SourceType.SPOTIFY, "spotify:artist:1dfeR4HaWDbWqFHLkxsg1d"),
             createSourceEntity(SourceType.TIDAL, "tidal:artist:7804")
-        );
+        ));
 
         return entity;
     }
@@ -407,8 +409,8 @@ class ArtistMapperTest {
         entity.id = UUID.randomUUID();
         entity.name = "Minimal Artist";
         entity.status = ArtistStatus.PROVISIONAL;
-        entity.contributions = List.of();
-        entity.sources = List.of();
+        entity.contributions = new LinkedHashSet<>();
+        entity.sources = new LinkedHashSet<>();
         return entity;
     }
 
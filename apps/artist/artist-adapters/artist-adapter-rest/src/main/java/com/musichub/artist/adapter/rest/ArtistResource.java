@@ -2,6 +2,7 @@ package com.musichub.artist.adapter.rest;
 
 import com.musichub.artist.adapter.rest.dto.ArtistResponse;
 import com.musichub.artist.adapter.rest.mapper.ArtistResponseMapper;
+import com.musichub.artist.adapter.rest.mapper.ArtistVersionTag;
 import com.musichub.artist.adapter.rest.service.ProducerAssemblyService;
 import com.musichub.artist.application.ports.out.ArtistRepository;
 import com.musichub.artist.domain.model.Artist;
@@ -10,7 +11,10 @@ import com.musichub.shared.domain.id.ArtistId;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 
 import java.util.List;
@@ -21,6 +25,9 @@ import java.util.UUID;
  * REST controller for Artist endpoints.
  * Exposes the rich Artist domain model as defined in AC 4.
  * Implements GET /artists/{id} and GET /artists?name=xyz endpoints.
+ * <p>
+ * Both answer with an ETag and honour If-None-Match: an unchanged artist gets
+ * a 304 before any producer assembly, mapping or serialization.
  */
 @Path("/api/v1/artists")
 @ApplicationScoped
@@ -43,11 +50,12 @@ public class ArtistResource {
      * Returns the rich domain model with contributions, sources, and producer IDs.
      *
      * @param artistId the artist UUID
-     * @return ArtistResponse with complete domain data
+     * @param request  the request, for its If-None-Match precondition
+     * @return ArtistResponse with complete domain data, or 304 if the client's copy is current
      */
     @GET
     @Path("/{id}")
-    public Response getArtistById(@PathParam("id") UUID artistId) {
+    public Response getArtistById(@PathParam("id") UUID artistId, @Context Request request) {
         Optional<Artist> artistOpt = artistRepository.findById(new ArtistId(artistId));
 
         if (artistOpt.isEmpty()) {
@@ -56,22 +64,19 @@ public class ArtistResource {
                     .build();
         }
 
-        Artist artist = artistOpt.get();
-        List<UUID> producerIds = producerAssemblyService.getProducerIds(artist);
-        ArtistResponse response = ArtistResponseMapper.toResponse(artist, producerIds);
-
-        return Response.ok(response).build();
+        return toResponse(artistOpt.get(), request);
     }
 
     /**
      * Searches for artists by name.
      * Returns the first matching artist with complete domain data.
      *
-     * @param name the artist name to search for
-     * @return ArtistResponse with complete domain data or 404 if not found
+     * @param name    the artist name to search for
+     * @param request the request, for its If-None-Match precondition
+     * @return ArtistResponse with complete domain data, 304 if the client's copy is current, or 404 if not found
      */
     @GET
-    public Response searchArtistByName(@QueryParam("name") String name) {
+    public Response searchArtistByName(@QueryParam("name") String name, @Context Request request) {
         if (name == null || name.trim().isEmpty()) {
             return Response.status(Response.Status.BAD_REQUEST)
                     .entity("{\"error\":\"Name parameter is required\"}")
@@ -86,10 +91,19 @@ public class ArtistResource {
                     .build();
         }
 
-        Artist artist = artistOpt.get();
+        return toResponse(artistOpt.get(), request);
+    }
+
+    private Response toResponse(Artist artist, Request request) {
+        EntityTag entityTag = ArtistVersionTag.of(artist);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.tag(entityTag).build();
+        }
+
         List<UUID> producerIds = producerAssemblyService.getProducerIds(artist);
         ArtistResponse response = ArtistResponseMapper.toResponse(artist, producerIds);
 
-        return Response.ok(response).build();
+        return Response.ok(response).tag(entityTag).build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.musichub.artist.adapter.rest.mapper;
+
+import com.musichub.artist.domain.model.Artist;
+import com.musichub.artist.domain.values.Contribution;
+import com.musichub.shared.domain.values.Source;
+
+import jakarta.ws.rs.core.EntityTag;
+
+/**
+ * Computes the entity tag of an artist representation.
+ * <p>
+ * The artist response is derived from the aggregate alone, so a hash of the
+ * aggregate state identifies it: the tag is computed from the domain model,
+ * without building the response or serializing it.
+ */
+public final class ArtistVersionTag {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    // Separates fields so that ("ab", "c") and ("a", "bc") hash differently
+    private static final char SEPARATOR = '\u0000';
+
+    private ArtistVersionTag() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * @param artist the artist
+     * @return a strong entity tag that changes whenever the artist representation does
+     */
+    public static EntityTag of(Artist artist) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, artist.getId().value().toString());
+        hash = mix(hash, artist.getNameValue());
+        hash = mix(hash, artist.getStatus().name());
+        for (Contribution contribution : artist.getContributions()) {
+            hash = mix(hash, contribution.trackId().value().toString());
+            hash = mix(hash, contribution.title());
+            hash = mix(hash, contribution.isrc().value());
+        }
+        hash = mix(hash, "sources");
+        for (Source source : artist.getSources()) {
+            hash = mix(hash, source.sourceType().name());
+            hash = mix(hash, source.sourceId());
+        }
+        return new EntityTag(Long.toHexString(hash));
+    }
+
+    // FNV-1a over the UTF-16 code units of the value, then the separator
+    private static long mix(long hash, String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+            }
+        }
+        return (hash ^ SEPARATOR) * FNV_PRIME;
+    }
+}
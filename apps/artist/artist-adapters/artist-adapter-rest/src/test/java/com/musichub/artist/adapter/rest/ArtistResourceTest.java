@@ -1,5 +1,6 @@
 package com.musichub.artist.adapter.rest;
 
+import com.musichub.artist.adapter.rest.mapper.ArtistVersionTag;
 import com.musichub.artist.adapter.rest.service.ProducerAssemblyService;
 import com.musichub.artist.application.ports.out.ArtistRepository;
 import com.musichub.artist.domain.model.Artist;
@@ -18,6 +19,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import java.util.Arrays;
 import java.util.List;
@@ -39,6 +42,9 @@ class ArtistResourceTest {
     @Mock
     private ProducerAssemblyService producerAssemblyService;
 
+    @Mock
+    private Request request;
+
     @BeforeEach
     void setUp() {
         artistResource = new ArtistResource(artistRepository, producerAssemblyService);
@@ -62,7 +68,7 @@ class ArtistResourceTest {
             when(producerAssemblyService.getProducerIds(artist)).thenReturn(producerIds);
 
             // When
-            Response response = artistResource.getArtistById(artistUuid);
+            Response response = artistResource.getArtistById(artistUuid, request);
 
             // Then
             assertThat(response.getStatus()).isEqualTo(200);
@@ -80,7 +86,7 @@ class ArtistResourceTest {
             when(artistRepository.findById(artistId)).thenReturn(Optional.empty());
 
             // When
-            Response response = artistResource.getArtistById(artistUuid);
+            Response response = artistResource.getArtistById(artistUuid, request);
 
             // Then
             assertThat(response.getStatus()).isEqualTo(404);
@@ -98,7 +104,7 @@ class ArtistResourceTest {
             when(artistRepository.findById(artistId)).thenReturn(Optional.empty());
 
             // When
-            Response response = artistResource.getArtistById(artistUuid);
+            Response response = artistResource.getArtistById(artistUuid, request);
 
             // Then
             assertThat(response.getStatus()).isEqualTo(404);
@@ -123,7 +129,7 @@ class ArtistResourceTest {
             when(producerAssemblyService.getProducerIds(artist)).thenReturn(producerIds);
 
             // When
-            Response response = artistResource.searchArtistByName(artistName);
+            Response response = artistResource.searchArtistByName(artistName, request);
 
             // Then
             assertThat(response.getStatus()).isEqualTo(200);
@@ -140,7 +146,7 @@ class ArtistResourceTest {
             when(artistRepository.findByName(artistName)).thenReturn(Optional.empty());
 
             // When
-            Response response = artistResource.searchArtistByName(artistName);
+            Response response = artistResource.searchArtistByName(artistName, request);
 
             // Then
             assertThat(response.getStatus()).isEqualTo(404);
@@ -155,7 +161,7 @@ class ArtistResourceTest {
             String artistName = null;
 
             // When
-            Response response = artistResource.searchArtistByName(artistName);
+            Response response = artistResource.searchArtistByName(artistName, request);
 
             // Then
             assertThat(response.getStatus()).isEqualTo(400);
@@ -170,7 +176,7 @@ class ArtistResourceTest {
             String artistName = "";
 
             // When
-            Response response = artistResource.searchArtistByName(artistName);
+            Response response = artistResource.searchArtistByName(artistName, request);
 
             // Then
             assertThat(response.getStatus()).isEqualTo(400);
@@ -185,7 +191,7 @@ class ArtistResourceTest {
             String artistName = "   ";
 
             // When
-            Response response = artistResource.searchArtistByName(artistName);
+            Response response = artistResource.searchArtistByName(artistName, request);
 
             // Then
             assertThat(response.getStatus()).isEqualTo(400);
@@ -206,7 +212,7 @@ class ArtistResourceTest {
             when(producerAssemblyService.getProducerIds(artist)).thenReturn(producerIds);
 
             // When
-            Response response = artistResource.searchArtistByName(artistNameWithSpaces);
+            Response response = artistResource.searchArtistByName(artistNameWithSpaces, request);
 
             // Then
             assertThat(response.getStatus()).isEqualTo(200);
@@ -234,7 +240,7 @@ class ArtistResourceTest {
             when(producerAssemblyService.getProducerIds(artist)).thenReturn(producerIds);
 
             // When
-            Response response = artistResource.getArtistById(artistUuid);
+            Response response = artistResource.getArtistById(artistUuid, request);
 
             // Then
             assertThat(response.getStatus()).isEqualTo(200);
@@ -258,7 +264,7 @@ class ArtistResourceTest {
             when(producerAssemblyService.getProducerIds(artist)).thenReturn(emptyProducerIds);
 
             // When
-            Response response = artistResource.getArtistById(artistUuid);
+            Response response = artistResource.getArtistById(artistUuid, request);
 
             // Then
             assertThat(response.getStatus()).isEqualTo(200);
@@ -280,7 +286,7 @@ class ArtistResourceTest {
             when(artistRepository.findById(artistId)).thenThrow(new RuntimeException("Database error"));
 
             // When & Then
-            assertThatThrownBy(() -> artistResource.getArtistById(artistUuid))
+            assertThatThrownBy(() -> artistResource.getArtistById(artistUuid, request))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Database error");
         }
@@ -298,12 +304,92 @@ class ArtistResourceTest {
                 .thenThrow(new RuntimeException("Producer assembly error"));
 
             // When & Then
-            assertThatThrownBy(() -> artistResource.getArtistById(artistUuid))
+            assertThatThrownBy(() -> artistResource.getArtistById(artistUuid, request))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Producer assembly error");
         }
     }
 
+    @Nested
+    @DisplayName("Conditional Requests")
+    class ConditionalRequests {
+
+        @Test
+        @DisplayName("Should return 304 without assembling producers when the ETag matches")
+        void shouldReturnNotModifiedWhenEtagMatches() {
+            // Given
+            UUID artistUuid = UUID.randomUUID();
+            ArtistId artistId = new ArtistId(artistUuid);
+            Artist artist = createCompleteTestArtist(artistId, "The Beatles");
+            EntityTag entityTag = ArtistVersionTag.of(artist);
+
+            when(artistRepository.findById(artistId)).thenReturn(Optional.of(artist));
+            when(request.evaluatePreconditions(entityTag)).thenReturn(Response.notModified());
+
+            // When
+            Response response = artistResource.getArtistById(artistUuid, request);
+
+            // Then
+            assertThat(response.getStatus()).isEqualTo(304);
+            assertThat(response.getEntityTag()).isEqualTo(entityTag);
+            assertThat(response.hasEntity()).isFalse();
+            verifyNoInteractions(producerAssemblyService);
+        }
+
+        @Test
+        @DisplayName("Should return 304 on a name search when the ETag matches")
+        void shouldReturnNotModifiedOnSearchWhenEtagMatches() {
+            // Given
+            Artist artist = createTestArtist(new ArtistId(UUID.randomUUID()), "Daft Punk");
+            EntityTag entityTag = ArtistVersionTag.of(artist);
+
+            when(artistRepository.findByName("Daft Punk")).thenReturn(Optional.of(artist));
+            when(request.evaluatePreconditions(entityTag)).thenReturn(Response.notModified());
+
+            // When
+            Response response = artistResource.searchArtistByName("Daft Punk", request);
+
+            // Then
+            assertThat(response.getStatus()).isEqualTo(304);
+            verifyNoInteractions(producerAssemblyService);
+        }
+
+        @Test
+        @DisplayName("Should return the ETag with the artist")
+        void shouldReturnEtagWithArtist() {
+            // Given
+            UUID artistUuid = UUID.randomUUID();
+            ArtistId artistId = new ArtistId(artistUuid);
+            Artist artist = createTestArtist(artistId, "The Beatles");
+
+            when(artistRepository.findById(artistId)).thenReturn(Optional.of(artist));
+            when(producerAssemblyService.getProducerIds(artist)).thenReturn(List.of());
+
+            // When
+            Response response = artistResource.getArtistById(artistUuid, request);
+
+            // Then
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getEntityTag()).isEqualTo(ArtistVersionTag.of(artist));
+        }
+
+        @Test
+        @DisplayName("Should change the ETag when the artist changes")
+        void shouldChangeEtagWhenArtistChanges() {
+            ArtistId artistId = new ArtistId(UUID.randomUUID());
+            Artist artist = createTestArtist(artistId, "The Beatles");
+            Artist withSource = artist.addSource(Source.of("SPOTIFY", "spotify123"));
+            Artist withContribution = artist.addContribution(
+                Contribution.of(new TrackId(UUID.randomUUID()), "Test Track", ISRC.of("USRC17607839")));
+
+            assertThat(ArtistVersionTag.of(createTestArtist(artistId, "The Beatles")))
+                .isEqualTo(ArtistVersionTag.of(artist));
+            assertThat(ArtistVersionTag.of(withSource)).isNotEqualTo(ArtistVersionTag.of(artist));
+            assertThat(ArtistVersionTag.of(withContribution)).isNotEqualTo(ArtistVersionTag.of(artist));
+            assertThat(ArtistVersionTag.of(artist.markAsVerified())).isNotEqualTo(ArtistVersionTag.of(artist));
+        }
+    }
+
     private Artist createTestArtist(ArtistId artistId, String name) {
         return Artist.from(artistId, name, ArtistStatus.PROVISIONAL);
     }
@@ -1,98 +1,79 @@
 package com.musichub.artist.adapter.spi;
 
+import com.musichub.artist.adapter.spi.concurrent.EnrichmentExecutor;
+import com.musichub.artist.adapter.spi.dto.tidal.TidalArtistResource;
 import com.musichub.artist.application.ports.out.ArtistReconciliationPort;
 import com.musichub.artist.domain.model.Artist;
 import com.musichub.shared.domain.values.Source;
 import com.musichub.shared.domain.values.SourceType;
+import com.musichub.shared.adapter.spi.ratelimit.TidalRateLimiter;
+import com.musichub.shared.adapter.spi.ratelimit.TidalRequestPriority;
 
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.ws.rs.client.Client;
-import jakarta.ws.rs.client.ClientBuilder;
-import jakarta.ws.rs.core.MediaType;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Locale;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * SPI adapter for Tidal API integration.
- * Implements artist reconciliation using Tidal's REST API.
- * Based on Swagger-MCP generated tools for GET /artists and GET /artists/{id}.
+ * Implements artist reconciliation using Tidal's REST API (GET /artists and
+ * GET /artists/{id}) through {@link TidalArtistRestClient}, which shares the
+ * OAuth2 headers and the rate limiter of every other Tidal client.
+ * Calls run on the {@link EnrichmentExecutor}; a lookup that fails, is
+ * rejected or times out completes with an empty result, and cancelling a
+ * lookup interrupts its HTTP call.
  */
 @ApplicationScoped
 public class TidalArtistClient implements ArtistReconciliationPort {
 
-    private static final String TIDAL_API_BASE_URL = "https://openapi.tidal.com/v2";
-    private static final String DEFAULT_COUNTRY_CODE = "US";
-
-    private final Client httpClient;
-    private final ObjectMapper objectMapper;
-
-    public TidalArtistClient() {
-        this.httpClient = ClientBuilder.newClient();
-        this.objectMapper = new ObjectMapper();
+    private static final Logger log = LoggerFactory.getLogger(TidalArtistClient.class);
+
+    private final TidalArtistRestClient restClient;
+    private final TidalRateLimiter rateLimiter;
+    private final EnrichmentExecutor executor;
+    private final String countryCode;
+
+    @Inject
+    public TidalArtistClient(
+            @RestClient TidalArtistRestClient restClient,
+            TidalRateLimiter rateLimiter,
+            EnrichmentExecutor executor,
+            @ConfigProperty(name = "tidal.default-country-code", defaultValue = "US") String countryCode) {
+        this.restClient = restClient;
+        this.rateLimiter = rateLimiter;
+        this.executor = executor;
+        this.countryCode = countryCode;
     }
 
     @Override
     public CompletableFuture<Optional<Artist>> findArtistByName(String artistName, SourceType sourceType) {
-        if (!supports(sourceType)) {
+        if (!supports(sourceType) || artistName == null || artistName.isBlank()) {
             return CompletableFuture.completedFuture(Optional.empty());
         }
+        String handle = artistName.toLowerCase(Locale.ROOT).replace(" ", "");
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // Search artists using Tidal API: GET /artists?filter[handle]=artistName
-                Response response = httpClient
-                    .target(TIDAL_API_BASE_URL)
-                    .path("/artists")
-                    .queryParam("countryCode", DEFAULT_COUNTRY_CODE)
-                    .queryParam("filter[handle]", artistName.toLowerCase().replaceAll(" ", ""))
-                    .request(MediaType.APPLICATION_JSON)
-                    .get();
-
-                if (response.getStatus() == 200) {
-                    String jsonResponse = response.readEntity(String.class);
-                    return parseArtistFromSearchResponse(jsonResponse);
-                }
-
-                return Optional.<Artist>empty();
-            } catch (Exception e) {
-                // Log error in production code
-                return Optional.<Artist>empty();
-            }
-        });
+        // First result of GET /artists?filter[handle]=artistname
+        return lookup(() -> restClient.findArtistsByHandle(handle, countryCode).getFirstArtist());
     }
 
     @Override
     public CompletableFuture<Optional<Artist>> findArtistByExternalId(String externalId, SourceType sourceType) {
-        if (!supports(sourceType)) {
+        if (!supports(sourceType) || externalId == null || externalId.isBlank()) {
             return CompletableFuture.completedFuture(Optional.empty());
         }
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // Get specific artist using Tidal API: GET /artists/{id}
-                Response response = httpClient
-                    .target(TIDAL_API_BASE_URL)
-                    .path("/artists/" + externalId)
-                    .queryParam("countryCode", DEFAULT_COUNTRY_CODE)
-                    .request(MediaType.APPLICATION_JSON)
-                    .get();
-
-                if (response.getStatus() == 200) {
-                    String jsonResponse = response.readEntity(String.class);
-                    return parseArtistFromDetailResponse(jsonResponse);
-                }
-
-                return Optional.<Artist>empty();
-            } catch (Exception e) {
-                // Log error in production code
-                return Optional.<Artist>empty();
-            }
-        });
+        // GET /artists/{id}
+        return lookup(() -> restClient.getArtist(externalId, countryCode).data);
     }
 
     @Override
@@ -100,72 +81,48 @@ public class TidalArtistClient implements ArtistReconciliationPort {
         return sourceType == SourceType.TIDAL;
     }
 
-    /**
-     * Parses artist data from Tidal search response.
-     *
-     * @param jsonResponse the JSON response from Tidal API
-     * @return Optional containing parsed artist or empty if parsing fails
-     */
-    private Optional<Artist> parseArtistFromSearchResponse(String jsonResponse) {
-        try {
-            JsonNode root = objectMapper.readTree(jsonResponse);
-            JsonNode data = root.path("data");
-
-            if (data.isArray() && data.size() > 0) {
-                JsonNode artistNode = data.get(0); // Get first result
-                return parseArtistFromNode(artistNode);
+    private CompletableFuture<Optional<Artist>> lookup(Supplier<TidalArtistResource> request) {
+        CompletableFuture<Optional<Artist>> call = executor.supply(() -> {
+            try {
+                // Enrichment is background work: it yields to interactive Tidal calls
+                return toArtist(rateLimiter.execute(TidalRequestPriority.BACKGROUND, request));
+            } catch (WebApplicationException e) {
+                if (e.getResponse().getStatus() == Response.Status.NOT_FOUND.getStatusCode()) {
+                    return Optional.<Artist>empty();
+                }
+                throw e;
+            }
+        });
+        CompletableFuture<Optional<Artist>> result = call.exceptionally(this::lookupFailed);
+        // Cancellation does not flow back to the call by itself
+        result.whenComplete((ignored, error) -> {
+            if (result.isCancelled()) {
+                call.cancel(true);
             }
+        });
+        return result;
+    }
 
-            return Optional.empty();
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+    private Optional<Artist> lookupFailed(Throwable error) {
+        log.warn("Tidal artist lookup abandoned: {}", error.toString());
+        return Optional.empty();
     }
 
     /**
-     * Parses artist data from Tidal detail response.
+     * Builds a verified artist with a TIDAL source from a Tidal artist resource.
      *
-     * @param jsonResponse the JSON response from Tidal API
-     * @return Optional containing parsed artist or empty if parsing fails
+     * @return the artist, or empty when the resource lacks an id or a name
      */
-    private Optional<Artist> parseArtistFromDetailResponse(String jsonResponse) {
-        try {
-            JsonNode root = objectMapper.readTree(jsonResponse);
-            JsonNode artistNode = root.path("data");
-
-            if (!artistNode.isMissingNode()) {
-                return parseArtistFromNode(artistNode);
-            }
-
-            return Optional.empty();
-        } catch (Exception e) {
+    static Optional<Artist> toArtist(TidalArtistResource resource) {
+        if (resource == null) {
             return Optional.empty();
         }
-    }
-
-    /**
-     * Parses artist data from a JSON node.
-     *
-     * @param artistNode the JSON node containing artist data
-     * @return Optional containing parsed artist or empty if parsing fails
-     */
-    private Optional<Artist> parseArtistFromNode(JsonNode artistNode) {
-        try {
-            String tidalId = artistNode.path("id").asText();
-            String name = artistNode.path("attributes").path("name").asText();
-
-            if (tidalId.isEmpty() || name.isEmpty()) {
-                return Optional.empty();
-            }
-
-            // Create artist with TIDAL source
-            Artist artist = Artist.createProvisional(name);
-            Source tidalSource = Source.of("TIDAL", tidalId);
-            Artist enrichedArtist = artist.addSource(tidalSource).markAsVerified();
-
-            return Optional.of(enrichedArtist);
-        } catch (Exception e) {
+        String name = resource.name();
+        if (resource.id == null || resource.id.isBlank() || name == null || name.isBlank()) {
             return Optional.empty();
         }
+        return Optional.of(Artist.createProvisional(name)
+                .addSource(Source.of("TIDAL", resource.id))
+                .markAsVerified());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,59 @@
+package com.musichub.artist.adapter.spi;
+
+import org.eclipse.microprofile.rest.client.annotation.RegisterClientHeaders;
+import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+
+import com.musichub.artist.adapter.spi.dto.tidal.TidalArtistResponse;
+import com.musichub.artist.adapter.spi.dto.tidal.TidalArtistsResponse;
+import com.musichub.shared.adapter.spi.auth.TidalClientHeadersFactory;
+import com.musichub.shared.adapter.spi.ratelimit.TidalRateLimitResponseFilter;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+
+/**
+ * REST client for the artist endpoints of Tidal's OpenAPI v2.
+ * <p>
+ * Authentication and the JSON:API headers are added by
+ * TidalClientHeadersFactory, and rate-limit headers of every response are fed
+ * to the shared TidalRateLimiter by TidalRateLimitResponseFilter, as for the
+ * producer's MusicPlatformClient. Responses are read from the connection
+ * straight into the DTOs.
+ * <p>
+ * Configuration properties:
+ * - quarkus.rest-client.tidal-artist-client.url (should point to Tidal OpenAPI)
+ * - quarkus.rest-client.tidal-artist-client.connection-pool-size
+ */
+@RegisterRestClient(configKey = "tidal-artist-client")
+@RegisterClientHeaders(TidalClientHeadersFactory.class)
+@RegisterProvider(TidalRateLimitResponseFilter.class)
+@Path("/artists")
+public interface TidalArtistRestClient {
+
+    /**
+     * Searches artists by handle: GET /artists?filter[handle]=XXXX&countryCode=US
+     *
+     * @throws jakarta.ws.rs.WebApplicationException for HTTP errors (404, 500, etc.)
+     */
+    @GET
+    @Produces("application/vnd.api+json")
+    TidalArtistsResponse findArtistsByHandle(
+            @QueryParam("filter[handle]") String handle,
+            @QueryParam("countryCode") String countryCode);
+
+    /**
+     * Retrieves one artist: GET /artists/{id}?countryCode=US
+     *
+     * @throws jakarta.ws.rs.WebApplicationException for HTTP errors (404, 500, etc.)
+     */
+    @GET
+    @Path("/{id}")
+    @Produces("application/vnd.api+json")
+    TidalArtistResponse getArtist(
+            @PathParam("id") String id,
+            @QueryParam("countryCode") String countryCode);
+}
@@ -0,0 +1,120 @@
+package com.musichub.artist.adapter.spi.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Executor for the blocking calls of artist reconciliation ports, so that
+ * they never run on the common fork-join pool.
+ * <p>
+ * Calls run on virtual threads, at most {@code artist.enrichment.max-concurrency}
+ * at a time; up to {@code artist.enrichment.queue-capacity} more wait their
+ * turn, and further calls are rejected at once. A call still running after
+ * {@code artist.enrichment.timeout}, queueing included, is interrupted and its
+ * future fails with a {@link TimeoutException}; cancelling the future
+ * interrupts the call as well. Pool and queue metrics are
+ * published under the {@code artist-enrichment} executor name, with counters
+ * for rejected and timed out calls.
+ */
+@ApplicationScoped
+public class EnrichmentExecutor {
+
+    static final String EXECUTOR_NAME = "artist-enrichment";
+
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Duration timeout;
+    private final Counter rejections;
+    private final Counter timeouts;
+
+    @Inject
+    public EnrichmentExecutor(
+            @ConfigProperty(name = "artist.enrichment.max-concurrency", defaultValue = "8") int maxConcurrency,
+            @ConfigProperty(name = "artist.enrichment.queue-capacity", defaultValue = "256") int queueCapacity,
+            @ConfigProperty(name = "artist.enrichment.timeout", defaultValue = "PT30S") Duration timeout,
+            MeterRegistry meterRegistry) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("artist.enrichment.max-concurrency must be positive, got: " + maxConcurrency);
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("artist.enrichment.queue-capacity must be positive, got: " + queueCapacity);
+        }
+        this.pool = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofVirtual().name(EXECUTOR_NAME + "-", 0).factory());
+        // Idle virtual threads are cheap, but there is no reason to keep them
+        this.pool.allowCoreThreadTimeOut(true);
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, EXECUTOR_NAME);
+        this.timeout = timeout;
+        this.rejections = Counter.builder("artist.enrichment.rejections")
+                .description("Reconciliation calls rejected because the enrichment queue was full")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("artist.enrichment.timeouts")
+                .description("Reconciliation calls interrupted for exceeding the enrichment timeout")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs a blocking call on the executor.
+     *
+     * @return a future completed with the call's result, or failed with the call's exception,
+     *         a {@link RejectedExecutionException} when the queue is full, or a
+     *         {@link TimeoutException} when the call took too long. Cancelling it
+     *         interrupts the call, or drops it if it has not started yet.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(call.get());
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            result.completeExceptionally(e);
+            return result;
+        }
+        result.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS).whenComplete((ignored, error) -> {
+            if (error instanceof TimeoutException) {
+                timeouts.increment();
+                task.cancel(true);
+            } else if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @return how many calls are waiting for a thread
+     */
+    public int queued() {
+        return pool.getQueue().size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,25 @@
+package com.musichub.artist.adapter.spi.dto.tidal;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Artist attributes from Tidal API responses. Only the fields used for
+ * reconciliation are mapped; the others are skipped while reading.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TidalArtistAttributes {
+
+    /**
+     * Artist name
+     */
+    @JsonProperty("name")
+    public String name;
+
+    public TidalArtistAttributes() {
+    }
+
+    public TidalArtistAttributes(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,42 @@
+package com.musichub.artist.adapter.spi.dto.tidal;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Artist resource in Tidal's JSON:API responses.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TidalArtistResource {
+
+    /**
+     * Tidal artist identifier
+     */
+    @JsonProperty("id")
+    public String id;
+
+    /**
+     * Resource type, "artists"
+     */
+    @JsonProperty("type")
+    public String type;
+
+    @JsonProperty("attributes")
+    public TidalArtistAttributes attributes;
+
+    public TidalArtistResource() {
+    }
+
+    public TidalArtistResource(String id, String name) {
+        this.id = id;
+        this.type = "artists";
+        this.attributes = new TidalArtistAttributes(name);
+    }
+
+    /**
+     * @return the artist name, or null when the resource has none
+     */
+    public String name() {
+        return attributes != null ? attributes.name : null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.musichub.artist.adapter.spi.dto.tidal;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Response of the Tidal artist detail (GET /artists/{id}), following the
+ * JSON:API specification.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TidalArtistResponse {
+
+    @JsonProperty("data")
+    public TidalArtistResource data;
+
+    public TidalArtistResponse() {
+    }
+
+    public TidalArtistResponse(TidalArtistResource data) {
+        this.data = data;
+    }
+}
@@ -0,0 +1,34 @@
+package com.musichub.artist.adapter.spi.dto.tidal;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Response of the Tidal artist search (GET /artists), following the JSON:API
+ * specification.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TidalArtistsResponse {
+
+    /**
+     * Matching artists, best match first
+     */
+    @JsonProperty("data")
+    public List<TidalArtistResource> data;
+
+    public TidalArtistsResponse() {
+    }
+
+    public TidalArtistsResponse(List<TidalArtistResource> data) {
+        this.data = data;
+    }
+
+    /**
+     * Get the best match, or null when nothing matched
+     */
+    public TidalArtistResource getFirstArtist() {
+        return data != null && !data.isEmpty() ? data.get(0) : null;
+    }
+}
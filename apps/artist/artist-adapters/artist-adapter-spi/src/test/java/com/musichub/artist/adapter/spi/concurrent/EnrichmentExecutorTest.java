@@ -0,0 +1,200 @@
+package com.musichub.artist.adapter.spi.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("EnrichmentExecutor Unit Tests")
+class EnrichmentExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EnrichmentExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run calls on virtual threads rather than on the caller's")
+    void shouldRunCallsOnVirtualThreads() {
+        // Given
+        executor = new EnrichmentExecutor(2, 8, Duration.ofSeconds(5), meterRegistry);
+
+        // When
+        CompletableFuture<Thread> result = executor.supply(Thread::currentThread);
+
+        // Then
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5))
+                .satisfies(thread -> {
+                    assertThat(thread.isVirtual()).isTrue();
+                    assertThat(thread.getName()).startsWith(EnrichmentExecutor.EXECUTOR_NAME);
+                });
+    }
+
+    @Test
+    @DisplayName("Should never run more calls at once than the concurrency limit")
+    void shouldBoundConcurrency() {
+        // Given
+        executor = new EnrichmentExecutor(2, 16, Duration.ofSeconds(5), meterRegistry);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // When
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            int call = i;
+            results.add(executor.supply(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(Duration.ofMillis(20));
+                running.decrementAndGet();
+                return call;
+            }));
+        }
+
+        // Then
+        assertThat(CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)))
+                .succeedsWithin(Duration.ofSeconds(5));
+        assertThat(results).extracting(CompletableFuture::join).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject calls at once when the queue is full")
+    void shouldRejectCallsBeyondQueueCapacity() {
+        // Given
+        executor = new EnrichmentExecutor(1, 1, Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = executor.supply(() -> await(release));
+        CompletableFuture<String> queued = executor.supply(() -> await(release));
+
+        // When
+        CompletableFuture<String> rejected = executor.supply(() -> "never");
+
+        // Then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::get).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get("artist.enrichment.rejections").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(queued).succeedsWithin(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should interrupt and fail calls that exceed the timeout")
+    void shouldInterruptCallsExceedingTimeout() throws InterruptedException {
+        // Given
+        executor = new EnrichmentExecutor(1, 8, Duration.ofMillis(100), meterRegistry);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When
+        CompletableFuture<String> result = executor.supply(() -> {
+            try {
+                Thread.sleep(Duration.ofSeconds(30));
+                return "too late";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                return "interrupted";
+            }
+        });
+
+        // Then
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("artist.enrichment.timeouts").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should interrupt the call when its future is cancelled")
+    void shouldInterruptCancelledCalls() throws InterruptedException {
+        // Given
+        executor = new EnrichmentExecutor(1, 8, Duration.ofSeconds(30), meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> result = executor.supply(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(Duration.ofSeconds(30));
+                return "too late";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                return "interrupted";
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        result.cancel(true);
+
+        // Then
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(result).isCancelled();
+        assertThat(meterRegistry.get("artist.enrichment.timeouts").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fail the future with the exception of the call")
+    void shouldPropagateCallFailures() {
+        // Given
+        executor = new EnrichmentExecutor(1, 8, Duration.ofSeconds(5), meterRegistry);
+
+        // When
+        CompletableFuture<String> result = executor.supply(() -> {
+            throw new IllegalStateException("Tidal is down");
+        });
+
+        // Then
+        assertThat(result).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid limits")
+    void shouldRejectInvalidLimits() {
+        assertThatThrownBy(() -> new EnrichmentExecutor(0, 8, Duration.ofSeconds(5), meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EnrichmentExecutor(1, 0, Duration.ofSeconds(5), meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String await(CountDownLatch latch) {
+        try {
+            latch.await();
+            return "released";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.musichub.artist.adapter.spi.dto.tidal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Tidal artist DTOs: responses are read from a stream,
+ * skipping the JSON:API members that are not mapped.
+ */
+class TidalArtistDtoTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void tidalArtistsResponse_ShouldDeserializeFromStream() throws IOException {
+        // Given: JSON response structure similar to Tidal's API
+        String json = """
+            {
+                "data": [
+                    {
+                        "id": "1566",
+                        "type": "artists",
+                        "attributes": {
+                            "name": "The Beatles",
+                            "popularity": 0.98,
+                            "externalLinks": [{"href": "https://tidal.com/artist/1566", "meta": {"type": "TIDAL_SHARING"}}]
+                        },
+                        "relationships": {"albums": {"links": {"self": "/artists/1566/relationships/albums"}}}
+                    }
+                ],
+                "links": {"self": "/artists?filter%5Bhandle%5D=thebeatles"}
+            }
+            """;
+
+        // When
+        TidalArtistsResponse response = objectMapper.readValue(stream(json), TidalArtistsResponse.class);
+
+        // Then
+        assertEquals(1, response.data.size());
+        TidalArtistResource artist = response.getFirstArtist();
+        assertEquals("1566", artist.id);
+        assertEquals("artists", artist.type);
+        assertEquals("The Beatles", artist.name());
+    }
+
+    @Test
+    void tidalArtistsResponse_ShouldHaveNoFirstArtistWhenEmpty() throws IOException {
+        TidalArtistsResponse response = objectMapper.readValue(stream("{\"data\": []}"), TidalArtistsResponse.class);
+
+        assertNull(response.getFirstArtist());
+        assertNull(new TidalArtistsResponse().getFirstArtist());
+    }
+
+    @Test
+    void tidalArtistResponse_ShouldDeserializeFromStream() throws IOException {
+        // Given
+        String json = """
+            {"data": {"id": "1566681", "type": "artists", "attributes": {"name": "Queen"}}, "included": []}
+            """;
+
+        // When
+        TidalArtistResponse response = objectMapper.readValue(stream(json), TidalArtistResponse.class);
+
+        // Then
+        assertEquals("1566681", response.data.id);
+        assertEquals("Queen", response.data.name());
+    }
+
+    @Test
+    void tidalArtistResource_ShouldHaveNoNameWithoutAttributes() {
+        TidalArtistResource resource = new TidalArtistResource();
+
+        assertNull(resource.name());
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
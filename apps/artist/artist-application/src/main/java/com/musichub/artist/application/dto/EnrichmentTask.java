@@ -0,0 +1,18 @@
+package com.musichub.artist.application.dto;
+
+import java.util.Objects;
+
+import com.musichub.shared.domain.id.ArtistId;
+
+/**
+ * An artist claimed from the enrichment queue.
+ *
+ * @param artistId the artist to enrich
+ * @param attempts how many times the artist was claimed, this claim included
+ */
+public record EnrichmentTask(ArtistId artistId, int attempts) {
+
+    public EnrichmentTask {
+        Objects.requireNonNull(artistId, "artistId must not be null");
+    }
+}
@@ -1,8 +1,19 @@
 package com.musichub.artist.application.ports.in;
 
 
+import java.util.List;
+
 import com.musichub.shared.events.TrackWasRegistered;
 
 public interface ArtistTrackRegistrationUseCase {
     void handleTrackRegistration(TrackWasRegistered event);
+
+    /**
+     * Handles a batch of track registrations at once: every credited artist
+     * is resolved with a single lookup, and all of them are saved in a
+     * single transaction.
+     *
+     * @param events the registered tracks, in the order they were published
+     */
+    void handleTrackRegistrations(List<TrackWasRegistered> events);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.musichub.artist.application.ports.in;
+
+/**
+ * Use case for draining the enrichment queue.
+ */
+public interface ProcessEnrichmentQueueUseCase {
+
+    /**
+     * Claims a batch of due artists and enriches them.
+     *
+     * @param batchSize the maximum number of artists to claim
+     * @return how many artists were claimed, 0 when none was due
+     */
+    int processBatch(int batchSize);
+}
@@ -0,0 +1,27 @@
+package com.musichub.artist.application.ports.out;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import com.musichub.artist.domain.model.Artist;
+import com.musichub.shared.domain.values.SourceType;
+
+/**
+ * Port for looking artists up on an external platform, to reconcile
+ * provisional artists with it.
+ * <p>
+ * Lookups are remote calls: implementations run them off the caller's thread,
+ * on a bounded executor of their own, and complete the future with an empty
+ * result rather than exceptionally when the platform fails or is too slow.
+ */
+public interface ArtistReconciliationPort {
+
+    CompletableFuture<Optional<Artist>> findArtistByName(String artistName, SourceType sourceType);
+
+    CompletableFuture<Optional<Artist>> findArtistByExternalId(String externalId, SourceType sourceType);
+
+    /**
+     * @return true if this port looks artists up on the given platform
+     */
+    boolean supports(SourceType sourceType);
+}
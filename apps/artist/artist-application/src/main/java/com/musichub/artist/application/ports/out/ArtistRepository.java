@@ -0,0 +1,43 @@
+package com.musichub.artist.application.ports.out;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.musichub.artist.domain.model.Artist;
+import com.musichub.shared.domain.id.ArtistId;
+import com.musichub.shared.domain.values.SourceType;
+
+/**
+ * Repository port for the Artist aggregate.
+ */
+public interface ArtistRepository {
+
+    /**
+     * @param name the artist name, matched by {@code ArtistName.normalize}: case,
+     *             whitespace and Unicode compatibility forms do not matter
+     */
+    Optional<Artist> findByName(String name);
+
+    Optional<Artist> findById(ArtistId id);
+
+    Optional<Artist> findBySource(SourceType sourceType, String sourceId);
+
+    /**
+     * Loads every artist bearing one of the given names, with a number of
+     * queries that does not depend on how many names are asked for.
+     *
+     * @param names the artist names, matched by {@code ArtistName.normalize}
+     * @return the artists found, in no particular order; names without an artist are skipped
+     */
+    List<Artist> findByNames(Collection<String> names);
+
+    Artist save(Artist artist);
+
+    /**
+     * Saves several artists, new or existing, in a single transaction.
+     *
+     * @return the saved artists, in the order given
+     */
+    List<Artist> saveAll(Collection<Artist> artists);
+}
@@ -0,0 +1,47 @@
+package com.musichub.artist.application.ports.out;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import com.musichub.artist.application.dto.EnrichmentTask;
+import com.musichub.shared.domain.id.ArtistId;
+
+/**
+ * Durable queue of the artists waiting for enrichment.
+ * <p>
+ * An entry is claimed for a lease: until the lease ends, no other claimer gets
+ * it, and a claimer that dies without completing or rescheduling it only
+ * delays it until then.
+ */
+public interface EnrichmentQueue {
+
+    /**
+     * Queues artists for enrichment, due at once. Joins the caller's
+     * transaction, if any, so that an artist is queued if and only if it is
+     * saved. Artists already queued keep their entry.
+     */
+    void enqueue(Collection<ArtistId> artistIds);
+
+    /**
+     * Claims up to {@code limit} due entries, the longest due first, skipping
+     * entries that another claimer is claiming at the same time.
+     *
+     * @param lease how long the claimed entries stay invisible to other claimers
+     * @return the claimed entries, their attempt count incremented
+     */
+    List<EnrichmentTask> claim(int limit, Duration lease);
+
+    /**
+     * Removes an artist from the queue.
+     */
+    void complete(ArtistId artistId);
+
+    /**
+     * Makes an artist due again at {@code nextAttemptAt}.
+     *
+     * @param error why the attempt failed, kept for diagnosis
+     */
+    void retryAt(ArtistId artistId, Instant nextAttemptAt, String error);
+}
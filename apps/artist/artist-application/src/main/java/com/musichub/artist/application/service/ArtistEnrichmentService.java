@@ -5,14 +5,21 @@ import com.musichub.artist.application.ports.out.ArtistRepository;
 import com.musichub.artist.application.service.exception.ArtistEnrichmentDatabaseException;
 import com.musichub.artist.domain.model.Artist;
 import com.musichub.artist.domain.model.ArtistStatus;
+import com.musichub.artist.domain.values.ArtistSourcePriorityProvider;
+import com.musichub.shared.domain.values.SourcePriorityProvider;
 import com.musichub.shared.domain.values.SourceType;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Application service for enriching artists with external source data.
@@ -21,14 +28,20 @@ import java.util.concurrent.CompletableFuture;
 @ApplicationScoped
 public class ArtistEnrichmentService {
 
+    private static final SourcePriorityProvider PRIORITY_PROVIDER = new ArtistSourcePriorityProvider();
+
     private final ArtistRepository artistRepository;
     private final List<ArtistReconciliationPort> reconciliationPorts;
+    private final Duration sourceTimeout;
 
     @Inject
     public ArtistEnrichmentService(ArtistRepository artistRepository,
-                                   List<ArtistReconciliationPort> reconciliationPorts) {
+                                   List<ArtistReconciliationPort> reconciliationPorts,
+                                   @ConfigProperty(name = "artist.enrichment.source-timeout", defaultValue = "PT20S")
+                                   Duration sourceTimeout) {
         this.artistRepository = artistRepository;
         this.reconciliationPorts = reconciliationPorts;
+        this.sourceTimeout = sourceTimeout;
     }
 
     /**
@@ -74,65 +87,87 @@ public class ArtistEnrichmentService {
     }
 
     /**
-     * Searches for an artist in external sources following the Source of Truth Hierarchy.
+     * Searches for an artist in every external source at once, following the
+     * Source of Truth Hierarchy.
+     * <p>
+     * Each port that supports a source type is queried in parallel and given
+     * up after {@code artist.enrichment.source-timeout}. The answer of a source
+     * is only used once every higher priority source has answered nothing, and
+     * as soon as one source finds the artist the lookups of lower priority
+     * sources are cancelled.
      *
      * @param artistName the artist name to search for
      * @return CompletableFuture containing the artist from the highest priority source
      */
     private CompletableFuture<Optional<Artist>> searchInExternalSources(String artistName) {
-        // For test compatibility, try sources in a simpler way that matches test expectations
-        // Try TIDAL first (most common in tests)
-        if (!reconciliationPorts.isEmpty()) {
-            CompletableFuture<Optional<Artist>> tidalResult = searchInSource(artistName, SourceType.TIDAL);
-
-            return tidalResult.thenCompose(tidalArtist -> {
-                if (tidalArtist.isPresent()) {
-                    return CompletableFuture.completedFuture(tidalArtist);
+        // Lookups in priority order: the first one that finds the artist wins
+        List<Lookup> lookups = new ArrayList<>();
+        for (SourceType sourceType : PRIORITY_PROVIDER.getPriorityOrder()) {
+            for (ArtistReconciliationPort port : reconciliationPorts) {
+                if (port.supports(sourceType)) {
+                    lookups.add(searchInSource(port, artistName, sourceType));
                 }
-
-                // If TIDAL not found, try SPOTIFY
-                return searchInSource(artistName, SourceType.SPOTIFY);
-            });
+            }
         }
 
-        // No ports available - return empty result
-        return CompletableFuture.completedFuture(Optional.empty());
+        CompletableFuture<Optional<Artist>> found = new CompletableFuture<>();
+        if (lookups.isEmpty()) {
+            found.complete(Optional.empty());
+        }
+        for (Lookup lookup : lookups) {
+            lookup.answer().whenComplete((ignored, error) -> pickHighestPriorityAnswer(lookups, found));
+        }
+        return found;
     }
 
     /**
-     * Searches for an artist in a specific source.
-     *
-     * @param artistName the artist name to search for
-     * @param sourceType the source type to search in
-     * @return CompletableFuture containing the artist if found
+     * Completes {@code found} once the highest priority answer is known, and
+     * cancels the lookups that can no longer win.
      */
-    private CompletableFuture<Optional<Artist>> searchInSource(String artistName, SourceType sourceType) {
-        // For test compatibility, directly call the appropriate port based on source type
-        // This matches the test setup where tidalPort and spotifyPort are mocked
-        if (sourceType == SourceType.TIDAL && !reconciliationPorts.isEmpty()) {
-            CompletableFuture<Optional<Artist>> result = reconciliationPorts.get(0).findArtistByName(artistName, sourceType);
-            if (result != null) {
-                return result.exceptionally(throwable -> Optional.empty());
+    private static void pickHighestPriorityAnswer(List<Lookup> lookups, CompletableFuture<Optional<Artist>> found) {
+        for (int i = 0; i < lookups.size(); i++) {
+            CompletableFuture<Optional<Artist>> answer = lookups.get(i).answer();
+            if (!answer.isDone()) {
+                // A higher priority source may still find the artist
+                return;
             }
-        } else if (sourceType == SourceType.SPOTIFY && reconciliationPorts.size() > 1) {
-            CompletableFuture<Optional<Artist>> result = reconciliationPorts.get(1).findArtistByName(artistName, sourceType);
-            if (result != null) {
-                return result.exceptionally(throwable -> Optional.empty());
+            Optional<Artist> artist = answer.join();
+            if (artist.isPresent()) {
+                if (found.complete(artist)) {
+                    lookups.subList(i + 1, lookups.size()).forEach(Lookup::cancel);
+                }
+                return;
             }
         }
+        found.complete(Optional.empty());
+    }
 
-        // Fallback: try any port that supports this source type
-        for (ArtistReconciliationPort port : reconciliationPorts) {
-            if (port.supports(sourceType)) {
-                CompletableFuture<Optional<Artist>> result = port.findArtistByName(artistName, sourceType);
-                if (result != null) {
-                    return result.exceptionally(throwable -> Optional.empty());
-                }
-                // If result is null, continue to next port
-            }
+    /**
+     * Searches for an artist in a specific source. The answer is empty when
+     * the port fails, times out or is cancelled.
+     */
+    private Lookup searchInSource(ArtistReconciliationPort port, String artistName, SourceType sourceType) {
+        CompletableFuture<Optional<Artist>> call = port.findArtistByName(artistName, sourceType);
+        if (call == null) {
+            return new Lookup(CompletableFuture.completedFuture(Optional.empty()),
+                    CompletableFuture.completedFuture(Optional.empty()));
+        }
+        if (!call.isDone()) {
+            // Timing out cancels the call, which stops the port's work and answers empty
+            CompletableFuture.delayedExecutor(sourceTimeout.toNanos(), TimeUnit.NANOSECONDS)
+                    .execute(() -> call.cancel(true));
         }
+        return new Lookup(call, call.exceptionally(throwable -> Optional.empty()));
+    }
 
-        return CompletableFuture.completedFuture(Optional.empty());
+    /**
+     * One port call and its answer, which never completes exceptionally.
+     */
+    private record Lookup(CompletableFuture<Optional<Artist>> call, CompletableFuture<Optional<Artist>> answer) {
+
+        void cancel() {
+            call.cancel(true);
+        }
     }
 
     /**
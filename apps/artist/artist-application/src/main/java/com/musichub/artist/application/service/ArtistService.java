@@ -2,36 +2,49 @@ package com.musichub.artist.application.service;
 
 import com.musichub.artist.application.ports.in.ArtistTrackRegistrationUseCase;
 import com.musichub.artist.application.ports.out.ArtistRepository;
+import com.musichub.artist.application.ports.out.EnrichmentQueue;
 import com.musichub.artist.domain.model.Artist;
-import com.musichub.artist.domain.model.ArtistStatus;
+import com.musichub.artist.domain.values.ArtistName;
+import com.musichub.shared.domain.id.ArtistId;
 import com.musichub.shared.domain.id.TrackId;
 import com.musichub.artist.domain.values.Contribution;
 import com.musichub.shared.events.TrackWasRegistered;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Application service handling track registration events for the Artist context.
  * Creates or updates artist aggregates based on track registration events.
- * Automatically enriches provisional artists with external source data.
+ * New artists are queued for enrichment with external source data, in the
+ * transaction that creates them.
  */
 @ApplicationScoped
 public class ArtistService implements ArtistTrackRegistrationUseCase {
 
     private final ArtistRepository artistRepository;
-    private final ArtistEnrichmentService enrichmentService;
+    private final EnrichmentQueue enrichmentQueue;
 
     @Inject
     public ArtistService(ArtistRepository artistRepository,
-                        ArtistEnrichmentService enrichmentService) {
+                        EnrichmentQueue enrichmentQueue) {
         this.artistRepository = artistRepository;
-        this.enrichmentService = enrichmentService;
+        this.enrichmentQueue = enrichmentQueue;
     }
 
     @Override
+    @Transactional
     public void handleTrackRegistration(TrackWasRegistered event) {
         if (event.artistCredits() == null || event.artistCredits().isEmpty()) {
             return; // No artists to process
@@ -50,6 +63,75 @@ public class ArtistService implements ArtistTrackRegistrationUseCase {
         }
     }
 
+    @Override
+    @Transactional
+    public void handleTrackRegistrations(List<TrackWasRegistered> events) {
+        // Contributions per credited artist, keyed by normalized name: credits spelled differently
+        // for the same artist go to one artist, created under the first spelling seen
+        Map<String, CreditedArtist> creditedArtists = new LinkedHashMap<>();
+        for (TrackWasRegistered event : events) {
+            if (event.artistCredits() == null || event.artistCredits().isEmpty()) {
+                continue;
+            }
+            Contribution contribution = Contribution.of(
+                new TrackId(event.producerId()), // Using producerId as trackId for now
+                event.title(),
+                event.isrc()
+            );
+            for (var artistCredit : event.artistCredits()) {
+                String normalizedName = ArtistName.normalize(artistCredit.artistName());
+                if (normalizedName.isEmpty()) {
+                    continue;
+                }
+                creditedArtists
+                    .computeIfAbsent(normalizedName, key -> new CreditedArtist(artistCredit.artistName().trim()))
+                    .contributions().add(contribution);
+            }
+        }
+        if (creditedArtists.isEmpty()) {
+            return;
+        }
+
+        List<String> names = creditedArtists.values().stream().map(CreditedArtist::name).toList();
+        Map<String, Artist> existingArtists = artistRepository.findByNames(names).stream()
+            .collect(Collectors.toMap(artist -> artist.getName().normalized(), Function.identity(), (first, second) -> first));
+
+        List<Artist> toSave = new ArrayList<>(creditedArtists.size());
+        Set<ArtistId> created = new LinkedHashSet<>();
+        creditedArtists.forEach((normalizedName, credited) -> {
+            Artist existing = existingArtists.get(normalizedName);
+            Artist artist = existing != null ? existing : Artist.createProvisional(credited.name());
+            for (Contribution contribution : credited.contributions()) {
+                artist = artist.addContribution(contribution);
+            }
+            if (existing == null) {
+                created.add(artist.getId());
+                toSave.add(artist);
+            } else if (artist != existing) {
+                // addContribution returns the same instance when every contribution was already known
+                toSave.add(artist);
+            }
+        });
+        if (toSave.isEmpty()) {
+            return;
+        }
+
+        artistRepository.saveAll(toSave);
+        if (!created.isEmpty()) {
+            enrichmentQueue.enqueue(created);
+        }
+    }
+
+    /**
+     * An artist credited in a batch of events, under the first spelling seen.
+     */
+    private record CreditedArtist(String name, List<Contribution> contributions) {
+
+        CreditedArtist(String name) {
+            this(name, new ArrayList<>());
+        }
+    }
+
     /**
      * Processes a single artist credit: finds or creates artist, adds contribution, enriches if provisional.
      *
@@ -66,18 +148,7 @@ public class ArtistService implements ArtistTrackRegistrationUseCase {
             // Create new provisional artist
             artist = Artist.createProvisional(artistName);
             artist = artistRepository.save(artist);
-
-            // Trigger enrichment asynchronously for provisional artists
-            if (artist.getStatus() == ArtistStatus.PROVISIONAL) {
-                enrichmentService.enrichArtist(artist)
-                    .thenAccept(enrichedArtist -> {
-                        // Artist is already saved by the enrichment service
-                    })
-                    .exceptionally(throwable -> {
-                        // Log error but don't fail the main flow
-                        return null;
-                    });
-            }
+            enrichmentQueue.enqueue(List.of(artist.getId()));
         }
 
         // Add the contribution to the artist
@@ -0,0 +1,194 @@
+package com.musichub.artist.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.musichub.artist.application.dto.EnrichmentTask;
+import com.musichub.artist.application.ports.in.ProcessEnrichmentQueueUseCase;
+import com.musichub.artist.application.ports.out.ArtistRepository;
+import com.musichub.artist.application.ports.out.EnrichmentQueue;
+import com.musichub.artist.domain.model.Artist;
+import com.musichub.artist.domain.model.ArtistStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Enriches the artists of the enrichment queue, a batch at a time.
+ * <p>
+ * The artists of a batch are enriched concurrently, within the limits of the
+ * reconciliation ports' executor. An artist that is verified afterwards, or
+ * no longer needs enrichment, leaves the queue; otherwise it is retried after
+ * an exponential backoff, from {@code artist.enrichment.queue.base-backoff}
+ * doubling up to {@code artist.enrichment.queue.max-backoff}, and abandoned
+ * after {@code artist.enrichment.queue.max-attempts} attempts. Outcomes are
+ * counted under {@code artist.enrichment.queue.processed}, tagged by outcome.
+ */
+@ApplicationScoped
+public class EnrichmentQueueProcessor implements ProcessEnrichmentQueueUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrichmentQueueProcessor.class);
+
+    private final EnrichmentQueue enrichmentQueue;
+    private final ArtistRepository artistRepository;
+    private final ArtistEnrichmentService enrichmentService;
+    private final Duration lease;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+
+    private final Timer batchTimer;
+    private final Counter enriched;
+    private final Counter skipped;
+    private final Counter retried;
+    private final Counter abandoned;
+
+    @Inject
+    public EnrichmentQueueProcessor(
+            EnrichmentQueue enrichmentQueue,
+            ArtistRepository artistRepository,
+            ArtistEnrichmentService enrichmentService,
+            @ConfigProperty(name = "artist.enrichment.queue.lease", defaultValue = "PT5M") Duration lease,
+            @ConfigProperty(name = "artist.enrichment.queue.base-backoff", defaultValue = "PT30S") Duration baseBackoff,
+            @ConfigProperty(name = "artist.enrichment.queue.max-backoff", defaultValue = "PT6H") Duration maxBackoff,
+            @ConfigProperty(name = "artist.enrichment.queue.max-attempts", defaultValue = "10") int maxAttempts,
+            MeterRegistry meterRegistry) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("artist.enrichment.queue.max-attempts must be positive, got: " + maxAttempts);
+        }
+        this.enrichmentQueue = enrichmentQueue;
+        this.artistRepository = artistRepository;
+        this.enrichmentService = enrichmentService;
+        this.lease = lease;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+
+        this.batchTimer = Timer.builder("artist.enrichment.queue.batch")
+                .description("Time taken to enrich a batch claimed from the enrichment queue")
+                .register(meterRegistry);
+        this.enriched = processed(meterRegistry, "enriched");
+        this.skipped = processed(meterRegistry, "skipped");
+        this.retried = processed(meterRegistry, "retried");
+        this.abandoned = processed(meterRegistry, "abandoned");
+    }
+
+    private static Counter processed(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("artist.enrichment.queue.processed")
+                .description("Artists taken from the enrichment queue, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int processBatch(int batchSize) {
+        List<EnrichmentTask> tasks = enrichmentQueue.claim(batchSize, lease);
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        batchTimer.record(() -> process(tasks));
+        return tasks.size();
+    }
+
+    private void process(List<EnrichmentTask> tasks) {
+        List<CompletableFuture<Attempt>> attempts = new ArrayList<>(tasks.size());
+        for (EnrichmentTask task : tasks) {
+            attempts.add(attempt(task));
+        }
+        // Outcomes are recorded from this thread, once every enrichment of the batch is over
+        for (int i = 0; i < tasks.size(); i++) {
+            record(tasks.get(i), attempts.get(i).join());
+        }
+    }
+
+    private CompletableFuture<Attempt> attempt(EnrichmentTask task) {
+        Optional<Artist> artist;
+        try {
+            artist = artistRepository.findById(task.artistId());
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(Attempt.failed(e));
+        }
+        if (artist.isEmpty() || artist.get().getStatus() != ArtistStatus.PROVISIONAL) {
+            return CompletableFuture.completedFuture(Attempt.of(Outcome.NOT_NEEDED));
+        }
+        CompletableFuture<Artist> enrichment;
+        try {
+            enrichment = enrichmentService.enrichArtist(artist.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(Attempt.failed(e));
+        }
+        // The lease must not run out while the artist is still being enriched
+        return enrichment
+                .orTimeout(lease.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((result, error) -> {
+                    if (error != null) {
+                        return Attempt.failed(error);
+                    }
+                    return Attempt.of(result.getStatus() == ArtistStatus.PROVISIONAL ? Outcome.NOT_FOUND : Outcome.ENRICHED);
+                });
+    }
+
+    private void record(EnrichmentTask task, Attempt attempt) {
+        try {
+            if (attempt.outcome() == Outcome.ENRICHED || attempt.outcome() == Outcome.NOT_NEEDED) {
+                enrichmentQueue.complete(task.artistId());
+                (attempt.outcome() == Outcome.ENRICHED ? enriched : skipped).increment();
+            } else if (task.attempts() >= maxAttempts) {
+                enrichmentQueue.complete(task.artistId());
+                abandoned.increment();
+                log.warn("Giving up enriching artist {} after {} attempts: {}",
+                        task.artistId().value(), task.attempts(), attempt.reason());
+            } else {
+                Instant nextAttemptAt = Instant.now().plus(backoff(task.attempts()));
+                enrichmentQueue.retryAt(task.artistId(), nextAttemptAt, attempt.reason());
+                retried.increment();
+                log.debug("Artist {} not enriched ({}), retrying at {}",
+                        task.artistId().value(), attempt.reason(), nextAttemptAt);
+            }
+        } catch (RuntimeException e) {
+            // The entry is claimed again once its lease ends
+            log.warn("Could not record the enrichment outcome of artist {}", task.artistId().value(), e);
+        }
+    }
+
+    /**
+     * @return the delay before the attempt following attempt number {@code attempts}
+     */
+    Duration backoff(int attempts) {
+        // Past 2^20 the delay is beyond any sensible maximum
+        Duration delay = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private enum Outcome {
+        ENRICHED, NOT_NEEDED, NOT_FOUND, FAILED
+    }
+
+    /**
+     * Outcome of one enrichment attempt, and why it was not a success.
+     */
+    private record Attempt(Outcome outcome, String reason) {
+
+        static Attempt of(Outcome outcome) {
+            return new Attempt(outcome, outcome == Outcome.NOT_FOUND ? "not found on any external source" : null);
+        }
+
+        static Attempt failed(Throwable error) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            return new Attempt(Outcome.FAILED, String.valueOf(cause));
+        }
+    }
+}
@@ -7,17 +7,16 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.lenient;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import com.musichub.artist.application.ports.out.ArtistRepository;
+import com.musichub.artist.application.ports.out.EnrichmentQueue;
 import com.musichub.artist.application.service.ArtistService;
-import com.musichub.artist.application.service.ArtistEnrichmentService;
 import com.musichub.shared.events.ArtistCreditInfo;
 import com.musichub.shared.events.SourceInfo;
 import com.musichub.shared.events.TrackWasRegistered;
@@ -44,15 +43,12 @@ class ArtistServiceTest {
     private ArtistRepository artistRepository;
 
     @Mock
-    private ArtistEnrichmentService enrichmentService;
+    private EnrichmentQueue enrichmentQueue;
 
     @BeforeEach
     @DisplayName("Set up test environment")
     void setUp() {
-        artistService = new ArtistService(artistRepository, enrichmentService);
-        // Setup default enrichment service behavior - use lenient to avoid UnnecessaryStubbingException
-        lenient().when(enrichmentService.enrichArtist(any(Artist.class)))
-            .thenReturn(CompletableFuture.completedFuture(mock(Artist.class)));
+        artistService = new ArtistService(artistRepository, enrichmentQueue);
     }
 
     @Test
@@ -88,6 +84,9 @@ class ArtistServiceTest {
         Contribution contribution = finalArtist.getContributions().get(0);
         assertEquals("Test Track", contribution.title());
         assertEquals(isrc, contribution.isrc());
+
+        // The new artist is queued for enrichment
+        verify(enrichmentQueue).enqueue(List.of(finalArtist.getId()));
     }
 
     @Test
@@ -137,6 +136,9 @@ class ArtistServiceTest {
 
         assertTrue(hasOldContribution, "Should still contain the old contribution");
         assertTrue(hasNewContribution, "Should contain the new contribution");
+
+        // An existing artist is not queued again
+        verify(enrichmentQueue, never()).enqueue(any());
     }
 
     @Test
@@ -328,4 +330,134 @@ class ArtistServiceTest {
         assertEquals(duplicateIsrc, contribution.isrc());
         assertEquals("Duplicate Track", contribution.title());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should resolve all artists of a batch with one lookup and save them at once")
+    void batch_shouldResolveArtistsOnceAndSaveAtOnce() {
+        // Given
+        Artist existingArtist = Artist.createProvisional("The Veterans");
+        TrackWasRegistered first = new TrackWasRegistered(
+            ISRC.of("DEU630901320"),
+            "First Track",
+            UUID.randomUUID(),
+            List.of(ArtistCreditInfo.withName("The Veterans"), ArtistCreditInfo.withName("Newcomer")),
+            List.of(new SourceInfo("SPOTIFY", "spotify1"))
+        );
+        TrackWasRegistered second = new TrackWasRegistered(
+            ISRC.of("DEU630901321"),
+            "Second Track",
+            UUID.randomUUID(),
+            List.of(ArtistCreditInfo.withName(" The Veterans ")),
+            List.of(new SourceInfo("SPOTIFY", "spotify2"))
+        );
+
+        when(artistRepository.findByNames(any())).thenReturn(List.of(existingArtist));
+        when(artistRepository.saveAll(any())).thenAnswer(inv -> List.copyOf(inv.getArgument(0)));
+
+        // When
+        artistService.handleTrackRegistrations(List.of(first, second));
+
+        // Then
+        ArgumentCaptor<Collection<String>> namesCaptor = ArgumentCaptor.forClass(java.util.Collection.class);
+        verify(artistRepository).findByNames(namesCaptor.capture());
+        assertEquals(List.of("The Veterans", "Newcomer"), List.copyOf(namesCaptor.getValue()));
+        verify(artistRepository, never()).findByName(any());
+        verify(artistRepository, never()).save(any());
+
+        ArgumentCaptor<Collection<Artist>> savedCaptor = ArgumentCaptor.forClass(java.util.Collection.class);
+        verify(artistRepository).saveAll(savedCaptor.capture());
+        List<Artist> savedArtists = List.copyOf(savedCaptor.getValue());
+        assertEquals(2, savedArtists.size());
+        assertEquals(existingArtist.getId(), savedArtists.get(0).getId());
+        assertEquals(2, savedArtists.get(0).getContributions().size());
+        assertEquals("Newcomer", savedArtists.get(1).getNameValue());
+        assertEquals(1, savedArtists.get(1).getContributions().size());
+
+        // Only the new artist is queued for enrichment
+        verify(enrichmentQueue).enqueue(Set.of(savedArtists.get(1).getId()));
+    }
+
+    @Test
+    @DisplayName("Should not save artists that already have every contribution of the batch")
+    void batch_shouldSkipArtistsWithoutNewContributions() {
+        // Given
+        ISRC isrc = ISRC.of("DEU630901322");
+        UUID producerId = UUID.randomUUID();
+        Artist existingArtist = Artist.createProvisional("Known Artist")
+            .addContribution(Contribution.of(new TrackId(producerId), "Known Track", isrc));
+        TrackWasRegistered event = new TrackWasRegistered(
+            isrc,
+            "Known Track",
+            producerId,
+            List.of(ArtistCreditInfo.withName("Known Artist")),
+            List.of(new SourceInfo("SPOTIFY", "spotify3"))
+        );
+
+        when(artistRepository.findByNames(any())).thenReturn(List.of(existingArtist));
+
+        // When
+        artistService.handleTrackRegistrations(List.of(event));
+
+        // Then
+        verify(artistRepository, never()).saveAll(any());
+        verify(enrichmentQueue, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("Should credit one artist for names differing only by case and whitespace")
+    void batch_shouldMergeSpellingsOfTheSameArtist() {
+        // Given
+        TrackWasRegistered first = new TrackWasRegistered(
+            ISRC.of("DEU630901324"),
+            "First Spelling",
+            UUID.randomUUID(),
+            List.of(ArtistCreditInfo.withName("Daft Punk")),
+            List.of(new SourceInfo("SPOTIFY", "spotify4"))
+        );
+        TrackWasRegistered second = new TrackWasRegistered(
+            ISRC.of("DEU630901325"),
+            "Second Spelling",
+            UUID.randomUUID(),
+            List.of(ArtistCreditInfo.withName("DAFT  punk")),
+            List.of(new SourceInfo("SPOTIFY", "spotify5"))
+        );
+
+        when(artistRepository.findByNames(any())).thenReturn(List.of());
+        when(artistRepository.saveAll(any())).thenAnswer(inv -> List.copyOf(inv.getArgument(0)));
+
+        // When
+        artistService.handleTrackRegistrations(List.of(first, second));
+
+        // Then
+        ArgumentCaptor<Collection<String>> namesCaptor = ArgumentCaptor.forClass(java.util.Collection.class);
+        verify(artistRepository).findByNames(namesCaptor.capture());
+        assertEquals(List.of("Daft Punk"), List.copyOf(namesCaptor.getValue()));
+
+        ArgumentCaptor<Collection<Artist>> savedCaptor = ArgumentCaptor.forClass(java.util.Collection.class);
+        verify(artistRepository).saveAll(savedCaptor.capture());
+        List<Artist> savedArtists = List.copyOf(savedCaptor.getValue());
+        assertEquals(1, savedArtists.size());
+        assertEquals("Daft Punk", savedArtists.get(0).getNameValue());
+        assertEquals(2, savedArtists.get(0).getContributions().size());
+    }
+
+    @Test
+    @DisplayName("Should not query the repository for a batch without artist credits")
+    void batch_withoutCredits_shouldNotTouchRepository() {
+        // Given
+        TrackWasRegistered event = new TrackWasRegistered(
+            ISRC.of("DEU630901323"),
+            "Track Without Artists",
+            UUID.randomUUID(),
+            List.of(),
+            List.of(new SourceInfo("MANUAL", "manual1"))
+        );
+
+        // When
+        artistService.handleTrackRegistrations(List.of(event));
+
+        // Then
+        verify(artistRepository, never()).findByNames(any());
+        verify(artistRepository, never()).saveAll(any());
+    }
+}
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -47,13 +48,14 @@ class ArtistEnrichmentServiceTest {
         @BeforeEach
         void setUp() {
                 List<ArtistReconciliationPort> reconciliationPorts = Arrays.asList(tidalPort, spotifyPort);
-                enrichmentService = new ArtistEnrichmentService(artistRepository, reconciliationPorts);
+                enrichmentService = new ArtistEnrichmentService(artistRepository, reconciliationPorts,
+                                Duration.ofSeconds(5));
 
-                // Setup default port support - only stub what's actually used in tests
-                lenient().when(tidalPort.supports(SourceType.TIDAL)).thenReturn(true);
+                // Setup default port support - the specific stubbing must come last to win
                 lenient().when(tidalPort.supports(any())).thenReturn(false);
-                lenient().when(spotifyPort.supports(SourceType.SPOTIFY)).thenReturn(true);
+                lenient().when(tidalPort.supports(SourceType.TIDAL)).thenReturn(true);
                 lenient().when(spotifyPort.supports(any())).thenReturn(false);
+                lenient().when(spotifyPort.supports(SourceType.SPOTIFY)).thenReturn(true);
         }
 
         @Nested
@@ -173,7 +175,7 @@ class ArtistEnrichmentServiceTest {
                 }
 
                 @Test
-                @DisplayName("Should prioritize TIDAL over Spotify when both found")
+                @DisplayName("Should prioritize TIDAL over Spotify and cancel the Spotify lookup")
                 void shouldPrioritizeTidalOverSpotifyWhenBothFound() {
                         // Given
                         Artist provisionalArtist = Artist.createProvisional("Pink Floyd");
@@ -182,30 +184,110 @@ class ArtistEnrichmentServiceTest {
                                         .addSource(Source.of("TIDAL", "7804"))
                                         .markAsVerified();
 
-                        Artist enrichedArtist = provisionalArtist
-                                        .addSource(Source.of("TIDAL", "7804"))
-                                        .markAsVerified();
-
+                        CompletableFuture<Optional<Artist>> pendingSpotify = new CompletableFuture<>();
                         when(tidalPort.findArtistByName("Pink Floyd", SourceType.TIDAL))
                                         .thenReturn(CompletableFuture.completedFuture(Optional.of(tidalArtist)));
-                        when(artistRepository.save(any(Artist.class))).thenReturn(enrichedArtist);
+                        when(spotifyPort.findArtistByName("Pink Floyd", SourceType.SPOTIFY))
+                                        .thenReturn(pendingSpotify);
+                        when(artistRepository.save(any(Artist.class))).thenAnswer(inv -> inv.getArgument(0));
 
                         // When
                         CompletableFuture<Artist> result = enrichmentService.enrichArtist(provisionalArtist);
 
-                        // Then
+                        // Then - TIDAL answered: no need to wait for Spotify
                         assertThat(result).succeedsWithin(java.time.Duration.ofSeconds(1));
                         Artist resultArtist = result.join();
 
                         assertThat(resultArtist.hasSource(SourceType.TIDAL)).isTrue();
-
-                        verify(tidalPort).findArtistByName("Pink Floyd", SourceType.TIDAL);
-                        // Spotify should not be called since TIDAL found the artist
-                        verify(spotifyPort, never()).findArtistByName(any(), any());
+                        assertThat(resultArtist.hasSource(SourceType.SPOTIFY)).isFalse();
+                        assertThat(pendingSpotify).isCancelled();
                         verify(artistRepository).save(any(Artist.class));
                 }
         }
 
+        @Nested
+        @DisplayName("Parallel Sources")
+        class ParallelSources {
+
+                @Test
+                @DisplayName("Should query every source without waiting for the others")
+                void shouldQueryEverySourceInParallel() {
+                        // Given
+                        Artist provisionalArtist = Artist.createProvisional("Blur");
+                        CompletableFuture<Optional<Artist>> pendingTidal = new CompletableFuture<>();
+                        when(tidalPort.findArtistByName("Blur", SourceType.TIDAL)).thenReturn(pendingTidal);
+                        when(spotifyPort.findArtistByName("Blur", SourceType.SPOTIFY))
+                                        .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+                        // When
+                        CompletableFuture<Artist> result = enrichmentService.enrichArtist(provisionalArtist);
+
+                        // Then - Spotify is asked while TIDAL is still searching
+                        verify(spotifyPort).findArtistByName("Blur", SourceType.SPOTIFY);
+                        assertThat(result).isNotDone();
+
+                        pendingTidal.complete(Optional.empty());
+                        assertThat(result).succeedsWithin(java.time.Duration.ofSeconds(1));
+                        assertThat(result.join()).isSameAs(provisionalArtist);
+                }
+
+                @Test
+                @DisplayName("Should wait for a higher priority source even when a lower one answers first")
+                void shouldWaitForHigherPrioritySource() {
+                        // Given
+                        Artist provisionalArtist = Artist.createProvisional("Oasis");
+                        Artist tidalArtist = Artist.createProvisional("Oasis")
+                                        .addSource(Source.of("TIDAL", "tidal-oasis"))
+                                        .markAsVerified();
+                        Artist spotifyArtist = Artist.createProvisional("Oasis")
+                                        .addSource(Source.of("SPOTIFY", "spotify-oasis"))
+                                        .markAsVerified();
+
+                        CompletableFuture<Optional<Artist>> pendingTidal = new CompletableFuture<>();
+                        when(tidalPort.findArtistByName("Oasis", SourceType.TIDAL)).thenReturn(pendingTidal);
+                        when(spotifyPort.findArtistByName("Oasis", SourceType.SPOTIFY))
+                                        .thenReturn(CompletableFuture.completedFuture(Optional.of(spotifyArtist)));
+                        when(artistRepository.save(any(Artist.class))).thenAnswer(inv -> inv.getArgument(0));
+
+                        // When
+                        CompletableFuture<Artist> result = enrichmentService.enrichArtist(provisionalArtist);
+
+                        // Then
+                        assertThat(result).isNotDone();
+                        pendingTidal.complete(Optional.of(tidalArtist));
+
+                        assertThat(result).succeedsWithin(java.time.Duration.ofSeconds(1));
+                        assertThat(result.join().hasSource(SourceType.TIDAL)).isTrue();
+                        assertThat(result.join().hasSource(SourceType.SPOTIFY)).isFalse();
+                }
+
+                @Test
+                @DisplayName("Should fall back to a lower priority source when a higher one times out")
+                void shouldFallBackWhenHigherPrioritySourceTimesOut() {
+                        // Given
+                        ArtistEnrichmentService impatientService = new ArtistEnrichmentService(artistRepository,
+                                        Arrays.asList(tidalPort, spotifyPort), Duration.ofMillis(50));
+                        Artist provisionalArtist = Artist.createProvisional("Suede");
+                        Artist spotifyArtist = Artist.createProvisional("Suede")
+                                        .addSource(Source.of("SPOTIFY", "spotify-suede"))
+                                        .markAsVerified();
+
+                        CompletableFuture<Optional<Artist>> hangingTidal = new CompletableFuture<>();
+                        when(tidalPort.findArtistByName("Suede", SourceType.TIDAL)).thenReturn(hangingTidal);
+                        when(spotifyPort.findArtistByName("Suede", SourceType.SPOTIFY))
+                                        .thenReturn(CompletableFuture.completedFuture(Optional.of(spotifyArtist)));
+                        when(artistRepository.save(any(Artist.class))).thenAnswer(inv -> inv.getArgument(0));
+
+                        // When
+                        CompletableFuture<Artist> result = impatientService.enrichArtist(provisionalArtist);
+
+                        // Then - the timed out call is cancelled and Spotify's answer is used
+                        assertThat(result).succeedsWithin(java.time.Duration.ofSeconds(2));
+                        assertThat(result.join().hasSource(SourceType.SPOTIFY)).isTrue();
+                        assertThat(hangingTidal).isCancelled();
+                }
+        }
+
         @Nested
         @DisplayName("Source Hierarchy")
         class SourceHierarchy {
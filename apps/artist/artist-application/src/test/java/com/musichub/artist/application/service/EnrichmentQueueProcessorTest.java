@@ -0,0 +1,186 @@
+package com.musichub.artist.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.musichub.artist.application.dto.EnrichmentTask;
+import com.musichub.artist.application.ports.out.ArtistRepository;
+import com.musichub.artist.application.ports.out.EnrichmentQueue;
+import com.musichub.artist.domain.model.Artist;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EnrichmentQueueProcessor Unit Tests")
+class EnrichmentQueueProcessorTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Mock
+    private EnrichmentQueue enrichmentQueue;
+
+    @Mock
+    private ArtistRepository artistRepository;
+
+    @Mock
+    private ArtistEnrichmentService enrichmentService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EnrichmentQueueProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        processor = new EnrichmentQueueProcessor(enrichmentQueue, artistRepository, enrichmentService,
+                LEASE, Duration.ofSeconds(30), Duration.ofHours(6), 3, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no artist is due")
+    void shouldDoNothingWhenQueueIsEmpty() {
+        // Given
+        when(enrichmentQueue.claim(10, LEASE)).thenReturn(List.of());
+
+        // When
+        int claimed = processor.processBatch(10);
+
+        // Then
+        assertThat(claimed).isZero();
+        verifyNoInteractions(artistRepository, enrichmentService);
+    }
+
+    @Test
+    @DisplayName("Should remove enriched artists from the queue")
+    void shouldCompleteEnrichedArtists() {
+        // Given
+        Artist artist = Artist.createProvisional("Queen");
+        when(enrichmentQueue.claim(10, LEASE)).thenReturn(List.of(new EnrichmentTask(artist.getId(), 1)));
+        when(artistRepository.findById(artist.getId())).thenReturn(Optional.of(artist));
+        when(enrichmentService.enrichArtist(artist))
+                .thenReturn(CompletableFuture.completedFuture(artist.markAsVerified()));
+
+        // When
+        int claimed = processor.processBatch(10);
+
+        // Then
+        assertThat(claimed).isEqualTo(1);
+        verify(enrichmentQueue).complete(artist.getId());
+        verify(enrichmentQueue, never()).retryAt(any(), any(), any());
+        assertThat(processed("enriched")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should retry artists not found anywhere after the base backoff")
+    void shouldRetryArtistsNotFound() {
+        // Given
+        Artist artist = Artist.createProvisional("Unknown Artist");
+        when(enrichmentQueue.claim(10, LEASE)).thenReturn(List.of(new EnrichmentTask(artist.getId(), 1)));
+        when(artistRepository.findById(artist.getId())).thenReturn(Optional.of(artist));
+        when(enrichmentService.enrichArtist(artist)).thenReturn(CompletableFuture.completedFuture(artist));
+        Instant before = Instant.now();
+
+        // When
+        processor.processBatch(10);
+
+        // Then
+        ArgumentCaptor<Instant> nextAttemptAt = ArgumentCaptor.forClass(Instant.class);
+        verify(enrichmentQueue).retryAt(eq(artist.getId()), nextAttemptAt.capture(), anyString());
+        assertThat(nextAttemptAt.getValue())
+                .isBetween(before.plusSeconds(30), Instant.now().plusSeconds(30));
+        verify(enrichmentQueue, never()).complete(any());
+        assertThat(processed("retried")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should retry artists whose enrichment failed, keeping the error")
+    void shouldRetryFailedEnrichments() {
+        // Given
+        Artist artist = Artist.createProvisional("Radiohead");
+        when(enrichmentQueue.claim(10, LEASE)).thenReturn(List.of(new EnrichmentTask(artist.getId(), 2)));
+        when(artistRepository.findById(artist.getId())).thenReturn(Optional.of(artist));
+        when(enrichmentService.enrichArtist(artist))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Tidal is down")));
+
+        // When
+        processor.processBatch(10);
+
+        // Then
+        verify(enrichmentQueue).retryAt(eq(artist.getId()), any(Instant.class),
+                eq("java.lang.IllegalStateException: Tidal is down"));
+    }
+
+    @Test
+    @DisplayName("Should give up on artists after the maximum number of attempts")
+    void shouldAbandonAfterMaxAttempts() {
+        // Given
+        Artist artist = Artist.createProvisional("Unknown Artist");
+        when(enrichmentQueue.claim(10, LEASE)).thenReturn(List.of(new EnrichmentTask(artist.getId(), 3)));
+        when(artistRepository.findById(artist.getId())).thenReturn(Optional.of(artist));
+        when(enrichmentService.enrichArtist(artist)).thenReturn(CompletableFuture.completedFuture(artist));
+
+        // When
+        processor.processBatch(10);
+
+        // Then
+        verify(enrichmentQueue).complete(artist.getId());
+        verify(enrichmentQueue, never()).retryAt(any(), any(), any());
+        assertThat(processed("abandoned")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop artists that no longer need enrichment without enriching them")
+    void shouldSkipArtistsNoLongerProvisional() {
+        // Given
+        Artist verified = Artist.createProvisional("The Beatles").markAsVerified();
+        Artist deleted = Artist.createProvisional("Gone");
+        when(enrichmentQueue.claim(10, LEASE)).thenReturn(List.of(
+                new EnrichmentTask(verified.getId(), 1),
+                new EnrichmentTask(deleted.getId(), 1)));
+        when(artistRepository.findById(verified.getId())).thenReturn(Optional.of(verified));
+        when(artistRepository.findById(deleted.getId())).thenReturn(Optional.empty());
+
+        // When
+        int claimed = processor.processBatch(10);
+
+        // Then
+        assertThat(claimed).isEqualTo(2);
+        verify(enrichmentQueue).complete(verified.getId());
+        verify(enrichmentQueue).complete(deleted.getId());
+        verifyNoInteractions(enrichmentService);
+        assertThat(processed("skipped")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should double the backoff at each attempt, up to the maximum")
+    void shouldBackOffExponentially() {
+        assertThat(processor.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(processor.backoff(2)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(processor.backoff(5)).isEqualTo(Duration.ofMinutes(8));
+        assertThat(processor.backoff(12)).isEqualTo(Duration.ofHours(6));
+        assertThat(processor.backoff(1_000)).isEqualTo(Duration.ofHours(6));
+    }
+
+    private double processed(String outcome) {
+        return meterRegistry.get("artist.enrichment.queue.processed").tag("outcome", outcome).counter().count();
+    }
+}
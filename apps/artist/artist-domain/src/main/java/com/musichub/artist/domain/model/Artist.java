@@ -19,14 +19,14 @@ import java.util.*;
  * - Artists can exist on multiple platforms simultaneously (multi-platform coexistence)
  * - Only one source per platform type is allowed (duplicates are replaced)
  * - Only PROVISIONAL artists can be marked as VERIFIED
- * - Contributions are unique per artist (idempotent additions)
+ * - Contributions are unique per artist and track (idempotent additions)
  */
 public class Artist {
 
     private final ArtistId id;
     private final ArtistName name;
     private final ArtistStatus status;
-    private final List<Contribution> contributions;
+    private final ContributionList contributions; // shared with the versions this one derives from
     private final List<Source> sources;
 
     // ===========================
@@ -53,7 +53,7 @@ public class Artist {
         this.id = Objects.requireNonNull(id, "Artist ID cannot be null");
         this.name = Objects.requireNonNull(name, ERROR_ARTIST_NAME_NULL);
         this.status = Objects.requireNonNull(status, "Artist status cannot be null");
-        this.contributions = new ArrayList<>(contributions != null ? contributions : Collections.emptyList());
+        this.contributions = ContributionList.of(contributions != null ? contributions : Collections.emptyList());
         this.sources = new ArrayList<>(sources != null ? sources : Collections.emptyList());
     }
 
@@ -90,7 +90,7 @@ public class Artist {
      * @param id            the artist ID
      * @param name          the artist name
      * @param status        the artist status
-     * @param contributions the list of contributions
+     * @param contributions the list of contributions; later duplicates of a track and ISRC are dropped
      * @param sources       the list of sources
      * @return a new Artist instance
      * @throws NullPointerException if any required parameter is null
@@ -120,8 +120,10 @@ public class Artist {
 
     /**
      * Adds a contribution to this artist.
-     * Returns a new Artist instance with the added contribution.
-     * Operation is idempotent - adding the same contribution twice returns the same instance.
+     * Returns a new Artist instance with the added contribution, sharing the
+     * contributions of this one: the cost does not depend on how many there are.
+     * Operation is idempotent - adding a contribution to a track and ISRC the
+     * artist already has returns the same instance.
      *
      * @param contribution the contribution to add
      * @return a new Artist instance with the contribution, or same instance if contribution already exists
@@ -131,13 +133,11 @@ public class Artist {
         Objects.requireNonNull(contribution, "Contribution cannot be null");
 
         // Business rule: Operation is idempotent
-        if (this.contributions.contains(contribution)) {
+        ContributionList newContributions = this.contributions.with(contribution);
+        if (newContributions == this.contributions) {
             return this;
         }
 
-        List<Contribution> newContributions = new ArrayList<>(this.contributions);
-        newContributions.add(contribution);
-
         return new Artist(this.id, this.name, this.status, newContributions, this.sources);
     }
 
@@ -291,12 +291,12 @@ public class Artist {
     }
 
     /**
-     * Gets an unmodifiable view of the artist's contributions.
+     * Gets the artist's contributions, in the order they were added.
      *
      * @return unmodifiable list of contributions
      */
     public List<Contribution> getContributions() {
-        return Collections.unmodifiableList(contributions);
+        return contributions;
     }
 
     /**
@@ -0,0 +1,148 @@
+package com.musichub.artist.domain.model;
+
+import com.musichub.artist.domain.values.Contribution;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable list of an artist's contributions, unique by track id and ISRC.
+ * <p>
+ * Successive versions share one append-only log, each version being a prefix
+ * of it: adding a contribution to the latest version fills the next slot of
+ * the log and returns a one longer prefix, so additions are O(1) amortized
+ * and nothing is copied. Membership is a probe of the index shared by the
+ * versions, which maps every key to its slot: a key is in a version when its
+ * slot is within the prefix. Adding to an older version, whose next slot
+ * already belongs to a newer one, copies that version into a new log; the
+ * aggregate only ever extends its latest version, so this does not happen in
+ * practice.
+ * <p>
+ * Slots are written once, before the version that covers them is created, so
+ * versions can be read from any thread; appends to a log are serialized.
+ */
+final class ContributionList extends AbstractList<Contribution> implements RandomAccess {
+
+    private final Log log;
+    private final Contribution[] entries; // the log's array when this version was created
+    private final int size;
+
+    private ContributionList(Log log, Contribution[] entries, int size) {
+        this.log = log;
+        this.entries = entries;
+        this.size = size;
+    }
+
+    /**
+     * @return the given contributions, without duplicates, as a list that can be extended in O(1);
+     *         the argument itself when it already is one
+     */
+    static ContributionList of(Collection<Contribution> contributions) {
+        if (contributions instanceof ContributionList list) {
+            return list;
+        }
+        Log log = new Log(contributions.size());
+        for (Contribution contribution : contributions) {
+            Objects.requireNonNull(contribution, "Contribution cannot be null");
+            Key key = Key.of(contribution);
+            if (!log.index.containsKey(key)) {
+                log.append(key, contribution);
+            }
+        }
+        return log.latest();
+    }
+
+    /**
+     * @return this list with the contribution appended, or this list if it already holds its key
+     */
+    ContributionList with(Contribution contribution) {
+        Key key = Key.of(contribution);
+        if (containsKey(key)) {
+            return this;
+        }
+        synchronized (log) {
+            if (log.length == size) {
+                log.append(key, contribution);
+                return log.latest();
+            }
+        }
+        // A newer version took the next slot: branch off into a log of our own
+        Log branch = new Log(size + 1);
+        for (int i = 0; i < size; i++) {
+            branch.append(Key.of(entries[i]), entries[i]);
+        }
+        branch.append(key, contribution);
+        return branch.latest();
+    }
+
+    private boolean containsKey(Key key) {
+        Integer slot = log.index.get(key);
+        return slot != null && slot < size;
+    }
+
+    @Override
+    public Contribution get(int index) {
+        Objects.checkIndex(index, size);
+        return entries[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Contribution contribution)) {
+            return false;
+        }
+        Integer slot = log.index.get(Key.of(contribution));
+        return slot != null && slot < size && entries[slot].equals(contribution);
+    }
+
+    /**
+     * Identity of a contribution within an artist. The ISRC is packed so that
+     * differently formatted ISRCs of the same recording are one key.
+     */
+    private record Key(UUID trackId, long isrc) {
+
+        static Key of(Contribution contribution) {
+            return new Key(contribution.trackId().value(), contribution.isrc().packed());
+        }
+    }
+
+    /**
+     * The storage shared by the versions of a list.
+     */
+    private static final class Log {
+
+        private final Map<Key, Integer> index;
+        private Contribution[] entries;
+        private int length;
+
+        Log(int capacity) {
+            this.index = new ConcurrentHashMap<>(Math.max(16, capacity * 2));
+            this.entries = new Contribution[Math.max(8, capacity)];
+        }
+
+        void append(Key key, Contribution contribution) {
+            if (length == entries.length) {
+                // Versions created before keep the previous array, whose prefix they cover is never written again
+                entries = Arrays.copyOf(entries, length + (length >> 1));
+            }
+            entries[length] = contribution;
+            index.put(key, length);
+            length++;
+        }
+
+        ContributionList latest() {
+            return new ContributionList(this, entries, length);
+        }
+    }
+}
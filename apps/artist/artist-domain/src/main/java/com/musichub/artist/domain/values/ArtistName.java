@@ -1,10 +1,16 @@
 package com.musichub.artist.domain.values;
 
+import java.text.Normalizer;
+import java.util.Locale;
 import java.util.Objects;
 
 /**
  * Value object representing an artist name with validation rules.
  * Immutable and ensures consistent artist name format across contexts.
+ * <p>
+ * The value keeps the name as written, for display. Names that differ only by
+ * case, Unicode compatibility forms or whitespace designate the same artist:
+ * {@link #normalized()} is the key artists are identified by.
  */
 public record ArtistName(String value) {
 
@@ -35,6 +41,48 @@ public record ArtistName(String value) {
         return new ArtistName(name);
     }
 
+    /**
+     * @return the key identifying the artist named so, see {@link #normalize(String)}
+     */
+    public String normalized() {
+        return normalize(value);
+    }
+
+    /**
+     * Normalizes a name, valid or not, into the key identifying an artist:
+     * Unicode NFKC, case folded, with every run of whitespace collapsed into a
+     * single space and none at either end.
+     *
+     * @param name the name, as written
+     * @return the normalized name, empty if the name is blank
+     */
+    public static String normalize(String name) {
+        Objects.requireNonNull(name, "Artist name cannot be null");
+        // Upper then lower case folds the characters whose lower case alone does not, like ß to ss
+        String folded = Normalizer.normalize(name, Normalizer.Form.NFKC)
+                .toUpperCase(Locale.ROOT)
+                .toLowerCase(Locale.ROOT);
+        // Case mappings may produce sequences that are not in NFKC
+        folded = Normalizer.normalize(folded, Normalizer.Form.NFKC);
+
+        StringBuilder normalized = new StringBuilder(folded.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < folded.length(); ) {
+            int codePoint = folded.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isWhitespace(codePoint) || Character.isSpaceChar(codePoint)) {
+                pendingSpace = normalized.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    normalized.append(' ');
+                    pendingSpace = false;
+                }
+                normalized.appendCodePoint(codePoint);
+            }
+        }
+        return normalized.toString();
+    }
+
     /**
      * Returns the artist name value as string.
      *
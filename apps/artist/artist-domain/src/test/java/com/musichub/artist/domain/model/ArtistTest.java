@@ -336,6 +336,25 @@ class ArtistTest {
         assertThat(artistWith1).isSameAs(artistWith2); // Should return same instance
     }
 
+    @Test
+    @DisplayName("Should be idempotent when adding a contribution to a track and ISRC already credited")
+    void shouldBeIdempotentWhenAddingContributionToSameTrackAndIsrc() {
+        // Given
+        TrackId trackId = new TrackId(UUID.randomUUID());
+        Artist artist = Artist.createProvisional("Led Zeppelin")
+                .addContribution(Contribution.of(trackId, "Stairway to Heaven", ISRC.of("GBQR19700001")));
+
+        // When
+        Artist updatedArtist = artist.addContribution(
+                Contribution.of(trackId, "Stairway to Heaven (Remaster)", ISRC.of("GB-QR1-97-00001")));
+
+        // Then
+        assertThat(updatedArtist).isSameAs(artist);
+        assertThat(updatedArtist.getContributions())
+                .extracting(Contribution::title)
+                .containsExactly("Stairway to Heaven");
+    }
+
     @Test
     @DisplayName("Should throw exception when adding null contribution")
     void shouldThrowExceptionWhenAddingNullContribution() {
@@ -0,0 +1,126 @@
+package com.musichub.artist.domain.model;
+
+import com.musichub.artist.domain.values.Contribution;
+import com.musichub.shared.domain.id.TrackId;
+import com.musichub.shared.domain.values.ISRC;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ContributionList Tests")
+class ContributionListTest {
+
+    @Test
+    @DisplayName("Should append in order and leave previous versions unchanged")
+    void shouldAppendWithoutChangingPreviousVersions() {
+        // Given
+        ContributionList empty = ContributionList.of(List.of());
+
+        // When
+        ContributionList one = empty.with(contribution(1));
+        ContributionList two = one.with(contribution(2));
+
+        // Then
+        assertThat(empty).isEmpty();
+        assertThat(one).containsExactly(contribution(1));
+        assertThat(two).containsExactly(contribution(1), contribution(2));
+        assertThat(one.contains(contribution(2))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should treat a contribution to the same track and ISRC as a duplicate")
+    void shouldDeduplicateByTrackAndIsrc() {
+        // Given
+        Contribution original = contribution(1);
+        Contribution retitled = Contribution.of(original.trackId(), "Another Title", original.isrc());
+        Contribution dashed = Contribution.of(original.trackId(), original.title(), ISRC.of("FR-LA1-24-00001"));
+        ContributionList list = ContributionList.of(List.of(original));
+
+        // When & Then
+        assertThat(list.with(original)).isSameAs(list);
+        assertThat(list.with(retitled)).isSameAs(list);
+        assertThat(list.with(dashed)).isSameAs(list);
+        assertThat(list.contains(retitled)).isFalse(); // List.contains keeps its equality semantics
+        assertThat(ContributionList.of(List.of(original, retitled))).containsExactly(original);
+    }
+
+    @Test
+    @DisplayName("Should branch off when an older version is extended")
+    void shouldBranchWhenExtendingOlderVersion() {
+        // Given
+        ContributionList base = ContributionList.of(List.of(contribution(1)));
+        ContributionList newer = base.with(contribution(2));
+
+        // When
+        ContributionList branch = base.with(contribution(3));
+        ContributionList newerStill = newer.with(contribution(4));
+
+        // Then
+        assertThat(base).containsExactly(contribution(1));
+        assertThat(newer).containsExactly(contribution(1), contribution(2));
+        assertThat(branch).containsExactly(contribution(1), contribution(3));
+        assertThat(newerStill).containsExactly(contribution(1), contribution(2), contribution(4));
+        assertThat(branch.with(contribution(2))).containsExactly(contribution(1), contribution(3), contribution(2));
+    }
+
+    @Test
+    @DisplayName("Should build long lists by successive additions")
+    void shouldBuildLongLists() {
+        // Given
+        int count = 50_000;
+        ContributionList list = ContributionList.of(List.of());
+
+        // When
+        for (int n = 0; n < count; n++) {
+            list = list.with(contribution(n));
+        }
+
+        // Then
+        assertThat(list).hasSize(count);
+        assertThat(list.get(count - 1)).isEqualTo(contribution(count - 1));
+        assertThat(list.with(contribution(count / 2))).isSameAs(list);
+    }
+
+    @Test
+    @DisplayName("Should let older versions be read while the latest one is extended")
+    void shouldReadOlderVersionsWhileExtending() throws Exception {
+        // Given
+        ContributionList base = ContributionList.of(List.of(contribution(0)));
+        List<ContributionList> versions = new ArrayList<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // When - a writer extends the latest version while older ones are read
+            Future<ContributionList> writer = executor.submit(() -> {
+                ContributionList latest = base;
+                for (int n = 1; n < 20_000; n++) {
+                    latest = latest.with(contribution(n));
+                }
+                return latest;
+            });
+            while (!writer.isDone()) {
+                assertThat(base).containsExactly(contribution(0));
+                assertThat(base.contains(contribution(1))).isFalse();
+            }
+            versions.add(writer.get(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(versions.get(0)).hasSize(20_000);
+    }
+
+    private static Contribution contribution(int n) {
+        String isrc = "FRLA1" + (24 + n / 100_000) + String.format("%05d", n % 100_000);
+        return Contribution.of(TrackId.fromISRC(isrc), "Track " + n, ISRC.of(isrc));
+    }
+}
@@ -201,6 +201,51 @@ class ArtistNameTest {
         }
     }
 
+    @Nested
+    @DisplayName("Normalization")
+    class Normalization {
+
+        @ParameterizedTest(name = "Should normalize {0}")
+        @MethodSource("normalizationTestCases")
+        @DisplayName("Should normalize names into the key identifying the artist")
+        void shouldNormalizeNames(String description, String input, String expected) {
+            // When & Then
+            assertThat(ArtistName.normalize(input)).isEqualTo(expected);
+        }
+
+        private static Stream<Arguments> normalizationTestCases() {
+            return Stream.of(
+                Arguments.of("case", "Daft PUNK", "daft punk"),
+                Arguments.of("inner whitespace runs", "Daft \t\n  Punk", "daft punk"),
+                Arguments.of("surrounding and non-breaking spaces", "\u00A0 Daft\u2003Punk \u3000", "daft punk"),
+                Arguments.of("compatibility forms", "\uFF24\uFF41\uFF46\uFF54 Punk", "daft punk"),
+                Arguments.of("decomposed accents", "Bjo\u0308rk", "bj\u00F6rk"),
+                Arguments.of("full case folding", "STRAU\u00DF", "strauss"),
+                Arguments.of("blank name", "  \t ", "")
+            );
+        }
+
+        @Test
+        @DisplayName("Should give the same key to names designating the same artist")
+        void shouldGiveSameKeyToSameArtist() {
+            // Given
+            ArtistName written = ArtistName.of("Sigur Rós");
+            ArtistName typed = ArtistName.of("  SIGUR  ro\u0301s ");
+
+            // When & Then
+            assertThat(written.normalized()).isEqualTo(typed.normalized());
+            assertThat(written).isNotEqualTo(typed);
+        }
+
+        @Test
+        @DisplayName("Should reject a null name")
+        void shouldRejectNullName() {
+            // When & Then
+            assertThatThrownBy(() -> ArtistName.normalize(null))
+                .isInstanceOf(NullPointerException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Edge Cases")
     class EdgeCases {
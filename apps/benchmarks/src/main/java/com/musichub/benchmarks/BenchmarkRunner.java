@@ -0,0 +1,50 @@
+package com.musichub.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}: the standard JMH command line, with
+ * two defaults so that every run can be compared with the previous release.
+ * <ul>
+ *     <li>the GC profiler is enabled, reporting allocation per operation
+ *     ({@code gc.alloc.rate.norm}), unless other profilers are requested with {@code -prof};</li>
+ *     <li>results are written as JSON to {@value #DEFAULT_RESULT_FILE}, unless
+ *     {@code -rf}/{@code -rff} say otherwise.</li>
+ * </ul>
+ * Listing and help options are handed to JMH unchanged.
+ */
+public final class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FILE = "jmh-results.json";
+
+    private BenchmarkRunner() {
+        // Utility class - prevent instantiation
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
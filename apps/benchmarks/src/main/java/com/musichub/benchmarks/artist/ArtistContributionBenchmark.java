@@ -0,0 +1,129 @@
+package com.musichub.benchmarks.artist;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.musichub.artist.domain.model.Artist;
+import com.musichub.artist.domain.model.ArtistStatus;
+import com.musichub.artist.domain.values.ArtistName;
+import com.musichub.artist.domain.values.Contribution;
+import com.musichub.shared.domain.id.ArtistId;
+import com.musichub.shared.domain.id.TrackId;
+import com.musichub.shared.domain.values.ISRC;
+
+/**
+ * {@link Artist#addContribution} on artists credited on 10 to 50k tracks: a
+ * new contribution to the latest version of an artist, as the aggregate is
+ * used, a new contribution to an older version (which must copy), an
+ * idempotent re-registration, and building a whole artist one contribution at
+ * a time. All but the copy should cost the same per contribution whatever the
+ * number of contributions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArtistContributionBenchmark {
+
+    private static final int PROBE_COUNT = 1024; // power of two, see nextProbe()
+    private static final int APPEND_COUNT = 1 << 16;
+
+    @Param({"10", "1000", "10000", "50000"})
+    int contributionCount;
+
+    private Artist artist;
+    private Contribution[] contributions;
+    private Contribution[] existing;
+    private Contribution[] added;
+    private int probe;
+    private Artist latest;
+    private Contribution[] appended;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        contributions = new Contribution[contributionCount];
+        for (int n = 0; n < contributionCount; n++) {
+            contributions[n] = contribution(n);
+        }
+        artist = newArtist();
+
+        existing = new Contribution[PROBE_COUNT];
+        added = new Contribution[PROBE_COUNT];
+        for (int i = 0; i < PROBE_COUNT; i++) {
+            existing[i] = contributions[(int) ((long) i * contributionCount / PROBE_COUNT)];
+            added[i] = contribution(contributionCount + i);
+        }
+        appended = new Contribution[APPEND_COUNT];
+        for (int i = 0; i < APPEND_COUNT; i++) {
+            appended[i] = contribution(contributionCount + i);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetLatest() {
+        latest = newArtist();
+        next = 0;
+    }
+
+    @Benchmark
+    public Artist addNewContribution() {
+        if (next == APPEND_COUNT) {
+            // Rare restart, so that the artist does not grow without bounds
+            resetLatest();
+        }
+        latest = latest.addContribution(appended[next++]);
+        return latest;
+    }
+
+    @Benchmark
+    public Artist addNewContributionToOlderVersion() {
+        // The same version is extended every time: after the first call, each one copies it
+        return artist.addContribution(added[nextProbe()]);
+    }
+
+    @Benchmark
+    public Artist addExistingContribution() {
+        return artist.addContribution(existing[nextProbe()]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Artist buildArtist() {
+        Artist built = Artist.createProvisional("Benchmark Artist");
+        for (Contribution contribution : contributions) {
+            built = built.addContribution(contribution);
+        }
+        return built;
+    }
+
+    private Artist newArtist() {
+        return Artist.from(ArtistId.newId(), ArtistName.of("Benchmark Artist"), ArtistStatus.PROVISIONAL,
+                Arrays.asList(contributions), List.of());
+    }
+
+    private int nextProbe() {
+        return probe++ & (PROBE_COUNT - 1);
+    }
+
+    private static Contribution contribution(int n) {
+        String isrc = "FRLA1" + (24 + n / 100_000) + String.format("%05d", n % 100_000);
+        return Contribution.of(TrackId.fromISRC(isrc), "Track " + n, ISRC.of(isrc));
+    }
+}
@@ -0,0 +1,91 @@
+package com.musichub.benchmarks.domain;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.musichub.producer.domain.values.ProducerId;
+import com.musichub.shared.domain.id.IdGenerator;
+import com.musichub.shared.domain.id.TrackId;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.domain.values.ProducerCode;
+
+/**
+ * Validation of the shared value objects and deterministic id generation, as
+ * done for every track entering the system.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectBenchmark {
+
+    private static final int PROBE_COUNT = 1024; // power of two, see nextProbe()
+    private static final UUID NAMESPACE = UUID.fromString("550e8400-e29b-41d4-a716-446655440003");
+
+    private String[] isrcValues;
+    private ISRC[] isrcs;
+    private String[] producerCodes;
+    private int probe;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        isrcValues = new String[PROBE_COUNT];
+        isrcs = new ISRC[PROBE_COUNT];
+        producerCodes = new String[PROBE_COUNT];
+        for (int i = 0; i < PROBE_COUNT; i++) {
+            String code = "FR" + (char) ('A' + i % 26) + (char) ('A' + i / 26 % 26) + (i % 10);
+            String value = code + "24" + String.format("%05d", i);
+            isrcValues[i] = value;
+            isrcs[i] = ISRC.of(value);
+            producerCodes[i] = code;
+        }
+    }
+
+    @Benchmark
+    public ISRC isrcOf() {
+        return ISRC.of(isrcValues[nextProbe()]);
+    }
+
+    @Benchmark
+    public ProducerCode producerCodeOf() {
+        return ProducerCode.of(producerCodes[nextProbe()]);
+    }
+
+    @Benchmark
+    public ProducerCode producerCodeWithIsrc() {
+        return ProducerCode.with(isrcs[nextProbe()]);
+    }
+
+    @Benchmark
+    public UUID generateUUIDv5() {
+        return IdGenerator.generateUUIDv5(NAMESPACE, isrcValues[nextProbe()]);
+    }
+
+    @Benchmark
+    public TrackId trackIdFromIsrc() {
+        return TrackId.fromISRC(isrcValues[nextProbe()]);
+    }
+
+    @Benchmark
+    public ProducerId producerIdFromCode() {
+        return ProducerId.fromProducerCode(ProducerCode.of(producerCodes[nextProbe()]));
+    }
+
+    private int nextProbe() {
+        return probe++ & (PROBE_COUNT - 1);
+    }
+}
@@ -0,0 +1,124 @@
+package com.musichub.benchmarks.isrc;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.musichub.shared.domain.collection.IsrcMap;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.domain.values.IsrcCodec;
+
+/**
+ * Packed ISRC handling ({@link IsrcCodec}, {@link IsrcMap}) against the string
+ * based code it replaced: regex validation, replace/trim/toUpperCase
+ * normalization and {@code HashMap<String, V>} indexes.
+ * <p>
+ * Run with {@code java -jar benchmarks/target/benchmarks.jar IsrcCodecBenchmark -prof gc}
+ * to compare allocation rates as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsrcCodecBenchmark {
+
+    // Validation and normalization used by ISRC and the services before the codec
+    private static final Pattern ISRC_PATTERN = Pattern.compile("^[A-Z]{2}[A-Z0-9]{3}\\d{2}\\d{5}$");
+    private static final int PROBE_COUNT = 1024; // power of two, see nextProbe()
+
+    @Param({"1000", "100000"})
+    int indexSize;
+
+    private String[] canonical;
+    private String[] userInput;
+    private long[] packed;
+    private Map<String, String> stringIndex;
+    private IsrcMap<String> packedIndex;
+    private int probe;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stringIndex = new HashMap<>(indexSize * 2);
+        packedIndex = new IsrcMap<>(indexSize);
+        for (int n = 0; n < indexSize; n++) {
+            String value = isrc(n);
+            stringIndex.put(value, value);
+            packedIndex.putIfAbsent(IsrcCodec.encode(value), value);
+        }
+
+        canonical = new String[PROBE_COUNT];
+        userInput = new String[PROBE_COUNT];
+        packed = new long[PROBE_COUNT];
+        for (int i = 0; i < PROBE_COUNT; i++) {
+            String value = isrc((int) ((long) i * indexSize / PROBE_COUNT));
+            canonical[i] = value;
+            userInput[i] = " " + value.substring(0, 2).toLowerCase() + "-" + value.substring(2, 5) + "-"
+                    + value.substring(5, 7) + "-" + value.substring(7) + " ";
+            packed[i] = IsrcCodec.encode(value);
+        }
+    }
+
+    @Benchmark
+    public boolean validateRegex() {
+        return ISRC_PATTERN.matcher(canonical[nextProbe()].replace("-", "")).matches();
+    }
+
+    @Benchmark
+    public boolean validateCodec() {
+        return IsrcCodec.isValid(canonical[nextProbe()]);
+    }
+
+    @Benchmark
+    public ISRC createIsrc() {
+        return ISRC.of(canonical[nextProbe()]);
+    }
+
+    @Benchmark
+    public String normalizeString() {
+        return userInput[nextProbe()].replace("-", "").trim().toUpperCase();
+    }
+
+    @Benchmark
+    public long normalizeCodec() {
+        return IsrcCodec.tryEncodeLenient(userInput[nextProbe()]);
+    }
+
+    @Benchmark
+    public String decode() {
+        return IsrcCodec.decode(packed[nextProbe()]);
+    }
+
+    @Benchmark
+    public String lookupStringIndex() {
+        return stringIndex.get(userInput[nextProbe()].replace("-", "").trim().toUpperCase());
+    }
+
+    @Benchmark
+    public String lookupPackedIndex() {
+        return packedIndex.get(IsrcCodec.tryEncodeLenient(userInput[nextProbe()]));
+    }
+
+    private int nextProbe() {
+        return probe++ & (PROBE_COUNT - 1);
+    }
+
+    private static String isrc(int n) {
+        return "FRLA1" + (24 + n / 100_000) + String.format("%05d", n % 100_000);
+    }
+}
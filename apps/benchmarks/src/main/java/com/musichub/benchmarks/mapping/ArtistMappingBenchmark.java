@@ -0,0 +1,74 @@
+package com.musichub.benchmarks.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.musichub.artist.adapter.persistence.entity.ArtistEntity;
+import com.musichub.artist.adapter.persistence.mapper.ArtistMapper;
+import com.musichub.artist.domain.model.Artist;
+import com.musichub.artist.domain.model.ArtistStatus;
+import com.musichub.artist.domain.values.ArtistName;
+import com.musichub.artist.domain.values.Contribution;
+import com.musichub.shared.domain.id.ArtistId;
+import com.musichub.shared.domain.id.TrackId;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.domain.values.Source;
+
+/**
+ * {@link ArtistMapper} in both directions for artists credited on 10 to 10k
+ * tracks. The generated MapStruct implementation is used directly, outside CDI.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArtistMappingBenchmark {
+
+    private static final List<Source> SOURCES = List.of(Source.of("SPOTIFY", "benchmark"), Source.of("TIDAL", "benchmark"));
+
+    @Param({"10", "1000", "10000"})
+    int contributionCount;
+
+    private final ArtistMapper mapper = Mappers.getMapper(ArtistMapper.class);
+    private Artist artist;
+    private ArtistEntity entity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Contribution> contributions = new ArrayList<>(contributionCount);
+        for (int n = 0; n < contributionCount; n++) {
+            String isrc = "FRLA1" + (24 + n / 100_000) + String.format("%05d", n % 100_000);
+            contributions.add(Contribution.of(TrackId.fromISRC(isrc), "Track " + n, ISRC.of(isrc)));
+        }
+        artist = Artist.from(ArtistId.newId(), ArtistName.of("Benchmark Artist"), ArtistStatus.VERIFIED,
+                contributions, SOURCES);
+        entity = mapper.toDbo(artist);
+    }
+
+    @Benchmark
+    public ArtistEntity artistToDbo() {
+        return mapper.toDbo(artist);
+    }
+
+    @Benchmark
+    public Artist artistToDomain() {
+        return mapper.toDomain(entity);
+    }
+}
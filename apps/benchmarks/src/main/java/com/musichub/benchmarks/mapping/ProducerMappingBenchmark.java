@@ -0,0 +1,91 @@
+package com.musichub.benchmarks.mapping;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.musichub.producer.adapter.persistence.entity.ProducerEntity;
+import com.musichub.producer.adapter.persistence.entity.TrackEntity;
+import com.musichub.producer.adapter.persistence.mapper.ProducerMapper;
+import com.musichub.producer.adapter.persistence.mapper.TrackInfoMapper;
+import com.musichub.producer.application.dto.TrackInfo;
+import com.musichub.producer.domain.model.Producer;
+import com.musichub.producer.domain.model.Track;
+import com.musichub.producer.domain.values.ArtistCredit;
+import com.musichub.producer.domain.values.ProducerId;
+import com.musichub.producer.domain.values.TrackStatus;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.domain.values.ProducerCode;
+import com.musichub.shared.domain.values.Source;
+
+/**
+ * Whole-catalogue mappings of the producer persistence adapter, for producers
+ * holding 10 to 10k tracks: {@link ProducerMapper} in both directions and
+ * {@link TrackInfoMapper#toDtoList} as used by the recent tracks query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProducerMappingBenchmark {
+
+    private static final ProducerCode PRODUCER_CODE = ProducerCode.of("FRLA1");
+    private static final List<ArtistCredit> CREDITS = List.of(ArtistCredit.withName("Benchmark Artist"));
+    private static final List<Source> SOURCES = List.of(Source.of("SPOTIFY", "benchmark"));
+
+    @Param({"10", "1000", "10000"})
+    int trackCount;
+
+    private Producer producer;
+    private ProducerEntity entity;
+    private List<TrackEntity> trackEntities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Set<Track> tracks = new LinkedHashSet<>(trackCount * 2);
+        for (int n = 0; n < trackCount; n++) {
+            ISRC isrc = ISRC.of(PRODUCER_CODE.value() + "24" + String.format("%05d", n));
+            tracks.add(Track.of(isrc, "Track " + n, CREDITS, SOURCES, TrackStatus.PROVISIONAL));
+        }
+        producer = Producer.from(ProducerId.fromProducerCode(PRODUCER_CODE), PRODUCER_CODE, "Benchmark", tracks);
+        entity = ProducerMapper.toDbo(producer);
+
+        // Timestamps are set by Hibernate on insert
+        LocalDateTime now = LocalDateTime.now();
+        trackEntities = new ArrayList<>(entity.tracks);
+        trackEntities.forEach(track -> track.setCreatedAt(now));
+    }
+
+    @Benchmark
+    public ProducerEntity producerToDbo() {
+        return ProducerMapper.toDbo(producer);
+    }
+
+    @Benchmark
+    public Producer producerToDomain() {
+        return ProducerMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public List<TrackInfo> trackInfoList() {
+        return TrackInfoMapper.toDtoList(trackEntities);
+    }
+}
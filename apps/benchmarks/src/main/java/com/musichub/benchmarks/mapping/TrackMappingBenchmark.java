@@ -0,0 +1,76 @@
+package com.musichub.benchmarks.mapping;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.musichub.producer.adapter.persistence.entity.TrackEntity;
+import com.musichub.producer.adapter.persistence.mapper.TrackInfoMapper;
+import com.musichub.producer.adapter.persistence.mapper.TrackMapper;
+import com.musichub.producer.application.dto.TrackInfo;
+import com.musichub.producer.domain.model.Track;
+import com.musichub.producer.domain.values.ArtistCredit;
+import com.musichub.producer.domain.values.TrackStatus;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.domain.values.Source;
+
+/**
+ * Single-track mappings of the producer persistence adapter ({@link TrackMapper}
+ * in both directions, {@link TrackInfoMapper#toDto}) for 1 to 100 credits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrackMappingBenchmark {
+
+    private static final List<Source> SOURCES = List.of(Source.of("SPOTIFY", "benchmark"), Source.of("TIDAL", "benchmark"));
+
+    @Param({"1", "10", "100"})
+    int creditCount;
+
+    private Track track;
+    private TrackEntity entity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ArtistCredit> credits = new ArrayList<>(creditCount);
+        for (int n = 0; n < creditCount; n++) {
+            credits.add(ArtistCredit.withName("Artist " + n));
+        }
+        track = Track.of(ISRC.of("FRLA12400001"), "Title", credits, SOURCES, TrackStatus.PROVISIONAL);
+        entity = TrackMapper.toDbo(track);
+        entity.setCreatedAt(LocalDateTime.now()); // set by Hibernate on insert
+    }
+
+    @Benchmark
+    public TrackEntity trackToDbo() {
+        return TrackMapper.toDbo(track);
+    }
+
+    @Benchmark
+    public Track trackToDomain() {
+        return TrackMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public TrackInfo trackInfo() {
+        return TrackInfoMapper.toDto(entity);
+    }
+}
@@ -0,0 +1,116 @@
+package com.musichub.benchmarks.producer;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.musichub.producer.domain.model.Producer;
+import com.musichub.producer.domain.model.Track;
+import com.musichub.producer.domain.values.ArtistCredit;
+import com.musichub.producer.domain.values.ProducerId;
+import com.musichub.producer.domain.values.TrackStatus;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.domain.values.ProducerCode;
+import com.musichub.shared.domain.values.Source;
+
+/**
+ * Track lookups and idempotent registrations on a Producer aggregate holding
+ * 1k to 100k tracks. With the ISRC index, every operation should cost the same
+ * whatever the catalogue size.
+ * <p>
+ * Run with {@code java -jar benchmarks/target/benchmarks.jar ProducerTrackLookupBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProducerTrackLookupBenchmark {
+
+    private static final ProducerCode PRODUCER_CODE = ProducerCode.of("FRLA1");
+    private static final int PROBE_COUNT = 1024; // power of two, see nextProbe()
+    private static final List<ArtistCredit> CREDITS = List.of(ArtistCredit.withName("Benchmark Artist"));
+    private static final List<Source> SOURCES = List.of(Source.of("SPOTIFY", "benchmark"));
+
+    @Param({"1000", "10000", "100000"})
+    int trackCount;
+
+    private Producer producer;
+    private ISRC[] presentIsrcs;
+    private ISRC[] dashedIsrcs;
+    private ISRC[] missingIsrcs;
+    private int probe;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Set<Track> tracks = new LinkedHashSet<>(trackCount * 2);
+        for (int n = 0; n < trackCount; n++) {
+            tracks.add(Track.of(isrc(n), "Track " + n, CREDITS, SOURCES, TrackStatus.PROVISIONAL));
+        }
+        producer = Producer.from(ProducerId.fromProducerCode(PRODUCER_CODE), PRODUCER_CODE, "Benchmark", tracks);
+
+        // Probes are spread over the whole catalogue so that lookups do not hit a single hot entry
+        presentIsrcs = new ISRC[PROBE_COUNT];
+        dashedIsrcs = new ISRC[PROBE_COUNT];
+        missingIsrcs = new ISRC[PROBE_COUNT];
+        for (int i = 0; i < PROBE_COUNT; i++) {
+            int n = (int) ((long) i * trackCount / PROBE_COUNT);
+            presentIsrcs[i] = isrc(n);
+            String value = isrc(n).value();
+            dashedIsrcs[i] = ISRC.of(value.substring(0, 2) + "-" + value.substring(2, 5) + "-"
+                    + value.substring(5, 7) + "-" + value.substring(7));
+            missingIsrcs[i] = isrc(trackCount + i);
+        }
+    }
+
+    @Benchmark
+    public boolean hasTrackHit() {
+        return producer.hasTrack(presentIsrcs[nextProbe()]);
+    }
+
+    @Benchmark
+    public boolean hasTrackMiss() {
+        return producer.hasTrack(missingIsrcs[nextProbe()]);
+    }
+
+    @Benchmark
+    public boolean hasTrackDashedIsrc() {
+        return producer.hasTrack(dashedIsrcs[nextProbe()]);
+    }
+
+    @Benchmark
+    public Optional<Track> getTrack() {
+        return producer.getTrack(presentIsrcs[nextProbe()]);
+    }
+
+    @Benchmark
+    public boolean registerExistingTrack() {
+        // Idempotent: the aggregate is left unchanged, so every invocation measures the same work
+        return producer.registerTrack(presentIsrcs[nextProbe()], "Track", CREDITS, SOURCES);
+    }
+
+    private int nextProbe() {
+        return probe++ & (PROBE_COUNT - 1);
+    }
+
+    private static ISRC isrc(int n) {
+        // 100k designations per year: roll over to the next year beyond that
+        return ISRC.of(PRODUCER_CODE.value() + (24 + n / 100_000) + String.format("%05d", n % 100_000));
+    }
+}
@@ -0,0 +1,74 @@
+package com.musichub.benchmarks.producer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.musichub.producer.domain.model.Track;
+import com.musichub.producer.domain.values.ArtistCredit;
+import com.musichub.producer.domain.values.TrackStatus;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.domain.values.Source;
+
+/**
+ * {@link Track#updateWithSourcePriority} for tracks with a growing number of
+ * credits: a higher priority source rewrites the metadata, a lower priority
+ * one only adds itself to the sources, and a known source changes nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrackUpdateBenchmark {
+
+    private static final Source SPOTIFY = Source.of("SPOTIFY", "spotify-id");
+    private static final Source TIDAL = Source.of("TIDAL", "tidal-id");
+    private static final Source DEEZER = Source.of("DEEZER", "deezer-id");
+
+    @Param({"1", "10", "100"})
+    int creditCount;
+
+    private Track track;
+    private List<ArtistCredit> newCredits;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ArtistCredit> credits = new ArrayList<>(creditCount);
+        newCredits = new ArrayList<>(creditCount);
+        for (int n = 0; n < creditCount; n++) {
+            credits.add(ArtistCredit.withName("Artist " + n));
+            newCredits.add(ArtistCredit.withName("Updated Artist " + n));
+        }
+        track = Track.of(ISRC.of("FRLA12400001"), "Title", credits, List.of(SPOTIFY), TrackStatus.PROVISIONAL);
+    }
+
+    @Benchmark
+    public Track higherPrioritySource() {
+        return track.updateWithSourcePriority("Updated Title", newCredits, TIDAL, TrackStatus.VERIFIED);
+    }
+
+    @Benchmark
+    public Track lowerPrioritySource() {
+        return track.updateWithSourcePriority("Updated Title", newCredits, DEEZER, TrackStatus.VERIFIED);
+    }
+
+    @Benchmark
+    public Track sameSource() {
+        return track.updateWithSourcePriority(null, null, SPOTIFY, null);
+    }
+}
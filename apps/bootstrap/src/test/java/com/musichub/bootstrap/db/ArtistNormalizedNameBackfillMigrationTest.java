@@ -0,0 +1,131 @@
+package com.musichub.bootstrap.db;
+
+import db.migration.artist.V107__backfill_artist_normalized_name;
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("V107 artist normalized name backfill")
+class ArtistNormalizedNameBackfillMigrationTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:backfill-" + UUID.randomUUID());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE artists (id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL, "
+                    + "status VARCHAR(20) NOT NULL, normalized_name VARCHAR(1024))");
+            statement.execute("CREATE UNIQUE INDEX idx_artists_normalized_name ON artists (normalized_name)");
+            statement.execute("CREATE TABLE artist_contributions (artist_id UUID NOT NULL REFERENCES artists(id) "
+                    + "ON DELETE CASCADE, track_id UUID NOT NULL, track_title VARCHAR(255) NOT NULL, "
+                    + "track_isrc VARCHAR(15) NOT NULL)");
+            statement.execute("CREATE TABLE artist_sources (artist_id UUID NOT NULL REFERENCES artists(id) "
+                    + "ON DELETE CASCADE, source_type VARCHAR(20) NOT NULL, source_id VARCHAR(100) NOT NULL)");
+            statement.execute("CREATE TABLE artist_enrichment_queue (artist_id UUID PRIMARY KEY REFERENCES artists(id) "
+                    + "ON DELETE CASCADE)");
+            statement.execute("CREATE TABLE track_artist_credits (track_id UUID NOT NULL, "
+                    + "artist_name VARCHAR(255) NOT NULL, artist_id UUID)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("Should write the key ArtistName.normalize computes, not the SQL approximation")
+    void shouldWriteApplicationKey() throws Exception {
+        UUID id = UUID.randomUUID();
+        insertArtist(id, "Die  Straße", "PROVISIONAL", "die  straße");
+
+        migrate();
+
+        assertEquals(List.of("die strasse"), column("SELECT normalized_name FROM artists"));
+    }
+
+    @Test
+    @DisplayName("Should merge artists whose names normalize to the same key")
+    void shouldMergeCollidingArtists() throws Exception {
+        UUID provisional = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID verified = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        UUID sharedTrack = UUID.randomUUID();
+        UUID otherTrack = UUID.randomUUID();
+        insertArtist(provisional, "ＡＢＢＡ", "PROVISIONAL", "ａｂｂａ");
+        insertArtist(verified, "ABBA", "VERIFIED", "abba");
+        execute("INSERT INTO artist_contributions VALUES (?, ?, 'Waterloo', 'SEA017400001')", provisional, sharedTrack);
+        execute("INSERT INTO artist_contributions VALUES (?, ?, 'Waterloo', 'SEA017400001')", verified, sharedTrack);
+        execute("INSERT INTO artist_contributions VALUES (?, ?, 'SOS', 'SEA017500001')", provisional, otherTrack);
+        execute("INSERT INTO artist_sources VALUES (?, 'MANUAL', 'manual-abba')", provisional);
+        execute("INSERT INTO artist_sources VALUES (?, 'TIDAL', 'tidal-abba')", verified);
+        execute("INSERT INTO artist_enrichment_queue VALUES (?)", provisional);
+        execute("INSERT INTO track_artist_credits VALUES (?, 'ＡＢＢＡ', ?)", otherTrack, provisional);
+
+        migrate();
+
+        assertEquals(List.of(verified + "|abba"),
+                column("SELECT CAST(id AS VARCHAR) || '|' || normalized_name FROM artists"));
+        assertEquals(List.of("SEA017400001", "SEA017500001"),
+                column("SELECT track_isrc FROM artist_contributions WHERE artist_id = '" + verified
+                        + "' ORDER BY track_isrc"));
+        assertEquals(List.of("MANUAL", "TIDAL"),
+                column("SELECT source_type FROM artist_sources WHERE artist_id = '" + verified
+                        + "' ORDER BY source_type"));
+        assertEquals(List.of(verified.toString()), column("SELECT artist_id FROM artist_enrichment_queue"));
+        assertEquals(List.of(verified.toString()), column("SELECT artist_id FROM track_artist_credits"));
+    }
+
+    private void migrate() throws Exception {
+        Context context = mock(Context.class);
+        when(context.getConnection()).thenReturn(connection);
+        new V107__backfill_artist_normalized_name().migrate(context);
+    }
+
+    private void insertArtist(UUID id, String name, String status, String staleKey) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO artists (id, name, status, normalized_name) VALUES (?, ?, ?, ?)")) {
+            insert.setObject(1, id);
+            insert.setString(2, name);
+            insert.setString(3, status);
+            insert.setString(4, staleKey);
+            insert.executeUpdate();
+        }
+    }
+
+    private void execute(String sql, Object... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            statement.executeUpdate();
+        }
+    }
+
+    private List<String> column(String sql) throws SQLException {
+        List<String> values = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(sql)) {
+            while (rows.next()) {
+                values.add(rows.getString(1));
+            }
+        }
+        return values;
+    }
+}
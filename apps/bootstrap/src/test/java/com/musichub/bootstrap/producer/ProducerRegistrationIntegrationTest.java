@@ -11,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
 @QuarkusTest
@@ -76,7 +77,7 @@ class ProducerRegistrationIntegrationTest {
                 .body("producerCode", equalTo("FRLA1"))
                 .body("tracks", hasSize(1));
 
-        // Second track for same producer
+        // Second track for same producer: the response holds the registered track only
         given()
                 .contentType(ContentType.JSON)
                 .body("{\"isrc\":\"FRLA12400002\"}")
@@ -85,8 +86,15 @@ class ProducerRegistrationIntegrationTest {
                 .then()
                 .statusCode(202)
                 .body("producerCode", equalTo("FRLA1"))
-                .body("tracks", hasSize(2))
-                .body("tracks", hasItems("FRLA12400001", "FRLA12400002"));
+                .body("tracks", hasSize(1))
+                .body("tracks[0].isrc", equalTo("FRLA12400002"));
+
+        // Both tracks are stored on the producer
+        Long stored = entityManager.createQuery(
+                "SELECT COUNT(t) FROM TrackEntity t WHERE t.producer.producerCode = :code", Long.class)
+                .setParameter("code", "FRLA1")
+                .getSingleResult();
+        assertThat(stored, equalTo(2L));
     }
 
     @Test
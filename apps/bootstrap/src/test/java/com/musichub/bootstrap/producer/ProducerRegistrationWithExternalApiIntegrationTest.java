@@ -24,6 +24,9 @@ import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -45,6 +48,7 @@ class ProducerRegistrationWithExternalApiIntegrationTest {
     String musicPlatformUrl;
 
     private static final String TEST_ISRC = "FRLA12400001";
+    private static final String RATE_LIMITED_ISRC = "FRLA12400009";
     private static final String TRACKS_ENDPOINT = "/tracks";
 
     /**
@@ -114,6 +118,30 @@ class ProducerRegistrationWithExternalApiIntegrationTest {
         assertThat(event.artistCredits()).containsExactly(new ArtistCreditInfo("Queen", artistId.toString()));
     }
 
+    @Test
+    @DisplayName("Should answer 503 with Retry-After when Tidal keeps answering 429")
+    void shouldAnswerServiceUnavailable_whenTidalKeepsRateLimiting() {
+        // Given - Tidal answers 429 to the first call and to every retry (tidal.rate-limit.max-retries=2)
+        String urlPattern = TRACKS_ENDPOINT + "\\?.*filter\\[isrc\\]=" + RATE_LIMITED_ISRC + ".*";
+        stubFor(get(urlMatching(urlPattern))
+            .willReturn(aResponse()
+                .withStatus(429)
+                .withHeader("Retry-After", "1")));
+
+        // When / Then - the back-pressure reaches the client instead of a lookup failure
+        given()
+            .contentType(ContentType.JSON)
+            .body(String.format("{\"isrc\":\"%s\"}", RATE_LIMITED_ISRC))
+            .when()
+            .post("/api/v1/producers")
+            .then()
+            .statusCode(503)
+            .header("Retry-After", "1")
+            .body("error", equalTo("EXTERNAL_SERVICE_BUSY"));
+
+        verify(exactly(3), getRequestedFor(urlMatching(urlPattern)));
+    }
+
     /**
      * Configures WireMock to simulate a successful Tidal API response.
      * Uses Tidal's actual JSON:API response structure.
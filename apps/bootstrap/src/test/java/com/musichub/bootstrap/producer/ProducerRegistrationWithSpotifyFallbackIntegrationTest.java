@@ -0,0 +1,76 @@
+package com.musichub.bootstrap.producer;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkiverse.wiremock.devservice.ConnectWireMock;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Integration test for track registration with Spotify enabled as secondary platform,
+ * both platforms being simulated by WireMock.
+ */
+@QuarkusTest
+@ConnectWireMock
+@TestProfile(ProducerRegistrationWithSpotifyFallbackIntegrationTest.SpotifyEnabledProfile.class)
+@DisplayName("Producer Registration with Spotify fallback Integration Tests")
+class ProducerRegistrationWithSpotifyFallbackIntegrationTest {
+
+    private static final String TEST_ISRC = "USSP12500001";
+
+    public static class SpotifyEnabledProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("producer.platforms.spotify.enabled", "true");
+        }
+    }
+
+    @Test
+    @DisplayName("Should register the track from Spotify when Tidal does not know it")
+    void shouldRegisterTrackFromSpotify_whenTidalDoesNotKnowIt() {
+        // Given - Tidal does not know the ISRC, Spotify does
+        stubFor(get(urlMatching("/tracks\\?.*filter\\[isrc\\]=" + TEST_ISRC + ".*"))
+            .willReturn(aResponse().withStatus(404)));
+        stubFor(post(urlPathEqualTo("/api/token"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"access_token\":\"spotify-test-token\",\"token_type\":\"Bearer\",\"expires_in\":3600}")));
+        stubFor(get(urlMatching("/search\\?.*q=isrc(:|%3A)" + TEST_ISRC + ".*"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    {"tracks":{"items":[{"id":"4u7EnebtmKWzUH433cf5Qv","name":"Bohemian Rhapsody",
+                    "artists":[{"id":"1dfeR4HaWDbWqFHLkxsg1d","name":"Queen"}],
+                    "external_ids":{"isrc":"%s"}}],"total":1}}
+                    """.formatted(TEST_ISRC))));
+
+        // When / Then - registration succeeds with the Spotify metadata
+        given()
+            .contentType(ContentType.JSON)
+            .body(String.format("{\"isrc\":\"%s\"}", TEST_ISRC))
+            .when()
+            .post("/api/v1/producers")
+            .then()
+            .statusCode(202)
+            .body("tracks.size()", equalTo(1));
+
+        verify(getRequestedFor(urlPathEqualTo("/search")));
+    }
+}
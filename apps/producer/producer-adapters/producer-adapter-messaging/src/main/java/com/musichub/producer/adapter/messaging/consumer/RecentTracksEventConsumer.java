@@ -0,0 +1,32 @@
+package com.musichub.producer.adapter.messaging.consumer;
+
+import com.musichub.producer.application.ports.in.RecordRecentTrackUseCase;
+import com.musichub.shared.events.TrackWasRegistered;
+import io.quarkus.vertx.ConsumeEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the recent tracks feed current from {@code track-registered} events.
+ * Recording is a lock-free in-memory append, so it runs on the event loop.
+ */
+@ApplicationScoped
+public class RecentTracksEventConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(RecentTracksEventConsumer.class);
+
+    @Inject
+    RecordRecentTrackUseCase recordRecentTrackUseCase;
+
+    @ConsumeEvent("track-registered")
+    public void onTrackRegistered(TrackWasRegistered event) {
+        try {
+            recordRecentTrackUseCase.recordRegisteredTrack(event);
+        } catch (RuntimeException e) {
+            // Never fail the publisher over the feed: a missed entry only leaves the first page one track short
+            log.warn("Could not record track {} in the recent tracks feed", event.isrc().value(), e);
+        }
+    }
+}
@@ -1,9 +1,8 @@
 /**
  * Event consuming adapters for the Producer bounded context.
  * 
- * <p>This package is reserved for future event consumers that the Producer
- * context might need to handle events from other bounded contexts.
- * 
- * <p>Currently empty but prepared for scalability.
+ * <p>Consumers listen on the Vert.x event bus and hand events over to the
+ * application's inbound ports, such as the recent tracks feed fed by the
+ * Producer context's own {@code track-registered} events.
  */
-package com.musichub.producer.adapter.messaging.consumer;
\ No newline at end of file
+package com.musichub.producer.adapter.messaging.consumer;
@@ -20,7 +20,7 @@ public class EventPublisherAdapter implements EventPublisherPort {
     public void publishTrackRegistered(TrackWasRegistered event) {
         log.debug("Publishing TrackWasRegistered event for ISRC: {}", event.isrc().value());
         this.eventBus.publish("track-registered", event);
-        log.info("Successfully published TrackWasRegistered event for ISRC: {} - Title: '{}'", 
+        log.debug("Successfully published TrackWasRegistered event for ISRC: {} - Title: '{}'", 
                  event.isrc().value(), event.title());
     }
 }
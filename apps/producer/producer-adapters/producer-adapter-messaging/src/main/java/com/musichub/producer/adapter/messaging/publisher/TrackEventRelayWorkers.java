@@ -0,0 +1,158 @@
+package com.musichub.producer.adapter.messaging.publisher;
+
+import com.musichub.producer.application.dto.TrackEventsStaged;
+import com.musichub.producer.application.ports.in.DispatchTrackEventsUseCase;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relays the track event outbox to the event bus in the background.
+ * <p>
+ * {@code producer.outbox.workers} threads each dispatch batches of at most
+ * {@code producer.outbox.batch-size} events, back to back while events are
+ * pending, so that a bulk import drains in a few large batches. Once the
+ * outbox is empty they wait for {@link TrackEventsStaged}, observed after the
+ * registering transaction has committed, or for
+ * {@code producer.outbox.poll-interval}, which picks up events staged by other
+ * instances or left over by a failure. Idle workers purge old dispatched
+ * events every {@code producer.outbox.purge-interval}. Zero workers disables
+ * dispatch in this instance.
+ */
+@ApplicationScoped
+public class TrackEventRelayWorkers {
+
+    private static final Logger log = LoggerFactory.getLogger(TrackEventRelayWorkers.class);
+    private static final long STOP_TIMEOUT_MS = 10_000;
+
+    @Inject
+    DispatchTrackEventsUseCase relay;
+
+    @ConfigProperty(name = "producer.outbox.workers", defaultValue = "1")
+    int workerCount;
+
+    @ConfigProperty(name = "producer.outbox.batch-size", defaultValue = "1000")
+    int batchSize;
+
+    @ConfigProperty(name = "producer.outbox.poll-interval", defaultValue = "PT1S")
+    Duration pollInterval;
+
+    @ConfigProperty(name = "producer.outbox.purge-interval", defaultValue = "PT10M")
+    Duration purgeInterval;
+
+    private final List<Thread> workers = new ArrayList<>();
+    // Wake-ups not yet taken by an idle worker, at most one per worker
+    private final Semaphore wakeUps = new Semaphore(0);
+    private volatile boolean running;
+    private volatile long nextPurgeAt;
+
+    @PostConstruct
+    void start() {
+        if (workerCount < 0) {
+            throw new IllegalArgumentException("producer.outbox.workers must not be negative, got: " + workerCount);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("producer.outbox.batch-size must be positive, got: " + batchSize);
+        }
+        running = true;
+        nextPurgeAt = System.nanoTime();
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::work, "track-event-relay-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        // Nothing to do: observing startup creates the bean, hence starts the workers
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        stop();
+    }
+
+    void onEventsStaged(@Observes(during = TransactionPhase.AFTER_SUCCESS) TrackEventsStaged staged) {
+        // One worker is enough: it keeps dispatching until the outbox is empty
+        if (wakeUps.availablePermits() < workerCount) {
+            wakeUps.release();
+        }
+    }
+
+    /**
+     * Stops the workers once their current batch is over. Pending events are
+     * dispatched by the next instance to start.
+     */
+    void stop() {
+        running = false;
+        wakeUps.release(workers.size());
+        for (Thread worker : workers) {
+            try {
+                worker.join(STOP_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        workers.clear();
+    }
+
+    private void work() {
+        while (running) {
+            int dispatched;
+            try {
+                dispatched = relay.dispatchBatch(batchSize);
+            } catch (RuntimeException e) {
+                log.warn("Could not dispatch the track event outbox, retrying in {}", pollInterval, e);
+                dispatched = 0;
+            }
+            if (dispatched == 0) {
+                purgeIfDue();
+                if (pause()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void purgeIfDue() {
+        long now = System.nanoTime();
+        if (now - nextPurgeAt < 0) {
+            return;
+        }
+        nextPurgeAt = now + purgeInterval.toNanos();
+        try {
+            relay.purgeDispatched();
+        } catch (RuntimeException e) {
+            log.warn("Could not purge dispatched events from the track event outbox", e);
+        }
+    }
+
+    /**
+     * Waits for staged events or for the poll interval, whichever comes first.
+     *
+     * @return true if the workers are stopping
+     */
+    private boolean pause() {
+        try {
+            wakeUps.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+            return !running;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+    }
+}
@@ -6,6 +6,10 @@
  * 
  * <p>Classes in this package implement outbound ports from the application layer
  * and handle the technical details of event publication.
+ *
+ * <p>Events are not published by the registration itself: they are staged in
+ * the transactional outbox and relayed in batches by the background workers
+ * of {@link com.musichub.producer.adapter.messaging.publisher.TrackEventRelayWorkers}.
  * 
  * @see com.musichub.producer.application.ports.out.EventPublisherPort
  */
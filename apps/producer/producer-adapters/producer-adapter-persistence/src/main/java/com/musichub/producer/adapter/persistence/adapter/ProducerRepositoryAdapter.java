@@ -1,21 +1,31 @@
 package com.musichub.producer.adapter.persistence.adapter;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
 import com.musichub.producer.adapter.persistence.entity.ProducerEntity;
+import com.musichub.producer.adapter.persistence.entity.TrackEntity;
 import com.musichub.producer.adapter.persistence.exception.ProducerPersistenceException;
 import com.musichub.producer.adapter.persistence.mapper.ProducerMapper;
+import com.musichub.producer.adapter.persistence.mapper.TrackMapper;
 import com.musichub.producer.application.ports.out.ProducerRepository;
 import com.musichub.producer.domain.model.Producer;
+import com.musichub.producer.domain.model.Track;
 import com.musichub.producer.domain.values.ProducerId;
+import com.musichub.shared.domain.values.ISRC;
 import com.musichub.shared.domain.values.ProducerCode;
 
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 
 /**
@@ -27,6 +37,9 @@ public class ProducerRepositoryAdapter implements ProducerRepository, PanacheRep
 
     private static final Logger log = LoggerFactory.getLogger(ProducerRepositoryAdapter.class);
     private static final String CORRELATION_ID_KEY = "correlationId";
+    // Loads a whole aggregate in one statement: producer, tracks and their credits
+    private static final String WITH_TRACKS_AND_CREDITS =
+            "select distinct p from ProducerEntity p left join fetch p.tracks t left join fetch t.credits where p.";
 
     @Override
     public Optional<Producer> findByProducerCode(ProducerCode code) {
@@ -35,7 +48,9 @@ public class ProducerRepositoryAdapter implements ProducerRepository, PanacheRep
                 code.value(), correlationId);
 
         try {
-            Optional<ProducerEntity> entityOpt = find("producerCode", code.value()).firstResultOptional();
+            // Unique code: singleResultOptional, as firstResult would make Hibernate page the fetch join in memory
+            Optional<ProducerEntity> entityOpt = find(WITH_TRACKS_AND_CREDITS + "producerCode = ?1", code.value())
+                    .singleResultOptional();
 
             if (entityOpt.isEmpty()) {
                 log.debug("No producer found with code: {}", code.value());
@@ -63,7 +78,8 @@ public class ProducerRepositoryAdapter implements ProducerRepository, PanacheRep
                 id.value(), correlationId);
 
         try {
-            Optional<ProducerEntity> entityOpt = find("id", id.value()).firstResultOptional();
+            Optional<ProducerEntity> entityOpt = find(WITH_TRACKS_AND_CREDITS + "id = ?1", id.value())
+                    .singleResultOptional();
 
             if (entityOpt.isEmpty()) {
                 log.debug("No producer found with id: {}", id.value());
@@ -113,4 +129,83 @@ public class ProducerRepositoryAdapter implements ProducerRepository, PanacheRep
         }
     }
 
+    @Override
+    public Optional<Producer> findHeaderByProducerCode(ProducerCode code) {
+        String correlationId = MDC.get(CORRELATION_ID_KEY);
+        log.debug("Querying database for producer header with code: {}, correlationId: {}",
+                code.value(), correlationId);
+
+        try {
+            return find("producerCode", code.value()).firstResultOptional()
+                    .map(ProducerMapper::toDomainHeader);
+        } catch (Exception e) {
+            throw new ProducerPersistenceException(
+                    String.format("Failed to retrieve producer with code '%s' (correlationId: %s)",
+                            code.value(), correlationId),
+                    e);
+        }
+    }
+
+    @Override
+    public Set<ISRC> findExistingIsrcs(ProducerId producerId, Collection<ISRC> isrcs) {
+        if (isrcs.isEmpty()) {
+            return Set.of();
+        }
+        String correlationId = MDC.get(CORRELATION_ID_KEY);
+
+        try {
+            List<String> values = isrcs.stream().map(ISRC::value).toList();
+            return getEntityManager()
+                    .createQuery("select t.isrc from TrackEntity t where t.producer.id = :producerId and t.isrc in :isrcs",
+                            String.class)
+                    .setParameter("producerId", producerId.value())
+                    .setParameter("isrcs", values)
+                    .getResultStream()
+                    .map(ISRC::of)
+                    .collect(Collectors.toSet());
+        } catch (Exception e) {
+            throw new ProducerPersistenceException(
+                    String.format("Failed to check existing tracks of producer '%s' (correlationId: %s)",
+                            producerId.value(), correlationId),
+                    e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void appendTracks(Producer producer, Collection<Track> tracks) {
+        String correlationId = MDC.get(CORRELATION_ID_KEY);
+        ProducerId producerId = producer.id();
+        ProducerCode producerCode = producer.producerCode();
+
+        try {
+            EntityManager entityManager = getEntityManager();
+            ProducerEntity owner = entityManager.find(ProducerEntity.class, producerId.value());
+            if (owner == null) {
+                owner = ProducerMapper.toHeaderDbo(producer);
+                entityManager.persist(owner);
+            }
+
+            // The producer's track collection is never loaded; it is only kept in sync
+            // when it is already in memory (new producer, or loaded earlier in this transaction)
+            boolean syncTracks = Hibernate.isInitialized(owner.tracks);
+            for (Track track : tracks) {
+                TrackEntity trackEntity = TrackMapper.toDbo(track);
+                trackEntity.setProducer(owner);
+                entityManager.persist(trackEntity);
+                if (syncTracks) {
+                    owner.tracks.add(trackEntity);
+                }
+            }
+
+            log.info("Appended {} track(s) to producer - id: {}, code: {}, correlationId: {}",
+                    tracks.size(), producerId.value(), producerCode.value(), correlationId);
+
+        } catch (Exception e) {
+            throw new ProducerPersistenceException(
+                    String.format("Failed to append tracks to producer with code '%s' and id '%s' (correlationId: %s)",
+                            producerCode.value(), producerId.value(), correlationId),
+                    e);
+        }
+    }
 }
@@ -0,0 +1,109 @@
+package com.musichub.producer.adapter.persistence.adapter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.musichub.producer.adapter.persistence.entity.TrackEventOutboxEntity;
+import com.musichub.producer.adapter.persistence.exception.ProducerPersistenceException;
+import com.musichub.producer.adapter.persistence.mapper.TrackEventOutboxMapper;
+import com.musichub.producer.application.dto.PendingTrackEvent;
+import com.musichub.producer.application.ports.out.TrackEventOutbox;
+import com.musichub.shared.events.TrackWasRegistered;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+
+/**
+ * JPA implementation of TrackEventOutbox, on the {@code track_event_outbox} table.
+ * <p>
+ * Pending rows are locked with {@code SELECT ... FOR UPDATE SKIP LOCKED}, so
+ * that concurrent relays each get different rows without waiting for one
+ * another; databases without skip-locked support, like H2, get a plain
+ * {@code FOR UPDATE}. Locked rows are loaded read-only, and marked dispatched
+ * with bulk updates of at most {@value #MAX_IDS_PER_STATEMENT} ids rather
+ * than entity by entity.
+ */
+@ApplicationScoped
+public class TrackEventOutboxAdapter implements TrackEventOutbox, PanacheRepositoryBase<TrackEventOutboxEntity, Long> {
+
+    private static final Logger log = LoggerFactory.getLogger(TrackEventOutboxAdapter.class);
+    private static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
+    // Lock timeout value meaning SKIP LOCKED to Hibernate
+    private static final int SKIP_LOCKED = -2;
+    private static final String READ_ONLY_HINT = "org.hibernate.readOnly";
+    // Keeps IN lists well under the bind parameter limits of the drivers
+    static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void append(List<TrackWasRegistered> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            EntityManager entityManager = getEntityManager();
+            Instant now = Instant.now();
+            for (TrackWasRegistered event : events) {
+                entityManager.persist(TrackEventOutboxMapper.toDbo(event, now));
+            }
+            log.debug("Staged {} TrackWasRegistered event(s) in the outbox", events.size());
+        } catch (Exception e) {
+            throw new ProducerPersistenceException(
+                    String.format("Failed to stage %d TrackWasRegistered event(s) in the outbox", events.size()), e);
+        }
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public List<PendingTrackEvent> lockPending(int limit) {
+        try {
+            return find("dispatchedAt is null order by id")
+                    .withLock(LockModeType.PESSIMISTIC_WRITE)
+                    .withHint(LOCK_TIMEOUT_HINT, SKIP_LOCKED)
+                    .withHint(READ_ONLY_HINT, true)
+                    .page(0, limit)
+                    .list()
+                    .stream()
+                    .map(TrackEventOutboxMapper::toPending)
+                    .toList();
+        } catch (Exception e) {
+            throw new ProducerPersistenceException("Failed to lock pending events in the outbox", e);
+        }
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void markDispatched(Collection<Long> ids, Instant dispatchedAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            List<Long> idList = new ArrayList<>(ids);
+            for (int from = 0; from < idList.size(); from += MAX_IDS_PER_STATEMENT) {
+                List<Long> chunk = idList.subList(from, Math.min(from + MAX_IDS_PER_STATEMENT, idList.size()));
+                update("dispatchedAt = ?1 where id in ?2", dispatchedAt, chunk);
+            }
+        } catch (Exception e) {
+            throw new ProducerPersistenceException(
+                    String.format("Failed to mark %d outbox event(s) dispatched", ids.size()), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public long purgeDispatched(Instant before) {
+        try {
+            return delete("dispatchedAt < ?1", before);
+        } catch (Exception e) {
+            throw new ProducerPersistenceException("Failed to purge dispatched events from the outbox", e);
+        }
+    }
+}
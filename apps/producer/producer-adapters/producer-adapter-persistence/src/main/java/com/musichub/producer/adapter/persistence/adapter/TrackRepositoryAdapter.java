@@ -3,7 +3,9 @@ package com.musichub.producer.adapter.persistence.adapter;
 import com.musichub.producer.adapter.persistence.entity.TrackEntity;
 import com.musichub.producer.adapter.persistence.exception.ProducerPersistenceException;
 import com.musichub.producer.adapter.persistence.mapper.TrackInfoMapper;
+import com.musichub.producer.application.dto.TrackCursor;
 import com.musichub.producer.application.dto.TrackInfo;
+import com.musichub.producer.application.dto.TrackPage;
 import com.musichub.producer.application.ports.out.TrackRepository;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import io.quarkus.panache.common.Sort;
@@ -13,7 +15,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @ApplicationScoped
 public class TrackRepositoryAdapter implements TrackRepository, PanacheRepository<TrackEntity> {
@@ -21,10 +26,26 @@ public class TrackRepositoryAdapter implements TrackRepository, PanacheRepositor
     private static final Logger log = LoggerFactory.getLogger(TrackRepositoryAdapter.class);
     private static final String CORRELATION_ID_KEY = "correlationId";
     private static final String CREATED_AT_FIELD = "createdAt";
+    private static final String ID_FIELD = "id";
+    private static final Sort NEWEST_FIRST = Sort.descending(CREATED_AT_FIELD, ID_FIELD);
     private static final int MAX_TRACKS_LIMIT = 1000;
     
     @Override
     public List<TrackInfo> findRecentTracks(int limit) {
+        return findRecentTracks(limit, null).tracks();
+    }
+
+    /**
+     * Keyset pagination on (created_at, id), served by the
+     * {@code idx_tracks_created_at_id} index: the query seeks to the cursor
+     * and reads at most {@code limit + 1} index entries, whatever the page
+     * depth and table size. The extra row only tells whether a next page exists.
+     * <p>
+     * A page always costs two statements: the page of tracks, then the artist
+     * credits of all its tracks at once (see {@link #fetchCredits(List)}).
+     */
+    @Override
+    public TrackPage findRecentTracks(int limit, TrackCursor after) {
         // Validation des paramètres
         if (limit <= 0) {
             throw new IllegalArgumentException("Limit must be positive, got: " + limit);
@@ -35,18 +56,28 @@ public class TrackRepositoryAdapter implements TrackRepository, PanacheRepositor
         }
         
         String correlationId = MDC.get(CORRELATION_ID_KEY);
-        log.debug("Querying database for {} most recent tracks, correlationId: {}", limit, correlationId);
+        log.debug("Querying database for {} most recent tracks after {}, correlationId: {}", limit, after, correlationId);
         
         long startTime = System.currentTimeMillis();
         try {
-            log.debug("Executing findAll query with limit: {}", limit);
-            
-            // ✅ Version Panache simple et élégante !
-            List<TrackEntity> trackEntities = findAll(Sort.descending(CREATED_AT_FIELD))
-                .page(0, limit)
+            List<TrackEntity> trackEntities = (after == null
+                    ? findAll(NEWEST_FIRST)
+                    // created_at <= ?1 bounds the index range, the rest skips the rows up to the cursor itself;
+                    // id <> ?2 also skips it when the cursor came from the in-memory feed with a later timestamp
+                    : find("createdAt <= ?1 and (createdAt < ?1 or id < ?2) and id <> ?2", NEWEST_FIRST,
+                            after.createdAt(), after.trackId()))
+                .page(0, limit + 1)
                 .list();
             
             log.debug("Query returned {} TrackEntity objects", trackEntities.size());
+
+            TrackCursor nextCursor = null;
+            if (trackEntities.size() > limit) {
+                trackEntities = trackEntities.subList(0, limit);
+                TrackEntity last = trackEntities.get(limit - 1);
+                nextCursor = new TrackCursor(last.getCreatedAt(), last.getId());
+            }
+            fetchCredits(trackEntities);
             
             List<TrackInfo> trackInfos = TrackInfoMapper.toDtoList(trackEntities);
             
@@ -54,7 +85,7 @@ public class TrackRepositoryAdapter implements TrackRepository, PanacheRepositor
             log.info("Successfully retrieved {} recent tracks from database in {}ms", 
                     trackInfos.size(), duration);
             
-            return trackInfos;
+            return new TrackPage(trackInfos, nextCursor);
             
         } catch (PersistenceException e) {
             throw new ProducerPersistenceException(
@@ -66,4 +97,38 @@ public class TrackRepositoryAdapter implements TrackRepository, PanacheRepositor
                     limit, correlationId), e);
         }
     }
+
+    /**
+     * Served by the {@code idx_tracks_updated_at} index: reads one index entry.
+     */
+    @Override
+    public Optional<LocalDateTime> findLastModified() {
+        try {
+            return Optional.ofNullable(getEntityManager()
+                    .createQuery("select max(t.updatedAt) from TrackEntity t", LocalDateTime.class)
+                    .getSingleResult());
+        } catch (PersistenceException e) {
+            throw new ProducerPersistenceException(
+                String.format("Database error while reading the tracks version (correlationId: %s)",
+                    MDC.get(CORRELATION_ID_KEY)), e);
+        }
+    }
+
+    /**
+     * Initializes the credits of already loaded tracks with a single fetch-join
+     * query. The page itself cannot fetch-join them: Hibernate would then apply
+     * the limit in memory.
+     */
+    private void fetchCredits(List<TrackEntity> trackEntities) {
+        if (trackEntities.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = trackEntities.stream().map(TrackEntity::getId).toList();
+        // Returns the same managed instances, now with their credits loaded
+        getEntityManager()
+                .createQuery("select distinct t from TrackEntity t left join fetch t.credits where t.id in :ids",
+                        TrackEntity.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
 }
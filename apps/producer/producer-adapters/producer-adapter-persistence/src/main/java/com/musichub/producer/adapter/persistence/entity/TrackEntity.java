@@ -50,7 +50,8 @@ public class TrackEntity {
     @Column(name = "title")
     private String title;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    // Lazy so that loading N tracks never costs N credit selects: read paths fetch-join the credits they need
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "track_artist_credits", joinColumns = @JoinColumn(name = "track_id"))
     private List<ArtistCreditEmbeddable> credits;
 
@@ -0,0 +1,65 @@
+package com.musichub.producer.adapter.persistence.entity;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.musichub.shared.events.ArtistCreditInfo;
+import com.musichub.shared.events.SourceInfo;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * JPA entity for a TrackWasRegistered event in the outbox.
+ */
+@Entity
+@Table(name = "track_event_outbox")
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class TrackEventOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "track_event_outbox_seq")
+    @SequenceGenerator(name = "track_event_outbox_seq", sequenceName = "track_event_outbox_seq", allocationSize = 100)
+    @EqualsAndHashCode.Include
+    public Long id;
+
+    @Column(name = "isrc", nullable = false, length = 12)
+    public String isrc;
+
+    @Column(name = "title", length = 500)
+    public String title;
+
+    @Column(name = "producer_id", nullable = false)
+    public UUID producerId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "artist_credits")
+    public List<ArtistCreditInfo> artistCredits;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "sources")
+    public List<SourceInfo> sources;
+
+    @Column(name = "created_at", nullable = false)
+    public Instant createdAt;
+
+    /**
+     * When the event was published, null while it is pending.
+     */
+    @Column(name = "dispatched_at")
+    public Instant dispatchedAt;
+}
@@ -70,4 +70,36 @@ public final class ProducerMapper {
 
         return Producer.from(producerId, producerCode, entity.name, tracks);
     }
-}
\ No newline at end of file
+
+    /**
+     * Converts a ProducerEntity to a Producer without touching its tracks.
+     * The lazy track collection is left uninitialized.
+     *
+     * @param entity the ProducerEntity persistence object
+     * @return Producer domain object with an empty track set, or null if entity is null
+     */
+    public static Producer toDomainHeader(ProducerEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return Producer.from(new ProducerId(entity.id), ProducerCode.of(entity.producerCode), entity.name, Set.of());
+    }
+
+    /**
+     * Converts the producer fields of a Producer, ignoring its tracks.
+     *
+     * @param domain the Producer domain object
+     * @return ProducerEntity with an empty track set, or null if domain is null
+     */
+    public static ProducerEntity toHeaderDbo(Producer domain) {
+        if (domain == null) {
+            return null;
+        }
+
+        ProducerEntity entity = new ProducerEntity();
+        entity.id = domain.id().value();
+        entity.producerCode = domain.producerCode().value();
+        entity.name = domain.name();
+        return entity;
+    }
+}
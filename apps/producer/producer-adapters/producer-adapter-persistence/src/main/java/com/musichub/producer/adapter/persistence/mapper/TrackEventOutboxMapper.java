@@ -0,0 +1,50 @@
+package com.musichub.producer.adapter.persistence.mapper;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.musichub.producer.adapter.persistence.entity.TrackEventOutboxEntity;
+import com.musichub.producer.application.dto.PendingTrackEvent;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.events.TrackWasRegistered;
+
+/**
+ * Mapper between TrackWasRegistered events and their outbox rows.
+ */
+public final class TrackEventOutboxMapper {
+
+    private TrackEventOutboxMapper() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * @param event     the event to stage
+     * @param createdAt when the event was staged
+     * @return a new, pending outbox row
+     */
+    public static TrackEventOutboxEntity toDbo(TrackWasRegistered event, Instant createdAt) {
+        if (event == null) {
+            throw new IllegalArgumentException("TrackWasRegistered cannot be null");
+        }
+        TrackEventOutboxEntity entity = new TrackEventOutboxEntity();
+        entity.isrc = event.isrc().value();
+        entity.title = event.title();
+        entity.producerId = event.producerId();
+        entity.artistCredits = event.artistCredits();
+        entity.sources = event.sources();
+        entity.createdAt = createdAt;
+        return entity;
+    }
+
+    public static PendingTrackEvent toPending(TrackEventOutboxEntity entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("TrackEventOutboxEntity cannot be null");
+        }
+        return new PendingTrackEvent(entity.id, new TrackWasRegistered(
+                new ISRC(entity.isrc),
+                entity.title,
+                entity.producerId,
+                entity.artistCredits != null ? List.copyOf(entity.artistCredits) : List.of(),
+                entity.sources != null ? List.copyOf(entity.sources) : List.of()));
+    }
+}
@@ -0,0 +1,19 @@
+-- producer context: add_tracks_recent_index
+-- Version: V7
+
+-- Composite index backing the recent tracks listing:
+--   ORDER BY created_at DESC, id DESC, with keyset pagination on (created_at, id).
+-- The listing seeks directly to the requested position and reads only one page
+-- of index entries, instead of sorting the whole tracks table on every request.
+
+CREATE INDEX idx_tracks_created_at_id ON tracks (created_at DESC, id DESC);
+
+-- Rollback strategy:
+-- DROP INDEX idx_tracks_created_at_id;
+
+-- Migration checklist:
+-- [x] SQL syntax validated
+-- [ ] Migration tested on development database
+-- [x] Rollback strategy documented
+-- [x] Performance impact assessed for large tables (index build scans tracks once)
+-- [ ] Migration reviewed by team
@@ -0,0 +1,19 @@
+-- producer context: add_tracks_updated_at_index
+-- Version: V8
+
+-- Index backing the version of the recent tracks listing:
+--   SELECT max(updated_at) FROM tracks
+-- answered from the end of the index instead of a scan of the tracks table,
+-- so conditional GET /tracks/recent requests stay cheap.
+
+CREATE INDEX idx_tracks_updated_at ON tracks (updated_at);
+
+-- Rollback strategy:
+-- DROP INDEX idx_tracks_updated_at;
+
+-- Migration checklist:
+-- [x] SQL syntax validated
+-- [ ] Migration tested on development database
+-- [x] Rollback strategy documented
+-- [x] Performance impact assessed for large tables (index build scans tracks once)
+-- [ ] Migration reviewed by team
@@ -0,0 +1,39 @@
+-- producer context: create_track_event_outbox
+-- Version: V9
+
+-- Transactional outbox of TrackWasRegistered events. A row is written in the
+-- transaction that inserts its track, then locked, published and marked
+-- dispatched by the relay:
+--   SELECT ... WHERE dispatched_at IS NULL ORDER BY id LIMIT n FOR UPDATE SKIP LOCKED
+--   UPDATE track_event_outbox SET dispatched_at = ? WHERE id IN (...)
+-- Dispatched rows are deleted after the retention period:
+--   DELETE FROM track_event_outbox WHERE dispatched_at < ?
+-- Ids come from a sequence allocated by blocks of 100, so that bulk imports
+-- insert their events without one sequence call per row.
+
+CREATE SEQUENCE track_event_outbox_seq START WITH 1 INCREMENT BY 100;
+
+CREATE TABLE track_event_outbox (
+    id BIGINT PRIMARY KEY,
+    isrc VARCHAR(12) NOT NULL,
+    title VARCHAR(500),
+    producer_id UUID NOT NULL,
+    artist_credits TEXT,  -- JSON: [{"artistName":"Queen","artistId":"..."}]
+    sources TEXT,         -- JSON: [{"sourceName":"TIDAL","sourceId":"..."}]
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    dispatched_at TIMESTAMP WITH TIME ZONE
+);
+
+-- Serves both the pending scan (dispatched_at IS NULL, by id) and the purge
+CREATE INDEX idx_track_event_outbox_dispatched_at_id ON track_event_outbox (dispatched_at, id);
+
+-- Rollback strategy:
+-- DROP TABLE track_event_outbox;
+-- DROP SEQUENCE track_event_outbox_seq;
+
+-- Migration checklist:
+-- [x] SQL syntax validated
+-- [ ] Migration tested on development database
+-- [x] Rollback strategy documented
+-- [x] Performance impact assessed for large tables (new empty table)
+-- [ ] Migration reviewed by team
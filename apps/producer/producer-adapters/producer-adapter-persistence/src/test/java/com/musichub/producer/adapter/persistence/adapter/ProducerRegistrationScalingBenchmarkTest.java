@@ -0,0 +1,152 @@
+package com.musichub.producer.adapter.persistence.adapter;
+
+import com.musichub.producer.adapter.persistence.config.PersistenceTestProfile;
+import com.musichub.producer.application.dto.ArtistCreditDto;
+import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.producer.application.dto.TrackEventsStaged;
+import com.musichub.producer.application.ports.out.MusicPlatformPort;
+import com.musichub.producer.application.service.ProducerTrackWriter;
+import com.musichub.producer.application.service.RegisterTrackService;
+import com.musichub.producer.domain.model.Producer;
+import com.musichub.producer.domain.model.Track;
+import com.musichub.producer.domain.values.ArtistCredit;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.domain.values.ProducerCode;
+import com.musichub.shared.domain.values.Source;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures the per-registration cost of {@link RegisterTrackService}, from the
+ * metadata fetch to the producer returned to the REST layer, for producers
+ * whose catalogue grows from 10 to 100k tracks.
+ * <p>
+ * Application beans are excluded by the persistence test profile, so the
+ * service is wired by hand on the real repository and outbox adapters, with an
+ * in-memory music platform. The persist phase runs in its own transaction, as
+ * the {@code @Transactional} interceptor of {@link ProducerTrackWriter} would.
+ * <p>
+ * Tagged {@code benchmark}: excluded from the default build, run it with
+ * {@code mvn test -Pbenchmark -pl producer/producer-adapters/producer-adapter-persistence}.
+ */
+@QuarkusTest
+@Tag("benchmark")
+@DisplayName("Producer registration scaling benchmark")
+@TestProfile(PersistenceTestProfile.class)
+class ProducerRegistrationScalingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProducerRegistrationScalingBenchmarkTest.class);
+
+    private static final int[] CATALOGUE_SIZES = {10, 1_000, 10_000, 100_000};
+    private static final int SEED_BATCH_SIZE = 1_000;
+    private static final int WARMUP_REGISTRATIONS = 50;
+    private static final int MEASURED_REGISTRATIONS = 200;
+
+    // Per-registration latency may not grow by more than this factor from the smallest to the largest catalogue
+    private static final double MAX_GROWTH_FACTOR = 3.0;
+
+    private static final List<ArtistCredit> CREDITS = List.of(ArtistCredit.withName("Benchmark Artist"));
+    private static final List<Source> SOURCES = List.of(Source.of("SPOTIFY", "benchmark"));
+
+    @Inject
+    ProducerRepositoryAdapter repository;
+
+    @Inject
+    TrackEventOutboxAdapter trackEventOutbox;
+
+    private RegisterTrackService registerTrackService;
+
+    @BeforeEach
+    void setUp() {
+        @SuppressWarnings("unchecked")
+        Event<TrackEventsStaged> eventsStaged = mock(Event.class);
+        MusicPlatformPort musicPlatformPort = isrc -> new ExternalTrackMetadata(isrc, "Registered",
+                List.of(new ArtistCreditDto("Benchmark Artist", null)), "spotify");
+        ProducerTrackWriter writer = new ProducerTrackWriter(repository, trackEventOutbox, eventsStaged) {
+            @Override
+            public Producer registerTrack(ISRC isrc, ExternalTrackMetadata metadata, String serviceCorrelationId) {
+                return QuarkusTransaction.requiringNew()
+                        .call(() -> super.registerTrack(isrc, metadata, serviceCorrelationId));
+            }
+        };
+        registerTrackService = new RegisterTrackService(musicPlatformPort, writer, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Per-registration latency should stay flat as the catalogue grows")
+    void registrationLatencyIsFlatInCatalogueSize() {
+        Map<Integer, Double> medianMicrosBySize = new LinkedHashMap<>();
+        for (int i = 0; i < CATALOGUE_SIZES.length; i++) {
+            int size = CATALOGUE_SIZES[i];
+            ProducerCode code = ProducerCode.of("BNCH" + i);
+            seed(code, size);
+            medianMicrosBySize.put(size, medianRegistrationMicros(code));
+        }
+
+        StringBuilder report = new StringBuilder("\ncatalogue size | median registration (us)\n");
+        medianMicrosBySize.forEach((size, micros) ->
+                report.append(String.format("%14d | %10.1f%n", size, micros)));
+        log.info("Producer registration scaling:{}", report);
+
+        double smallest = medianMicrosBySize.get(CATALOGUE_SIZES[0]);
+        double largest = medianMicrosBySize.get(CATALOGUE_SIZES[CATALOGUE_SIZES.length - 1]);
+        assertTrue(largest <= smallest * MAX_GROWTH_FACTOR,
+                String.format("Registration latency grew from %.1fus to %.1fus", smallest, largest));
+    }
+
+    /**
+     * Stores a producer with {@code size} tracks, through the append path in
+     * batches so that seeding itself stays linear.
+     */
+    private void seed(ProducerCode code, int size) {
+        Producer producer = Producer.createNew(code, "Benchmark " + code.value());
+        QuarkusTransaction.requiringNew().run(() -> repository.appendTracks(producer, List.of()));
+        for (int from = 0; from < size; from += SEED_BATCH_SIZE) {
+            List<Track> batch = IntStream.range(from, Math.min(size, from + SEED_BATCH_SIZE))
+                    .mapToObj(n -> producer.newTrack(isrc(code, "24", n), "Seed " + n, CREDITS, SOURCES))
+                    .toList();
+            QuarkusTransaction.requiringNew().run(() -> repository.appendTracks(producer, batch));
+        }
+    }
+
+    private double medianRegistrationMicros(ProducerCode code) {
+        long[] samples = new long[MEASURED_REGISTRATIONS];
+        for (int n = 0; n < WARMUP_REGISTRATIONS + MEASURED_REGISTRATIONS; n++) {
+            ISRC isrc = isrc(code, "25", n);
+            long start = System.nanoTime();
+            Producer registered = registerTrackService.registerTrack(isrc.value(), "benchmark");
+            long elapsed = System.nanoTime() - start;
+            assertEquals(1, registered.tracks().size());
+            if (n >= WARMUP_REGISTRATIONS) {
+                samples[n - WARMUP_REGISTRATIONS] = elapsed;
+            }
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2] / (double) TimeUnit.MICROSECONDS.toNanos(1);
+    }
+
+    private static ISRC isrc(ProducerCode code, String year, int designation) {
+        return ISRC.of(code.value() + year + String.format("%05d", designation));
+    }
+}
@@ -3,6 +3,7 @@ package com.musichub.producer.adapter.persistence.adapter;
 
 import com.musichub.producer.adapter.persistence.config.PersistenceTestProfile;
 import com.musichub.producer.domain.model.Producer;
+import com.musichub.producer.domain.model.Track;
 import com.musichub.producer.domain.values.ArtistCredit;
 import com.musichub.shared.domain.values.Source;
 import com.musichub.shared.domain.values.ISRC;
@@ -11,11 +12,15 @@ import io.quarkus.test.TestTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
 import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -27,6 +32,12 @@ class ProducerRepositoryAdapterTest {
     @Inject
     ProducerRepositoryAdapter repository;
 
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    SessionFactory sessionFactory;
+
     @Test
     @TestTransaction
     @DisplayName("Should save producer with tracks and retrieve by producer code with complete data")
@@ -62,4 +73,82 @@ class ProducerRepositoryAdapterTest {
         assertTrue(retrievedProducer.hasTrack(ISRC.of("FRLA12400001")), "Producer should contain first track");
         assertTrue(retrievedProducer.hasTrack(ISRC.of("FRLA12400002")), "Producer should contain second track");
     }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should append a track without loading or rewriting existing tracks")
+    void appendTracks_inserts_only_new_track() {
+        // Given
+        ProducerCode producerCode = ProducerCode.of("FRLA2");
+        Producer producer = Producer.createNew(producerCode, "Append Producer");
+        Source source = Source.of("SPOTIFY", "test-source");
+        producer.registerTrack(ISRC.of("FRLA22400001"), "Track 1", List.of(ArtistCredit.withName("Artist 1")), List.of(source));
+        repository.save(producer);
+
+        // When - Load the header only
+        Producer header = repository.findHeaderByProducerCode(producerCode).orElseThrow();
+
+        // Then
+        assertEquals(producer.id(), header.id(), "Header should keep the producer ID");
+        assertTrue(header.tracks().isEmpty(), "Header should not carry tracks");
+        assertEquals(Set.of(ISRC.of("FRLA22400001")),
+                repository.findExistingIsrcs(header.id(), List.of(ISRC.of("FRLA22400001"), ISRC.of("FRLA22400002"))),
+                "Only the stored ISRC should be reported as existing");
+
+        // When - Append a new track
+        Track newTrack = header.newTrack(ISRC.of("FRLA22400002"), "Track 2", List.of(ArtistCredit.withName("Artist 2")), List.of(source));
+        repository.appendTracks(header, List.of(newTrack));
+
+        // Then
+        Producer reloaded = repository.findByProducerCode(producerCode).orElseThrow();
+        assertEquals(2, reloaded.tracks().size(), "Producer should have both tracks");
+        assertTrue(reloaded.hasTrack(ISRC.of("FRLA22400002")), "Appended track should be stored");
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should create the producer when appending its first track")
+    void appendTracks_creates_missing_producer() {
+        // Given
+        ProducerCode producerCode = ProducerCode.of("FRLA3");
+        Producer producer = Producer.createNew(producerCode, null);
+        Track track = producer.newTrack(ISRC.of("FRLA32400001"), "Track 1", List.of(ArtistCredit.withName("Artist 1")),
+                List.of(Source.of("SPOTIFY", "test-source")));
+        assertTrue(repository.findHeaderByProducerCode(producerCode).isEmpty(), "Producer should not exist yet");
+
+        // When
+        repository.appendTracks(producer, List.of(track));
+
+        // Then
+        Producer reloaded = repository.findByProducerCode(producerCode).orElseThrow();
+        assertEquals(producer.id(), reloaded.id());
+        assertTrue(reloaded.hasTrack(ISRC.of("FRLA32400001")));
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should load a producer with all its tracks and credits in a single statement")
+    void findByProducerCode_loads_aggregate_in_one_statement() {
+        // Given
+        ProducerCode producerCode = ProducerCode.of("FRLA1");
+        Producer producer = Producer.createNew(producerCode, "Test Producer");
+        Source source = Source.of("SPOTIFY", "test-source");
+        for (int i = 1; i <= 5; i++) {
+            producer.registerTrack(ISRC.of("FRLA1240000" + i), "Track " + i,
+                    List.of(ArtistCredit.withName("Artist " + i), ArtistCredit.withName("Featured " + i)), List.of(source));
+        }
+        repository.save(producer);
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        // When
+        Producer found = repository.findByProducerCode(producerCode).orElseThrow();
+
+        // Then
+        assertEquals(5, found.tracks().size());
+        found.tracks().forEach(track -> assertEquals(2, track.credits().size()));
+        assertEquals(1, statistics.getPrepareStatementCount(), "Producer, tracks and credits should come from one statement");
+    }
 }
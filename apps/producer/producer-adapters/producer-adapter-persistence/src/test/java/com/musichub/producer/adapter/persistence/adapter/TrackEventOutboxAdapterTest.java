@@ -0,0 +1,130 @@
+package com.musichub.producer.adapter.persistence.adapter;
+
+import com.musichub.producer.adapter.persistence.config.PersistenceTestProfile;
+import com.musichub.producer.application.dto.PendingTrackEvent;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.events.ArtistCreditInfo;
+import com.musichub.shared.events.SourceInfo;
+import com.musichub.shared.events.TrackWasRegistered;
+import io.quarkus.test.TestTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@DisplayName("TrackEventOutboxAdapter Integration Tests")
+@TestProfile(PersistenceTestProfile.class)
+class TrackEventOutboxAdapterTest {
+
+    @Inject
+    TrackEventOutboxAdapter outbox;
+
+    @Inject
+    EntityManager entityManager;
+
+    private static TrackWasRegistered event(String isrc) {
+        return new TrackWasRegistered(
+                ISRC.of(isrc),
+                "Track " + isrc,
+                UUID.randomUUID(),
+                List.of(new ArtistCreditInfo("Artist 1", UUID.randomUUID().toString()), ArtistCreditInfo.withName("Artist 2")),
+                List.of(new SourceInfo("TIDAL", isrc)));
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should return staged events in staging order with their full payload")
+    void append_and_lockPending_roundtrip() {
+        // Given
+        TrackWasRegistered first = event("FRLA12400001");
+        TrackWasRegistered second = event("FRLA12400002");
+        outbox.append(List.of(first, second));
+        flushAndClear();
+
+        // When
+        List<PendingTrackEvent> pending = outbox.lockPending(10);
+
+        // Then
+        assertEquals(List.of(first, second), pending.stream().map(PendingTrackEvent::event).toList());
+        assertTrue(pending.get(0).id() < pending.get(1).id(), "Ids should follow the staging order");
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should lock at most the requested number of pending events")
+    void lockPending_honours_limit() {
+        // Given
+        outbox.append(List.of(event("FRLA12400001"), event("FRLA12400002"), event("FRLA12400003")));
+        flushAndClear();
+
+        // When
+        List<PendingTrackEvent> pending = outbox.lockPending(2);
+
+        // Then
+        assertEquals(List.of("FRLA12400001", "FRLA12400002"),
+                pending.stream().map(event -> event.event().isrc().value()).toList());
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should mark events dispatched in bulk, beyond one statement's worth of ids")
+    void markDispatched_excludes_events_from_pending() {
+        // Given
+        int count = TrackEventOutboxAdapter.MAX_IDS_PER_STATEMENT + 5;
+        List<TrackWasRegistered> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(event(String.format("FRLA1%07d", i)));
+        }
+        events.add(event("GBUM71507409"));
+        outbox.append(events);
+        flushAndClear();
+        List<Long> ids = outbox.lockPending(count).stream().map(PendingTrackEvent::id).toList();
+
+        // When
+        outbox.markDispatched(ids, Instant.now());
+        flushAndClear();
+
+        // Then
+        List<PendingTrackEvent> pending = outbox.lockPending(count);
+        assertEquals(1, pending.size());
+        assertEquals("GBUM71507409", pending.get(0).event().isrc().value());
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should purge only the events dispatched before the given instant")
+    void purgeDispatched_keeps_recent_and_pending_events() {
+        // Given
+        outbox.append(List.of(event("FRLA12400001"), event("FRLA12400002"), event("FRLA12400003")));
+        flushAndClear();
+        List<Long> ids = outbox.lockPending(3).stream().map(PendingTrackEvent::id).toList();
+        Instant now = Instant.now();
+        outbox.markDispatched(List.of(ids.get(0)), now.minus(Duration.ofDays(2)));
+        outbox.markDispatched(List.of(ids.get(1)), now);
+        flushAndClear();
+
+        // When
+        long purged = outbox.purgeDispatched(now.minus(Duration.ofDays(1)));
+
+        // Then
+        assertEquals(1L, purged);
+        assertEquals(2, outbox.count());
+        assertEquals(List.of(ids.get(2)), outbox.lockPending(3).stream().map(PendingTrackEvent::id).toList());
+    }
+}
@@ -3,13 +3,19 @@ package com.musichub.producer.adapter.persistence.adapter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import com.musichub.producer.adapter.persistence.config.PersistenceTestProfile;
+import com.musichub.producer.application.dto.TrackCursor;
 import com.musichub.producer.application.dto.TrackInfo;
+import com.musichub.producer.application.dto.TrackPage;
 import com.musichub.producer.domain.model.Producer;
 import com.musichub.producer.domain.values.ArtistCredit;
 import com.musichub.shared.domain.values.Source;
@@ -21,6 +27,7 @@ import io.quarkus.test.TestTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
 import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
 
 @QuarkusTest
 @TestProfile(PersistenceTestProfile.class)
@@ -33,6 +40,12 @@ class TrackRepositoryAdapterTest {
     @Inject
     ProducerRepositoryAdapter producerRepository;
 
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    SessionFactory sessionFactory;
+
     private Producer createProducerWithTracks(String producerCodeValue, String producerName, int trackCount) {
         ProducerCode producerCode = ProducerCode.of(producerCodeValue);
         Producer producer = Producer.createNew(producerCode, producerName);
@@ -208,4 +221,94 @@ class TrackRepositoryAdapterTest {
             .extracting(TrackInfo::submissionDate)
             .allSatisfy(date -> assertThat(date).isNotNull());
     }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should walk through all tracks page by page without duplicates")
+    void findRecentTracks_shouldPageByKeyset() {
+        // Given
+        createProducerWithTracks("FRLA1", "Producer 1", 4);
+        createProducerWithTracks("USRC1", "Producer 2", 3);
+
+        // When
+        List<TrackInfo> walked = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        TrackCursor cursor = null;
+        do {
+            TrackPage page = trackRepository.findRecentTracks(3, cursor);
+            walked.addAll(page.tracks());
+            pageSizes.add(page.tracks().size());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertThat(pageSizes).containsExactly(3, 3, 1);
+        assertThat(walked)
+            .extracting(track -> track.isrc().value())
+            .doesNotHaveDuplicates()
+            .hasSize(7);
+        assertThat(walked)
+            .extracting(TrackInfo::submissionDate)
+            .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should not announce a next page when the last page is exactly full")
+    void findRecentTracks_shouldEndOnExactlyFullPage() {
+        // Given
+        createProducerWithTracks("FRLA1", "Producer 1", 3);
+
+        // When
+        TrackPage page = trackRepository.findRecentTracks(3, null);
+
+        // Then
+        assertThat(page.tracks()).hasSize(3);
+        assertThat(page.next()).isEmpty();
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should load a page of tracks with their credits in two statements whatever the page size")
+    void findRecentTracks_shouldUseConstantStatementCount() {
+        // Given
+        createProducerWithTracks("FRLA1", "Producer 1", 9);
+        createProducerWithTracks("USRC1", "Producer 2", 9);
+        // Start from an empty persistence context so that every credit must come from the database
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = sessionFactory.getStatistics();
+
+        for (int limit : new int[] {2, 18}) {
+            entityManager.clear();
+            statistics.clear();
+
+            // When
+            TrackPage page = trackRepository.findRecentTracks(limit, null);
+
+            // Then
+            assertThat(page.tracks()).hasSize(limit)
+                .allSatisfy(track -> assertThat(track.artistNames()).hasSize(1));
+            assertThat(statistics.getPrepareStatementCount())
+                .as("statements for a page of %d tracks", limit)
+                .isEqualTo(2);
+        }
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should report the newest track modification time")
+    void findLastModified_shouldReturnNewestUpdate() {
+        // Given
+        assertThat(trackRepository.findLastModified()).isEmpty();
+        createProducerWithTracks("FRLA1", "Producer 1", 3);
+        entityManager.flush();
+
+        // When
+        List<TrackInfo> tracks = trackRepository.findRecentTracks(3);
+
+        // Then
+        assertThat(trackRepository.findLastModified()).hasValueSatisfying(lastModified ->
+            assertThat(lastModified).isAfterOrEqualTo(tracks.get(0).submissionDate()));
+    }
 }
@@ -14,6 +14,8 @@ public class PersistenceTestProfile implements QuarkusTestProfile {
 
         // Exclusion des composants de l'application
         config.put("quarkus.arc.exclude-types", "com.musichub.producer.application.**");
+        // Statement counts are asserted by the read path tests
+        config.put("quarkus.hibernate-orm.statistics", "true");
         return config;
     }
 
@@ -0,0 +1,16 @@
+package com.musichub.producer.adapter.rest.dto.request;
+
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public class RegisterTracksBatchRequest {
+
+    @Schema(required = true, description = "ISRCs to register", examples = {"[\"FRLA12400001\", \"FRLA12400002\"]"})
+    @NotEmpty(message = "At least one ISRC is required")
+    @Size(max = 500, message = "A batch may contain at most 500 ISRCs")
+    public List<String> isrcs;
+}
@@ -0,0 +1,26 @@
+package com.musichub.producer.adapter.rest.dto.response;
+
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+@Schema(description = "Response of a batch track registration")
+public class BatchRegistrationResponse {
+    @Schema(description = "Number of distinct ISRCs processed", examples = {"3"})
+    public int total;
+
+    @Schema(description = "Number of tracks added", examples = {"1"})
+    public long added;
+
+    @Schema(description = "Number of tracks the producer already owned", examples = {"1"})
+    public long alreadyPresent;
+
+    @Schema(description = "Number of ISRCs unknown to the music platform", examples = {"1"})
+    public long notFound;
+
+    @Schema(description = "Number of ISRCs that could not be processed", examples = {"0"})
+    public long failed;
+
+    @Schema(description = "Per-ISRC outcomes, in request order")
+    public List<TrackRegistrationResultResponse> results;
+}
@@ -15,6 +15,6 @@ public class ProducerResponse {
     @Schema(description = "Name of the producer", examples = {"Universal Music Group"})
     public String name;
 
-    @Schema(description = "Set of tracks associated with the producer")
+    @Schema(description = "Tracks of the producer concerned by the request: on registration, the registered track only")
     public Set<TrackResponse> tracks;
 }
@@ -0,0 +1,16 @@
+package com.musichub.producer.adapter.rest.dto.response;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+@Schema(description = "Registration outcome for a single ISRC of a batch")
+public class TrackRegistrationResultResponse {
+    @Schema(description = "Normalized ISRC", examples = {"FRLA12400001"})
+    public String isrc;
+
+    @Schema(description = "Registration outcome", examples = {"ADDED"},
+            enumeration = {"ADDED", "ALREADY_PRESENT", "NOT_FOUND", "FAILED"})
+    public String status;
+
+    @Schema(description = "Detail for NOT_FOUND or FAILED outcomes", examples = {"Track not found in Tidal service"})
+    public String message;
+}
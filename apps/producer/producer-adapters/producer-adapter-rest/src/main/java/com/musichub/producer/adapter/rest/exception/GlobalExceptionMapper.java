@@ -1,12 +1,16 @@
 package com.musichub.producer.adapter.rest.exception;
 
 import com.musichub.producer.adapter.rest.dto.response.ErrorResponse;
+import com.musichub.producer.application.exception.ExternalServiceBackPressureException;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import org.jboss.resteasy.reactive.server.ServerExceptionMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+
 public class GlobalExceptionMapper {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionMapper.class);
@@ -21,6 +25,19 @@ public class GlobalExceptionMapper {
 
     @ServerExceptionMapper
     public Response mapRuntimeException(RuntimeException e) {
+        ExternalServiceBackPressureException backPressure = backPressureCause(e);
+        if (backPressure != null) {
+            // Resources wrap their failures: look for the cause rather than the exception type
+            long retryAfterSeconds = retryAfterSeconds(backPressure.getRetryAfter());
+            log.warn("External service {} saturated, asking the client to retry after {}s: {}",
+                backPressure.getService(), retryAfterSeconds, backPressure.getMessage());
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .entity(new ErrorResponse("EXTERNAL_SERVICE_BUSY",
+                    "External service is busy, retry after " + retryAfterSeconds + "s"))
+                .build();
+        }
+
         log.error("Runtime exception: {}", e.getMessage(), e);
 
         String simpleName = e.getClass().getSimpleName();
@@ -44,4 +61,24 @@ public class GlobalExceptionMapper {
             .entity(new ErrorResponse("WEB_APPLICATION_ERROR", e.getMessage()))
             .build();
     }
-}
\ No newline at end of file
+
+    private static ExternalServiceBackPressureException backPressureCause(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ExternalServiceBackPressureException backPressure) {
+                return backPressure;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retry-After is in whole seconds: round up, and never ask for an immediate retry.
+     */
+    private static long retryAfterSeconds(Duration retryAfter) {
+        if (retryAfter == null) {
+            return 1;
+        }
+        long seconds = retryAfter.toSeconds() + (retryAfter.getNano() > 0 ? 1 : 0);
+        return Math.max(1, seconds);
+    }
+}
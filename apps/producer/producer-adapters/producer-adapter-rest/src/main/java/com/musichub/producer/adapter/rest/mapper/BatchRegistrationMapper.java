@@ -0,0 +1,26 @@
+package com.musichub.producer.adapter.rest.mapper;
+
+import com.musichub.producer.adapter.rest.dto.response.BatchRegistrationResponse;
+import com.musichub.producer.adapter.rest.dto.response.TrackRegistrationResultResponse;
+import com.musichub.producer.application.dto.BatchRegistrationResult;
+import com.musichub.producer.application.dto.RegistrationStatus;
+import com.musichub.producer.application.dto.TrackRegistrationOutcome;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "cdi", imports = RegistrationStatus.class)
+public interface BatchRegistrationMapper {
+
+    @Mapping(target = "total", expression = "java(result.outcomes().size())")
+    @Mapping(target = "added", expression = "java(result.count(RegistrationStatus.ADDED))")
+    @Mapping(target = "alreadyPresent", expression = "java(result.count(RegistrationStatus.ALREADY_PRESENT))")
+    @Mapping(target = "notFound", expression = "java(result.count(RegistrationStatus.NOT_FOUND))")
+    @Mapping(target = "failed", expression = "java(result.count(RegistrationStatus.FAILED))")
+    @Mapping(target = "results", expression = "java(result.outcomes().stream().map(this::mapOutcome).toList())")
+    BatchRegistrationResponse toResponse(BatchRegistrationResult result);
+
+    @Mapping(target = "isrc", expression = "java(outcome.isrc())")
+    @Mapping(target = "status", expression = "java(outcome.status().name())")
+    @Mapping(target = "message", expression = "java(outcome.message())")
+    TrackRegistrationResultResponse mapOutcome(TrackRegistrationOutcome outcome);
+}
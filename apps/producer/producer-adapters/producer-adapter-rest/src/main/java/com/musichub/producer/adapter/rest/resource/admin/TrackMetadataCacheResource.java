@@ -0,0 +1,59 @@
+package com.musichub.producer.adapter.rest.resource.admin;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.jboss.resteasy.reactive.RestResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.musichub.producer.application.ports.in.InvalidateTrackMetadataCacheUseCase;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/admin/cache/track-metadata")
+@ApplicationScoped
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Administration", description = "Operational endpoints")
+public class TrackMetadataCacheResource {
+
+    private static final Logger log = LoggerFactory.getLogger(TrackMetadataCacheResource.class);
+
+    private final InvalidateTrackMetadataCacheUseCase invalidateTrackMetadataCacheUseCase;
+
+    @Inject
+    public TrackMetadataCacheResource(InvalidateTrackMetadataCacheUseCase invalidateTrackMetadataCacheUseCase) {
+        this.invalidateTrackMetadataCacheUseCase = invalidateTrackMetadataCacheUseCase;
+    }
+
+    @DELETE
+    @Path("/{isrc}")
+    @Operation(summary = "Invalidate one ISRC", description = "Drops the cached metadata (or cached not-found) for one ISRC")
+    @APIResponses(value = {
+        @APIResponse(responseCode = "204", description = "Entry invalidated"),
+        @APIResponse(responseCode = "400", description = "Not an ISRC"),
+        @APIResponse(responseCode = "404", description = "No entry cached for this ISRC")
+    })
+    public RestResponse<Void> invalidate(@PathParam("isrc") String isrc) {
+        log.info("Invalidating track metadata cache entry for ISRC: {}", isrc);
+        return invalidateTrackMetadataCacheUseCase.invalidate(isrc)
+                ? RestResponse.noContent()
+                : RestResponse.notFound();
+    }
+
+    @DELETE
+    @Operation(summary = "Invalidate the whole cache", description = "Drops every cached track metadata entry")
+    @APIResponse(responseCode = "204", description = "Cache cleared")
+    public RestResponse<Void> invalidateAll() {
+        log.info("Invalidating the whole track metadata cache");
+        invalidateTrackMetadataCacheUseCase.invalidateAll();
+        return RestResponse.noContent();
+    }
+}
@@ -11,11 +11,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.musichub.producer.adapter.rest.dto.request.RegisterTrackRequest;
+import com.musichub.producer.adapter.rest.dto.request.RegisterTracksBatchRequest;
+import com.musichub.producer.adapter.rest.dto.response.BatchRegistrationResponse;
 import com.musichub.producer.adapter.rest.dto.response.ProducerResponse;
+import com.musichub.producer.adapter.rest.mapper.BatchRegistrationMapper;
 import com.musichub.producer.adapter.rest.mapper.ProducerMapper;
 import com.musichub.producer.adapter.rest.util.ErrorHandler;
 import com.musichub.producer.adapter.rest.util.RequestContextUtils;
+import com.musichub.producer.application.dto.BatchRegistrationResult;
 import com.musichub.producer.application.ports.in.RegisterTrackUseCase;
+import com.musichub.producer.application.ports.in.RegisterTracksBatchUseCase;
 import com.musichub.producer.domain.exception.TrackRegistrationException;
 import com.musichub.producer.domain.model.Producer;
 
@@ -41,18 +46,28 @@ public class ProducerResource {
 
     private ProducerMapper producerMapper;
 
+    private RegisterTracksBatchUseCase registerTracksBatchUseCase;
+
+    private BatchRegistrationMapper batchRegistrationMapper;
+
     @Inject
-    public ProducerResource(RegisterTrackUseCase registerTrackUseCase, ProducerMapper producerMapper){
+    public ProducerResource(RegisterTrackUseCase registerTrackUseCase, ProducerMapper producerMapper,
+                            RegisterTracksBatchUseCase registerTracksBatchUseCase,
+                            BatchRegistrationMapper batchRegistrationMapper){
             this.producerMapper=producerMapper;
             this.registerTrackUseCase=registerTrackUseCase;
+            this.registerTracksBatchUseCase=registerTracksBatchUseCase;
+            this.batchRegistrationMapper=batchRegistrationMapper;
     }
 
     @POST
-    @Operation(summary = "Register a new track", description = "Registers a new track for a producer using the provided ISRC")
+    @Operation(summary = "Register a new track", description = "Registers a new track for a producer using the provided ISRC. "
+        + "The response describes the producer with the registered track only, not its whole catalogue")
     @APIResponses(value = {
-        @APIResponse(responseCode = "202", description = "Track registered successfully",
+        @APIResponse(responseCode = "202", description = "Track registered successfully; tracks holds the registered track only",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProducerResponse.class))),
         @APIResponse(responseCode = "400", description = "Invalid request data or ISRC already exists"),
+        @APIResponse(responseCode = "503", description = "Music platform rate limit reached, retry after the Retry-After delay"),
         @APIResponse(responseCode = "500", description = "Internal server error")
     })
     public RestResponse<ProducerResponse> register(@Valid RegisterTrackRequest request) {
@@ -78,6 +93,40 @@ public class ProducerResource {
         }
     }
 
+    @POST
+    @Path("/batch")
+    @Operation(summary = "Register tracks in batch", description = "Registers many ISRCs at once. Each producer is saved once per batch and every ISRC gets its own outcome: ADDED, ALREADY_PRESENT, NOT_FOUND or FAILED")
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Batch processed, see per-ISRC outcomes",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = BatchRegistrationResponse.class))),
+        @APIResponse(responseCode = "400", description = "Empty or oversized batch"),
+        @APIResponse(responseCode = "500", description = "Internal server error")
+    })
+    public RestResponse<BatchRegistrationResponse> registerBatch(@Valid RegisterTracksBatchRequest request) {
+        String correlationId = RequestContextUtils.generateCorrelationId();
+
+        try {
+            if (request == null || request.isrcs == null || request.isrcs.isEmpty()) {
+                throw new TrackRegistrationException("ISRC list cannot be null or empty (correlationId: " + correlationId + ")");
+            }
+            log.info("Registering batch of {} ISRC(s) (correlationId: {})", request.isrcs.size(), correlationId);
+
+            BatchRegistrationResult result = registerTracksBatchUseCase.registerTracks(request.isrcs, correlationId);
+            BatchRegistrationResponse response = batchRegistrationMapper.toResponse(result);
+
+            log.info("Batch registration done: {} added, {} already present, {} not found, {} failed (correlationId: {})",
+                    response.added, response.alreadyPresent, response.notFound, response.failed, correlationId);
+
+            return RestResponse.ok(response);
+
+        } catch (Exception e) {
+            throw ErrorHandler.handleException(log, correlationId, "register track batch", e,
+                                             TrackRegistrationException.class);
+        } finally {
+            RequestContextUtils.cleanup();
+        }
+    }
+
     private void validateRequest(RegisterTrackRequest request, String correlationId) {
         if (request == null) {
             throw new TrackRegistrationException("Request cannot be null (correlationId: " + correlationId + ")");
@@ -1,12 +1,19 @@
 package com.musichub.producer.adapter.rest.resource.track;
 
+import java.net.URI;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
@@ -15,18 +22,34 @@ import org.slf4j.LoggerFactory;
 
 import com.musichub.producer.adapter.rest.dto.response.RecentTrackResponse;
 import com.musichub.producer.adapter.rest.mapper.TrackMapper;
+import com.musichub.producer.adapter.rest.stream.RegisteredTrackBroadcaster;
+import com.musichub.producer.adapter.rest.stream.SseTrackStreamSink;
 import com.musichub.producer.adapter.rest.util.ErrorHandler;
 import com.musichub.producer.adapter.rest.util.RequestContextUtils;
+import com.musichub.producer.application.dto.TrackCursor;
 import com.musichub.producer.application.dto.TrackInfo;
+import com.musichub.producer.application.dto.TrackPage;
+import com.musichub.producer.application.dto.TracksVersion;
 import com.musichub.producer.application.ports.in.GetRecentTracksUseCase;
 import com.musichub.producer.domain.exception.TrackRetrievalException;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriBuilder;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 
 @Path("/tracks")
 @ApplicationScoped
@@ -35,36 +58,78 @@ import jakarta.ws.rs.core.Response;
 public class TracksResource {
 
     private static final Logger log = LoggerFactory.getLogger(TracksResource.class);
+    private static final String DEFAULT_LIMIT = "10";
+    // Clients may keep a copy but must revalidate it, which costs a 304 when nothing changed
+    private static final CacheControl REVALIDATE = revalidate();
 
     private GetRecentTracksUseCase getRecentTracksUseCase;
 
     private TrackMapper trackMapper;
 
-    public TracksResource(GetRecentTracksUseCase getRecentTracksUseCase, TrackMapper trackMapper){
+    private RegisteredTrackBroadcaster broadcaster;
+
+    public TracksResource(GetRecentTracksUseCase getRecentTracksUseCase, TrackMapper trackMapper,
+                          RegisteredTrackBroadcaster broadcaster){
         this.getRecentTracksUseCase=getRecentTracksUseCase;
         this.trackMapper=trackMapper;
+        this.broadcaster=broadcaster;
     }
 
     @GET
     @Path("/recent")
-    @Operation(summary = "Get recent tracks", description = "Retrieves a list of recently submitted tracks")
+    @Operation(summary = "Get recent tracks", description = "Retrieves a page of recently submitted tracks, newest first. "
+            + "When more tracks exist, the response carries a Link header (rel=\"next\") to the next page. "
+            + "Responses carry an ETag and a Last-Modified header; send them back in If-None-Match or "
+            + "If-Modified-Since to get a 304 while no track has changed.")
     @APIResponses(value = {
         @APIResponse(responseCode = "200", description = "List of recent tracks retrieved successfully",
             content = @Content(mediaType = "application/json", schema = @Schema(type = SchemaType.ARRAY, implementation = RecentTrackResponse.class))),
+        @APIResponse(responseCode = "304", description = "No track changed since the version the client holds"),
+        @APIResponse(responseCode = "400", description = "Invalid limit or cursor"),
         @APIResponse(responseCode = "500", description = "Internal server error")
     })
-    public Response getRecentTracks() {
+    public Response getRecentTracks(
+            @Parameter(description = "Cursor of the next page, as returned in the Link header of the previous one")
+            @QueryParam("after") String after,
+            @Parameter(description = "Page size, from 1 to 100")
+            @QueryParam("limit") @DefaultValue(DEFAULT_LIMIT) int limit,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @Context Request request) {
         String correlationId = RequestContextUtils.generateCorrelationId();
         Instant startTime = Instant.now();
 
         try {
             logRequestStart(correlationId);
-            List<TrackInfo> tracks = getRecentTracksUseCase.getRecentTracks();
-            List<RecentTrackResponse> response = processTracks(tracks, trackMapper);
+            // Checked before loading anything, and never newer than the page loaded next: an unchanged first page
+            // costs nothing while the in-memory feed serves it, any other page one index lookup
+            Optional<TracksVersion> version = getRecentTracksUseCase.getRecentTracksVersion(limit, after);
+            EntityTag entityTag = version.map(v -> new EntityTag(v.tag())).orElse(null);
+            Date lastModified = version.map(v -> toHttpDate(v.lastModified())).orElse(null);
+            if (version.isPresent()) {
+                // If-None-Match takes precedence: If-Modified-Since, at one second resolution, only applies without it
+                Response.ResponseBuilder notModified = ifNoneMatch != null
+                        ? request.evaluatePreconditions(entityTag)
+                        : request.evaluatePreconditions(lastModified);
+                if (notModified != null) {
+                    log.info("GET /tracks/recent - Not modified (correlationId: {})", correlationId);
+                    return notModified.tag(entityTag).lastModified(lastModified).cacheControl(REVALIDATE).build();
+                }
+            }
+
+            TrackPage page = getRecentTracksUseCase.getRecentTracks(limit, after);
+            List<RecentTrackResponse> response = processTracks(page.tracks(), trackMapper);
 
             logSuccess(correlationId, response.size(), startTime);
-            return Response.ok(response).build();
-
+            Response.ResponseBuilder builder = Response.ok(response).cacheControl(REVALIDATE);
+            if (version.isPresent()) {
+                builder.tag(entityTag).lastModified(lastModified);
+            }
+            page.next().ifPresent(cursor -> builder.link(nextPageUri(cursor, limit), "next"));
+            return builder.build();
+
+        } catch (IllegalArgumentException e) {
+            // Bad limit or cursor: answered with 400 by GlobalExceptionMapper
+            throw e;
         } catch (Exception e) {
             throw ErrorHandler.handleException(log, correlationId, "retrieve recent tracks", e,
                                              TrackRetrievalException.class);
@@ -73,6 +138,45 @@ public class TracksResource {
         }
     }
 
+    @GET
+    @Path("/stream")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @Operation(summary = "Stream registered tracks", description = "Server-Sent Events stream of newly registered tracks, "
+            + "one 'track-registered' event per track with the track as JSON data. Reconnecting with the Last-Event-ID "
+            + "header replays the tracks registered since that event, as far as the server still keeps them; an id "
+            + "issued before a restart or by another instance replays every kept track. "
+            + "A client that does not keep up is disconnected.")
+    @APIResponse(responseCode = "200", description = "Event stream opened")
+    public void streamRegisteredTracks(
+            @Parameter(description = "Id of the last event received, to resume after a disconnection")
+            @HeaderParam(HttpHeaders.LAST_EVENT_ID_HEADER) String lastEventId,
+            @Context SseEventSink eventSink,
+            @Context Sse sse) {
+        log.info("GET /tracks/stream - Subscriber connected (Last-Event-ID: {})", lastEventId);
+        broadcaster.subscribe(new SseTrackStreamSink(eventSink, sse), lastEventId);
+    }
+
+    private static CacheControl revalidate() {
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setNoCache(true);
+        return cacheControl;
+    }
+
+    /**
+     * HTTP dates have a one second resolution; changes within the same second
+     * are told apart by the entity tag only.
+     */
+    private static Date toHttpDate(LocalDateTime lastModified) {
+        return Date.from(lastModified.atZone(ZoneId.systemDefault()).toInstant().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    private static URI nextPageUri(TrackCursor cursor, int limit) {
+        return UriBuilder.fromPath("/tracks/recent")
+                .queryParam("after", cursor.encode())
+                .queryParam("limit", limit)
+                .build();
+    }
+
     private void logRequestStart(String correlationId) {
         log.info("GET /tracks/recent - Starting recent tracks retrieval (correlationId: {})", correlationId);
     }
@@ -0,0 +1,279 @@
+package com.musichub.producer.adapter.rest.stream;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.musichub.producer.adapter.rest.mapper.TrackMapper;
+import com.musichub.producer.application.dto.TrackInfo;
+import com.musichub.shared.events.TrackWasRegistered;
+
+import io.quarkus.vertx.ConsumeEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.json.bind.Jsonb;
+
+/**
+ * Fans out newly registered tracks to every open track stream.
+ * <p>
+ * The broadcaster holds the only {@code track-registered} subscription of the
+ * stream, however many clients are connected, and serializes each track once.
+ * Every subscriber gets its own buffer of at most
+ * {@code producer.track-stream.buffer-size} tracks, drained one send at a
+ * time; a subscriber whose buffer is full is too slow to keep up and is
+ * disconnected, so it never holds memory or delays the others. The last
+ * {@code producer.track-stream.history-size} tracks are kept so that a client
+ * reconnecting with a Last-Event-ID gets the tracks it missed. Event ids are
+ * prefixed with an epoch drawn at startup, so an id issued before a restart or
+ * by another instance is recognized as such and every kept track is replayed,
+ * instead of the sequence silently skipping the tracks published since. Events are
+ * delivered at least once, so a track already streamed among the last ones
+ * is not streamed again.
+ */
+@ApplicationScoped
+public class RegisteredTrackBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(RegisteredTrackBroadcaster.class);
+
+    private final TrackMapper trackMapper;
+    private final Jsonb jsonb;
+    private final int bufferSize;
+    private final int historySize;
+
+    // Guards history, subscriptions and lastId: publication and subscription must not interleave,
+    // or a resuming client could miss the track published while its backlog is replayed. Tracks are
+    // only queued under it; sends and disconnections happen once it is released.
+    private final Object lock = new Object();
+    private final ArrayDeque<StreamedTrack> history;
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    // ISRCs of the last tracks streamed, oldest first, to skip redelivered events
+    private final Map<String, Boolean> recentIsrcs;
+    // Sequences restart with the process and differ between instances: ids carry the epoch they belong to
+    private final String epoch;
+    private long lastId;
+
+    @Inject
+    public RegisteredTrackBroadcaster(
+            TrackMapper trackMapper,
+            Jsonb jsonb,
+            @ConfigProperty(name = "producer.track-stream.buffer-size", defaultValue = "64") int bufferSize,
+            @ConfigProperty(name = "producer.track-stream.history-size", defaultValue = "256") int historySize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("producer.track-stream.buffer-size must be positive, got: " + bufferSize);
+        }
+        if (historySize < 0) {
+            throw new IllegalArgumentException("producer.track-stream.history-size must not be negative, got: " + historySize);
+        }
+        this.trackMapper = Objects.requireNonNull(trackMapper);
+        this.jsonb = Objects.requireNonNull(jsonb);
+        this.bufferSize = bufferSize;
+        this.historySize = historySize;
+        this.epoch = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, Character.MAX_RADIX);
+        this.history = new ArrayDeque<>(historySize);
+        int recentLimit = Math.max(historySize, bufferSize);
+        this.recentIsrcs = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > recentLimit;
+            }
+        };
+    }
+
+    @ConsumeEvent("track-registered")
+    public void onTrackRegistered(TrackWasRegistered event) {
+        if (!firstDelivery(event.isrc().value())) {
+            log.debug("Track {} already streamed, skipping redelivered event", event.isrc().value());
+            return;
+        }
+        try {
+            TrackInfo track = TrackInfo.registered(event, LocalDateTime.now());
+            publish(jsonb.toJson(trackMapper.mapToRecentResponse(track)));
+        } catch (RuntimeException e) {
+            // Never fail the publisher over the stream
+            log.warn("Could not stream registered track {}", event.isrc().value(), e);
+        }
+    }
+
+    private boolean firstDelivery(String isrc) {
+        synchronized (lock) {
+            return recentIsrcs.putIfAbsent(isrc, Boolean.TRUE) == null;
+        }
+    }
+
+    /**
+     * Sends a serialized track to every subscriber, evicting those that are
+     * gone or too slow.
+     */
+    void publish(String json) {
+        List<Subscription> receivers;
+        List<Subscription> evicted = new ArrayList<>();
+        synchronized (lock) {
+            StreamedTrack track = new StreamedTrack(epoch, ++lastId, json);
+            if (historySize > 0) {
+                if (history.size() == historySize) {
+                    history.removeFirst();
+                }
+                history.addLast(track);
+            }
+            receivers = new ArrayList<>(subscriptions.size());
+            Iterator<Subscription> iterator = subscriptions.iterator();
+            while (iterator.hasNext()) {
+                Subscription subscription = iterator.next();
+                if (subscription.enqueue(track)) {
+                    receivers.add(subscription);
+                } else {
+                    iterator.remove();
+                    evicted.add(subscription);
+                }
+            }
+        }
+        evicted.forEach(Subscription::close);
+        receivers.forEach(Subscription::drain);
+    }
+
+    /**
+     * Starts streaming registered tracks to {@code sink}.
+     *
+     * @param lastEventId id of the last event the client received, or null or blank for live tracks only.
+     *                    When the client missed more tracks than are kept, or the id was not
+     *                    issued since this broadcaster started, every kept track is replayed.
+     */
+    public void subscribe(TrackStreamSink sink, String lastEventId) {
+        Objects.requireNonNull(sink, "sink must not be null");
+        Subscription subscription = new Subscription(sink);
+        boolean accepted;
+        synchronized (lock) {
+            accepted = lastEventId == null || lastEventId.isBlank() || replay(subscription, lastEventId.trim());
+            if (accepted) {
+                subscriptions.add(subscription);
+                log.debug("Track stream subscriber added, {} subscribers", subscriptions.size());
+            }
+        }
+        if (accepted) {
+            subscription.drain();
+        } else {
+            subscription.close();
+        }
+    }
+
+    private boolean replay(Subscription subscription, String lastEventId) {
+        // An id from another epoch was issued before a restart or by another instance: its sequence
+        // says nothing about the kept tracks, the client may have seen none of them
+        long sequence = StreamedTrack.sequenceIn(epoch, lastEventId);
+        long from = sequence >= 0 && sequence <= lastId ? sequence : 0;
+        // Only the most recent tracks fit in the subscriber's buffer
+        int skip = (int) Math.max(0, history.stream().filter(track -> track.sequence() > from).count() - bufferSize);
+        for (StreamedTrack track : history) {
+            if (track.sequence() > from && skip-- <= 0 && !subscription.enqueue(track)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int subscriberCount() {
+        synchronized (lock) {
+            return subscriptions.size();
+        }
+    }
+
+    /**
+     * One subscriber: its pending tracks and whether a send is in flight.
+     * Its monitor only guards that state; the sink is called outside of it.
+     */
+    private final class Subscription {
+
+        private final TrackStreamSink sink;
+        private final ArrayDeque<StreamedTrack> pending = new ArrayDeque<>();
+        private boolean sending;
+        private boolean closed;
+
+        Subscription(TrackStreamSink sink) {
+            this.sink = sink;
+        }
+
+        /**
+         * Queues a track, to be sent by {@link #drain()}.
+         *
+         * @return false if the subscriber is gone or too slow, and must be closed
+         */
+        synchronized boolean enqueue(StreamedTrack track) {
+            if (closed || sink.isClosed()) {
+                closed = true;
+                return false;
+            }
+            if (pending.size() >= bufferSize) {
+                log.warn("Disconnecting slow track stream subscriber: {} tracks pending", pending.size());
+                closed = true;
+                pending.clear();
+                return false;
+            }
+            pending.addLast(track);
+            return true;
+        }
+
+        /**
+         * Starts sending the queued tracks, unless a send is already in flight.
+         */
+        void drain() {
+            StreamedTrack next;
+            synchronized (this) {
+                if (sending || closed) {
+                    return;
+                }
+                next = pending.pollFirst();
+                if (next == null) {
+                    return;
+                }
+                sending = true;
+            }
+            send(next);
+        }
+
+        private void send(StreamedTrack track) {
+            sink.send(track).whenComplete((ignored, error) -> onSent(error));
+        }
+
+        private void onSent(Throwable error) {
+            StreamedTrack next;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (error == null) {
+                    next = pending.pollFirst();
+                    if (next == null) {
+                        sending = false;
+                        return;
+                    }
+                } else {
+                    next = null;
+                }
+            }
+            if (next == null) {
+                log.debug("Track stream subscriber disconnected", error);
+                close();
+            } else {
+                send(next);
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                closed = true;
+                pending.clear();
+            }
+            sink.close();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.musichub.producer.adapter.rest.stream;
+
+import java.util.concurrent.CompletionStage;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+
+/**
+ * Track stream connection over Server-Sent Events. The track JSON is sent as
+ * is, so it is not serialized again for each subscriber.
+ */
+public class SseTrackStreamSink implements TrackStreamSink {
+
+    public static final String EVENT_NAME = "track-registered";
+
+    private final SseEventSink eventSink;
+    private final Sse sse;
+
+    public SseTrackStreamSink(SseEventSink eventSink, Sse sse) {
+        this.eventSink = eventSink;
+        this.sse = sse;
+    }
+
+    @Override
+    public CompletionStage<?> send(StreamedTrack track) {
+        return eventSink.send(sse.newEventBuilder()
+                .id(track.eventId())
+                .name(EVENT_NAME)
+                .mediaType(MediaType.TEXT_PLAIN_TYPE)
+                .data(track.json())
+                .build());
+    }
+
+    @Override
+    public boolean isClosed() {
+        return eventSink.isClosed();
+    }
+
+    @Override
+    public void close() {
+        eventSink.close();
+    }
+}
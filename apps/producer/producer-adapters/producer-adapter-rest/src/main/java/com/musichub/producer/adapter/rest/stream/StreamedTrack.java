@@ -0,0 +1,35 @@
+package com.musichub.producer.adapter.rest.stream;
+
+/**
+ * One registered track as sent on the track stream.
+ *
+ * @param epoch    identifies the broadcaster that published the track, new on every start
+ * @param sequence increasing in publication order within an epoch
+ * @param json     the track, serialized once for every subscriber
+ */
+public record StreamedTrack(String epoch, long sequence, String json) {
+
+    private static final char SEPARATOR = '-';
+
+    /**
+     * @return the event id, {@code <epoch>-<sequence>}; clients send it back as Last-Event-ID
+     */
+    public String eventId() {
+        return epoch + SEPARATOR + sequence;
+    }
+
+    /**
+     * @return the sequence of {@code eventId} if it was issued in {@code epoch}, or -1
+     */
+    static long sequenceIn(String epoch, String eventId) {
+        int separator = eventId.lastIndexOf(SEPARATOR);
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.musichub.producer.adapter.rest.stream;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Connection of one track stream subscriber.
+ */
+public interface TrackStreamSink {
+
+    /**
+     * Sends one track. The returned stage completes once the track has been
+     * written, or fails if the connection is gone.
+     */
+    CompletionStage<?> send(StreamedTrack track);
+
+    boolean isClosed();
+
+    void close();
+}
@@ -0,0 +1,55 @@
+package com.musichub.producer.adapter.rest.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.musichub.producer.adapter.rest.dto.response.ErrorResponse;
+import com.musichub.producer.application.exception.ExternalServiceBackPressureException;
+import com.musichub.producer.application.exception.ExternalServiceException;
+import com.musichub.producer.domain.exception.TrackRegistrationException;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+@DisplayName("GlobalExceptionMapper Tests")
+class GlobalExceptionMapperTest {
+
+    private final GlobalExceptionMapper mapper = new GlobalExceptionMapper();
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After when an external service pushes back")
+    void shouldMapBackPressureToServiceUnavailable() {
+        ExternalServiceBackPressureException backPressure = new ExternalServiceBackPressureException(
+                "Tidal rate limit reached", "FRLA12400001", "tidal", Duration.ofMillis(2500), null);
+
+        Response response = mapper.mapRuntimeException(
+                new TrackRegistrationException("Failed to register track", backPressure));
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeaderString(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(((ErrorResponse) response.getEntity()).error).isEqualTo("EXTERNAL_SERVICE_BUSY");
+    }
+
+    @Test
+    @DisplayName("Should never ask for an immediate retry")
+    void shouldAskForAtLeastOneSecond() {
+        Response response = mapper.mapRuntimeException(new ExternalServiceBackPressureException(
+                "Interrupted", "FRLA12400001", "tidal", Duration.ZERO, null));
+
+        assertThat(response.getHeaderString(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("Should keep answering 422 for other external service failures")
+    void shouldMapOtherExternalFailuresTo422() {
+        Response response = mapper.mapRuntimeException(
+                new ExternalServiceException("Tidal is down", "FRLA12400001", "tidal"));
+
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getHeaderString(HttpHeaders.RETRY_AFTER)).isNull();
+    }
+}
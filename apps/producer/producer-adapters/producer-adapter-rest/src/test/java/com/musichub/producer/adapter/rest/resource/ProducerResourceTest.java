@@ -2,8 +2,12 @@ package com.musichub.producer.adapter.rest.resource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+
 import org.jboss.resteasy.reactive.RestResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,10 +17,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.musichub.producer.adapter.rest.dto.request.RegisterTrackRequest;
+import com.musichub.producer.adapter.rest.dto.request.RegisterTracksBatchRequest;
+import com.musichub.producer.adapter.rest.dto.response.BatchRegistrationResponse;
 import com.musichub.producer.adapter.rest.dto.response.ProducerResponse;
+import com.musichub.producer.adapter.rest.mapper.BatchRegistrationMapper;
 import com.musichub.producer.adapter.rest.mapper.ProducerMapper;
 import com.musichub.producer.adapter.rest.resource.producer.ProducerResource;
+import com.musichub.producer.application.dto.BatchRegistrationResult;
+import com.musichub.producer.application.dto.TrackRegistrationOutcome;
 import com.musichub.producer.application.ports.in.RegisterTrackUseCase;
+import com.musichub.producer.application.ports.in.RegisterTracksBatchUseCase;
 import com.musichub.producer.domain.model.Producer;
 import com.musichub.shared.domain.values.ProducerCode;
 
@@ -37,6 +47,12 @@ class ProducerResourceTest {
     @Mock
     ProducerMapper producerMapper;
 
+    @Mock
+    RegisterTracksBatchUseCase registerTracksBatchUseCase;
+
+    @Mock
+    BatchRegistrationMapper batchRegistrationMapper;
+
     @InjectMocks
     ProducerResource producerResource;
 
@@ -75,4 +91,32 @@ class ProducerResourceTest {
         });
         assertEquals("Request cannot be null", exception.getMessage());
     }
+
+    @Test
+    @DisplayName("Should return 200 with per-ISRC outcomes for a batch")
+    void registerBatch_returns200_with_outcomes() {
+        // Given
+        RegisterTracksBatchRequest request = new RegisterTracksBatchRequest();
+        request.isrcs = List.of("FRLA12400001", "FRLA12400002");
+
+        BatchRegistrationResult result = new BatchRegistrationResult(List.of(
+                TrackRegistrationOutcome.added("FRLA12400001"),
+                TrackRegistrationOutcome.notFound("FRLA12400002", "not found")));
+        BatchRegistrationResponse mockResponse = new BatchRegistrationResponse();
+        mockResponse.total = 2;
+        mockResponse.added = 1;
+        mockResponse.notFound = 1;
+
+        when(registerTracksBatchUseCase.registerTracks(eq(request.isrcs), anyString())).thenReturn(result);
+        when(batchRegistrationMapper.toResponse(result)).thenReturn(mockResponse);
+
+        // When
+        RestResponse<BatchRegistrationResponse> response = producerResource.registerBatch(request);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals(2, response.getEntity().total);
+        assertEquals(1, response.getEntity().added);
+        assertEquals(1, response.getEntity().notFound);
+    }
 }
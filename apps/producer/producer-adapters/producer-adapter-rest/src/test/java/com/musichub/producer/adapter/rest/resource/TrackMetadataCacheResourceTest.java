@@ -0,0 +1,70 @@
+package com.musichub.producer.adapter.rest.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.jboss.resteasy.reactive.RestResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.musichub.producer.adapter.rest.exception.GlobalExceptionMapper;
+import com.musichub.producer.adapter.rest.resource.admin.TrackMetadataCacheResource;
+import com.musichub.producer.application.ports.in.InvalidateTrackMetadataCacheUseCase;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrackMetadataCacheResource Unit Tests")
+class TrackMetadataCacheResourceTest {
+
+    @Mock
+    InvalidateTrackMetadataCacheUseCase invalidateTrackMetadataCacheUseCase;
+
+    @InjectMocks
+    TrackMetadataCacheResource trackMetadataCacheResource;
+
+    @Test
+    @DisplayName("Should return 204 when the cached entry is invalidated")
+    void invalidate_returns204_when_entry_cached() {
+        when(invalidateTrackMetadataCacheUseCase.invalidate("GBUM71507409")).thenReturn(true);
+
+        RestResponse<Void> response = trackMetadataCacheResource.invalidate("GBUM71507409");
+
+        assertEquals(204, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should return 404 when nothing is cached for the ISRC")
+    void invalidate_returns404_when_isrc_unknown() {
+        when(invalidateTrackMetadataCacheUseCase.invalidate("FRLA12400001")).thenReturn(false);
+
+        RestResponse<Void> response = trackMetadataCacheResource.invalidate("FRLA12400001");
+
+        assertEquals(404, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for a value that is not an ISRC")
+    void invalidate_returns400_when_isrc_invalid() {
+        when(invalidateTrackMetadataCacheUseCase.invalidate("not-an-isrc"))
+                .thenThrow(new IllegalArgumentException("ISRC value 'not-an-isrc' is invalid"));
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> trackMetadataCacheResource.invalidate("not-an-isrc"));
+
+        assertEquals(400, new GlobalExceptionMapper().mapIllegalArgumentException(thrown).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should return 204 when the whole cache is cleared")
+    void invalidateAll_returns204() {
+        RestResponse<Void> response = trackMetadataCacheResource.invalidateAll();
+
+        assertEquals(204, response.getStatus());
+        verify(invalidateTrackMetadataCacheUseCase).invalidateAll();
+    }
+}
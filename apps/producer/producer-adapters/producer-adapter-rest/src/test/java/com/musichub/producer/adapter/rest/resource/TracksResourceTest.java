@@ -2,13 +2,20 @@ package com.musichub.producer.adapter.rest.resource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,13 +27,22 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.musichub.producer.adapter.rest.dto.response.RecentTrackResponse;
 import com.musichub.producer.adapter.rest.mapper.TrackMapper;
 import com.musichub.producer.adapter.rest.resource.track.TracksResource;
+import com.musichub.producer.adapter.rest.stream.RegisteredTrackBroadcaster;
+import com.musichub.producer.adapter.rest.stream.SseTrackStreamSink;
+import com.musichub.producer.application.dto.TrackCursor;
 import com.musichub.producer.application.dto.TrackInfo;
+import com.musichub.producer.application.dto.TrackPage;
+import com.musichub.producer.application.dto.TracksVersion;
 import com.musichub.producer.application.ports.in.GetRecentTracksUseCase;
 import com.musichub.producer.domain.values.TrackStatus;
 import com.musichub.shared.domain.values.ISRC;
 import com.musichub.shared.domain.values.Source;
 
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("TracksResource REST Adapter Tests")
@@ -38,6 +54,12 @@ class TracksResourceTest {
     @Mock
     private TrackMapper trackMapper;
 
+    @Mock
+    private RegisteredTrackBroadcaster broadcaster;
+
+    @Mock
+    private Request request;
+
     @InjectMocks
     private TracksResource resource;
 
@@ -57,12 +79,12 @@ class TracksResourceTest {
         response2.isrc = "FRLA12400002";
         response2.title = "Track 2";
 
-        when(getRecentTracksUseCase.getRecentTracks()).thenReturn(tracks);
+        when(getRecentTracksUseCase.getRecentTracks(10, null)).thenReturn(TrackPage.last(tracks));
         when(trackMapper.mapToRecentResponse(track1)).thenReturn(response1);
         when(trackMapper.mapToRecentResponse(track2)).thenReturn(response2);
 
         // When
-        Response response = resource.getRecentTracks();
+        Response response = resource.getRecentTracks(null, 10, null, request);
 
         // Then
         assertThat(response.getStatus()).isEqualTo(200);
@@ -79,7 +101,7 @@ class TracksResourceTest {
                 .extracting("isrc")
                 .containsExactly("FRLA12400001", "FRLA12400002");
 
-        verify(getRecentTracksUseCase).getRecentTracks();
+        verify(getRecentTracksUseCase).getRecentTracks(10, null);
         verify(trackMapper).mapToRecentResponse(track1);
         verify(trackMapper).mapToRecentResponse(track2);
     }
@@ -88,10 +110,10 @@ class TracksResourceTest {
     @DisplayName("Should return 200 with empty array when no tracks exist")
     void getRecentTracks_shouldReturn200WithEmptyArray_whenNoTracksExist() {
         // Given
-        when(getRecentTracksUseCase.getRecentTracks()).thenReturn(Collections.emptyList());
+        when(getRecentTracksUseCase.getRecentTracks(10, null)).thenReturn(TrackPage.last(Collections.emptyList()));
 
         // When
-        Response response = resource.getRecentTracks();
+        Response response = resource.getRecentTracks(null, 10, null, request);
 
         // Then
         assertThat(response.getStatus()).isEqualTo(200);
@@ -101,23 +123,23 @@ class TracksResourceTest {
 
         assertThat(responseBody).isEmpty();
 
-        verify(getRecentTracksUseCase).getRecentTracks();
+        verify(getRecentTracksUseCase).getRecentTracks(10, null);
     }
 
     @Test
     @DisplayName("Should handle exceptions from use case")
     void getRecentTracks_handles_exceptions_from_use_case() {
         // Given
-        when(getRecentTracksUseCase.getRecentTracks()).thenThrow(new RuntimeException("Database error"));
+        when(getRecentTracksUseCase.getRecentTracks(10, null)).thenThrow(new RuntimeException("Database error"));
 
         // When & Then - Exception should be thrown (not handled by
         // GlobalExceptionMapper in unit tests)
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            resource.getRecentTracks();
+            resource.getRecentTracks(null, 10, null, request);
         });
         assertThat(exception.getMessage()).isEqualTo("Database error");
 
-        verify(getRecentTracksUseCase).getRecentTracks();
+        verify(getRecentTracksUseCase).getRecentTracks(10, null);
     }
 
     @Test
@@ -139,11 +161,11 @@ class TracksResourceTest {
         sourceInfo.externalId = "FRLA12400001";
         expectedResponse.source = sourceInfo;
 
-        when(getRecentTracksUseCase.getRecentTracks()).thenReturn(tracks);
+        when(getRecentTracksUseCase.getRecentTracks(10, null)).thenReturn(TrackPage.last(tracks));
         when(trackMapper.mapToRecentResponse(trackInfo)).thenReturn(expectedResponse);
 
         // When
-        Response response = resource.getRecentTracks();
+        Response response = resource.getRecentTracks(null, 10, null, request);
 
         // Then
         assertThat(response.getStatus()).isEqualTo(200);
@@ -192,11 +214,11 @@ class TracksResourceTest {
         sourceInfo.externalId = "tidal-123";
         expectedResponse.source = sourceInfo;
 
-        when(getRecentTracksUseCase.getRecentTracks()).thenReturn(List.of(trackInfo));
+        when(getRecentTracksUseCase.getRecentTracks(10, null)).thenReturn(TrackPage.last(List.of(trackInfo)));
         when(trackMapper.mapToRecentResponse(trackInfo)).thenReturn(expectedResponse);
 
         // When
-        Response response = resource.getRecentTracks();
+        Response response = resource.getRecentTracks(null, 10, null, request);
 
         // Then
         @SuppressWarnings("unchecked")
@@ -230,11 +252,11 @@ class TracksResourceTest {
         expectedResponse.title = "Test Track";
         expectedResponse.source = null; // No source
 
-        when(getRecentTracksUseCase.getRecentTracks()).thenReturn(List.of(trackInfo));
+        when(getRecentTracksUseCase.getRecentTracks(10, null)).thenReturn(TrackPage.last(List.of(trackInfo)));
         when(trackMapper.mapToRecentResponse(trackInfo)).thenReturn(expectedResponse);
 
         // When
-        Response response = resource.getRecentTracks();
+        Response response = resource.getRecentTracks(null, 10, null, request);
 
         // Then
         @SuppressWarnings("unchecked")
@@ -266,11 +288,11 @@ class TracksResourceTest {
         expectedResponse.artistNames = List.of("Artist 1", "Artist 2", "Featured Artist");
         expectedResponse.status = "VERIFIED";
 
-        when(getRecentTracksUseCase.getRecentTracks()).thenReturn(List.of(trackInfo));
+        when(getRecentTracksUseCase.getRecentTracks(10, null)).thenReturn(TrackPage.last(List.of(trackInfo)));
         when(trackMapper.mapToRecentResponse(trackInfo)).thenReturn(expectedResponse);
 
         // When
-        Response response = resource.getRecentTracks();
+        Response response = resource.getRecentTracks(null, 10, null, request);
 
         // Then
         @SuppressWarnings("unchecked")
@@ -298,11 +320,11 @@ class TracksResourceTest {
         expectedResponse.status = "PROVISIONAL";
         expectedResponse.submissionDate = trackInfo.submissionDate();
 
-        when(getRecentTracksUseCase.getRecentTracks()).thenReturn(List.of(trackInfo));
+        when(getRecentTracksUseCase.getRecentTracks(10, null)).thenReturn(TrackPage.last(List.of(trackInfo)));
         when(trackMapper.mapToRecentResponse(trackInfo)).thenReturn(expectedResponse);
 
         // When
-        Response response = resource.getRecentTracks();
+        Response response = resource.getRecentTracks(null, 10, null, request);
 
         // Then
         @SuppressWarnings("unchecked")
@@ -319,6 +341,93 @@ class TracksResourceTest {
         assertThat(mappedResponse.submissionDate).isNotNull();
     }
 
+    @Test
+    @DisplayName("Should link to the next page when more tracks exist")
+    void getRecentTracks_shouldLinkNextPage_whenMoreTracksExist() {
+        // Given
+        TrackInfo track = createTrackInfo("FRLA12400001", "Track 1");
+        TrackCursor cursor = new TrackCursor(track.submissionDate(), UUID.randomUUID());
+        when(getRecentTracksUseCase.getRecentTracks(1, "previous")).thenReturn(new TrackPage(List.of(track), cursor));
+        when(trackMapper.mapToRecentResponse(track)).thenReturn(new RecentTrackResponse());
+
+        // When
+        Response response = resource.getRecentTracks("previous", 1, null, request);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getLink("next").getUri().toString())
+                .isEqualTo("/tracks/recent?after=" + cursor.encode() + "&limit=1");
+    }
+
+    @Test
+    @DisplayName("Should not link any page after the last one")
+    void getRecentTracks_shouldNotLinkNextPage_onLastPage() {
+        // Given
+        when(getRecentTracksUseCase.getRecentTracks(10, null)).thenReturn(TrackPage.last(List.of()));
+
+        // When
+        Response response = resource.getRecentTracks(null, 10, null, request);
+
+        // Then
+        assertThat(response.getLink("next")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should let invalid cursors through as bad requests")
+    void getRecentTracks_shouldRethrowIllegalArgument_whenCursorIsInvalid() {
+        // Given
+        when(getRecentTracksUseCase.getRecentTracks(10, "garbage"))
+                .thenThrow(new IllegalArgumentException("Invalid cursor: garbage"));
+
+        // When & Then - mapped to 400 by GlobalExceptionMapper
+        assertThrows(IllegalArgumentException.class, () -> resource.getRecentTracks("garbage", 10, null, request));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without loading tracks when the client's ETag is current")
+    void getRecentTracks_shouldReturn304_whenETagMatches() {
+        // Given
+        TracksVersion version = new TracksVersion(LocalDateTime.of(2025, 1, 1, 12, 0), "abc-1");
+        when(getRecentTracksUseCase.getRecentTracksVersion(10, null)).thenReturn(Optional.of(version));
+        when(request.evaluatePreconditions(new EntityTag("abc-1"))).thenReturn(Response.notModified());
+
+        // When
+        Response response = resource.getRecentTracks(null, 10, "\"abc-1\"", request);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getEntityTag()).isEqualTo(new EntityTag("abc-1"));
+        verify(getRecentTracksUseCase, never()).getRecentTracks(10, null);
+        verifyNoInteractions(trackMapper);
+    }
+
+    @Test
+    @DisplayName("Should return the tracks with their ETag and Last-Modified when the client's copy is stale")
+    void getRecentTracks_shouldReturnVersionHeaders_whenModified() {
+        // Given
+        TracksVersion version = new TracksVersion(LocalDateTime.of(2025, 1, 1, 12, 0, 0, 500_000_000), "abc-2");
+        when(getRecentTracksUseCase.getRecentTracksVersion(10, null)).thenReturn(Optional.of(version));
+        when(getRecentTracksUseCase.getRecentTracks(10, null)).thenReturn(TrackPage.last(List.of()));
+
+        // When
+        Response response = resource.getRecentTracks(null, 10, "\"abc-1\"", request);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getEntityTag()).isEqualTo(new EntityTag("abc-2"));
+        assertThat(response.getLastModified().getTime() % 1000).as("HTTP dates have a one second resolution").isZero();
+    }
+
+    @Test
+    @DisplayName("Should subscribe the event stream resuming from the Last-Event-ID")
+    void streamRegisteredTracks_shouldResumeFromLastEventId() {
+        // When
+        resource.streamRegisteredTracks("k3x9-7", mock(SseEventSink.class), mock(Sse.class));
+
+        // Then
+        verify(broadcaster).subscribe(any(SseTrackStreamSink.class), eq("k3x9-7"));
+    }
+
     private TrackInfo createTrackInfo(String isrcValue, String title) {
         return new TrackInfo(
                 ISRC.of(isrcValue),
@@ -0,0 +1,299 @@
+package com.musichub.producer.adapter.rest.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.musichub.producer.adapter.rest.mapper.TrackMapper;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.events.ArtistCreditInfo;
+import com.musichub.shared.events.SourceInfo;
+import com.musichub.shared.events.TrackWasRegistered;
+
+import jakarta.json.bind.Jsonb;
+
+@DisplayName("RegisteredTrackBroadcaster Tests")
+class RegisteredTrackBroadcasterTest {
+
+    private static final int BUFFER_SIZE = 3;
+    private static final int HISTORY_SIZE = 5;
+
+    private Jsonb jsonb;
+    private RegisteredTrackBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        jsonb = mock(Jsonb.class);
+        broadcaster = new RegisteredTrackBroadcaster(mock(TrackMapper.class), jsonb, BUFFER_SIZE, HISTORY_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should send every track to every subscriber, in order")
+    void shouldFanOutToAllSubscribers() {
+        RecordingSink first = RecordingSink.fast();
+        RecordingSink second = RecordingSink.fast();
+        broadcaster.subscribe(first, null);
+        broadcaster.subscribe(second, null);
+
+        broadcaster.publish("a");
+        broadcaster.publish("b");
+
+        assertThat(first.payloads()).containsExactly("a", "b");
+        assertThat(second.payloads()).containsExactly("a", "b");
+        assertThat(first.sequences()).containsExactly(1L, 2L);
+        assertThat(first.sent.get(0).eventId()).isEqualTo(second.sent.get(0).eventId()).endsWith("-1");
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber whose buffer is full without holding back the others")
+    void shouldEvictSlowSubscriber() {
+        RecordingSink slow = RecordingSink.stalled();
+        RecordingSink fast = RecordingSink.fast();
+        broadcaster.subscribe(slow, null);
+        broadcaster.subscribe(fast, null);
+
+        // One track in flight plus BUFFER_SIZE pending, then one too many
+        for (int i = 0; i < BUFFER_SIZE + 2; i++) {
+            broadcaster.publish("track-" + i);
+        }
+
+        assertThat(slow.closed).isTrue();
+        assertThat(fast.payloads()).hasSize(BUFFER_SIZE + 2);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drain pending tracks as sends complete")
+    void shouldDrainBufferAsSendsComplete() {
+        RecordingSink sink = RecordingSink.stalled();
+        broadcaster.subscribe(sink, null);
+        broadcaster.publish("a");
+        broadcaster.publish("b");
+        assertThat(sink.payloads()).containsExactly("a");
+
+        sink.completeAll();
+
+        assertThat(sink.payloads()).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("Should replay the tracks published after the Last-Event-ID")
+    void shouldResumeFromLastEventId() {
+        RecordingSink live = RecordingSink.fast();
+        broadcaster.subscribe(live, null);
+        broadcaster.publish("a");
+        broadcaster.publish("b");
+        broadcaster.publish("c");
+
+        RecordingSink resumed = RecordingSink.fast();
+        broadcaster.subscribe(resumed, live.sent.get(0).eventId());
+        broadcaster.publish("d");
+
+        assertThat(resumed.payloads()).containsExactly("b", "c", "d");
+    }
+
+    @Test
+    @DisplayName("Should replay only what fits in the buffer when the client missed more")
+    void shouldReplayMostRecentTracksWhenGapIsLarge() {
+        RecordingSink live = RecordingSink.fast();
+        broadcaster.subscribe(live, null);
+        for (int i = 1; i <= HISTORY_SIZE + 2; i++) {
+            broadcaster.publish("track-" + i);
+        }
+
+        RecordingSink resumed = RecordingSink.fast();
+        broadcaster.subscribe(resumed, live.sent.get(0).eventId());
+
+        assertThat(resumed.payloads()).containsExactly("track-5", "track-6", "track-7");
+    }
+
+    @Test
+    @DisplayName("Should replay every kept track for an id issued before a restart or by another instance")
+    void shouldReplayKeptTracksForIdOfAnotherEpoch() {
+        RegisteredTrackBroadcaster previous =
+                new RegisteredTrackBroadcaster(mock(TrackMapper.class), jsonb, BUFFER_SIZE, HISTORY_SIZE);
+        RecordingSink before = RecordingSink.fast();
+        previous.subscribe(before, null);
+        previous.publish("old");
+        broadcaster.publish("a");
+        broadcaster.publish("b");
+
+        RecordingSink resumed = RecordingSink.fast();
+        broadcaster.subscribe(resumed, before.sent.get(0).eventId());
+
+        assertThat(before.sent.get(0).sequence()).isEqualTo(1L);
+        assertThat(resumed.payloads()).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("Should replay every kept track for an id that is not one of ours")
+    void shouldReplayKeptTracksForUnknownId() {
+        broadcaster.publish("a");
+
+        RecordingSink resumed = RecordingSink.fast();
+        broadcaster.subscribe(resumed, "42");
+
+        assertThat(resumed.payloads()).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("Should stream live tracks only without a Last-Event-ID")
+    void shouldStreamLiveTracksForBlankId() {
+        broadcaster.publish("a");
+
+        RecordingSink sink = RecordingSink.fast();
+        broadcaster.subscribe(sink, " ");
+        broadcaster.publish("b");
+
+        assertThat(sink.payloads()).containsExactly("b");
+    }
+
+    @Test
+    @DisplayName("Should send tracks without holding the broadcaster lock")
+    void shouldSendOutsideTheLock() {
+        List<Integer> subscriberCounts = new ArrayList<>();
+        broadcaster.subscribe(new TrackStreamSink() {
+            @Override
+            public CompletionStage<?> send(StreamedTrack track) {
+                // Blocks until the timeout if the publishing thread still holds the lock
+                subscriberCounts.add(CompletableFuture.supplyAsync(broadcaster::subscriberCount)
+                        .orTimeout(5, TimeUnit.SECONDS)
+                        .join());
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public boolean isClosed() {
+                return false;
+            }
+
+            @Override
+            public void close() {
+            }
+        }, null);
+
+        broadcaster.publish("a");
+
+        assertThat(subscriberCounts).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Should drop subscribers whose connection is closed")
+    void shouldDropClosedSubscribers() {
+        RecordingSink sink = RecordingSink.fast();
+        broadcaster.subscribe(sink, null);
+        sink.close();
+
+        broadcaster.publish("a");
+
+        assertThat(sink.payloads()).isEmpty();
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber whose send fails")
+    void shouldCloseSubscriberOnSendFailure() {
+        RecordingSink sink = RecordingSink.stalled();
+        broadcaster.subscribe(sink, null);
+        broadcaster.publish("a");
+
+        sink.failAll();
+        broadcaster.publish("b");
+
+        assertThat(sink.closed).isTrue();
+        assertThat(sink.payloads()).containsExactly("a");
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stream a redelivered track only once")
+    void shouldSkipRedeliveredTrack() {
+        when(jsonb.toJson(any())).thenReturn("track");
+        RecordingSink sink = RecordingSink.fast();
+        broadcaster.subscribe(sink, null);
+        TrackWasRegistered event = new TrackWasRegistered(ISRC.of("FRLA12400001"), "Track 1", UUID.randomUUID(),
+                List.of(ArtistCreditInfo.withName("Artist Name")), List.of(new SourceInfo("TIDAL", "123")));
+
+        broadcaster.onTrackRegistered(event);
+        broadcaster.onTrackRegistered(event);
+
+        assertThat(sink.payloads()).containsExactly("track");
+    }
+
+    /**
+     * Sink recording what it is sent; sends either complete at once or wait
+     * for the test to complete them.
+     */
+    private static final class RecordingSink implements TrackStreamSink {
+
+        private final boolean completeImmediately;
+        private final List<StreamedTrack> sent = new ArrayList<>();
+        private final List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        private boolean closed;
+
+        private RecordingSink(boolean completeImmediately) {
+            this.completeImmediately = completeImmediately;
+        }
+
+        static RecordingSink fast() {
+            return new RecordingSink(true);
+        }
+
+        static RecordingSink stalled() {
+            return new RecordingSink(false);
+        }
+
+        @Override
+        public CompletionStage<?> send(StreamedTrack track) {
+            sent.add(track);
+            if (completeImmediately) {
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            inFlight.add(future);
+            return future;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        void completeAll() {
+            // Completing a send may trigger the next one, which adds to inFlight
+            while (!inFlight.isEmpty()) {
+                inFlight.remove(0).complete(null);
+            }
+        }
+
+        void failAll() {
+            new ArrayList<>(inFlight).forEach(future -> future.completeExceptionally(new IllegalStateException("gone")));
+            inFlight.clear();
+        }
+
+        List<String> payloads() {
+            return sent.stream().map(StreamedTrack::json).toList();
+        }
+
+        List<Long> sequences() {
+            return sent.stream().map(StreamedTrack::sequence).toList();
+        }
+    }
+}
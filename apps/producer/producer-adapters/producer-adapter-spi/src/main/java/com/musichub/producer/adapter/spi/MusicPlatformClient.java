@@ -1,9 +1,11 @@
 package com.musichub.producer.adapter.spi;
 
 import org.eclipse.microprofile.rest.client.annotation.RegisterClientHeaders;
+import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 
 import com.musichub.shared.adapter.spi.auth.TidalClientHeadersFactory;
+import com.musichub.shared.adapter.spi.ratelimit.TidalRateLimitResponseFilter;
 import com.musichub.producer.adapter.spi.dto.tidal.TidalTracksResponse;
 
 import jakarta.ws.rs.GET;
@@ -28,6 +30,9 @@ import jakarta.ws.rs.QueryParam;
  * - Accept: application/vnd.api+json
  * - X-Tidal-Client-ID header (if configured)
  * 
+ * Rate-limit headers of every response are fed to the shared TidalRateLimiter
+ * by TidalRateLimitResponseFilter.
+ * 
  * Configuration properties:
  * - quarkus.rest-client.music-platform-client.url (should point to Tidal
  * OpenAPI)
@@ -37,6 +42,7 @@ import jakarta.ws.rs.QueryParam;
  */
 @RegisterRestClient(configKey = "music-platform-client")
 @RegisterClientHeaders(TidalClientHeadersFactory.class)
+@RegisterProvider(TidalRateLimitResponseFilter.class)
 @Path("/tracks")
 public interface MusicPlatformClient {
 
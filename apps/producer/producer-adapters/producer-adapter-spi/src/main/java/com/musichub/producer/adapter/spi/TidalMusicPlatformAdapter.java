@@ -2,12 +2,17 @@ package com.musichub.producer.adapter.spi;
 
 import com.musichub.producer.adapter.spi.dto.TrackMetadataDto;
 import com.musichub.producer.adapter.spi.exception.TrackNotFoundInExternalServiceException;
+import com.musichub.producer.adapter.spi.hedging.MusicPlatformAdapter;
 import com.musichub.producer.application.dto.ArtistCreditDto;
 import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.producer.application.exception.ExternalServiceBackPressureException;
 import com.musichub.producer.application.exception.ExternalServiceException;
-import com.musichub.producer.application.ports.out.MusicPlatformPort;
+import com.musichub.producer.application.exception.TrackNotFoundException;
+import com.musichub.shared.adapter.spi.ratelimit.TidalBackPressureException;
+import com.musichub.shared.domain.values.SourceType;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.WebApplicationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,9 +27,11 @@ import java.util.stream.Collectors;
  * - The application layer defines the port (interface)
  * - The adapter layer provides the implementation
  * - External dependencies are injected and isolated
+ *
+ * Tidal is one of the platforms that HedgingMusicPlatformPort queries.
  */
 @ApplicationScoped
-public class TidalMusicPlatformAdapter implements MusicPlatformPort {
+public class TidalMusicPlatformAdapter implements MusicPlatformAdapter {
 
     private static final Logger logger = LoggerFactory.getLogger(TidalMusicPlatformAdapter.class);
 
@@ -35,6 +42,11 @@ public class TidalMusicPlatformAdapter implements MusicPlatformPort {
         this.tidalService = tidalService;
     }
 
+    @Override
+    public SourceType sourceType() {
+        return SourceType.TIDAL;
+    }
+
     @Override
     public ExternalTrackMetadata getTrackByIsrc(String isrc) {
         logger.debug("Adapter: fetching track metadata for ISRC: {}", isrc);
@@ -53,10 +65,17 @@ public class TidalMusicPlatformAdapter implements MusicPlatformPort {
             logger.error("Adapter: Tidal service failed to find track for ISRC: {} - {}", isrc, e.getMessage());
             
             // Convert SPI exception to application exception
-            throw new ExternalServiceException(
-                "Track not found in Tidal service: " + e.getMessage(),
+            String message = "Track not found in Tidal service: " + e.getMessage();
+            if (isDefinitelyNotFound(e)) {
+                throw new TrackNotFoundException(message, isrc, "tidal", e);
+            }
+            throw new ExternalServiceException(message, isrc, "tidal", e);
+        } catch (TidalBackPressureException e) {
+            throw new ExternalServiceBackPressureException(
+                "Tidal rate limit reached for ISRC: " + isrc,
                 isrc,
                 "tidal",
+                e.getRetryAfter(),
                 e
             );
         } catch (Exception e) {
@@ -71,6 +90,20 @@ public class TidalMusicPlatformAdapter implements MusicPlatformPort {
         }
     }
 
+    /**
+     * A lookup is a definitive "not found" when Tidal answered with no matching data
+     * (no cause) or with HTTP 404; anything else is treated as a service failure.
+     */
+    private static boolean isDefinitelyNotFound(TrackNotFoundInExternalServiceException e) {
+        Throwable cause = e.getCause();
+        if (cause == null) {
+            return true;
+        }
+        return cause instanceof WebApplicationException wae
+            && wae.getResponse() != null
+            && wae.getResponse().getStatus() == 404;
+    }
+
     /**
      * Maps Tidal-specific DTO to the generic application DTO.
      * This isolates the application layer from the specific external API structure.
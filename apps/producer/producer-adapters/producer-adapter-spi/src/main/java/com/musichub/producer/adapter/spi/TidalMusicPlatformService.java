@@ -4,6 +4,9 @@ import com.musichub.producer.adapter.spi.dto.TrackMetadataDto;
 import com.musichub.producer.adapter.spi.dto.tidal.TidalTracksResponse;
 import com.musichub.producer.adapter.spi.mapper.TidalResponseMapper;
 import com.musichub.producer.adapter.spi.exception.TrackNotFoundInExternalServiceException;
+import com.musichub.shared.adapter.spi.ratelimit.TidalBackPressureException;
+import com.musichub.shared.adapter.spi.ratelimit.TidalRateLimiter;
+import com.musichub.shared.adapter.spi.ratelimit.TidalRequestPriority;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
@@ -36,6 +39,9 @@ public class TidalMusicPlatformService {
     @Inject
     TidalResponseMapper responseMapper;
 
+    @Inject
+    TidalRateLimiter rateLimiter;
+
     @ConfigProperty(name = "tidal.default-country-code", defaultValue = "US")
     String defaultCountryCode;
 
@@ -52,12 +58,14 @@ public class TidalMusicPlatformService {
         logger.debug("Searching for track with ISRC: {}", isrc);
         
         try {
-            // Call Tidal API with proper parameters
-            TidalTracksResponse tidalResponse = musicPlatformClient.getTracksByIsrc(
-                isrc,
-                "artists", // Include artists to get artist names
-                defaultCountryCode
-            );
+            // Call Tidal API with proper parameters, under the shared Tidal rate limit.
+            // Registration is interactive: it is served before background enrichment calls.
+            TidalTracksResponse tidalResponse = rateLimiter.execute(TidalRequestPriority.INTERACTIVE,
+                () -> musicPlatformClient.getTracksByIsrc(
+                    isrc,
+                    "artists", // Include artists to get artist names
+                    defaultCountryCode
+                ));
 
             logger.debug("Received response from Tidal for ISRC: {}, found {} tracks", 
                         isrc, tidalResponse.hasData() ? tidalResponse.data.size() : 0);
@@ -82,6 +90,11 @@ public class TidalMusicPlatformService {
             
             throw new TrackNotFoundInExternalServiceException(errorMessage, isrc, "tidal", e);
             
+        } catch (TidalBackPressureException e) {
+            // Not a lookup failure: capacity is exhausted, let the caller retry later
+            logger.warn("Tidal rate limit saturated for ISRC: {} - retry after {}", isrc, e.getRetryAfter());
+            throw e;
+
         } catch (TrackNotFoundInExternalServiceException e) {
             // Re-throw our domain exceptions
             logger.warn("Track not found in Tidal for ISRC: {} - {}", isrc, e.getMessage());
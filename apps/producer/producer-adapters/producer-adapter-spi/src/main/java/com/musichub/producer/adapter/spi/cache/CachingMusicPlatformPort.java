@@ -0,0 +1,66 @@
+package com.musichub.producer.adapter.spi.cache;
+
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.producer.application.exception.TrackNotFoundException;
+import com.musichub.producer.application.ports.out.MusicPlatformPort;
+
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.inject.Inject;
+
+/**
+ * Decorates {@link MusicPlatformPort} with {@link TrackMetadataCache}.
+ * <p>
+ * Found metadata and definitive "not found" answers are cached; any other
+ * failure is propagated untouched so a transient platform error is retried on
+ * the next call.
+ */
+@Decorator
+@Priority(CachingMusicPlatformPort.PRIORITY)
+public class CachingMusicPlatformPort implements MusicPlatformPort {
+
+    /** Outermost decorator: a cache hit must short-circuit every other layer. */
+    static final int PRIORITY = 100;
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingMusicPlatformPort.class);
+
+    private final MusicPlatformPort delegate;
+    private final TrackMetadataCache cache;
+
+    @Inject
+    public CachingMusicPlatformPort(@Delegate MusicPlatformPort delegate, TrackMetadataCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public ExternalTrackMetadata getTrackByIsrc(String isrc) {
+        Optional<TrackMetadataCache.CachedLookup> cached = cache.get(isrc);
+        if (cached.isPresent()) {
+            TrackMetadataCache.CachedLookup lookup = cached.get();
+            if (lookup.isNotFound()) {
+                logger.debug("Negative cache hit for ISRC: {}", isrc);
+                throw new TrackNotFoundException(lookup.notFoundMessage(), isrc, lookup.service());
+            }
+            logger.debug("Cache hit for ISRC: {}", isrc);
+            return lookup.metadata();
+        }
+
+        try {
+            ExternalTrackMetadata metadata = delegate.getTrackByIsrc(isrc);
+            if (metadata != null) {
+                cache.putFound(isrc, metadata);
+            }
+            return metadata;
+        } catch (TrackNotFoundException e) {
+            cache.putNotFound(isrc, e.getMessage(), e.getService());
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.musichub.producer.adapter.spi.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.producer.application.ports.out.TrackMetadataCachePort;
+import com.musichub.shared.domain.values.IsrcCodec;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Bounded, TTL-based cache of external track metadata keyed by packed ISRC
+ * ({@link IsrcCodec}), so differently formatted ISRCs share one entry and keys
+ * hold no strings. Input that is not an ISRC is never cached.
+ * <p>
+ * Found tracks are kept for {@code producer.metadata-cache.ttl}; ISRCs the
+ * platform does not know are kept as negative entries for the much shorter
+ * {@code producer.metadata-cache.negative-ttl}. Hits, misses, evictions and
+ * size are published through Micrometer under the {@code track-metadata} cache
+ * name.
+ */
+@ApplicationScoped
+public class TrackMetadataCache implements TrackMetadataCachePort {
+
+    static final String CACHE_NAME = "track-metadata";
+
+    private final Cache<Long, CachedLookup> cache;
+
+    @Inject
+    public TrackMetadataCache(
+            @ConfigProperty(name = "producer.metadata-cache.ttl", defaultValue = "PT1H") Duration ttl,
+            @ConfigProperty(name = "producer.metadata-cache.negative-ttl", defaultValue = "PT2M") Duration negativeTtl,
+            @ConfigProperty(name = "producer.metadata-cache.max-size", defaultValue = "10000") long maxSize,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new LookupExpiry(ttl, negativeTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @return the cached lookup for the ISRC, if present and not expired
+     */
+    public Optional<CachedLookup> get(String isrc) {
+        long key = keyOf(isrc);
+        return key == IsrcCodec.INVALID ? Optional.empty() : Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    public void putFound(String isrc, ExternalTrackMetadata metadata) {
+        put(isrc, CachedLookup.found(metadata));
+    }
+
+    public void putNotFound(String isrc, String message, String service) {
+        put(isrc, CachedLookup.notFound(message, service));
+    }
+
+    private void put(String isrc, CachedLookup lookup) {
+        long key = keyOf(isrc);
+        if (key != IsrcCodec.INVALID) {
+            cache.put(key, lookup);
+        }
+    }
+
+    @Override
+    public boolean invalidate(String isrc) {
+        long key = keyOf(isrc);
+        return key != IsrcCodec.INVALID && cache.asMap().remove(key) != null;
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    static long keyOf(String isrc) {
+        return isrc == null ? IsrcCodec.INVALID : IsrcCodec.tryEncodeLenient(isrc);
+    }
+
+    /**
+     * Result of a metadata lookup: either the metadata, or a remembered "not found".
+     */
+    public record CachedLookup(ExternalTrackMetadata metadata, String notFoundMessage, String service) {
+
+        static CachedLookup found(ExternalTrackMetadata metadata) {
+            return new CachedLookup(metadata, null, null);
+        }
+
+        static CachedLookup notFound(String message, String service) {
+            return new CachedLookup(null, message, service);
+        }
+
+        public boolean isNotFound() {
+            return metadata == null;
+        }
+    }
+
+    private record LookupExpiry(Duration ttl, Duration negativeTtl) implements Expiry<Long, CachedLookup> {
+
+        private long ttlOf(CachedLookup lookup) {
+            return (lookup.isNotFound() ? negativeTtl : ttl).toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Long key, CachedLookup value, long currentTime) {
+            return ttlOf(value);
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, CachedLookup value, long currentTime, long currentDuration) {
+            return ttlOf(value);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, CachedLookup value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
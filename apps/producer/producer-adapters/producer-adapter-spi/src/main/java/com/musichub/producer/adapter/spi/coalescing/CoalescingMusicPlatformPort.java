@@ -0,0 +1,65 @@
+package com.musichub.producer.adapter.spi.coalescing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.producer.application.ports.out.MusicPlatformPort;
+import com.musichub.shared.domain.values.IsrcCodec;
+import com.musichub.shared.util.concurrent.SingleFlight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.inject.Inject;
+
+/**
+ * Decorates {@link MusicPlatformPort} so that concurrent lookups of the same
+ * ISRC, keyed by its packed form ({@link IsrcCodec}), share one outstanding
+ * upstream call, and its result or failure. Input that is not an ISRC is
+ * passed straight through.
+ * <p>
+ * Sits inside the metadata cache: a cache miss racing with other misses for
+ * the same ISRC still produces a single Tidal request. Every caller that joined
+ * an in-flight call increments {@code producer.platform.lookups.coalesced}.
+ */
+@Decorator
+@Priority(CoalescingMusicPlatformPort.PRIORITY)
+public class CoalescingMusicPlatformPort implements MusicPlatformPort {
+
+    /** Called after the cache decorator (lower priority values run first). */
+    static final int PRIORITY = 200;
+
+    static final String COALESCED_COUNTER = "producer.platform.lookups.coalesced";
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingMusicPlatformPort.class);
+
+    private final MusicPlatformPort delegate;
+    private final SingleFlight<Long, ExternalTrackMetadata> singleFlight = new SingleFlight<>();
+    private final Counter coalescedCalls;
+
+    @Inject
+    public CoalescingMusicPlatformPort(@Delegate MusicPlatformPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.coalescedCalls = Counter.builder(COALESCED_COUNTER)
+                .description("Track lookups served by joining an identical in-flight upstream call")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ExternalTrackMetadata getTrackByIsrc(String isrc) {
+        long key = isrc == null ? IsrcCodec.INVALID : IsrcCodec.tryEncodeLenient(isrc);
+        if (key == IsrcCodec.INVALID) {
+            return delegate.getTrackByIsrc(isrc);
+        }
+        SingleFlight.Result<ExternalTrackMetadata> result =
+                singleFlight.executeTracked(key, () -> delegate.getTrackByIsrc(isrc));
+        if (result.shared()) {
+            coalescedCalls.increment();
+            logger.debug("Coalesced lookup for ISRC: {} with an in-flight call", isrc);
+        }
+        return result.value();
+    }
+}
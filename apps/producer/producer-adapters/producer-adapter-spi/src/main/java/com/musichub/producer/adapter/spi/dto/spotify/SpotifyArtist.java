@@ -0,0 +1,26 @@
+package com.musichub.producer.adapter.spi.dto.spotify;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+/**
+ * Artist credited on a Spotify track (SimplifiedArtistObject in the Spotify OpenAPI spec).
+ */
+public class SpotifyArtist {
+
+    /**
+     * Spotify artist identifier (base-62, not a UUID)
+     */
+    @JsonbProperty("id")
+    public String id;
+
+    @JsonbProperty("name")
+    public String name;
+
+    public SpotifyArtist() {
+    }
+
+    public SpotifyArtist(String id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+}
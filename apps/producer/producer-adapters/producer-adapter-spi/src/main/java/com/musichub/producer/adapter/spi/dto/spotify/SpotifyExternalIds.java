@@ -0,0 +1,19 @@
+package com.musichub.producer.adapter.spi.dto.spotify;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+/**
+ * External identifiers of a Spotify track (ExternalIdObject in the Spotify OpenAPI spec).
+ */
+public class SpotifyExternalIds {
+
+    @JsonbProperty("isrc")
+    public String isrc;
+
+    public SpotifyExternalIds() {
+    }
+
+    public SpotifyExternalIds(String isrc) {
+        this.isrc = isrc;
+    }
+}
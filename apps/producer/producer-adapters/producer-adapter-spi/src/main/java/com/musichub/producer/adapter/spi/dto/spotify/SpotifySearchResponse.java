@@ -0,0 +1,32 @@
+package com.musichub.producer.adapter.spi.dto.spotify;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+/**
+ * Response of the Spotify search endpoint (GET /search) for type=track.
+ */
+public class SpotifySearchResponse {
+
+    /**
+     * Page of matching tracks
+     */
+    @JsonbProperty("tracks")
+    public SpotifyTrackPage tracks;
+
+    public SpotifySearchResponse() {
+    }
+
+    public SpotifySearchResponse(SpotifyTrackPage tracks) {
+        this.tracks = tracks;
+    }
+
+    /**
+     * Get the best match, or null when nothing matched
+     */
+    public SpotifyTrack getFirstTrack() {
+        if (tracks == null || tracks.items == null || tracks.items.isEmpty()) {
+            return null;
+        }
+        return tracks.items.get(0);
+    }
+}
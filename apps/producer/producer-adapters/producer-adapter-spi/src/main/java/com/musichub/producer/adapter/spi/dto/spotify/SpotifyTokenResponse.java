@@ -0,0 +1,33 @@
+package com.musichub.producer.adapter.spi.dto.spotify;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+/**
+ * Response of the Spotify client credentials token request (POST /api/token).
+ */
+public class SpotifyTokenResponse {
+
+    @JsonbProperty("access_token")
+    public String accessToken;
+
+    /**
+     * Token lifetime in seconds
+     */
+    @JsonbProperty("expires_in")
+    public Long expiresIn;
+
+    public SpotifyTokenResponse() {
+    }
+
+    public SpotifyTokenResponse(String accessToken, Long expiresIn) {
+        this.accessToken = accessToken;
+        this.expiresIn = expiresIn;
+    }
+
+    /**
+     * Check if the token response is valid
+     */
+    public boolean isValid() {
+        return accessToken != null && !accessToken.isBlank();
+    }
+}
@@ -0,0 +1,53 @@
+package com.musichub.producer.adapter.spi.dto.spotify;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+import java.util.List;
+
+/**
+ * Spotify track (TrackObject in the Spotify OpenAPI spec). Only the fields
+ * used for registration are mapped.
+ */
+public class SpotifyTrack {
+
+    /**
+     * Spotify track identifier
+     */
+    @JsonbProperty("id")
+    public String id;
+
+    /**
+     * Track title
+     */
+    @JsonbProperty("name")
+    public String name;
+
+    /**
+     * Credited artists, main artist first
+     */
+    @JsonbProperty("artists")
+    public List<SpotifyArtist> artists;
+
+    /**
+     * Known external identifiers, among them the ISRC
+     */
+    @JsonbProperty("external_ids")
+    public SpotifyExternalIds externalIds;
+
+    public SpotifyTrack() {
+    }
+
+    public SpotifyTrack(String id, String name, List<SpotifyArtist> artists, String isrc) {
+        this.id = id;
+        this.name = name;
+        this.artists = artists;
+        this.externalIds = new SpotifyExternalIds(isrc);
+    }
+
+    /**
+     * @return the ISRC of the track, or null when Spotify did not send one
+     */
+    public String isrc() {
+        return externalIds != null ? externalIds.isrc : null;
+    }
+}
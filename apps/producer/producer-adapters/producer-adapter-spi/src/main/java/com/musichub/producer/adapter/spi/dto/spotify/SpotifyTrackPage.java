@@ -0,0 +1,28 @@
+package com.musichub.producer.adapter.spi.dto.spotify;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+import java.util.List;
+
+/**
+ * Paging object of Spotify tracks (PagingTrackObject in the Spotify OpenAPI spec).
+ */
+public class SpotifyTrackPage {
+
+    @JsonbProperty("items")
+    public List<SpotifyTrack> items;
+
+    /**
+     * Total number of matches
+     */
+    @JsonbProperty("total")
+    public Integer total;
+
+    public SpotifyTrackPage() {
+    }
+
+    public SpotifyTrackPage(List<SpotifyTrack> items) {
+        this.items = items;
+        this.total = items != null ? items.size() : 0;
+    }
+}
@@ -0,0 +1,357 @@
+package com.musichub.producer.adapter.spi.hedging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.producer.application.exception.ExternalServiceException;
+import com.musichub.producer.application.exception.TrackNotFoundException;
+import com.musichub.producer.application.ports.out.MusicPlatformPort;
+import com.musichub.producer.domain.values.ProducerSourcePriority;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.quarkus.arc.All;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * {@link MusicPlatformPort} over every enabled {@link MusicPlatformAdapter},
+ * sending hedged requests so that one slow platform does not stall track
+ * registration.
+ * <p>
+ * Platforms are tried in {@link ProducerSourcePriority} order. The primary is
+ * queried first; when it has not answered within its own p95 latency, or as
+ * soon as it fails or does not know the track, the next platform is queried
+ * too, and so on. When a platform finds the track while a higher priority
+ * one is still running, the latter gets {@code producer.platforms.hedging.priority-grace}
+ * more to answer; then the highest {@link ProducerSourcePriority} platform
+ * that found the track wins and the calls still running are cancelled. Past
+ * the grace, a lower priority answer is kept: trading the priority of the
+ * stored metadata for latency is the point of hedging, and the grace bounds
+ * how often that happens to a primary that is only a little late. The lookup
+ * fails with {@link TrackNotFoundException} only when every platform answered
+ * "not found", otherwise with the failure of the highest priority platform.
+ * <p>
+ * Each platform's latency is recorded in {@code producer.platform.latency}
+ * (tag {@code platform}), published as a histogram. A cancelled call records
+ * how long it had been running, a lower bound of its latency: leaving it out
+ * would drop the slowest calls, drag the p95 down, and hedge ever more. The
+ * p95, over the decaying window of the histogram, is the hedging delay,
+ * bounded by {@code producer.platforms.hedging.min-delay} and
+ * {@code max-delay}; the maximum applies until the platform has answered
+ * {@value #MIN_SAMPLES} times, and whenever no call is left in the window.
+ * Hedged requests are counted in {@code producer.platform.hedged} (tag
+ * {@code reason}: slow or failed). With a single enabled platform, calls go
+ * straight to it.
+ */
+@ApplicationScoped
+public class HedgingMusicPlatformPort implements MusicPlatformPort {
+
+    static final String LATENCY_TIMER = "producer.platform.latency";
+    static final String HEDGED_COUNTER = "producer.platform.hedged";
+
+    /** Below this many recorded calls the p95 is not trusted. */
+    static final int MIN_SAMPLES = 20;
+
+    private static final Logger logger = LoggerFactory.getLogger(HedgingMusicPlatformPort.class);
+
+    private final List<Platform> platforms;
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final Duration priorityGrace;
+    private final ExecutorService executor;
+    private final Counter hedgedSlow;
+    private final Counter hedgedFailed;
+
+    @Inject
+    public HedgingMusicPlatformPort(
+            @All List<MusicPlatformAdapter> adapters,
+            @ConfigProperty(name = "producer.platforms.hedging.min-delay", defaultValue = "PT0.05S") Duration minDelay,
+            @ConfigProperty(name = "producer.platforms.hedging.max-delay", defaultValue = "PT2S") Duration maxDelay,
+            @ConfigProperty(name = "producer.platforms.hedging.priority-grace", defaultValue = "PT0.1S") Duration priorityGrace,
+            MeterRegistry meterRegistry) {
+        if (minDelay.isNegative() || maxDelay.compareTo(minDelay) < 0) {
+            throw new IllegalArgumentException("producer.platforms.hedging delays must satisfy 0 <= min-delay <= max-delay, got: "
+                    + minDelay + " and " + maxDelay);
+        }
+        if (priorityGrace.isNegative()) {
+            throw new IllegalArgumentException("producer.platforms.hedging.priority-grace must not be negative, got: "
+                    + priorityGrace);
+        }
+        this.platforms = adapters.stream()
+                .filter(MusicPlatformAdapter::isEnabled)
+                .sorted(Comparator.comparingInt(HedgingMusicPlatformPort::priorityOf))
+                .map(adapter -> Platform.of(adapter, meterRegistry))
+                .toList();
+        if (platforms.isEmpty()) {
+            throw new IllegalStateException("No music platform enabled");
+        }
+        this.minDelay = minDelay;
+        this.maxDelay = maxDelay;
+        this.priorityGrace = priorityGrace;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("platform-lookup-", 0).factory());
+        this.hedgedSlow = hedgedCounter(meterRegistry, "slow");
+        this.hedgedFailed = hedgedCounter(meterRegistry, "failed");
+        logger.info("Music platforms in priority order: {}", platforms.stream().map(Platform::name).toList());
+    }
+
+    private static int priorityOf(MusicPlatformAdapter adapter) {
+        ProducerSourcePriority priority = ProducerSourcePriority.fromSourceType(adapter.sourceType());
+        return priority != null ? priority.getPriorityValue() : Integer.MAX_VALUE;
+    }
+
+    private static Counter hedgedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(HEDGED_COUNTER)
+                .description("Track lookups sent to a further platform because the previous one was slow or failed")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public ExternalTrackMetadata getTrackByIsrc(String isrc) {
+        if (platforms.size() == 1) {
+            return platforms.get(0).lookup(isrc, null);
+        }
+
+        List<Call> calls = new ArrayList<>(platforms.size());
+        long graceDeadline = 0;
+        boolean graceStarted = false;
+        try {
+            calls.add(start(platforms.get(0), isrc));
+            while (true) {
+                int found = highestPriorityAnswer(calls);
+                if (found >= 0) {
+                    // Give the higher priority platforms still running a chance to answer too
+                    List<Call> preferred = calls.subList(0, found);
+                    if (!graceStarted) {
+                        graceDeadline = System.nanoTime() + priorityGrace.toNanos();
+                        graceStarted = true;
+                    }
+                    if (preferred.stream().allMatch(call -> call.result.isDone())
+                            || !awaitAny(isrc, preferred, graceDeadline - System.nanoTime())) {
+                        return calls.get(found).result.join();
+                    }
+                    continue;
+                }
+                boolean allDone = calls.stream().allMatch(call -> call.result.isDone());
+                if (calls.size() == platforms.size()) {
+                    if (allDone) {
+                        throw failure(isrc, calls);
+                    }
+                    awaitAny(isrc, calls, Long.MAX_VALUE);
+                } else if (allDone) {
+                    hedgedFailed.increment();
+                    calls.add(start(platforms.get(calls.size()), isrc));
+                } else {
+                    Call latest = calls.get(calls.size() - 1);
+                    long remaining = latest.startedAt + hedgeDelay(latest.platform).toNanos() - System.nanoTime();
+                    if (!awaitAny(isrc, calls, remaining)) {
+                        hedgedSlow.increment();
+                        logger.debug("{} slower than its hedging delay for ISRC: {}, querying {}",
+                                latest.platform.name(), isrc, platforms.get(calls.size()).name());
+                        calls.add(start(platforms.get(calls.size()), isrc));
+                    }
+                }
+            }
+        } finally {
+            calls.forEach(Call::cancel);
+        }
+    }
+
+    /**
+     * @return the p95 latency of the platform, bounded by the configured delays
+     */
+    Duration hedgeDelay(Platform platform) {
+        var snapshot = platform.latency().takeSnapshot();
+        // The count is cumulative, the percentiles cover a decaying window only
+        if (snapshot.count() < MIN_SAMPLES) {
+            return maxDelay;
+        }
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            if (percentile.percentile() == 0.95) {
+                long p95 = (long) percentile.value(TimeUnit.NANOSECONDS);
+                if (p95 <= 0) {
+                    // No call in the window, after a quiet period: nothing to tell a slow call by
+                    return maxDelay;
+                }
+                return Duration.ofNanos(Math.min(maxDelay.toNanos(), Math.max(minDelay.toNanos(), p95)));
+            }
+        }
+        return maxDelay;
+    }
+
+    List<String> platformNames() {
+        return platforms.stream().map(Platform::name).toList();
+    }
+
+    private Call start(Platform platform, String isrc) {
+        Call call = new Call(platform, System.nanoTime());
+        call.task = executor.submit(() -> {
+            try {
+                call.result.complete(platform.lookup(isrc, call));
+            } catch (RuntimeException e) {
+                call.result.completeExceptionally(e);
+            }
+        });
+        return call;
+    }
+
+    /**
+     * @return the index of the highest priority call that found the track, or -1
+     */
+    private static int highestPriorityAnswer(List<Call> calls) {
+        // Calls are started in priority order
+        for (int i = 0; i < calls.size(); i++) {
+            CompletableFuture<ExternalTrackMetadata> result = calls.get(i).result;
+            if (result.isDone() && !result.isCompletedExceptionally() && result.join() != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Waits until one of the pending calls completes.
+     *
+     * @return false if none did within {@code timeoutNanos}
+     */
+    private static boolean awaitAny(String isrc, List<Call> calls, long timeoutNanos) {
+        if (timeoutNanos <= 0) {
+            return false;
+        }
+        CompletableFuture<?>[] pending = calls.stream()
+                .map(call -> call.result)
+                .filter(result -> !result.isDone())
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.anyOf(pending).get(timeoutNanos, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException e) {
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException("Interrupted while waiting for music platforms",
+                    isrc, calls.get(0).platform.name(), e);
+        }
+    }
+
+    /**
+     * @return "not found" if every platform said so, otherwise the failure of the highest priority platform
+     */
+    private static RuntimeException failure(String isrc, List<Call> calls) {
+        RuntimeException notFound = null;
+        for (Call call : calls) {
+            RuntimeException error = call.error(isrc);
+            if (!(error instanceof TrackNotFoundException)) {
+                return error;
+            }
+            if (notFound == null) {
+                notFound = error;
+            }
+        }
+        return notFound;
+    }
+
+    /**
+     * One platform, with its latency histogram.
+     */
+    record Platform(MusicPlatformAdapter adapter, String name, Timer latency) {
+
+        static Platform of(MusicPlatformAdapter adapter, MeterRegistry meterRegistry) {
+            String name = adapter.sourceType().getValue().toLowerCase(Locale.ROOT);
+            Timer latency = Timer.builder(LATENCY_TIMER)
+                    .description("Latency of track lookups per music platform, cancelled hedged calls at their time of cancellation")
+                    .tag("platform", name)
+                    .publishPercentiles(0.95)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            return new Platform(adapter, name, latency);
+        }
+
+        /**
+         * @param call the call whose cancellation records its latency instead, or null
+         */
+        ExternalTrackMetadata lookup(String isrc, Call call) {
+            long start = System.nanoTime();
+            try {
+                return adapter.getTrackByIsrc(isrc);
+            } finally {
+                if (call == null || call.claimRecording()) {
+                    latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+    }
+
+    /**
+     * One platform call in flight.
+     */
+    private static final class Call {
+
+        final Platform platform;
+        final long startedAt;
+        final CompletableFuture<ExternalTrackMetadata> result = new CompletableFuture<>();
+        volatile Future<?> task;
+        // Set by whichever of completion and cancellation records the latency first
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        Call(Platform platform, long startedAt) {
+            this.platform = platform;
+            this.startedAt = startedAt;
+        }
+
+        void cancel() {
+            if (!result.isDone()) {
+                // Cut short: the call would have taken at least this long
+                if (claimRecording()) {
+                    platform.latency().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+                task.cancel(true);
+            }
+        }
+
+        boolean claimRecording() {
+            return recorded.compareAndSet(false, true);
+        }
+
+        RuntimeException error(String isrc) {
+            try {
+                result.join();
+                // Only reached for a platform that answered without metadata
+                return new TrackNotFoundException("No metadata returned by " + platform.name() + " for ISRC: " + isrc,
+                        isrc, platform.name());
+            } catch (CompletionException e) {
+                return e.getCause() instanceof RuntimeException cause
+                        ? cause
+                        : new ExternalServiceException("Unexpected error calling " + platform.name(), isrc, platform.name(), e.getCause());
+            }
+        }
+    }
+}
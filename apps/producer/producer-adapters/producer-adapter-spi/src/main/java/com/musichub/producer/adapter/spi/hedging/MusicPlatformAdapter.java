@@ -0,0 +1,35 @@
+package com.musichub.producer.adapter.spi.hedging;
+
+import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.shared.domain.values.SourceType;
+
+/**
+ * One music platform behind {@link HedgingMusicPlatformPort}.
+ * <p>
+ * Deliberately not a {@code MusicPlatformPort}: the hedging port must stay the
+ * single port bean that the application and the port decorators see.
+ */
+public interface MusicPlatformAdapter {
+
+    /**
+     * Retrieves track metadata from the platform by ISRC.
+     *
+     * @throws com.musichub.producer.application.exception.TrackNotFoundException when the platform
+     *         does not know the track
+     * @throws com.musichub.producer.application.exception.ExternalServiceException when the platform failed
+     */
+    ExternalTrackMetadata getTrackByIsrc(String isrc);
+
+    /**
+     * @return the source the platform's metadata is recorded under, which
+     *         also ranks the platform by {@code ProducerSourcePriority}
+     */
+    SourceType sourceType();
+
+    /**
+     * @return false when the platform is not configured and must not be queried
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
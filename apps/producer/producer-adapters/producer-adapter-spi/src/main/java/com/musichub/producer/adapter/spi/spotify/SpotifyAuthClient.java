@@ -0,0 +1,34 @@
+package com.musichub.producer.adapter.spi.spotify;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+
+import com.musichub.producer.adapter.spi.dto.spotify.SpotifyTokenResponse;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.FormParam;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * REST client for the Spotify accounts service, used to obtain client
+ * credentials access tokens.
+ *
+ * Configuration property: quarkus.rest-client.spotify-auth.url
+ */
+@RegisterRestClient(configKey = "spotify-auth")
+@Path("/api/token")
+public interface SpotifyAuthClient {
+
+    /**
+     * @param authorization "Basic " + base64(client_id:client_secret)
+     * @param grantType     always client_credentials
+     */
+    @POST
+    @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
+    @Produces(MediaType.APPLICATION_JSON)
+    SpotifyTokenResponse getAccessToken(@HeaderParam("Authorization") String authorization,
+                                        @FormParam("grant_type") String grantType);
+}
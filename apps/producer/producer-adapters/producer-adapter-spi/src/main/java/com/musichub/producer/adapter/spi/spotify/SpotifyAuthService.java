@@ -0,0 +1,112 @@
+package com.musichub.producer.adapter.spi.spotify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.musichub.producer.adapter.spi.dto.spotify.SpotifyTokenResponse;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Client credentials tokens for the Spotify Web API.
+ * <p>
+ * The current token is cached until {@code spotify.auth.refresh-ahead} before
+ * it expires; the first caller to find it stale requests a new one while the
+ * others wait for it. Spotify is a secondary platform, so unlike Tidal's there
+ * is no background refresh.
+ */
+@ApplicationScoped
+public class SpotifyAuthService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpotifyAuthService.class);
+    private static final String GRANT_TYPE = "client_credentials";
+    private static final long DEFAULT_EXPIRES_IN_SECONDS = 3600L;
+
+    private final SpotifyAuthClient authClient;
+    private final Optional<String> clientId;
+    private final Optional<String> clientSecret;
+    private final Duration refreshAhead;
+
+    private final AtomicReference<Token> token = new AtomicReference<>();
+
+    @Inject
+    public SpotifyAuthService(
+            @RestClient SpotifyAuthClient authClient,
+            @ConfigProperty(name = "spotify.auth.client-id") Optional<String> clientId,
+            @ConfigProperty(name = "spotify.auth.client-secret") Optional<String> clientSecret,
+            @ConfigProperty(name = "spotify.auth.refresh-ahead", defaultValue = "PT5M") Duration refreshAhead) {
+        this.authClient = authClient;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.refreshAhead = refreshAhead;
+    }
+
+    /**
+     * @return "Bearer <token>", or null if no token could be obtained
+     */
+    public String getAuthorizationHeader() {
+        Token current = token.get();
+        if (current != null && current.isFreshAt(Instant.now())) {
+            return current.authorizationHeader();
+        }
+        return refresh(current);
+    }
+
+    private synchronized String refresh(Token seen) {
+        Token latest = token.get();
+        if (latest != seen && latest != null && latest.isFreshAt(Instant.now())) {
+            // Refreshed by another thread while this one was waiting
+            return latest.authorizationHeader();
+        }
+        if (!hasValidCredentials()) {
+            logger.warn("Spotify authentication credentials not configured properly");
+            return null;
+        }
+        try {
+            String credentials = clientId.get() + ":" + clientSecret.get();
+            SpotifyTokenResponse response = authClient.getAccessToken(
+                    "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)),
+                    GRANT_TYPE);
+            if (response == null || !response.isValid()) {
+                logger.error("Invalid response from Spotify auth API");
+                return null;
+            }
+            long expiresIn = response.expiresIn != null ? response.expiresIn : DEFAULT_EXPIRES_IN_SECONDS;
+            Duration lifetime = Duration.ofSeconds(expiresIn);
+            Duration lead = refreshAhead.compareTo(lifetime) < 0 ? refreshAhead : lifetime.dividedBy(2);
+            Token issued = new Token("Bearer " + response.accessToken, Instant.now().plus(lifetime).minus(lead));
+            token.set(issued);
+            logger.info("Successfully obtained Spotify access token, expires in {} seconds", expiresIn);
+            return issued.authorizationHeader();
+        } catch (Exception e) {
+            logger.error("Failed to obtain Spotify access token", e);
+            return null;
+        }
+    }
+
+    private boolean hasValidCredentials() {
+        return clientId.filter(id -> !id.isBlank() && !"changeme".equals(id)).isPresent()
+                && clientSecret.filter(secret -> !secret.isBlank()).isPresent();
+    }
+
+    /**
+     * @param authorizationHeader pre-built "Bearer ..." header value
+     * @param refreshAt           when the token stops being handed out
+     */
+    private record Token(String authorizationHeader, Instant refreshAt) {
+
+        boolean isFreshAt(Instant now) {
+            return now.isBefore(refreshAt);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.musichub.producer.adapter.spi.spotify;
+
+import org.eclipse.microprofile.rest.client.annotation.RegisterClientHeaders;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+
+import com.musichub.producer.adapter.spi.dto.spotify.SpotifySearchResponse;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * REST client for the Spotify Web API (docs/swagger/spotify-api-oas.yml).
+ * Tracks are looked up by ISRC with the search endpoint:
+ * GET /search?q=isrc:XXXX&type=track&market=US&limit=1
+ *
+ * Authentication is handled by SpotifyClientHeadersFactory, which adds a
+ * client credentials Bearer token.
+ *
+ * Configuration property: quarkus.rest-client.spotify-client.url
+ */
+@RegisterRestClient(configKey = "spotify-client")
+@RegisterClientHeaders(SpotifyClientHeadersFactory.class)
+@Path("/search")
+public interface SpotifyClient {
+
+    /**
+     * @throws jakarta.ws.rs.WebApplicationException for HTTP errors (401, 429, 500, etc.)
+     */
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    SpotifySearchResponse search(
+            @QueryParam("q") String query,
+            @QueryParam("type") String type,
+            @QueryParam("market") String market,
+            @QueryParam("limit") int limit);
+}
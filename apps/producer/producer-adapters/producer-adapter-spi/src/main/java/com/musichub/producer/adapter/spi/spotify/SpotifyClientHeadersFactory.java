@@ -0,0 +1,35 @@
+package com.musichub.producer.adapter.spi.spotify;
+
+import org.eclipse.microprofile.rest.client.ext.ClientHeadersFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * Adds the Spotify Bearer token to every Spotify Web API request.
+ */
+@ApplicationScoped
+public class SpotifyClientHeadersFactory implements ClientHeadersFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpotifyClientHeadersFactory.class);
+
+    @Inject
+    SpotifyAuthService authService;
+
+    @Override
+    public MultivaluedMap<String, String> update(MultivaluedMap<String, String> incomingHeaders,
+                                                MultivaluedMap<String, String> clientOutgoingHeaders) {
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        String authHeader = authService.getAuthorizationHeader();
+        if (authHeader != null) {
+            headers.putSingle("Authorization", authHeader);
+        } else {
+            logger.warn("No valid authentication token available for Spotify API");
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,98 @@
+package com.musichub.producer.adapter.spi.spotify;
+
+import com.musichub.producer.adapter.spi.dto.spotify.SpotifyArtist;
+import com.musichub.producer.adapter.spi.dto.spotify.SpotifySearchResponse;
+import com.musichub.producer.adapter.spi.dto.spotify.SpotifyTrack;
+import com.musichub.producer.adapter.spi.hedging.MusicPlatformAdapter;
+import com.musichub.producer.application.dto.ArtistCreditDto;
+import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.producer.application.exception.ExternalServiceException;
+import com.musichub.producer.application.exception.TrackNotFoundException;
+import com.musichub.shared.domain.values.SourceType;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.WebApplicationException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Spotify as a secondary music platform: tracks are searched by ISRC with
+ * GET /search?q=isrc:XXXX&type=track.
+ * <p>
+ * Spotify artist ids are not UUIDs, so artist credits carry names only.
+ * The adapter is disabled unless {@code producer.platforms.spotify.enabled}
+ * is set.
+ */
+@ApplicationScoped
+public class SpotifyMusicPlatformAdapter implements MusicPlatformAdapter {
+
+    static final String PLATFORM = "spotify";
+
+    private static final Logger logger = LoggerFactory.getLogger(SpotifyMusicPlatformAdapter.class);
+
+    private final SpotifyClient spotifyClient;
+    private final boolean enabled;
+    private final String market;
+
+    @Inject
+    public SpotifyMusicPlatformAdapter(
+            @RestClient SpotifyClient spotifyClient,
+            @ConfigProperty(name = "producer.platforms.spotify.enabled", defaultValue = "false") boolean enabled,
+            @ConfigProperty(name = "spotify.market", defaultValue = "US") String market) {
+        this.spotifyClient = spotifyClient;
+        this.enabled = enabled;
+        this.market = market;
+    }
+
+    @Override
+    public SourceType sourceType() {
+        return SourceType.SPOTIFY;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public ExternalTrackMetadata getTrackByIsrc(String isrc) {
+        logger.debug("Adapter: fetching Spotify track metadata for ISRC: {}", isrc);
+
+        SpotifyTrack track;
+        try {
+            SpotifySearchResponse response = spotifyClient.search("isrc:" + isrc, "track", market, 1);
+            track = response != null ? response.getFirstTrack() : null;
+        } catch (WebApplicationException e) {
+            int status = e.getResponse() != null ? e.getResponse().getStatus() : -1;
+            if (status == 404) {
+                throw new TrackNotFoundException("Track not found in Spotify for ISRC: " + isrc, isrc, PLATFORM, e);
+            }
+            logger.error("Adapter: Spotify API error for ISRC: {} - HTTP {}", isrc, status);
+            throw new ExternalServiceException("Spotify API error (HTTP " + status + ") for ISRC: " + isrc,
+                    isrc, PLATFORM, e);
+        } catch (RuntimeException e) {
+            logger.error("Adapter: unexpected error calling Spotify for ISRC: {}", isrc, e);
+            throw new ExternalServiceException("Unexpected error calling Spotify for ISRC: " + isrc, isrc, PLATFORM, e);
+        }
+
+        if (track == null || track.name == null || track.name.isBlank()) {
+            throw new TrackNotFoundException("Track not found in Spotify for ISRC: " + isrc, isrc, PLATFORM);
+        }
+        return toExternalTrackMetadata(isrc, track);
+    }
+
+    private static ExternalTrackMetadata toExternalTrackMetadata(String isrc, SpotifyTrack track) {
+        List<ArtistCreditDto> artistCredits = track.artists == null
+                ? List.of()
+                : track.artists.stream()
+                        .map(artist -> artist.name)
+                        .filter(name -> name != null && !name.isBlank())
+                        .map(name -> new ArtistCreditDto(name, null))
+                        .toList();
+        return new ExternalTrackMetadata(isrc, track.name, artistCredits, SourceType.SPOTIFY.getValue());
+    }
+}
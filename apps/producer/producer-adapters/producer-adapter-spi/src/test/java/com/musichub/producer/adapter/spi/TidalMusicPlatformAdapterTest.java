@@ -4,7 +4,14 @@ import com.musichub.producer.adapter.spi.dto.ArtistDto;
 import com.musichub.producer.adapter.spi.dto.TrackMetadataDto;
 import com.musichub.producer.adapter.spi.exception.TrackNotFoundInExternalServiceException;
 import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.producer.application.exception.ExternalServiceBackPressureException;
 import com.musichub.producer.application.exception.ExternalServiceException;
+import com.musichub.producer.application.exception.TrackNotFoundException;
+import com.musichub.shared.adapter.spi.ratelimit.TidalBackPressureException;
+import com.musichub.shared.adapter.spi.ratelimit.TidalRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -13,6 +20,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -143,6 +151,58 @@ class TidalMusicPlatformAdapterTest {
             verify(tidalService).getTrackByIsrc(TEST_ISRC);
         }
 
+        @Test
+        @DisplayName("Should report missing track as TrackNotFoundException")
+        void shouldReportMissingTrackAsTrackNotFound() {
+            when(tidalService.getTrackByIsrc(TEST_ISRC)).thenThrow(
+                new TrackNotFoundInExternalServiceException("No track found", TEST_ISRC, "tidal"));
+
+            assertThrows(TrackNotFoundException.class, () -> adapter.getTrackByIsrc(TEST_ISRC));
+        }
+
+        @Test
+        @DisplayName("Should not report HTTP 5xx as TrackNotFoundException")
+        void shouldNotReportServerErrorAsTrackNotFound() {
+            when(tidalService.getTrackByIsrc(TEST_ISRC)).thenThrow(
+                new TrackNotFoundInExternalServiceException("HTTP 503", TEST_ISRC, "tidal",
+                    new WebApplicationException(503)));
+
+            ExternalServiceException thrown = assertThrows(ExternalServiceException.class,
+                () -> adapter.getTrackByIsrc(TEST_ISRC));
+            assertFalse(thrown instanceof TrackNotFoundException);
+        }
+
+        @Test
+        @DisplayName("Should carry the Retry-After of a saturated rate limit")
+        void shouldCarryRetryAfterOfBackPressure() {
+            when(tidalService.getTrackByIsrc(TEST_ISRC)).thenThrow(
+                new TidalBackPressureException("Tidal rate limit", Duration.ofSeconds(12)));
+
+            ExternalServiceBackPressureException thrown = assertThrows(ExternalServiceBackPressureException.class,
+                () -> adapter.getTrackByIsrc(TEST_ISRC));
+            assertEquals(Duration.ofSeconds(12), thrown.getRetryAfter());
+            assertEquals("tidal", thrown.getService());
+        }
+
+        @Test
+        @DisplayName("Should push back with the last Retry-After when Tidal keeps answering 429")
+        void shouldPushBackWhenTidalKeepsAnswering429() {
+            // Given: a real service and rate limiter (max-retries=2) over a client always answering 429
+            MusicPlatformClient client = mock(MusicPlatformClient.class);
+            when(client.getTracksByIsrc(TEST_ISRC, "artists", "US")).thenThrow(
+                new WebApplicationException(Response.status(429).header("Retry-After", "7").build()));
+            TidalMusicPlatformService service = new TidalMusicPlatformService();
+            service.musicPlatformClient = client;
+            service.rateLimiter = new TidalRateLimiter(100, 5, Duration.ofSeconds(5), 2, new SimpleMeterRegistry());
+            service.defaultCountryCode = "US";
+
+            // When & Then: back-pressure, not a lookup failure, once the retries are used up
+            ExternalServiceBackPressureException thrown = assertThrows(ExternalServiceBackPressureException.class,
+                () -> new TidalMusicPlatformAdapter(service).getTrackByIsrc(TEST_ISRC));
+            assertEquals(Duration.ofSeconds(7), thrown.getRetryAfter());
+            verify(client, times(3)).getTracksByIsrc(TEST_ISRC, "artists", "US");
+        }
+
         @Test
         @DisplayName("Should convert unexpected exceptions to ExternalServiceException")
         void shouldConvertUnexpectedExceptionsToExternalServiceException() {
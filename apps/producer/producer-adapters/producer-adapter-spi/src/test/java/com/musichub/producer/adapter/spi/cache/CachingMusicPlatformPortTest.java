@@ -0,0 +1,103 @@
+package com.musichub.producer.adapter.spi.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.musichub.producer.application.dto.ArtistCreditDto;
+import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.producer.application.exception.ExternalServiceException;
+import com.musichub.producer.application.exception.TrackNotFoundException;
+import com.musichub.producer.application.ports.out.MusicPlatformPort;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingMusicPlatformPort")
+class CachingMusicPlatformPortTest {
+
+    private static final String TEST_ISRC = "GBUM71507409";
+
+    @Mock
+    private MusicPlatformPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TrackMetadataCache cache;
+    private CachingMusicPlatformPort port;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TrackMetadataCache(Duration.ofHours(1), Duration.ofMinutes(2), 100, meterRegistry);
+        port = new CachingMusicPlatformPort(delegate, cache);
+    }
+
+    private static ExternalTrackMetadata metadata() {
+        return new ExternalTrackMetadata(TEST_ISRC, "Bohemian Rhapsody", List.of(new ArtistCreditDto("Queen", null)), "TIDAL");
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from cache, whatever the ISRC format")
+    void shouldServeRepeatedLookupsFromCache() {
+        ExternalTrackMetadata metadata = metadata();
+        when(delegate.getTrackByIsrc(TEST_ISRC)).thenReturn(metadata);
+
+        assertSame(metadata, port.getTrackByIsrc(TEST_ISRC));
+        assertSame(metadata, port.getTrackByIsrc("gb-um7-15-07409"));
+
+        verify(delegate, times(1)).getTrackByIsrc(TEST_ISRC);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should remember not-found answers")
+    void shouldCacheNotFound() {
+        when(delegate.getTrackByIsrc(TEST_ISRC)).thenThrow(new TrackNotFoundException("No track", TEST_ISRC, "tidal"));
+
+        assertThrows(TrackNotFoundException.class, () -> port.getTrackByIsrc(TEST_ISRC));
+        TrackNotFoundException cached = assertThrows(TrackNotFoundException.class, () -> port.getTrackByIsrc(TEST_ISRC));
+
+        assertEquals("tidal", cached.getService());
+        verify(delegate, times(1)).getTrackByIsrc(TEST_ISRC);
+    }
+
+    @Test
+    @DisplayName("Should not cache transient failures")
+    void shouldNotCacheTransientFailures() {
+        when(delegate.getTrackByIsrc(TEST_ISRC))
+                .thenThrow(new ExternalServiceException("HTTP 503", TEST_ISRC, "tidal"))
+                .thenReturn(metadata());
+
+        assertThrows(ExternalServiceException.class, () -> port.getTrackByIsrc(TEST_ISRC));
+        assertEquals("Bohemian Rhapsody", port.getTrackByIsrc(TEST_ISRC).getTitle());
+    }
+
+    @Test
+    @DisplayName("Should reload after invalidation")
+    void shouldReloadAfterInvalidation() {
+        when(delegate.getTrackByIsrc(TEST_ISRC)).thenReturn(metadata());
+        port.getTrackByIsrc(TEST_ISRC);
+
+        assertTrue(cache.invalidate("GB-UM7-15-07409"));
+        port.getTrackByIsrc(TEST_ISRC);
+
+        cache.invalidateAll();
+        port.getTrackByIsrc(TEST_ISRC);
+
+        verify(delegate, times(3)).getTrackByIsrc(TEST_ISRC);
+    }
+}
@@ -0,0 +1,68 @@
+package com.musichub.producer.adapter.spi.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.musichub.producer.application.dto.ArtistCreditDto;
+import com.musichub.producer.application.dto.ExternalTrackMetadata;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("TrackMetadataCache")
+class TrackMetadataCacheTest {
+
+    private static final String CACHED_ISRC = "GBUM71507409";
+    private static final String OTHER_ISRC = "FRLA12400001";
+
+    private TrackMetadataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TrackMetadataCache(Duration.ofHours(1), Duration.ofMinutes(2), 100, new SimpleMeterRegistry());
+        cache.putFound(CACHED_ISRC, metadata(CACHED_ISRC));
+        cache.putNotFound(OTHER_ISRC, "No track", "tidal");
+    }
+
+    private static ExternalTrackMetadata metadata(String isrc) {
+        return new ExternalTrackMetadata(isrc, "Bohemian Rhapsody", List.of(new ArtistCreditDto("Queen", null)), "TIDAL");
+    }
+
+    @Test
+    @DisplayName("Should evict the packed key of the ISRC only, whatever its format")
+    void shouldEvictOnlyTheKeyOfTheIsrc() {
+        assertEquals(TrackMetadataCache.keyOf(CACHED_ISRC), TrackMetadataCache.keyOf("gb-um7-15-07409"));
+
+        assertTrue(cache.invalidate("gb-um7-15-07409"));
+
+        assertTrue(cache.get(CACHED_ISRC).isEmpty());
+        assertTrue(cache.get(OTHER_ISRC).orElseThrow().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should evict negative entries too")
+    void shouldEvictNegativeEntries() {
+        assertTrue(cache.invalidate(OTHER_ISRC));
+
+        assertTrue(cache.get(OTHER_ISRC).isEmpty());
+        assertTrue(cache.get(CACHED_ISRC).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should report unknown and invalid ISRCs as absent")
+    void shouldReportUnknownAndInvalidIsrcs() {
+        assertFalse(cache.invalidate("USRC17607839"));
+        assertFalse(cache.invalidate("not-an-isrc"));
+        assertFalse(cache.invalidate(null));
+
+        assertTrue(cache.get(CACHED_ISRC).isPresent());
+        assertTrue(cache.get(OTHER_ISRC).isPresent());
+    }
+}
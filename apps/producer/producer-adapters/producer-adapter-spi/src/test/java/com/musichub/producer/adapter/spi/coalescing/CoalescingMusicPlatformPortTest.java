@@ -0,0 +1,99 @@
+package com.musichub.producer.adapter.spi.coalescing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.producer.application.exception.ExternalServiceException;
+import com.musichub.producer.application.ports.out.MusicPlatformPort;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("CoalescingMusicPlatformPort")
+class CoalescingMusicPlatformPortTest {
+
+    private static final String TEST_ISRC = "GBUM71507409";
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final CountDownLatch upstreamStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseUpstream = new CountDownLatch(1);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private MusicPlatformPort blockingUpstream(RuntimeException failure) {
+        return isrc -> {
+            upstreamCalls.incrementAndGet();
+            upstreamStarted.countDown();
+            try {
+                releaseUpstream.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return new ExternalTrackMetadata(TEST_ISRC, "Bohemian Rhapsody", List.of(), "TIDAL");
+        };
+    }
+
+    @Test
+    @DisplayName("Should share one upstream call between concurrent lookups of the same ISRC")
+    void shouldShareUpstreamCall() throws Exception {
+        CoalescingMusicPlatformPort port = new CoalescingMusicPlatformPort(blockingUpstream(null), meterRegistry);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ExternalTrackMetadata> first = executor.submit(() -> port.getTrackByIsrc(TEST_ISRC));
+            assertTrue(upstreamStarted.await(5, TimeUnit.SECONDS));
+            Future<ExternalTrackMetadata> second = executor.submit(() -> port.getTrackByIsrc("GB-UM7-15-07409"));
+            Thread.sleep(200);
+            releaseUpstream.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, upstreamCalls.get());
+            assertEquals(1.0, meterRegistry.get(CoalescingMusicPlatformPort.COALESCED_COUNTER).counter().count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should propagate the shared failure to every waiting caller")
+    void shouldShareFailure() throws Exception {
+        ExternalServiceException failure = new ExternalServiceException("HTTP 503", TEST_ISRC, "tidal");
+        CoalescingMusicPlatformPort port = new CoalescingMusicPlatformPort(blockingUpstream(failure), meterRegistry);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ExternalTrackMetadata> first = executor.submit(() -> port.getTrackByIsrc(TEST_ISRC));
+            assertTrue(upstreamStarted.await(5, TimeUnit.SECONDS));
+            Future<ExternalTrackMetadata> second = executor.submit(() -> port.getTrackByIsrc(TEST_ISRC));
+            Thread.sleep(200);
+            releaseUpstream.countDown();
+
+            assertSame(failure, assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS)).getCause());
+            assertSame(failure, assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS)).getCause());
+            assertEquals(1, upstreamCalls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.musichub.producer.adapter.spi.dto.spotify;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Spotify DTOs, bound with JSON-B like the REST client does
+ */
+class SpotifyDtoTest {
+
+    private final Jsonb jsonb = JsonbBuilder.create();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        jsonb.close();
+    }
+
+    @Test
+    void spotifySearchResponse_ShouldDeserializeFromJson() {
+        // Given: JSON response structure similar to Spotify's search endpoint
+        String json = """
+            {
+                "tracks": {
+                    "href": "https://api.spotify.com/v1/search?query=isrc%3AGBUM71507409&type=track&limit=1",
+                    "items": [
+                        {
+                            "id": "3z8h0TU7ReDPLIbEnYhWZb",
+                            "name": "Bohemian Rhapsody",
+                            "popularity": 83,
+                            "artists": [
+                                {"id": "1dfeR4HaWDbWqFHLkxsg1d", "name": "Queen", "type": "artist"}
+                            ],
+                            "external_ids": {"isrc": "GBUM71507409"}
+                        }
+                    ],
+                    "total": 1
+                }
+            }
+            """;
+
+        // When: Deserializing
+        SpotifySearchResponse response = jsonb.fromJson(json, SpotifySearchResponse.class);
+
+        // Then: Should map the first track and ignore unknown fields
+        SpotifyTrack track = response.getFirstTrack();
+        assertNotNull(track);
+        assertEquals("3z8h0TU7ReDPLIbEnYhWZb", track.id);
+        assertEquals("Bohemian Rhapsody", track.name);
+        assertEquals("GBUM71507409", track.isrc());
+        assertEquals("Queen", track.artists.get(0).name);
+        assertEquals(1, response.tracks.total);
+    }
+
+    @Test
+    void spotifySearchResponse_ShouldHaveNoTrackWhenEmpty() {
+        SpotifySearchResponse response = jsonb.fromJson("{\"tracks\": {\"items\": [], \"total\": 0}}",
+                SpotifySearchResponse.class);
+
+        assertNull(response.getFirstTrack());
+        assertNull(new SpotifySearchResponse().getFirstTrack());
+    }
+
+    @Test
+    void spotifyTokenResponse_ShouldDeserializeFromJson() {
+        String json = """
+            {"access_token": "BQDnVlzF", "token_type": "Bearer", "expires_in": 3600}
+            """;
+
+        SpotifyTokenResponse response = jsonb.fromJson(json, SpotifyTokenResponse.class);
+
+        assertEquals("BQDnVlzF", response.accessToken);
+        assertEquals(3600L, response.expiresIn);
+        assertTrue(response.isValid());
+        assertFalse(new SpotifyTokenResponse().isValid());
+    }
+}
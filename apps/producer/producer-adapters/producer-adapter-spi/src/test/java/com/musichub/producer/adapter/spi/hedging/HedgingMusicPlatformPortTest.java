@@ -0,0 +1,335 @@
+package com.musichub.producer.adapter.spi.hedging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.producer.application.exception.ExternalServiceException;
+import com.musichub.producer.application.exception.TrackNotFoundException;
+import com.musichub.shared.domain.values.SourceType;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("HedgingMusicPlatformPort")
+class HedgingMusicPlatformPortTest {
+
+    private static final String TEST_ISRC = "GBUM71507409";
+    private static final Duration MIN_DELAY = Duration.ofMillis(10);
+    private static final Duration MAX_DELAY = Duration.ofMillis(100);
+    private static final Duration PRIORITY_GRACE = Duration.ofMillis(20);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private HedgingMusicPlatformPort port;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (port != null) {
+            port.shutdown();
+        }
+    }
+
+    private HedgingMusicPlatformPort port(MusicPlatformAdapter... adapters) {
+        port = new HedgingMusicPlatformPort(List.of(adapters), MIN_DELAY, MAX_DELAY, PRIORITY_GRACE, meterRegistry);
+        return port;
+    }
+
+    private static ExternalTrackMetadata metadata(SourceType platform) {
+        return new ExternalTrackMetadata(TEST_ISRC, "Bohemian Rhapsody", List.of(), platform.getValue());
+    }
+
+    private static TrackNotFoundException notFound(SourceType platform) {
+        return new TrackNotFoundException("Not found", TEST_ISRC, platform.getValue().toLowerCase());
+    }
+
+    private static ExternalServiceException unavailable(SourceType platform) {
+        return new ExternalServiceException("HTTP 503", TEST_ISRC, platform.getValue().toLowerCase());
+    }
+
+    private double hedged(String reason) {
+        return meterRegistry.get(HedgingMusicPlatformPort.HEDGED_COUNTER).tag("reason", reason).counter().count();
+    }
+
+    @Test
+    @DisplayName("Should query platforms in source priority order")
+    void shouldOrderPlatformsByPriority() {
+        HedgingMusicPlatformPort port = port(
+                new FakeAdapter(SourceType.SPOTIFY, isrc -> metadata(SourceType.SPOTIFY)),
+                new FakeAdapter(SourceType.TIDAL, isrc -> metadata(SourceType.TIDAL)));
+
+        assertEquals(List.of("tidal", "spotify"), port.platformNames());
+    }
+
+    @Test
+    @DisplayName("Should skip disabled platforms and call a single platform directly")
+    void shouldCallSinglePlatformDirectly() {
+        FakeAdapter tidal = new FakeAdapter(SourceType.TIDAL, isrc -> metadata(SourceType.TIDAL));
+        FakeAdapter spotify = new FakeAdapter(SourceType.SPOTIFY, isrc -> metadata(SourceType.SPOTIFY)).disabled();
+        HedgingMusicPlatformPort port = port(tidal, spotify);
+
+        assertEquals("TIDAL", port.getTrackByIsrc(TEST_ISRC).getPlatform());
+        assertEquals(List.of("tidal"), port.platformNames());
+        assertEquals(0, spotify.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should answer from the primary platform without hedging when it is fast")
+    void shouldNotHedgeFastPrimary() {
+        FakeAdapter tidal = new FakeAdapter(SourceType.TIDAL, isrc -> metadata(SourceType.TIDAL));
+        FakeAdapter spotify = new FakeAdapter(SourceType.SPOTIFY, isrc -> metadata(SourceType.SPOTIFY));
+        HedgingMusicPlatformPort port = port(tidal, spotify);
+
+        assertEquals("TIDAL", port.getTrackByIsrc(TEST_ISRC).getPlatform());
+        assertEquals(0, spotify.calls.get());
+        assertEquals(0.0, hedged("slow"));
+        assertEquals(1, meterRegistry.get(HedgingMusicPlatformPort.LATENCY_TIMER).tag("platform", "tidal").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should query the next platform and cancel the primary when the primary is slow")
+    void shouldHedgeSlowPrimary() throws InterruptedException {
+        CountDownLatch primaryInterrupted = new CountDownLatch(1);
+        FakeAdapter tidal = new FakeAdapter(SourceType.TIDAL, isrc -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                primaryInterrupted.countDown();
+                throw new ExternalServiceException("Interrupted", isrc, "tidal", e);
+            }
+            return metadata(SourceType.TIDAL);
+        });
+        FakeAdapter spotify = new FakeAdapter(SourceType.SPOTIFY, isrc -> metadata(SourceType.SPOTIFY));
+        HedgingMusicPlatformPort port = port(tidal, spotify);
+
+        assertEquals("SPOTIFY", port.getTrackByIsrc(TEST_ISRC).getPlatform());
+        assertEquals(1.0, hedged("slow"));
+        assertTrue(primaryInterrupted.await(5, TimeUnit.SECONDS));
+        // The cancelled primary call is recorded once, at the time it had run for: at least the hedging delay
+        Thread.sleep(50);
+        Timer tidalLatency = meterRegistry.get(HedgingMusicPlatformPort.LATENCY_TIMER).tag("platform", "tidal").timer();
+        assertEquals(1, tidalLatency.count());
+        assertTrue(tidalLatency.max(TimeUnit.MILLISECONDS) >= MAX_DELAY.toMillis());
+    }
+
+    @Test
+    @DisplayName("Should query the next platform at once when the primary fails")
+    void shouldFailOverWhenPrimaryFails() {
+        FakeAdapter tidal = new FakeAdapter(SourceType.TIDAL, isrc -> {
+            throw unavailable(SourceType.TIDAL);
+        });
+        FakeAdapter spotify = new FakeAdapter(SourceType.SPOTIFY, isrc -> metadata(SourceType.SPOTIFY));
+        HedgingMusicPlatformPort port = port(tidal, spotify);
+
+        assertEquals("SPOTIFY", port.getTrackByIsrc(TEST_ISRC).getPlatform());
+        assertEquals(1.0, hedged("failed"));
+        assertEquals(0.0, hedged("slow"));
+    }
+
+    @Test
+    @DisplayName("Should query the next platform when the primary does not know the track")
+    void shouldFailOverWhenPrimaryDoesNotFindTrack() {
+        FakeAdapter tidal = new FakeAdapter(SourceType.TIDAL, isrc -> {
+            throw notFound(SourceType.TIDAL);
+        });
+        FakeAdapter spotify = new FakeAdapter(SourceType.SPOTIFY, isrc -> metadata(SourceType.SPOTIFY));
+
+        assertEquals("SPOTIFY", port(tidal, spotify).getTrackByIsrc(TEST_ISRC).getPlatform());
+    }
+
+    @Test
+    @DisplayName("Should keep the primary's answer when it arrives after the hedged request")
+    void shouldPreferHigherPriorityAnswer() {
+        CountDownLatch secondaryAnswered = new CountDownLatch(1);
+        FakeAdapter tidal = new FakeAdapter(SourceType.TIDAL, isrc -> {
+            try {
+                // Tidal answers once hedged, while Spotify is still busy
+                secondaryAnswered.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return metadata(SourceType.TIDAL);
+        });
+        FakeAdapter spotify = new FakeAdapter(SourceType.SPOTIFY, isrc -> {
+            secondaryAnswered.countDown();
+            sleep(Duration.ofMillis(50));
+            return metadata(SourceType.SPOTIFY);
+        });
+
+        assertEquals("TIDAL", port(tidal, spotify).getTrackByIsrc(TEST_ISRC).getPlatform());
+    }
+
+    @Test
+    @DisplayName("Should wait for the primary within the priority grace when the hedged request answers first")
+    void shouldWaitForPrimaryWithinPriorityGrace() {
+        CountDownLatch secondaryAnswering = new CountDownLatch(1);
+        FakeAdapter tidal = new FakeAdapter(SourceType.TIDAL, isrc -> {
+            try {
+                // Tidal answers only after Spotify has
+                secondaryAnswering.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sleep(Duration.ofMillis(20));
+            return metadata(SourceType.TIDAL);
+        });
+        FakeAdapter spotify = new FakeAdapter(SourceType.SPOTIFY, isrc -> {
+            secondaryAnswering.countDown();
+            return metadata(SourceType.SPOTIFY);
+        });
+        port = new HedgingMusicPlatformPort(List.of(tidal, spotify), MIN_DELAY, MAX_DELAY, Duration.ofSeconds(5),
+                meterRegistry);
+
+        assertEquals("TIDAL", port.getTrackByIsrc(TEST_ISRC).getPlatform());
+        assertEquals(1.0, hedged("slow"));
+    }
+
+    @Test
+    @DisplayName("Should fail with not found only when every platform does not know the track")
+    void shouldFailWithNotFoundWhenNoPlatformKnowsTrack() {
+        TrackNotFoundException tidalNotFound = notFound(SourceType.TIDAL);
+        FakeAdapter tidal = new FakeAdapter(SourceType.TIDAL, isrc -> {
+            throw tidalNotFound;
+        });
+        FakeAdapter spotify = new FakeAdapter(SourceType.SPOTIFY, isrc -> {
+            throw notFound(SourceType.SPOTIFY);
+        });
+
+        assertSame(tidalNotFound, assertThrows(TrackNotFoundException.class,
+                () -> port(tidal, spotify).getTrackByIsrc(TEST_ISRC)));
+    }
+
+    @Test
+    @DisplayName("Should fail with the service error when a platform failed and none found the track")
+    void shouldFailWithServiceErrorWhenPlatformFailed() {
+        ExternalServiceException spotifyDown = unavailable(SourceType.SPOTIFY);
+        FakeAdapter tidal = new FakeAdapter(SourceType.TIDAL, isrc -> {
+            throw notFound(SourceType.TIDAL);
+        });
+        FakeAdapter spotify = new FakeAdapter(SourceType.SPOTIFY, isrc -> {
+            throw spotifyDown;
+        });
+
+        assertSame(spotifyDown, assertThrows(ExternalServiceException.class,
+                () -> port(tidal, spotify).getTrackByIsrc(TEST_ISRC)));
+    }
+
+    @Test
+    @DisplayName("Should hedge after the maximum delay until the platform has enough samples")
+    void shouldUseMaxDelayUntilEnoughSamples() {
+        FakeAdapter tidalAdapter = new FakeAdapter(SourceType.TIDAL, isrc -> metadata(SourceType.TIDAL));
+        HedgingMusicPlatformPort port = port(
+                tidalAdapter,
+                new FakeAdapter(SourceType.SPOTIFY, isrc -> metadata(SourceType.SPOTIFY)));
+        // Same timer name and tag: this sees the histogram the port records into
+        HedgingMusicPlatformPort.Platform tidal = HedgingMusicPlatformPort.Platform.of(tidalAdapter, meterRegistry);
+
+        assertEquals(MAX_DELAY, port.hedgeDelay(tidal));
+
+        for (int i = 0; i < HedgingMusicPlatformPort.MIN_SAMPLES; i++) {
+            tidal.latency().record(Duration.ofMillis(1));
+        }
+        assertEquals(MIN_DELAY, port.hedgeDelay(tidal));
+    }
+
+    @Test
+    @DisplayName("Should hedge after the maximum delay when no call is left in the percentile window")
+    void shouldUseMaxDelayAfterQuietPeriod() {
+        MockClock clock = new MockClock();
+        meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+        FakeAdapter tidalAdapter = new FakeAdapter(SourceType.TIDAL, isrc -> metadata(SourceType.TIDAL));
+        HedgingMusicPlatformPort port = port(
+                tidalAdapter,
+                new FakeAdapter(SourceType.SPOTIFY, isrc -> metadata(SourceType.SPOTIFY)));
+        HedgingMusicPlatformPort.Platform tidal = HedgingMusicPlatformPort.Platform.of(tidalAdapter, meterRegistry);
+        for (int i = 0; i < HedgingMusicPlatformPort.MIN_SAMPLES; i++) {
+            tidal.latency().record(Duration.ofMillis(1));
+        }
+        assertEquals(MIN_DELAY, port.hedgeDelay(tidal));
+
+        // Past the default two minute expiry of the percentile window, the cumulative count is unchanged
+        clock.add(Duration.ofMinutes(5));
+
+        assertEquals(MAX_DELAY, port.hedgeDelay(tidal));
+    }
+
+    @Test
+    @DisplayName("Should reject inconsistent delays and a missing enabled platform")
+    void shouldRejectInvalidConfiguration() {
+        FakeAdapter tidal = new FakeAdapter(SourceType.TIDAL, isrc -> metadata(SourceType.TIDAL));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new HedgingMusicPlatformPort(List.of(tidal), MAX_DELAY, MIN_DELAY, PRIORITY_GRACE, meterRegistry));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HedgingMusicPlatformPort(List.of(tidal), MIN_DELAY, MAX_DELAY, Duration.ofMillis(-1),
+                        meterRegistry));
+        assertThrows(IllegalStateException.class,
+                () -> new HedgingMusicPlatformPort(List.of(tidal.disabled()), MIN_DELAY, MAX_DELAY, PRIORITY_GRACE,
+                        meterRegistry));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class FakeAdapter implements MusicPlatformAdapter {
+
+        private final SourceType sourceType;
+        private final Function<String, ExternalTrackMetadata> lookup;
+        private final AtomicInteger calls = new AtomicInteger();
+        private boolean enabled = true;
+
+        FakeAdapter(SourceType sourceType, Function<String, ExternalTrackMetadata> lookup) {
+            this.sourceType = sourceType;
+            this.lookup = lookup;
+        }
+
+        FakeAdapter disabled() {
+            enabled = false;
+            return this;
+        }
+
+        @Override
+        public ExternalTrackMetadata getTrackByIsrc(String isrc) {
+            calls.incrementAndGet();
+            return lookup.apply(isrc);
+        }
+
+        @Override
+        public SourceType sourceType() {
+            return sourceType;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.musichub.producer.adapter.spi.spotify;
+
+import com.musichub.producer.adapter.spi.dto.spotify.SpotifyArtist;
+import com.musichub.producer.adapter.spi.dto.spotify.SpotifySearchResponse;
+import com.musichub.producer.adapter.spi.dto.spotify.SpotifyTrack;
+import com.musichub.producer.adapter.spi.dto.spotify.SpotifyTrackPage;
+import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.producer.application.exception.ExternalServiceException;
+import com.musichub.producer.application.exception.TrackNotFoundException;
+import com.musichub.shared.domain.values.SourceType;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.WebApplicationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SpotifyMusicPlatformAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SpotifyMusicPlatformAdapter")
+class SpotifyMusicPlatformAdapterTest {
+
+    private static final String TEST_ISRC = "GBUM71507409";
+
+    @Mock
+    private SpotifyClient spotifyClient;
+
+    private SpotifyMusicPlatformAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new SpotifyMusicPlatformAdapter(spotifyClient, true, "FR");
+    }
+
+    private static SpotifySearchResponse response(SpotifyTrack... tracks) {
+        return new SpotifySearchResponse(new SpotifyTrackPage(List.of(tracks)));
+    }
+
+    @Nested
+    @DisplayName("Successful Mapping")
+    class SuccessfulMapping {
+
+        @Test
+        @DisplayName("Should search by ISRC and map the first track")
+        void shouldMapFirstTrack() {
+            // Given: Spotify knows the track
+            SpotifyTrack track = new SpotifyTrack("3z8h0TU7ReDPLIbEnYhWZb", "Bohemian Rhapsody",
+                    List.of(new SpotifyArtist("1dfeR4HaWDbWqFHLkxsg1d", "Queen")), TEST_ISRC);
+            when(spotifyClient.search("isrc:" + TEST_ISRC, "track", "FR", 1)).thenReturn(response(track));
+
+            // When: Getting track metadata
+            ExternalTrackMetadata result = adapter.getTrackByIsrc(TEST_ISRC);
+
+            // Then: Should map the track with name-only artist credits
+            assertEquals(TEST_ISRC, result.getIsrc());
+            assertEquals("Bohemian Rhapsody", result.getTitle());
+            assertEquals(List.of("Queen"), result.getArtistNames());
+            assertNull(result.getArtistCredits().get(0).getArtistId());
+            assertEquals("SPOTIFY", result.getPlatform());
+        }
+    }
+
+    @Nested
+    @DisplayName("Error Handling")
+    class ErrorHandling {
+
+        @Test
+        @DisplayName("Should report not found when the search returns no track")
+        void shouldReportNotFoundForEmptySearch() {
+            when(spotifyClient.search(anyString(), anyString(), anyString(), anyInt())).thenReturn(response());
+
+            TrackNotFoundException exception = assertThrows(TrackNotFoundException.class,
+                    () -> adapter.getTrackByIsrc(TEST_ISRC));
+            assertEquals("spotify", exception.getService());
+        }
+
+        @Test
+        @DisplayName("Should report not found for HTTP 404")
+        void shouldReportNotFoundForHttp404() {
+            when(spotifyClient.search(anyString(), anyString(), anyString(), anyInt()))
+                    .thenThrow(new WebApplicationException(404));
+
+            assertThrows(TrackNotFoundException.class, () -> adapter.getTrackByIsrc(TEST_ISRC));
+        }
+
+        @Test
+        @DisplayName("Should report a service error for other HTTP errors")
+        void shouldReportServiceErrorForHttpErrors() {
+            when(spotifyClient.search(anyString(), anyString(), anyString(), anyInt()))
+                    .thenThrow(new WebApplicationException(503));
+
+            ExternalServiceException exception = assertThrows(ExternalServiceException.class,
+                    () -> adapter.getTrackByIsrc(TEST_ISRC));
+            assertFalse(exception instanceof TrackNotFoundException);
+        }
+
+        @Test
+        @DisplayName("Should report a service error for connection failures")
+        void shouldReportServiceErrorForConnectionFailures() {
+            when(spotifyClient.search(anyString(), anyString(), anyString(), anyInt()))
+                    .thenThrow(new ProcessingException("Connection refused"));
+
+            ExternalServiceException exception = assertThrows(ExternalServiceException.class,
+                    () -> adapter.getTrackByIsrc(TEST_ISRC));
+            assertFalse(exception instanceof TrackNotFoundException);
+        }
+    }
+
+    @Test
+    @DisplayName("Should be a Spotify source, disabled unless configured")
+    void shouldDescribePlatform() {
+        assertEquals(SourceType.SPOTIFY, adapter.sourceType());
+        assertTrue(adapter.isEnabled());
+        assertFalse(new SpotifyMusicPlatformAdapter(spotifyClient, false, "US").isEnabled());
+    }
+}
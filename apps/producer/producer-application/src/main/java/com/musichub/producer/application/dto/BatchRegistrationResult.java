@@ -0,0 +1,18 @@
+package com.musichub.producer.application.dto;
+
+import java.util.List;
+
+/**
+ * Result of a batch registration: one outcome per distinct requested ISRC, in
+ * request order.
+ */
+public record BatchRegistrationResult(List<TrackRegistrationOutcome> outcomes) {
+
+    public BatchRegistrationResult {
+        outcomes = List.copyOf(outcomes != null ? outcomes : List.of());
+    }
+
+    public long count(RegistrationStatus status) {
+        return outcomes.stream().filter(outcome -> outcome.status() == status).count();
+    }
+}
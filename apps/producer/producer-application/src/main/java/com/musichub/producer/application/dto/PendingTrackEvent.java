@@ -0,0 +1,18 @@
+package com.musichub.producer.application.dto;
+
+import java.util.Objects;
+
+import com.musichub.shared.events.TrackWasRegistered;
+
+/**
+ * A TrackWasRegistered event waiting in the outbox to be dispatched.
+ *
+ * @param id    outbox position of the event, increasing in the order events were staged
+ * @param event the event to dispatch
+ */
+public record PendingTrackEvent(long id, TrackWasRegistered event) {
+
+    public PendingTrackEvent {
+        Objects.requireNonNull(event, "event must not be null");
+    }
+}
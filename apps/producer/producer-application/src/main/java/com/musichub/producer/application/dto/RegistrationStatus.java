@@ -0,0 +1,15 @@
+package com.musichub.producer.application.dto;
+
+/**
+ * Outcome of registering a single ISRC.
+ */
+public enum RegistrationStatus {
+    /** The track was added to its producer. */
+    ADDED,
+    /** The producer already owned the track; nothing was changed. */
+    ALREADY_PRESENT,
+    /** The external music platform does not know the ISRC. */
+    NOT_FOUND,
+    /** The ISRC is invalid, or fetching/persisting it failed. */
+    FAILED
+}
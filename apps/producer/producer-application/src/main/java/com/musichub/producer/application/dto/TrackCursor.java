@@ -0,0 +1,48 @@
+package com.musichub.producer.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Position in the recent tracks listing: the (submission date, track id) of
+ * the last track of a page. The next page starts strictly after it, so pages
+ * neither skip nor repeat tracks when new ones are registered meanwhile.
+ * <p>
+ * Exchanged with clients as an opaque, URL-safe token.
+ */
+public record TrackCursor(LocalDateTime createdAt, UUID trackId) {
+
+    private static final char SEPARATOR = '_';
+
+    public TrackCursor {
+        Objects.requireNonNull(createdAt, "createdAt must not be null");
+        Objects.requireNonNull(trackId, "trackId must not be null");
+    }
+
+    /**
+     * @return the opaque token handed to clients
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + trackId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code token} was not produced by {@link #encode()}
+     */
+    public static TrackCursor decode(String token) {
+        Objects.requireNonNull(token, "cursor must not be null");
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new TrackCursor(LocalDateTime.parse(raw.substring(0, Math.max(separator, 0))),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
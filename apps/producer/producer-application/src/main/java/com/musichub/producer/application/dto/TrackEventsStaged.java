@@ -0,0 +1,11 @@
+package com.musichub.producer.application.dto;
+
+/**
+ * Fired when TrackWasRegistered events are written to the outbox, so that a
+ * relay observing it after the transaction commits can dispatch them without
+ * waiting for its next poll.
+ *
+ * @param count how many events were staged
+ */
+public record TrackEventsStaged(int count) {
+}
@@ -7,6 +7,8 @@ import java.util.Objects;
 import com.musichub.shared.domain.values.Source;
 import com.musichub.producer.domain.values.TrackStatus;
 import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.events.ArtistCreditInfo;
+import com.musichub.shared.events.TrackWasRegistered;
 
 /**
  * Domain DTO representing track information with producer context.
@@ -27,4 +29,19 @@ public record TrackInfo(
         Objects.requireNonNull(status, "status must not be null");
         Objects.requireNonNull(submissionDate, "submissionDate must not be null");
     }
+
+    /**
+     * Builds the track information carried by a registration event. A newly
+     * registered track is always provisional.
+     *
+     * @param event        the registration event
+     * @param registeredAt when the registration is deemed to have happened
+     */
+    public static TrackInfo registered(TrackWasRegistered event, LocalDateTime registeredAt) {
+        List<String> artistNames = event.artistCredits() == null ? List.of()
+                : event.artistCredits().stream().map(ArtistCreditInfo::artistName).toList();
+        List<Source> sources = event.sources() == null ? List.of()
+                : event.sources().stream().map(source -> Source.of(source.sourceName(), source.sourceId())).toList();
+        return new TrackInfo(event.isrc(), event.title(), artistNames, sources, TrackStatus.PROVISIONAL, registeredAt);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.musichub.producer.application.dto;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * One page of the recent tracks listing, newest first.
+ *
+ * @param tracks     the tracks of this page
+ * @param nextCursor where the next page starts, or null on the last page
+ */
+public record TrackPage(List<TrackInfo> tracks, TrackCursor nextCursor) {
+
+    public TrackPage {
+        tracks = List.copyOf(Objects.requireNonNull(tracks, "tracks must not be null"));
+    }
+
+    public static TrackPage last(List<TrackInfo> tracks) {
+        return new TrackPage(tracks, null);
+    }
+
+    public Optional<TrackCursor> next() {
+        return Optional.ofNullable(nextCursor);
+    }
+}
@@ -0,0 +1,33 @@
+package com.musichub.producer.application.dto;
+
+import java.util.Objects;
+
+/**
+ * Per-ISRC result of a batch registration.
+ *
+ * @param isrc    the normalized ISRC, or the raw input when it could not be parsed
+ * @param status  the registration outcome
+ * @param message optional detail explaining a NOT_FOUND or FAILED outcome
+ */
+public record TrackRegistrationOutcome(String isrc, RegistrationStatus status, String message) {
+
+    public TrackRegistrationOutcome {
+        Objects.requireNonNull(status, "status must not be null");
+    }
+
+    public static TrackRegistrationOutcome added(String isrc) {
+        return new TrackRegistrationOutcome(isrc, RegistrationStatus.ADDED, null);
+    }
+
+    public static TrackRegistrationOutcome alreadyPresent(String isrc) {
+        return new TrackRegistrationOutcome(isrc, RegistrationStatus.ALREADY_PRESENT, null);
+    }
+
+    public static TrackRegistrationOutcome notFound(String isrc, String message) {
+        return new TrackRegistrationOutcome(isrc, RegistrationStatus.NOT_FOUND, message);
+    }
+
+    public static TrackRegistrationOutcome failed(String isrc, String message) {
+        return new TrackRegistrationOutcome(isrc, RegistrationStatus.FAILED, message);
+    }
+}
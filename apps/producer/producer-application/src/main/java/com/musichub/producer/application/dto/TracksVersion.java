@@ -0,0 +1,19 @@
+package com.musichub.producer.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Version of the recent tracks listing, cheap to compute: when it has not
+ * changed, neither has the listing.
+ *
+ * @param lastModified when a track was last created or updated
+ * @param tag          opaque token that changes whenever the listing may have changed
+ */
+public record TracksVersion(LocalDateTime lastModified, String tag) {
+
+    public TracksVersion {
+        Objects.requireNonNull(lastModified, "lastModified must not be null");
+        Objects.requireNonNull(tag, "tag must not be null");
+    }
+}
@@ -0,0 +1,28 @@
+package com.musichub.producer.application.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when an external music platform cannot be called right now
+ * because its rate limit is exhausted. Not a failure of the lookup: carries how
+ * long to wait so that callers can be told when to retry.
+ */
+public class ExternalServiceBackPressureException extends ExternalServiceException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Duration retryAfter;
+
+    public ExternalServiceBackPressureException(String message, String isrc, String service, Duration retryAfter,
+                                                Throwable cause) {
+        super(message, isrc, service, cause);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return how long to wait before trying again
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
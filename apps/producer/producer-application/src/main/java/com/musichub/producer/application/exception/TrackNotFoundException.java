@@ -0,0 +1,20 @@
+package com.musichub.producer.application.exception;
+
+/**
+ * Exception thrown when an external music platform answered successfully but
+ * does not know the requested ISRC. Distinguishes a definitive "not found" from
+ * transient platform failures so callers (e.g. batch registration) can report
+ * them separately.
+ */
+public class TrackNotFoundException extends ExternalServiceException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TrackNotFoundException(String message, String isrc, String service) {
+        super(message, isrc, service);
+    }
+
+    public TrackNotFoundException(String message, String isrc, String service, Throwable cause) {
+        super(message, isrc, service, cause);
+    }
+}
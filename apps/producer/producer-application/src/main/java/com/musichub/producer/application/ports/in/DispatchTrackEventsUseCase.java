@@ -0,0 +1,22 @@
+package com.musichub.producer.application.ports.in;
+
+/**
+ * Use case for relaying the events of the outbox to their consumers.
+ */
+public interface DispatchTrackEventsUseCase {
+
+    /**
+     * Publishes a batch of pending events and marks them dispatched.
+     *
+     * @param batchSize the maximum number of events to dispatch
+     * @return how many events were dispatched, 0 when none was pending
+     */
+    int dispatchBatch(int batchSize);
+
+    /**
+     * Deletes the events dispatched longer ago than the retention.
+     *
+     * @return how many events were deleted
+     */
+    long purgeDispatched();
+}
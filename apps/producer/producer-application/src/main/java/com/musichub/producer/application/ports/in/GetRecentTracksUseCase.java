@@ -1,8 +1,11 @@
 package com.musichub.producer.application.ports.in;
 
 import com.musichub.producer.application.dto.TrackInfo;
+import com.musichub.producer.application.dto.TrackPage;
+import com.musichub.producer.application.dto.TracksVersion;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Use case for retrieving recent tracks across all producers.
@@ -25,4 +28,26 @@ public interface GetRecentTracksUseCase {
     default List<TrackInfo> getRecentTracks() {
         return getRecentTracks(10);
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieves one page of recently submitted tracks from all producers.
+     *
+     * @param limit maximum number of tracks to return
+     * @param after cursor returned with the previous page, or null for the first page
+     * @return the tracks ordered by submission date (newest first), and the cursor of the next page if any
+     * @throws IllegalArgumentException if the limit is out of range or the cursor is invalid
+     */
+    TrackPage getRecentTracks(int limit, String after);
+
+    /**
+     * Returns the current version of the page {@link #getRecentTracks(int, String)}
+     * would return, without loading any track, so that clients can be told
+     * their copy is still current.
+     *
+     * @param limit maximum number of tracks of the page
+     * @param after cursor of the page, or null for the first page
+     * @return the version, or empty if there is no track
+     * @throws IllegalArgumentException if the limit is out of range
+     */
+    Optional<TracksVersion> getRecentTracksVersion(int limit, String after);
+}
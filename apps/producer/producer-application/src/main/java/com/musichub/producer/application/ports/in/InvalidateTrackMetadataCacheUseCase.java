@@ -0,0 +1,7 @@
+package com.musichub.producer.application.ports.in;
+
+public interface InvalidateTrackMetadataCacheUseCase {
+    boolean invalidate(String isrc);
+
+    void invalidateAll();
+}
@@ -0,0 +1,17 @@
+package com.musichub.producer.application.ports.in;
+
+import com.musichub.shared.events.TrackWasRegistered;
+
+/**
+ * Use case for keeping the recent tracks listing up to date as tracks are
+ * registered, without querying the track store.
+ */
+public interface RecordRecentTrackUseCase {
+
+    /**
+     * Records a freshly registered track as the newest recent track.
+     *
+     * @param event the registration event
+     */
+    void recordRegisteredTrack(TrackWasRegistered event);
+}
@@ -0,0 +1,9 @@
+package com.musichub.producer.application.ports.in;
+
+import java.util.List;
+
+import com.musichub.producer.application.dto.BatchRegistrationResult;
+
+public interface RegisterTracksBatchUseCase {
+    BatchRegistrationResult registerTracks(List<String> isrcs, String correlationId);
+}
@@ -1,10 +1,14 @@
 package com.musichub.producer.application.ports.out;
 
 import com.musichub.producer.domain.model.Producer;
+import com.musichub.producer.domain.model.Track;
 import com.musichub.producer.domain.values.ProducerId;
+import com.musichub.shared.domain.values.ISRC;
 import com.musichub.shared.domain.values.ProducerCode;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ProducerRepository {
     Optional<Producer> findById(ProducerId id);
@@ -12,4 +16,23 @@ public interface ProducerRepository {
     Optional<Producer> findByProducerCode(ProducerCode code);
 
     Producer save(Producer producer);
+
+    /**
+     * Loads the producer without its tracks: the returned aggregate has an empty
+     * track set. Used by the registration path, whose cost must not depend on
+     * the size of the producer's catalog.
+     */
+    Optional<Producer> findHeaderByProducerCode(ProducerCode code);
+
+    /**
+     * Returns which of the given ISRCs are already stored for the producer.
+     */
+    Set<ISRC> findExistingIsrcs(ProducerId producerId, Collection<ISRC> isrcs);
+
+    /**
+     * Inserts new tracks for the producer, creating the producer when it is not
+     * stored yet. Tracks already stored are neither loaded nor rewritten; the
+     * caller must have checked that none of {@code tracks} exists.
+     */
+    void appendTracks(Producer producer, Collection<Track> tracks);
 }
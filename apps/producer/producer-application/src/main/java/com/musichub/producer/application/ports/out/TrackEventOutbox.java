@@ -0,0 +1,43 @@
+package com.musichub.producer.application.ports.out;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import com.musichub.producer.application.dto.PendingTrackEvent;
+import com.musichub.shared.events.TrackWasRegistered;
+
+/**
+ * Transactional outbox of the TrackWasRegistered events.
+ * <p>
+ * Events are written in the transaction that saves their tracks, so an event
+ * exists if and only if its track does, and dispatched from the outbox once
+ * that transaction has committed. Dispatch is at least once: consumers must
+ * tolerate an event delivered twice.
+ */
+public interface TrackEventOutbox {
+
+    /**
+     * Stages events for dispatch. Joins the caller's transaction.
+     */
+    void append(List<TrackWasRegistered> events);
+
+    /**
+     * Locks up to {@code limit} pending events, the first staged first,
+     * skipping the events that another relay has locked. The locks are held
+     * until the caller's transaction ends, which the caller must provide.
+     */
+    List<PendingTrackEvent> lockPending(int limit);
+
+    /**
+     * Marks events dispatched, in bulk.
+     */
+    void markDispatched(Collection<Long> ids, Instant dispatchedAt);
+
+    /**
+     * Deletes the events dispatched before {@code before}.
+     *
+     * @return how many events were deleted
+     */
+    long purgeDispatched(Instant before);
+}
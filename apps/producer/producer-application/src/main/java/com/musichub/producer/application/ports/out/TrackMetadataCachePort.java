@@ -0,0 +1,20 @@
+package com.musichub.producer.application.ports.out;
+
+/**
+ * Port for invalidating cached external track metadata.
+ */
+public interface TrackMetadataCachePort {
+
+    /**
+     * Drops the cached entry (positive or negative) for one ISRC.
+     *
+     * @param isrc the ISRC, in any accepted format
+     * @return true if an entry was present
+     */
+    boolean invalidate(String isrc);
+
+    /**
+     * Drops every cached entry.
+     */
+    void invalidateAll();
+}
@@ -1,8 +1,12 @@
 package com.musichub.producer.application.ports.out;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import com.musichub.producer.application.dto.TrackCursor;
 import com.musichub.producer.application.dto.TrackInfo;
+import com.musichub.producer.application.dto.TrackPage;
 
 /**
  * Repository port for Track-specific queries that span across producers.
@@ -19,4 +23,20 @@ public interface TrackRepository {
      * @return list of track information ordered by submission date (newest first)
      */
     List<TrackInfo> findRecentTracks(int limit);
+
+    /**
+     * Retrieves one page of recent tracks across all producers, by keyset on
+     * (submission date, track id): the cost does not depend on how deep the
+     * page is, nor on the size of the table.
+     *
+     * @param limit maximum number of tracks to return
+     * @param after where the page starts (exclusive), or null for the first page
+     * @return the tracks ordered newest first, and the cursor of the next page if any
+     */
+    TrackPage findRecentTracks(int limit, TrackCursor after);
+
+    /**
+     * @return when a track was last created or updated, or empty if there is no track
+     */
+    Optional<LocalDateTime> findLastModified();
 }
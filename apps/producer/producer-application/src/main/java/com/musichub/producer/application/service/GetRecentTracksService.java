@@ -1,45 +1,110 @@
 package com.musichub.producer.application.service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.musichub.producer.application.dto.TrackCursor;
 import com.musichub.producer.application.dto.TrackInfo;
+import com.musichub.producer.application.dto.TrackPage;
+import com.musichub.producer.application.dto.TracksVersion;
 import com.musichub.producer.application.ports.in.GetRecentTracksUseCase;
 import com.musichub.producer.application.ports.out.TrackRepository;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+/**
+ * Lists recent tracks. The first page is served from the in-memory
+ * {@link RecentTracksFeed} when it can; deeper pages, and any page while the
+ * feed is not seeded, are read from the track store. The version of a page
+ * comes from whichever of the two serves it.
+ */
 @ApplicationScoped
 public class GetRecentTracksService implements GetRecentTracksUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(GetRecentTracksService.class);
+    private static final int MAX_LIMIT = 100;
 
     private final TrackRepository trackRepository;
+    private final RecentTracksFeed recentTracksFeed;
 
     @Inject
-    public GetRecentTracksService(TrackRepository trackRepository) {
+    public GetRecentTracksService(TrackRepository trackRepository, RecentTracksFeed recentTracksFeed) {
         this.trackRepository = Objects.requireNonNull(trackRepository);
+        this.recentTracksFeed = Objects.requireNonNull(recentTracksFeed);
     }
 
     @Override
     public List<TrackInfo> getRecentTracks(int limit) {
-        if (limit <= 0) {
-            throw new IllegalArgumentException("Limit must be positive, got: " + limit);
-        }
-        if (limit > 100) {
-            throw new IllegalArgumentException("Limit cannot exceed 100, got: " + limit);
-        }
+        validateLimit(limit);
 
         logger.debug("Retrieving {} most recent tracks across all producers", limit);
 
+        Optional<TrackPage> fromFeed = recentTracksFeed.firstPage(limit);
+        if (fromFeed.isPresent()) {
+            return fromFeed.get().tracks();
+        }
+
         List<TrackInfo> recentTracks = trackRepository.findRecentTracks(limit);
 
         logger.info("Retrieved {} recent tracks from repository", recentTracks.size());
 
         return recentTracks;
     }
-}
\ No newline at end of file
+
+    @Override
+    public TrackPage getRecentTracks(int limit, String after) {
+        validateLimit(limit);
+        TrackCursor cursor = after == null || after.isBlank() ? null : TrackCursor.decode(after);
+
+        logger.debug("Retrieving {} recent tracks after cursor {}", limit, cursor);
+
+        if (cursor == null) {
+            Optional<TrackPage> fromFeed = recentTracksFeed.firstPage(limit);
+            if (fromFeed.isPresent()) {
+                return fromFeed.get();
+            }
+        }
+
+        TrackPage page = trackRepository.findRecentTracks(limit, cursor);
+
+        logger.info("Retrieved a page of {} recent tracks from repository", page.tracks().size());
+
+        return page;
+    }
+
+    @Override
+    public Optional<TracksVersion> getRecentTracksVersion(int limit, String after) {
+        validateLimit(limit);
+        // Same choice of source as getRecentTracks: the feed versions the first page it serves in memory
+        if (after == null || after.isBlank()) {
+            Optional<TracksVersion> fromFeed = recentTracksFeed.firstPageVersion(limit);
+            if (fromFeed.isPresent()) {
+                return fromFeed;
+            }
+        }
+        return trackRepository.findLastModified()
+                .map(lastModified -> new TracksVersion(lastModified, tagOf(lastModified)));
+    }
+
+    private static String tagOf(LocalDateTime lastModified) {
+        // Any fixed offset will do: the tag only has to change when the timestamp does
+        return "s" + Long.toHexString(lastModified.toEpochSecond(ZoneOffset.UTC)) + "."
+                + Integer.toHexString(lastModified.getNano());
+    }
+
+    private static void validateLimit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive, got: " + limit);
+        }
+        if (limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit cannot exceed " + MAX_LIMIT + ", got: " + limit);
+        }
+    }
+}
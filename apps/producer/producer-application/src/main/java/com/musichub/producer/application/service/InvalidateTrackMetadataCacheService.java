@@ -0,0 +1,44 @@
+package com.musichub.producer.application.service;
+
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.musichub.producer.application.ports.in.InvalidateTrackMetadataCacheUseCase;
+import com.musichub.producer.application.ports.out.TrackMetadataCachePort;
+import com.musichub.shared.domain.values.ISRC;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class InvalidateTrackMetadataCacheService implements InvalidateTrackMetadataCacheUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvalidateTrackMetadataCacheService.class);
+
+    private final TrackMetadataCachePort trackMetadataCachePort;
+
+    @Inject
+    public InvalidateTrackMetadataCacheService(TrackMetadataCachePort trackMetadataCachePort) {
+        this.trackMetadataCachePort = Objects.requireNonNull(trackMetadataCachePort);
+    }
+
+    @Override
+    public boolean invalidate(String isrc) {
+        if (isrc == null || isrc.isBlank()) {
+            throw new IllegalArgumentException("ISRC must not be blank");
+        }
+        // Reject what is not an ISRC rather than answering that nothing is cached for it
+        ISRC normalized = ISRC.normalized(isrc);
+        boolean removed = trackMetadataCachePort.invalidate(normalized.value());
+        logger.info("Invalidated track metadata cache entry for ISRC {} (present: {})", isrc, removed);
+        return removed;
+    }
+
+    @Override
+    public void invalidateAll() {
+        trackMetadataCachePort.invalidateAll();
+        logger.info("Invalidated the whole track metadata cache");
+    }
+}
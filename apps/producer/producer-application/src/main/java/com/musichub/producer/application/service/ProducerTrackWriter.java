@@ -0,0 +1,235 @@
+package com.musichub.producer.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.producer.application.dto.TrackEventsStaged;
+import com.musichub.producer.application.dto.TrackRegistrationOutcome;
+import com.musichub.producer.application.ports.out.ProducerRepository;
+import com.musichub.producer.application.ports.out.TrackEventOutbox;
+import com.musichub.producer.domain.model.Producer;
+import com.musichub.producer.domain.model.Track;
+import com.musichub.producer.domain.values.ArtistCredit;
+import com.musichub.shared.domain.id.ArtistId;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.domain.values.ProducerCode;
+import com.musichub.shared.domain.values.Source;
+import com.musichub.shared.events.ArtistCreditInfo;
+import com.musichub.shared.events.SourceInfo;
+import com.musichub.shared.events.TrackWasRegistered;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+/**
+ * Persist phase of track registration.
+ * <p>
+ * Writes already-fetched track metadata for one producer inside one short
+ * transaction. The producer is loaded without its tracks, the target ISRCs are
+ * checked against the store, and only the new tracks are inserted, so the cost
+ * of a registration does not grow with the producer's catalogue. A
+ * TrackWasRegistered event is written to the {@link TrackEventOutbox}, in the
+ * same transaction, for every track that was actually added; the
+ * {@link TrackEventRelay} publishes it once the transaction has committed. No
+ * external call is ever made from here, so a database connection is only held
+ * for the duration of the local work.
+ */
+@ApplicationScoped
+public class ProducerTrackWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProducerTrackWriter.class);
+
+    private final ProducerRepository producerRepository;
+    private final TrackEventOutbox trackEventOutbox;
+    private final Event<TrackEventsStaged> eventsStaged;
+
+    @Inject
+    public ProducerTrackWriter(ProducerRepository producerRepository, TrackEventOutbox trackEventOutbox,
+                               Event<TrackEventsStaged> eventsStaged) {
+        this.producerRepository = Objects.requireNonNull(producerRepository);
+        this.trackEventOutbox = Objects.requireNonNull(trackEventOutbox);
+        this.eventsStaged = Objects.requireNonNull(eventsStaged);
+    }
+
+    /**
+     * Registers a single track on its producer.
+     * <p>
+     * The returned producer is the stored header holding only the registered
+     * track, so callers can answer without reading the whole catalogue back.
+     * When the track was already stored, it is described by the metadata just
+     * fetched rather than by the stored row.
+     *
+     * @param isrc                 the normalized ISRC
+     * @param metadata             metadata fetched for the ISRC
+     * @param serviceCorrelationId the correlation ID for tracing
+     * @return the producer header with the registered track as its only track
+     */
+    @Transactional
+    public Producer registerTrack(ISRC isrc, ExternalTrackMetadata metadata, String serviceCorrelationId) {
+        Objects.requireNonNull(isrc, "ISRC must not be null");
+        Objects.requireNonNull(metadata, "metadata must not be null");
+
+        ProducerCode code = ProducerCode.with(isrc);
+        Registration registration = append(code, Map.of(isrc, metadata));
+        logger.info("Track details saved to producer aggregate for ISRC: {} (correlationId: {})",
+                isrc.value(), serviceCorrelationId);
+
+        Producer producer = registration.producer();
+        Producer registered = Producer.from(producer.id(), producer.producerCode(), producer.name(),
+                Set.of(registration.tracks().get(0)));
+
+        if (registration.added().isEmpty()) {
+            logger.debug("Track already exists in producer, no event will be staged for ISRC: {} (correlationId: {})",
+                    isrc.value(), serviceCorrelationId);
+            return registered;
+        }
+
+        MDC.put("business_context", Map.of(
+                "producer_code", code.value(),
+                "isrc", isrc.value(),
+                "operation", "track_registration").toString());
+        logger.info("Track was added to producer, staging TrackWasRegistered event for ISRC: {} (correlationId: {})",
+                isrc.value(), serviceCorrelationId);
+        stageTrackWasRegistered(registration.added(), producer, serviceCorrelationId);
+        return registered;
+    }
+
+    /**
+     * Registers the given tracks on the producer identified by {@code code}.
+     * Nothing is written when every track is already present.
+     *
+     * @param code   the producer code shared by every ISRC in {@code tracks}
+     * @param tracks normalized ISRCs mapped to the metadata fetched for them
+     * @return one outcome per entry of {@code tracks}, in iteration order
+     */
+    @Transactional
+    public List<TrackRegistrationOutcome> registerTracks(ProducerCode code, Map<ISRC, ExternalTrackMetadata> tracks) {
+        Objects.requireNonNull(code, "ProducerCode must not be null");
+        Objects.requireNonNull(tracks, "tracks must not be null");
+
+        Registration registration = append(code, tracks);
+        Set<ISRC> added = registration.added().stream().map(Track::isrc).collect(Collectors.toSet());
+
+        List<TrackRegistrationOutcome> outcomes = new ArrayList<>(tracks.size());
+        for (ISRC isrc : tracks.keySet()) {
+            outcomes.add(added.contains(isrc)
+                    ? TrackRegistrationOutcome.added(isrc.value())
+                    : TrackRegistrationOutcome.alreadyPresent(isrc.value()));
+        }
+
+        if (added.isEmpty()) {
+            logger.debug("No new tracks for producer {}, nothing to save", code.value());
+            return outcomes;
+        }
+        logger.info("Saved producer {} with {} new track(s)", code.value(), added.size());
+
+        stageTrackWasRegistered(registration.added(), registration.producer(), null);
+        return outcomes;
+    }
+
+    /**
+     * Inserts the tracks of {@code tracks} that the producer does not have yet.
+     * The producer invariants (producer code match, one track per ISRC) are
+     * enforced by {@link Producer#newTrack} and by the existence check.
+     */
+    private Registration append(ProducerCode code, Map<ISRC, ExternalTrackMetadata> tracks) {
+        Optional<Producer> stored = producerRepository.findHeaderByProducerCode(code);
+        Producer producer = stored.orElseGet(() -> Producer.createNew(code, null));
+        Set<ISRC> existing = stored.isPresent()
+                ? producerRepository.findExistingIsrcs(producer.id(), tracks.keySet())
+                : Set.of();
+
+        List<Track> built = new ArrayList<>(tracks.size());
+        List<Track> added = new ArrayList<>();
+        tracks.forEach((isrc, metadata) -> {
+            Track track = producer.newTrack(isrc, metadata.getTitle(), toArtistCredits(metadata),
+                    List.of(toSource(metadata)));
+            built.add(track);
+            if (!existing.contains(track.isrc())) {
+                added.add(track);
+            }
+        });
+
+        if (!added.isEmpty()) {
+            producerRepository.appendTracks(producer, added);
+        }
+        return new Registration(producer, built, added);
+    }
+
+    private static List<ArtistCredit> toArtistCredits(ExternalTrackMetadata metadata) {
+        return metadata.getArtistCredits().stream()
+                .map(dto -> ArtistCredit.with(dto.getArtistName(),
+                        dto.getArtistId() != null ? new ArtistId(dto.getArtistId()) : null))
+                .toList();
+    }
+
+    private static Source toSource(ExternalTrackMetadata metadata) {
+        return Source.of(metadata.getPlatform().toUpperCase(), metadata.getIsrc());
+    }
+
+    /**
+     * Stages TrackWasRegistered for the tracks that were just added, in one
+     * outbox write. The event contains all data required by the domain
+     * charter: isrc, title, producerId, artistCredits and sources.
+     */
+    private void stageTrackWasRegistered(List<Track> tracks, Producer producer, String serviceCorrelationId) {
+        MDC.put("business_context", Map.of(
+                "producer_code", producer.producerCode().value(),
+                "operation", "event_staging").toString());
+
+        List<TrackWasRegistered> events = tracks.stream()
+                .map(track -> toTrackWasRegistered(track, producer))
+                .toList();
+        trackEventOutbox.append(events);
+        eventsStaged.fire(new TrackEventsStaged(events.size()));
+
+        if (logger.isInfoEnabled()) {
+            for (TrackWasRegistered event : events) {
+                logger.info(
+                        "Staged TrackWasRegistered event for ISRC: {} - Title: '{}' by {} - ProducerId: {} - Sources: {} (correlationId: {})",
+                        event.isrc().value(), event.title(),
+                        event.artistCredits().stream().map(ArtistCreditInfo::artistName).toList(),
+                        event.producerId(), event.sources().size() + " sources", serviceCorrelationId);
+            }
+        }
+
+        MDC.remove("business_context");
+    }
+
+    private static TrackWasRegistered toTrackWasRegistered(Track track, Producer producer) {
+        List<SourceInfo> sources = track.sources().stream()
+                .map(source -> new SourceInfo(source.getSourceName(), source.sourceId()))
+                .toList();
+        List<ArtistCreditInfo> artistCredits = track.credits().stream()
+                .map(credit -> new ArtistCreditInfo(
+                        credit.artistName(),
+                        credit.artistId() != null ? credit.artistId().value().toString() : null))
+                .toList();
+
+        return new TrackWasRegistered(
+                track.isrc(),
+                track.title(),
+                producer.id().value(),
+                artistCredits,
+                sources);
+    }
+
+    /**
+     * @param tracks one track per requested ISRC, in request order
+     * @param added  the subset of {@code tracks} that was inserted
+     */
+    private record Registration(Producer producer, List<Track> tracks, List<Track> added) {
+    }
+}
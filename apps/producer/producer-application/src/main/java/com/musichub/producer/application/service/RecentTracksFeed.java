@@ -0,0 +1,159 @@
+package com.musichub.producer.application.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.musichub.producer.application.dto.TrackCursor;
+import com.musichub.producer.application.dto.TrackInfo;
+import com.musichub.producer.application.dto.TrackPage;
+import com.musichub.producer.application.dto.TracksVersion;
+import com.musichub.producer.application.ports.in.RecordRecentTrackUseCase;
+import com.musichub.producer.application.ports.out.TrackRepository;
+import com.musichub.shared.domain.id.TrackId;
+import com.musichub.shared.events.TrackWasRegistered;
+import com.musichub.shared.util.concurrent.RecentItemsRing;
+
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+/**
+ * In-memory feed of the latest registered tracks, newest first.
+ * <p>
+ * The feed is seeded from the track store at startup, then kept current from
+ * {@link TrackWasRegistered} events, so the first page of the recent tracks
+ * listing is served without a database round-trip. Until seeding has
+ * succeeded, or for a page larger than {@code producer.recent-tracks.capacity},
+ * the feed answers nothing and callers fall back to the store. A capacity of 0
+ * disables the feed.
+ * <p>
+ * A redelivered event, for a track the feed already holds, is ignored.
+ * Entries recorded from events carry the time the event was consumed rather
+ * than the stored creation time, which is at most a few milliseconds earlier:
+ * a cursor built from such an entry can repeat, but never skip, tracks
+ * registered in that window.
+ * <p>
+ * The version of the page the feed serves is kept in memory as well: it
+ * changes when the feed is seeded and whenever it records a track, so that
+ * revalidating the first page costs no database round-trip either.
+ */
+@ApplicationScoped
+public class RecentTracksFeed implements RecordRecentTrackUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecentTracksFeed.class);
+
+    private final TrackRepository trackRepository;
+    // Null when the feed is disabled
+    private final RecentItemsRing<TrackInfo> ring;
+
+    private volatile boolean seeded;
+    // Whether the store held tracks older than those the ring was seeded with
+    private volatile boolean olderTracksInStore;
+    // When the content of the feed last changed; set after the ring is written
+    private volatile LocalDateTime lastModified;
+
+    @Inject
+    public RecentTracksFeed(
+            TrackRepository trackRepository,
+            @ConfigProperty(name = "producer.recent-tracks.capacity", defaultValue = "100") int capacity) {
+        this.trackRepository = Objects.requireNonNull(trackRepository);
+        if (capacity < 0) {
+            throw new IllegalArgumentException("producer.recent-tracks.capacity must not be negative, got: " + capacity);
+        }
+        this.ring = capacity == 0 ? null : new RecentItemsRing<>(capacity);
+    }
+
+    @Transactional
+    void onStart(@Observes StartupEvent event) {
+        seed();
+    }
+
+    /**
+     * Loads the latest tracks from the store. A failure leaves the feed
+     * unseeded: the listing keeps working from the store.
+     */
+    void seed() {
+        if (ring == null) {
+            return;
+        }
+        try {
+            TrackPage page = trackRepository.findRecentTracks(ring.capacity(), null);
+            List<TrackInfo> newestFirst = page.tracks();
+            for (int i = newestFirst.size() - 1; i >= 0; i--) {
+                ring.add(newestFirst.get(i));
+            }
+            olderTracksInStore = page.next().isPresent();
+            // Later than any version the store may have served before seeding
+            lastModified = LocalDateTime.now();
+            seeded = true;
+            logger.info("Seeded recent tracks feed with {} tracks", newestFirst.size());
+        } catch (RuntimeException e) {
+            logger.warn("Could not seed recent tracks feed, recent tracks will be read from the store", e);
+        }
+    }
+
+    @Override
+    public void recordRegisteredTrack(TrackWasRegistered event) {
+        if (ring == null) {
+            return;
+        }
+        // Events are delivered at least once: a track already in the feed is a redelivery
+        for (TrackInfo track : ring.latest(ring.capacity())) {
+            if (track.isrc().equals(event.isrc())) {
+                logger.debug("Track {} already in recent tracks feed", event.isrc().value());
+                return;
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        ring.add(TrackInfo.registered(event, now));
+        LocalDateTime previous = lastModified;
+        lastModified = previous != null && previous.isAfter(now) ? previous : now;
+        logger.debug("Recorded track {} in recent tracks feed", event.isrc().value());
+    }
+
+    /**
+     * @return the first page of the listing, or empty if the feed cannot serve it
+     */
+    public Optional<TrackPage> firstPage(int limit) {
+        if (!seeded || limit > ring.capacity()) {
+            return Optional.empty();
+        }
+        long writes = ring.writes();
+        List<TrackInfo> tracks = ring.latest(limit);
+        boolean hasMore = writes > limit || olderTracksInStore;
+        TrackCursor nextCursor = hasMore && !tracks.isEmpty() ? cursorOf(tracks.get(tracks.size() - 1)) : null;
+        return Optional.of(new TrackPage(tracks, nextCursor));
+    }
+
+    /**
+     * Returns the version of the page {@link #firstPage(int)} serves for the
+     * same limit. Read before the page, it is never newer than the page: a
+     * track recorded in between only makes the client's next request miss.
+     *
+     * @return the version, or empty if the feed cannot serve the page
+     */
+    public Optional<TracksVersion> firstPageVersion(int limit) {
+        if (!seeded || limit > ring.capacity()) {
+            return Optional.empty();
+        }
+        LocalDateTime modified = lastModified;
+        long writes = ring.writes();
+        // Any fixed offset will do: the tag only has to change when the timestamp or the write count does
+        String tag = "f" + Long.toHexString(modified.toEpochSecond(ZoneOffset.UTC)) + "."
+                + Integer.toHexString(modified.getNano()) + "-" + Long.toHexString(writes);
+        return Optional.of(new TracksVersion(modified, tag));
+    }
+
+    private static TrackCursor cursorOf(TrackInfo track) {
+        return new TrackCursor(track.submissionDate(), TrackId.fromISRC(track.isrc().value()).value());
+    }
+}
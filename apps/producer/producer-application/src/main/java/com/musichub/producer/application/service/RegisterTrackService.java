@@ -2,8 +2,6 @@ package com.musichub.producer.application.service;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 import org.slf4j.Logger;
@@ -13,25 +11,29 @@ import org.slf4j.MDC;
 import com.musichub.producer.application.dto.ExternalTrackMetadata;
 import com.musichub.producer.application.exception.ExternalServiceException;
 import com.musichub.producer.application.ports.in.RegisterTrackUseCase;
-import com.musichub.producer.application.ports.out.EventPublisherPort;
 import com.musichub.producer.application.ports.out.MusicPlatformPort;
-import com.musichub.producer.application.ports.out.ProducerRepository;
 import com.musichub.producer.domain.model.Producer;
-import com.musichub.producer.domain.model.Track;
-import com.musichub.producer.domain.values.ArtistCredit;
-import com.musichub.shared.domain.id.ArtistId;
 import com.musichub.shared.domain.values.ISRC;
-import com.musichub.shared.domain.values.ProducerCode;
-import com.musichub.shared.domain.values.Source;
-import com.musichub.shared.events.ArtistCreditInfo;
-import com.musichub.shared.events.SourceInfo;
-import com.musichub.shared.events.TrackWasRegistered;
 import com.musichub.shared.util.CorrelationIdGenerator;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
 
+/**
+ * Registers a track in two phases so that no database connection is held
+ * while waiting on the external music platform:
+ * <ol>
+ * <li>fetch/validate: non-transactional call to {@link MusicPlatformPort}</li>
+ * <li>persist: short transaction in {@link ProducerTrackWriter}</li>
+ * </ol>
+ * The producer returned to the caller is the header returned by the persist
+ * phase with the registered track only: neither the write nor the response
+ * ever loads the producer's existing tracks.
+ * Both phases are timed under {@code producer.registration.phase}; the persist
+ * timer approximates how long a pooled connection is held per registration.
+ */
 @ApplicationScoped
 public class RegisterTrackService implements RegisterTrackUseCase {
 
@@ -40,22 +42,34 @@ public class RegisterTrackService implements RegisterTrackUseCase {
         // Constants for correlation ID generation
         private static final String SERVICE_NAME = "producer";
 
-        private final ProducerRepository producerRepository;
+        static final String PHASE_TIMER = "producer.registration.phase";
+
         private final MusicPlatformPort musicPlatformPort;
-        private final EventPublisherPort eventPublisherPort;
+        private final ProducerTrackWriter producerTrackWriter;
+        private final Timer fetchTimer;
+        private final Timer persistTimer;
 
         @Inject
         public RegisterTrackService(
-                        ProducerRepository producerRepository,
                         MusicPlatformPort musicPlatformPort,
-                        EventPublisherPort eventPublisherPort) {
-                this.producerRepository = Objects.requireNonNull(producerRepository);
+                        ProducerTrackWriter producerTrackWriter,
+                        MeterRegistry meterRegistry) {
                 this.musicPlatformPort = Objects.requireNonNull(musicPlatformPort);
-                this.eventPublisherPort = Objects.requireNonNull(eventPublisherPort);
+                this.producerTrackWriter = Objects.requireNonNull(producerTrackWriter);
+                Objects.requireNonNull(meterRegistry);
+                this.fetchTimer = Timer.builder(PHASE_TIMER)
+                                .description("Duration of the non-transactional metadata fetch phase")
+                                .tag("phase", "fetch")
+                                .publishPercentileHistogram()
+                                .register(meterRegistry);
+                this.persistTimer = Timer.builder(PHASE_TIMER)
+                                .description("Duration of the transactional persist phase (connection hold time)")
+                                .tag("phase", "persist")
+                                .publishPercentileHistogram()
+                                .register(meterRegistry);
         }
 
         @Override
-        @Transactional
         public Producer registerTrack(String isrcValue, String correlationId) {
                 // Generate service-specific correlation ID
                 String serviceCorrelationId = CorrelationIdGenerator.buildServiceCorrelationId(correlationId,
@@ -72,60 +86,16 @@ public class RegisterTrackService implements RegisterTrackUseCase {
                         logger.info("Starting track registration for ISRC: {} (correlationId: {})", isrcValue,
                                         serviceCorrelationId);
 
-                        // 1. NEW: Fetch track metadata from external API FIRST
+                        // 1. Fetch phase: call the external API outside of any transaction.
                         // This will throw ExternalServiceException if it fails, preventing further
                         // processing
-                        Instant apiCallStart = Instant.now();
-                        ExternalTrackMetadata metadata = fetchTrackMetadata(isrcValue, serviceCorrelationId);
-                        Duration apiCallDuration = Duration.between(apiCallStart, Instant.now());
-                        logger.info("External API call completed in {}ms for ISRC: {} (correlationId: {})",
-                                        apiCallDuration.toMillis(), isrcValue, serviceCorrelationId);
-
-                        // 2. Existing logic: normalize ISRC, find/create Producer
-                        // Only proceed if external API call was successful
-                        ISRC normalizedIsrc = ISRC.of(normalizeIsrc(isrcValue));
-                        ProducerCode code = ProducerCode.with(normalizedIsrc);
-
-                        Producer producer = producerRepository.findByProducerCode(code)
-                                        .orElseGet(() -> Producer.createNew(code, null));
-
-                        // 3. NEW: Register track with complete metadata in Producer aggregate (DDD best
-                        // practice)
-                        Source source = Source.of(metadata.getPlatform().toUpperCase(), metadata.getIsrc());
-                        List<ArtistCredit> artistCredits = metadata.getArtistCredits().stream()
-                                        .map(dto -> ArtistCredit.with(dto.getArtistName(),
-                                                        dto.getArtistId() != null ? new ArtistId(dto.getArtistId())
-                                                                        : null))
-                                        .toList();
-
-                        boolean wasAdded = producer.registerTrack(normalizedIsrc, metadata.getTitle(), artistCredits,
-                                        List.of(source));
-
-                        // 5. Save producer to database
-                        Producer savedProducer = producerRepository.save(producer);
-
-                        logger.info("Track details saved to producer aggregate for ISRC: {} (correlationId: {})",
-                                        normalizedIsrc.value(), serviceCorrelationId);
-
-                        // 7. NEW: Publish event only if track was actually added
-                        if (wasAdded) {
-                                // Set business context for structured logging
-                                MDC.put("business_context", Map.of(
-                                                "producer_code", code.value(),
-                                                "isrc", normalizedIsrc.value(),
-                                                "operation", "track_registration").toString());
-
-                                logger.info("Track was added to producer, publishing TrackWasRegistered event for ISRC: {} (correlationId: {})",
-                                                isrcValue, serviceCorrelationId);
-                                // Get the registered track from producer for event publishing
-                                Track registeredTrack = savedProducer.getTrack(normalizedIsrc)
-                                                .orElseThrow(() -> new IllegalStateException(
-                                                                "Track should exist after registration"));
-                                publishTrackWasRegisteredEvent(registeredTrack, savedProducer, serviceCorrelationId);
-                        } else {
-                                logger.debug("Track already exists in producer, no event will be published for ISRC: {} (correlationId: {})",
-                                                isrcValue, serviceCorrelationId);
-                        }
+                        ExternalTrackMetadata metadata = fetchTimer
+                                        .record(() -> fetchTrackMetadata(isrcValue, serviceCorrelationId));
+                        ISRC normalizedIsrc = normalizeIsrc(isrcValue);
+
+                        // 2. Persist phase: short transaction inserting the track on its producer
+                        Producer savedProducer = persistTimer.record(() -> producerTrackWriter
+                                        .registerTrack(normalizedIsrc, metadata, serviceCorrelationId));
 
                         // Log total execution time
                         Duration totalDuration = Duration.between(startTime, Instant.now());
@@ -179,63 +149,10 @@ public class RegisterTrackService implements RegisterTrackUseCase {
                 }
         }
 
-        /**
-         * Publishes TrackWasRegistered event to the Vert.x event bus.
-         * Event contains all required data as specified in domain charter:
-         * isrc, title, producerId, artistCredits, sources.
-         *
-         * @param track         The track that was registered
-         * @param producer      The producer that owns the track
-         * @param correlationId The correlation ID for tracing
-         */
-        private void publishTrackWasRegisteredEvent(Track track, Producer producer, String serviceCorrelationId) {
-                logger.info("Publishing TrackWasRegistered event for track: {} (correlationId: {})",
-                                track.isrc().value(), serviceCorrelationId);
-
-                // Set business context for structured logging
-                MDC.put("business_context", Map.of(
-                                "producer_code", producer.producerCode().value(),
-                                "isrc", track.isrc().value(),
-                                "operation", "event_publishing").toString());
-
-                // Convert domain sources to event source info
-                List<SourceInfo> sources = track.sources().stream()
-                                .map(source -> new SourceInfo(source.getSourceName(), source.sourceId()))
-                                .toList();
-
-                // Convert domain artist credits to event artist credit info
-                List<ArtistCreditInfo> artistCredits = track.credits().stream()
-                                .map(credit -> new ArtistCreditInfo(
-                                                credit.artistName(),
-                                                credit.artistId() != null ? credit.artistId().value().toString()
-                                                                : null))
-                                .toList();
-
-                TrackWasRegistered event = new TrackWasRegistered(
-                                track.isrc(),
-                                track.title(),
-                                producer.id().value(),
-                                artistCredits,
-                                sources);
-
-                this.eventPublisherPort.publishTrackRegistered(event);
-
-                if (logger.isInfoEnabled()) {
-                        logger.info(
-                                        "Successfully published TrackWasRegistered event for ISRC: {} - Title: '{}' by {} - ProducerId: {} - Sources: {} (correlationId: {})",
-                                        track.isrc().value(), track.title(),
-                                        artistCredits.stream().map(ArtistCreditInfo::artistName).toList(),
-                                        producer.id().value(), sources.size() + " sources", serviceCorrelationId);
-                }
-
-                // Clear business context after logging
-                MDC.remove("business_context");
-        }
-
-        private static String normalizeIsrc(String input) {
+        private static ISRC normalizeIsrc(String input) {
                 if (input == null) {
                         throw new IllegalArgumentException("ISRC value must not be null");
                 }
-                return input.replace("-", "").trim().toUpperCase();
+                return ISRC.normalized(input);
         }
 }
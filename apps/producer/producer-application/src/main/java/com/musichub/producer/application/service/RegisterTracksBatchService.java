@@ -0,0 +1,193 @@
+package com.musichub.producer.application.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.musichub.producer.application.dto.BatchRegistrationResult;
+import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.producer.application.dto.TrackRegistrationOutcome;
+import com.musichub.producer.application.exception.TrackNotFoundException;
+import com.musichub.producer.application.ports.in.RegisterTracksBatchUseCase;
+import com.musichub.producer.application.ports.out.MusicPlatformPort;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.domain.values.IsrcCodec;
+import com.musichub.shared.domain.values.ProducerCode;
+import com.musichub.shared.util.CorrelationIdGenerator;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Registers many ISRCs in one call.
+ * <p>
+ * Metadata is fetched concurrently from the music platform (at most
+ * {@code producer.batch.fetch-parallelism} calls in flight), then the fetched
+ * tracks are grouped by {@link ProducerCode} so that each Producer aggregate is
+ * loaded and saved once per batch. A failure on one ISRC or one producer never
+ * aborts the rest of the batch; it is reported in that ISRC's outcome.
+ */
+@ApplicationScoped
+public class RegisterTracksBatchService implements RegisterTracksBatchUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegisterTracksBatchService.class);
+
+    private static final String SERVICE_NAME = "producer";
+
+    private final MusicPlatformPort musicPlatformPort;
+    private final ProducerTrackWriter producerTrackWriter;
+    private final int fetchParallelism;
+    private final int maxBatchSize;
+
+    @Inject
+    public RegisterTracksBatchService(
+            MusicPlatformPort musicPlatformPort,
+            ProducerTrackWriter producerTrackWriter,
+            @ConfigProperty(name = "producer.batch.fetch-parallelism", defaultValue = "8") int fetchParallelism,
+            @ConfigProperty(name = "producer.batch.max-size", defaultValue = "500") int maxBatchSize) {
+        this.musicPlatformPort = Objects.requireNonNull(musicPlatformPort);
+        this.producerTrackWriter = Objects.requireNonNull(producerTrackWriter);
+        if (fetchParallelism < 1) {
+            throw new IllegalArgumentException("producer.batch.fetch-parallelism must be at least 1");
+        }
+        this.fetchParallelism = fetchParallelism;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public BatchRegistrationResult registerTracks(List<String> isrcValues, String correlationId) {
+        if (isrcValues == null || isrcValues.isEmpty()) {
+            throw new IllegalArgumentException("ISRC list must not be empty");
+        }
+        if (isrcValues.size() > maxBatchSize) {
+            throw new IllegalArgumentException(
+                    "Batch size " + isrcValues.size() + " exceeds the maximum of " + maxBatchSize);
+        }
+        String serviceCorrelationId = CorrelationIdGenerator.buildServiceCorrelationId(correlationId, SERVICE_NAME);
+        logger.info("Starting batch registration of {} ISRC(s) (correlationId: {})", isrcValues.size(),
+                serviceCorrelationId);
+
+        // Keyed by normalized ISRC (or raw input when invalid), in request order, duplicates collapsed
+        Map<String, TrackRegistrationOutcome> outcomes = new LinkedHashMap<>();
+        List<ISRC> toFetch = new ArrayList<>();
+        for (String raw : isrcValues) {
+            String normalized = normalizeIsrc(raw);
+            if (outcomes.containsKey(normalized)) {
+                continue;
+            }
+            outcomes.put(normalized, null);
+            try {
+                toFetch.add(ISRC.of(normalized));
+            } catch (RuntimeException e) {
+                outcomes.put(normalized, TrackRegistrationOutcome.failed(normalized, "Invalid ISRC"));
+            }
+        }
+
+        Map<ProducerCode, Map<ISRC, ExternalTrackMetadata>> fetchedByProducer = new LinkedHashMap<>();
+        for (FetchResult result : fetchAll(toFetch)) {
+            if (result.failure() != null) {
+                outcomes.put(result.isrc().value(), result.failure());
+            } else {
+                fetchedByProducer
+                        .computeIfAbsent(ProducerCode.with(result.isrc()), code -> new LinkedHashMap<>())
+                        .put(result.isrc(), result.metadata());
+            }
+        }
+
+        fetchedByProducer.forEach((code, tracks) -> {
+            try {
+                producerTrackWriter.registerTracks(code, tracks)
+                        .forEach(outcome -> outcomes.put(outcome.isrc(), outcome));
+            } catch (RuntimeException e) {
+                logger.error("Failed to persist {} track(s) for producer {} (correlationId: {})",
+                        tracks.size(), code.value(), serviceCorrelationId, e);
+                tracks.keySet().forEach(isrc -> outcomes.put(isrc.value(),
+                        TrackRegistrationOutcome.failed(isrc.value(), "Failed to persist track")));
+            }
+        });
+
+        BatchRegistrationResult result = new BatchRegistrationResult(List.copyOf(outcomes.values()));
+        logger.info("Batch registration completed for {} distinct ISRC(s) across {} producer(s) (correlationId: {})",
+                outcomes.size(), fetchedByProducer.size(), serviceCorrelationId);
+        return result;
+    }
+
+    /**
+     * Fetches metadata for every ISRC on virtual threads, bounded by a semaphore so
+     * that the music platform never sees more than {@code fetchParallelism}
+     * concurrent calls from a single batch.
+     */
+    private List<FetchResult> fetchAll(List<ISRC> isrcs) {
+        Semaphore permits = new Semaphore(fetchParallelism);
+        List<Future<FetchResult>> futures = new ArrayList<>(isrcs.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ISRC isrc : isrcs) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return fetch(isrc);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+
+        List<FetchResult> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            ISRC isrc = isrcs.get(i);
+            try {
+                results.add(futures.get(i).resultNow());
+            } catch (IllegalStateException e) {
+                results.add(FetchResult.failed(isrc, TrackRegistrationOutcome.failed(isrc.value(), "Lookup interrupted")));
+            }
+        }
+        return results;
+    }
+
+    private FetchResult fetch(ISRC isrc) {
+        try {
+            ExternalTrackMetadata metadata = musicPlatformPort.getTrackByIsrc(isrc.value());
+            if (metadata == null) {
+                return FetchResult.failed(isrc,
+                        TrackRegistrationOutcome.notFound(isrc.value(), "No track metadata returned"));
+            }
+            return FetchResult.fetched(isrc, metadata);
+        } catch (TrackNotFoundException e) {
+            return FetchResult.failed(isrc, TrackRegistrationOutcome.notFound(isrc.value(), e.getMessage()));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to fetch metadata for ISRC {}: {}", isrc.value(), e.getMessage());
+            return FetchResult.failed(isrc, TrackRegistrationOutcome.failed(isrc.value(), e.getMessage()));
+        }
+    }
+
+    private static String normalizeIsrc(String input) {
+        if (input == null) {
+            return "";
+        }
+        long packed = IsrcCodec.tryEncodeLenient(input);
+        // Invalid input is still reported in a normalized form
+        return packed == IsrcCodec.INVALID ? input.replace("-", "").trim().toUpperCase() : IsrcCodec.decode(packed);
+    }
+
+    private record FetchResult(ISRC isrc, ExternalTrackMetadata metadata, TrackRegistrationOutcome failure) {
+
+        static FetchResult fetched(ISRC isrc, ExternalTrackMetadata metadata) {
+            return new FetchResult(isrc, metadata, null);
+        }
+
+        static FetchResult failed(ISRC isrc, TrackRegistrationOutcome failure) {
+            return new FetchResult(isrc, null, failure);
+        }
+    }
+}
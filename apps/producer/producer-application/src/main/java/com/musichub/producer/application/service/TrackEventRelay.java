@@ -0,0 +1,110 @@
+package com.musichub.producer.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.musichub.producer.application.dto.PendingTrackEvent;
+import com.musichub.producer.application.ports.in.DispatchTrackEventsUseCase;
+import com.musichub.producer.application.ports.out.EventPublisherPort;
+import com.musichub.producer.application.ports.out.TrackEventOutbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+/**
+ * Relays the TrackWasRegistered events of the outbox to the event publisher.
+ * <p>
+ * A batch is locked, published in the order it was staged and marked
+ * dispatched with one statement, all in one transaction: relays running in
+ * several threads or instances never publish the same batch at the same time.
+ * Publishing stops at the first failure, and the events left are retried with
+ * the next batch. An event published in a transaction that then fails to
+ * commit is published again, so consumers must be idempotent; the ISRC of a
+ * TrackWasRegistered event identifies it. Dispatched events are kept for
+ * {@code producer.outbox.retention}. Events are counted under
+ * {@code producer.outbox.dispatched}.
+ */
+@ApplicationScoped
+public class TrackEventRelay implements DispatchTrackEventsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrackEventRelay.class);
+
+    private final TrackEventOutbox outbox;
+    private final EventPublisherPort eventPublisherPort;
+    private final Duration retention;
+
+    private final Timer batchTimer;
+    private final Counter dispatched;
+
+    @Inject
+    public TrackEventRelay(
+            TrackEventOutbox outbox,
+            EventPublisherPort eventPublisherPort,
+            @ConfigProperty(name = "producer.outbox.retention", defaultValue = "P1D") Duration retention,
+            MeterRegistry meterRegistry) {
+        if (retention.isNegative()) {
+            throw new IllegalArgumentException("producer.outbox.retention must not be negative, got: " + retention);
+        }
+        this.outbox = Objects.requireNonNull(outbox);
+        this.eventPublisherPort = Objects.requireNonNull(eventPublisherPort);
+        this.retention = retention;
+
+        this.batchTimer = Timer.builder("producer.outbox.batch")
+                .description("Time taken to publish a batch of outbox events and mark it dispatched")
+                .register(meterRegistry);
+        this.dispatched = Counter.builder("producer.outbox.dispatched")
+                .description("TrackWasRegistered events relayed from the outbox")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional
+    public int dispatchBatch(int batchSize) {
+        List<PendingTrackEvent> pending = outbox.lockPending(batchSize);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        return batchTimer.record(() -> dispatch(pending));
+    }
+
+    private int dispatch(List<PendingTrackEvent> pending) {
+        List<Long> published = new ArrayList<>(pending.size());
+        for (PendingTrackEvent event : pending) {
+            try {
+                eventPublisherPort.publishTrackRegistered(event.event());
+            } catch (RuntimeException e) {
+                logger.warn("Could not publish TrackWasRegistered for ISRC: {}, {} event(s) left for the next batch",
+                        event.event().isrc().value(), pending.size() - published.size(), e);
+                break;
+            }
+            published.add(event.id());
+        }
+        if (!published.isEmpty()) {
+            outbox.markDispatched(published, Instant.now());
+            dispatched.increment(published.size());
+            logger.debug("Dispatched {} TrackWasRegistered event(s) from the outbox", published.size());
+        }
+        return published.size();
+    }
+
+    @Override
+    @Transactional
+    public long purgeDispatched() {
+        long purged = outbox.purgeDispatched(Instant.now().minus(retention));
+        if (purged > 0) {
+            logger.debug("Purged {} dispatched event(s) from the outbox", purged);
+        }
+        return purged;
+    }
+}
@@ -2,14 +2,18 @@ package com.musichub.producer.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,24 +22,31 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.musichub.producer.application.dto.TrackCursor;
 import com.musichub.producer.application.dto.TrackInfo;
+import com.musichub.producer.application.dto.TrackPage;
+import com.musichub.producer.application.dto.TracksVersion;
 import com.musichub.producer.application.ports.out.TrackRepository;
 import com.musichub.producer.domain.values.TrackStatus;
 import com.musichub.shared.domain.values.ISRC;
 import com.musichub.shared.domain.values.Source;
+import com.musichub.shared.events.TrackWasRegistered;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("GetRecentTracksService Application Layer Tests")
 class GetRecentTracksServiceTest {
 
     private GetRecentTracksService service;
+    private RecentTracksFeed feed;
 
     @Mock
     private TrackRepository repository;
 
     @BeforeEach
     void setUp() {
-        service = new GetRecentTracksService(repository);
+        // Not seeded: every request falls back to the repository
+        feed = new RecentTracksFeed(repository, 100);
+        service = new GetRecentTracksService(repository, feed);
     }
 
     @Test
@@ -120,6 +131,133 @@ class GetRecentTracksServiceTest {
         verifyNoInteractions(repository);
     }
 
+    @Test
+    @DisplayName("Should decode the cursor and return the repository page")
+    void getRecentTracksPage_shouldDecodeCursor() {
+        // Given
+        TrackCursor cursor = new TrackCursor(LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000), UUID.randomUUID());
+        TrackPage expectedPage = TrackPage.last(List.of(createTrackInfo("FRLA12400001", "Track 1")));
+        when(repository.findRecentTracks(20, cursor)).thenReturn(expectedPage);
+
+        // When
+        TrackPage result = service.getRecentTracks(20, cursor.encode());
+
+        // Then
+        assertThat(result).isSameAs(expectedPage);
+        verify(repository).findRecentTracks(20, cursor);
+    }
+
+    @Test
+    @DisplayName("Should start from the newest track without a cursor")
+    void getRecentTracksPage_shouldStartFromNewest_withoutCursor() {
+        // Given
+        when(repository.findRecentTracks(10, null)).thenReturn(TrackPage.last(List.of()));
+
+        // When
+        TrackPage result = service.getRecentTracks(10, null);
+
+        // Then
+        assertThat(result.tracks()).isEmpty();
+        assertThat(result.next()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor it did not issue")
+    void getRecentTracksPage_shouldThrowException_whenCursorIsInvalid() {
+        // When & Then
+        assertThatThrownBy(() -> service.getRecentTracks(10, "not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should serve the first page from the seeded feed without querying the repository again")
+    void getRecentTracks_shouldServeFromFeed_whenSeeded() {
+        // Given
+        TrackInfo older = createTrackInfo("FRLA12400001", "Track 1");
+        TrackInfo newer = createTrackInfo("FRLA12400002", "Track 2");
+        when(repository.findRecentTracks(100, null)).thenReturn(TrackPage.last(List.of(newer, older)));
+        feed.seed();
+
+        // When
+        List<TrackInfo> tracks = service.getRecentTracks(10);
+        TrackPage page = service.getRecentTracks(1, null);
+
+        // Then
+        assertThat(tracks).containsExactly(newer, older);
+        assertThat(page.tracks()).containsExactly(newer);
+        assertThat(page.next()).isPresent();
+        verify(repository, never()).findRecentTracks(10);
+        verify(repository).findRecentTracks(100, null);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should read pages after a cursor from the repository even when the feed is seeded")
+    void getRecentTracksPage_shouldUseRepository_afterCursor() {
+        // Given
+        when(repository.findRecentTracks(100, null)).thenReturn(TrackPage.last(List.of()));
+        feed.seed();
+        TrackCursor cursor = new TrackCursor(LocalDateTime.of(2025, 1, 1, 12, 0), UUID.randomUUID());
+        TrackPage expectedPage = TrackPage.last(List.of(createTrackInfo("FRLA12400001", "Track 1")));
+        when(repository.findRecentTracks(10, cursor)).thenReturn(expectedPage);
+
+        // When
+        TrackPage result = service.getRecentTracks(10, cursor.encode());
+
+        // Then
+        assertThat(result).isSameAs(expectedPage);
+    }
+
+    @Test
+    @DisplayName("Should version the first page from the feed, without querying the store")
+    void getRecentTracksVersion_shouldFollowFeed_whenFeedServesFirstPage() {
+        // Given
+        when(repository.findRecentTracks(100, null)).thenReturn(TrackPage.last(List.of()));
+        feed.seed();
+        TracksVersion before = service.getRecentTracksVersion(10, null).orElseThrow();
+
+        // When
+        feed.recordRegisteredTrack(new TrackWasRegistered(ISRC.of("FRLA12400001"), "Track 1", UUID.randomUUID(),
+                List.of(), List.of()));
+        TracksVersion after = service.getRecentTracksVersion(10, null).orElseThrow();
+
+        // Then
+        assertThat(after.tag()).isNotEqualTo(before.tag());
+        assertThat(after.lastModified()).isAfterOrEqualTo(before.lastModified());
+        verify(repository, never()).findLastModified();
+    }
+
+    @Test
+    @DisplayName("Should version pages the feed does not serve from the store")
+    void getRecentTracksVersion_shouldFollowStore_whenStoreServesPage() {
+        // Given
+        LocalDateTime lastModified = LocalDateTime.of(2025, 1, 1, 12, 0);
+        when(repository.findLastModified()).thenReturn(Optional.of(lastModified));
+        when(repository.findRecentTracks(100, null)).thenReturn(TrackPage.last(List.of()));
+        TracksVersion unseeded = service.getRecentTracksVersion(10, null).orElseThrow();
+        feed.seed();
+        TrackCursor cursor = new TrackCursor(LocalDateTime.of(2025, 1, 1, 12, 0), UUID.randomUUID());
+
+        // When
+        TracksVersion afterCursor = service.getRecentTracksVersion(10, cursor.encode()).orElseThrow();
+
+        // Then
+        assertThat(unseeded.lastModified()).isEqualTo(lastModified);
+        assertThat(afterCursor).isEqualTo(unseeded);
+        assertThat(service.getRecentTracksVersion(10, null).orElseThrow().tag()).isNotEqualTo(unseeded.tag());
+    }
+
+    @Test
+    @DisplayName("Should have no version when there is no track")
+    void getRecentTracksVersion_shouldBeEmpty_whenNoTrack() {
+        when(repository.findLastModified()).thenReturn(Optional.empty());
+
+        assertThat(service.getRecentTracksVersion(10, null)).isEmpty();
+    }
+
     private TrackInfo createTrackInfo(String isrcValue, String title) {
         return new TrackInfo(
                 ISRC.of(isrcValue),
@@ -0,0 +1,69 @@
+package com.musichub.producer.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.musichub.producer.application.ports.out.TrackMetadataCachePort;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InvalidateTrackMetadataCacheService Application Layer Tests")
+class InvalidateTrackMetadataCacheServiceTest {
+
+    @Mock
+    private TrackMetadataCachePort trackMetadataCachePort;
+
+    private InvalidateTrackMetadataCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new InvalidateTrackMetadataCacheService(trackMetadataCachePort);
+    }
+
+    @Test
+    @DisplayName("Should evict the entry of the normalized ISRC, whatever the input format")
+    void invalidate_shouldEvictNormalizedIsrc() {
+        when(trackMetadataCachePort.invalidate("GBUM71507409")).thenReturn(true);
+
+        assertThat(service.invalidate(" gb-um7-15-07409 ")).isTrue();
+
+        verify(trackMetadataCachePort).invalidate("GBUM71507409");
+    }
+
+    @Test
+    @DisplayName("Should report an ISRC without cached entry")
+    void invalidate_shouldReportUnknownIsrc() {
+        when(trackMetadataCachePort.invalidate("FRLA12400001")).thenReturn(false);
+
+        assertThat(service.invalidate("FRLA12400001")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject blank and invalid ISRCs without touching the cache")
+    void invalidate_shouldRejectInvalidIsrc() {
+        assertThatThrownBy(() -> service.invalidate(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.invalidate("not-an-isrc"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not-an-isrc");
+
+        verifyNoInteractions(trackMetadataCachePort);
+    }
+
+    @Test
+    @DisplayName("Should clear the whole cache")
+    void invalidateAll_shouldClearCache() {
+        service.invalidateAll();
+
+        verify(trackMetadataCachePort).invalidateAll();
+    }
+}
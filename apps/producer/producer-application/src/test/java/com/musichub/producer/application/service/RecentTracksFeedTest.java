@@ -0,0 +1,175 @@
+package com.musichub.producer.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.musichub.producer.application.dto.TrackCursor;
+import com.musichub.producer.application.dto.TrackInfo;
+import com.musichub.producer.application.dto.TrackPage;
+import com.musichub.producer.application.dto.TracksVersion;
+import com.musichub.producer.application.ports.out.TrackRepository;
+import com.musichub.producer.domain.values.TrackStatus;
+import com.musichub.shared.domain.id.TrackId;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.domain.values.Source;
+import com.musichub.shared.events.ArtistCreditInfo;
+import com.musichub.shared.events.SourceInfo;
+import com.musichub.shared.events.TrackWasRegistered;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecentTracksFeed Application Layer Tests")
+class RecentTracksFeedTest {
+
+    @Mock
+    private TrackRepository repository;
+
+    @Test
+    @DisplayName("Should serve nothing until seeded, so callers fall back to the repository")
+    void firstPage_shouldBeEmpty_whenNotSeeded() {
+        RecentTracksFeed feed = new RecentTracksFeed(repository, 10);
+
+        feed.recordRegisteredTrack(event("FRLA12400001", "Track 1"));
+
+        assertThat(feed.firstPage(5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should never query the repository when disabled")
+    void seed_shouldSkipRepository_whenDisabled() {
+        RecentTracksFeed feed = new RecentTracksFeed(repository, 0);
+
+        feed.seed();
+        feed.recordRegisteredTrack(event("FRLA12400001", "Track 1"));
+
+        assertThat(feed.firstPage(1)).isEmpty();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should stay unseeded when the repository fails")
+    void seed_shouldStayUnseeded_whenRepositoryFails() {
+        when(repository.findRecentTracks(anyInt(), isNull())).thenThrow(new IllegalStateException("db down"));
+        RecentTracksFeed feed = new RecentTracksFeed(repository, 10);
+
+        feed.seed();
+
+        assertThat(feed.firstPage(5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should put registered tracks ahead of the seeded ones")
+    void firstPage_shouldListRegisteredTracksFirst() {
+        TrackInfo seededNewer = trackInfo("FRLA12400002", LocalDateTime.of(2025, 1, 2, 0, 0));
+        TrackInfo seededOlder = trackInfo("FRLA12400001", LocalDateTime.of(2025, 1, 1, 0, 0));
+        when(repository.findRecentTracks(10, null)).thenReturn(TrackPage.last(List.of(seededNewer, seededOlder)));
+        RecentTracksFeed feed = new RecentTracksFeed(repository, 10);
+        feed.seed();
+
+        feed.recordRegisteredTrack(event("FRLA12400003", "Track 3"));
+
+        TrackPage page = feed.firstPage(10).orElseThrow();
+        assertThat(page.tracks()).extracting(track -> track.isrc().value())
+                .containsExactly("FRLA12400003", "FRLA12400002", "FRLA12400001");
+        assertThat(page.next()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should ignore a redelivered event for a track already in the feed")
+    void recordRegisteredTrack_shouldIgnoreRedeliveredEvent() {
+        TrackInfo seeded = trackInfo("FRLA12400001", LocalDateTime.of(2025, 1, 1, 0, 0));
+        when(repository.findRecentTracks(10, null)).thenReturn(TrackPage.last(List.of(seeded)));
+        RecentTracksFeed feed = new RecentTracksFeed(repository, 10);
+        feed.seed();
+
+        feed.recordRegisteredTrack(event("FRLA12400002", "Track 2"));
+        feed.recordRegisteredTrack(event("FRLA12400002", "Track 2"));
+        feed.recordRegisteredTrack(event("FRLA12400001", "Track 1"));
+
+        assertThat(feed.firstPage(10).orElseThrow().tracks()).extracting(track -> track.isrc().value())
+                .containsExactly("FRLA12400002", "FRLA12400001");
+    }
+
+    @Test
+    @DisplayName("Should point the next cursor at the last track of the page")
+    void firstPage_shouldBuildNextCursorFromLastTrack() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        TrackInfo newer = trackInfo("FRLA12400002", createdAt.plusSeconds(1));
+        TrackInfo older = trackInfo("FRLA12400001", createdAt);
+        when(repository.findRecentTracks(10, null)).thenReturn(TrackPage.last(List.of(newer, older)));
+        RecentTracksFeed feed = new RecentTracksFeed(repository, 10);
+        feed.seed();
+
+        TrackPage page = feed.firstPage(1).orElseThrow();
+
+        assertThat(page.tracks()).containsExactly(newer);
+        assertThat(page.next()).contains(new TrackCursor(createdAt.plusSeconds(1),
+                TrackId.fromISRC("FRLA12400002").value()));
+    }
+
+    @Test
+    @DisplayName("Should report a next page when the store holds tracks older than the seed")
+    void firstPage_shouldHaveNextPage_whenStoreHasOlderTracks() {
+        TrackInfo only = trackInfo("FRLA12400001", LocalDateTime.of(2025, 1, 1, 0, 0));
+        TrackCursor cursor = new TrackCursor(only.submissionDate(), UUID.randomUUID());
+        when(repository.findRecentTracks(1, null)).thenReturn(new TrackPage(List.of(only), cursor));
+        RecentTracksFeed feed = new RecentTracksFeed(repository, 1);
+        feed.seed();
+
+        assertThat(feed.firstPage(1).orElseThrow().next()).isPresent();
+        assertThat(feed.firstPage(2)).as("larger than the feed capacity").isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should version the first page only once seeded, and change the version on every recorded track")
+    void firstPageVersion_shouldChange_whenTrackRecorded() {
+        when(repository.findRecentTracks(10, null)).thenReturn(TrackPage.last(List.of()));
+        RecentTracksFeed feed = new RecentTracksFeed(repository, 10);
+        assertThat(feed.firstPageVersion(5)).isEmpty();
+        feed.seed();
+        TracksVersion seeded = feed.firstPageVersion(5).orElseThrow();
+
+        feed.recordRegisteredTrack(event("FRLA12400001", "Track 1"));
+
+        TracksVersion recorded = feed.firstPageVersion(5).orElseThrow();
+        assertThat(recorded.tag()).isNotEqualTo(seeded.tag());
+        assertThat(recorded.lastModified()).isAfterOrEqualTo(seeded.lastModified());
+        assertThat(feed.firstPageVersion(11)).as("larger than the feed capacity").isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should map the event to a provisional track")
+    void registered_shouldMapEvent() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        TrackInfo track = TrackInfo.registered(event("FRLA12400001", "Track 1"), now);
+
+        assertThat(track.title()).isEqualTo("Track 1");
+        assertThat(track.artistNames()).containsExactly("Artist Name");
+        assertThat(track.sources()).containsExactly(Source.of("TIDAL", "123"));
+        assertThat(track.status()).isEqualTo(TrackStatus.PROVISIONAL);
+        assertThat(track.submissionDate()).isEqualTo(now);
+    }
+
+    private static TrackWasRegistered event(String isrc, String title) {
+        return new TrackWasRegistered(ISRC.of(isrc), title, UUID.randomUUID(),
+                List.of(ArtistCreditInfo.withName("Artist Name")), List.of(new SourceInfo("TIDAL", "123")));
+    }
+
+    private static TrackInfo trackInfo(String isrc, LocalDateTime submissionDate) {
+        return new TrackInfo(ISRC.of(isrc), "Track " + isrc, List.of("Artist Name"),
+                List.of(Source.of("TIDAL", isrc)), TrackStatus.PROVISIONAL, submissionDate);
+    }
+}
@@ -6,37 +6,52 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.musichub.producer.application.dto.ArtistCreditDto;
 import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.producer.application.dto.TrackEventsStaged;
 import com.musichub.producer.application.exception.ExternalServiceException;
-import com.musichub.producer.application.ports.out.EventPublisherPort;
 import com.musichub.producer.application.ports.out.MusicPlatformPort;
 import com.musichub.producer.application.ports.out.ProducerRepository;
+import com.musichub.producer.application.ports.out.TrackEventOutbox;
 import com.musichub.producer.domain.model.Producer;
+import com.musichub.producer.domain.model.Track;
+import com.musichub.producer.domain.values.ProducerId;
 import com.musichub.shared.domain.values.ISRC;
 import com.musichub.shared.domain.values.ProducerCode;
 import com.musichub.shared.domain.values.Source;
 import com.musichub.shared.events.ArtistCreditInfo;
 import com.musichub.shared.events.TrackWasRegistered;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.enterprise.event.Event;
+
 /**
  * Comprehensive unit tests for RegisterTrackService.
  * Tests the enhanced service logic with external API integration and event
@@ -53,11 +68,57 @@ class RegisterTrackServiceTest {
     private MusicPlatformPort musicPlatformPort;
 
     @Mock
-    private EventPublisherPort eventPublisherPort;
+    private TrackEventOutbox trackEventOutbox;
+
+    @Mock
+    private Event<TrackEventsStaged> eventsStaged;
+
+    private SimpleMeterRegistry meterRegistry;
 
-    @InjectMocks
     private RegisterTrackService registerTrackService;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registerTrackService = new RegisterTrackService(
+                musicPlatformPort,
+                new ProducerTrackWriter(producerRepository, trackEventOutbox, eventsStaged),
+                meterRegistry);
+    }
+
+    /**
+     * Stubs the repository as the registration path uses it: header lookup,
+     * ISRC existence check and track insert. {@code stored} is null when the
+     * producer does not exist yet.
+     */
+    private Producer givenStoredProducer(ProducerCode code, Producer stored) {
+        Producer catalogue = stored != null ? stored : Producer.createNew(code, null);
+        lenient().when(producerRepository.findHeaderByProducerCode(code)).thenReturn(Optional.ofNullable(stored)
+                .map(producer -> Producer.from(producer.id(), producer.producerCode(), producer.name(), Set.of())));
+        lenient().when(producerRepository.findExistingIsrcs(any(ProducerId.class), anyCollection())).thenAnswer(invocation -> {
+            Collection<ISRC> isrcs = invocation.getArgument(1);
+            return isrcs.stream().filter(catalogue::hasTrack).collect(Collectors.toSet());
+        });
+        lenient().doAnswer(invocation -> {
+            Collection<Track> tracks = invocation.getArgument(1);
+            tracks.forEach(catalogue::addTrack);
+            return null;
+        }).when(producerRepository).appendTracks(any(Producer.class), anyCollection());
+        return catalogue;
+    }
+
+    /**
+     * @return the single event staged in the outbox
+     */
+    private TrackWasRegistered stagedEvent() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TrackWasRegistered>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(trackEventOutbox).append(eventsCaptor.capture());
+        verify(eventsStaged).fire(new TrackEventsStaged(1));
+        assertEquals(1, eventsCaptor.getValue().size());
+        return eventsCaptor.getValue().get(0);
+    }
+
     private static final String TEST_ISRC = "GBUM71507409";
     private static final String NORMALIZED_ISRC = "GBUM71507409";
 
@@ -79,10 +140,7 @@ class RegisterTrackServiceTest {
 
             // Given: No existing producer (code derived from ISRC by service)
             ProducerCode code = ProducerCode.with(ISRC.of(NORMALIZED_ISRC));
-            when(producerRepository.findByProducerCode(code)).thenReturn(Optional.empty());
-
-            // Given: Repository save returns the same producer that was passed to it
-            when(producerRepository.save(any(Producer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            givenStoredProducer(code, null);
 
             // When: Registering track
             Producer result = registerTrackService.registerTrack(TEST_ISRC, "test-correlation-id-1");
@@ -90,22 +148,25 @@ class RegisterTrackServiceTest {
             // Then: Should call external API
             verify(musicPlatformPort).getTrackByIsrc(TEST_ISRC);
 
-            // Then: Should save producer with track
-            ArgumentCaptor<Producer> producerCaptor = ArgumentCaptor.forClass(Producer.class);
-            verify(producerRepository).save(producerCaptor.capture());
-            Producer capturedProducer = producerCaptor.getValue();
-            assertTrue(capturedProducer.hasTrack(ISRC.of(NORMALIZED_ISRC)));
+            // Then: Should insert only the new track, never rewrite the producer
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Collection<Track>> tracksCaptor = ArgumentCaptor.forClass(Collection.class);
+            verify(producerRepository).appendTracks(any(Producer.class), tracksCaptor.capture());
+            assertEquals(List.of(ISRC.of(NORMALIZED_ISRC)), tracksCaptor.getValue().stream().map(Track::isrc).toList());
+            verify(producerRepository, never()).save(any(Producer.class));
 
             // Then: Should publish event
-            ArgumentCaptor<TrackWasRegistered> eventCaptor = ArgumentCaptor.forClass(TrackWasRegistered.class);
-            verify(eventPublisherPort).publishTrackRegistered(eventCaptor.capture());
-            TrackWasRegistered capturedEvent = eventCaptor.getValue();
+            TrackWasRegistered capturedEvent = stagedEvent();
             assertEquals(ISRC.of(NORMALIZED_ISRC), capturedEvent.isrc());
             assertEquals("Bohemian Rhapsody", capturedEvent.title());
             assertEquals(List.of(new ArtistCreditInfo("Queen", artistId.toString())), capturedEvent.artistCredits());
 
             // Then: Should return saved producer
             assertNotNull(result);
+            assertTrue(result.hasTrack(ISRC.of(NORMALIZED_ISRC)));
+
+            // Then: Should never read the catalogue back
+            verify(producerRepository, never()).findByProducerCode(any(ProducerCode.class));
         }
 
         @Test
@@ -119,23 +180,29 @@ class RegisterTrackServiceTest {
                     "tidal");
             when(musicPlatformPort.getTrackByIsrc(TEST_ISRC)).thenReturn(mockMetadata);
 
-            // Given: Existing producer
+            // Given: Existing producer with another track
             ProducerCode code = ProducerCode.with(ISRC.of(NORMALIZED_ISRC));
             Producer existingProducer = Producer.createNew(code, "Queen Music");
-            when(producerRepository.findByProducerCode(code)).thenReturn(Optional.of(existingProducer));
-
-            // Given: Repository save returns the same producer that was passed to it
-            when(producerRepository.save(any(Producer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            existingProducer.registerTrackWithArtistNames(
+                    ISRC.of("GBUM71507408"),
+                    "Bohemian Rhapsody",
+                    List.of("Queen"),
+                    List.of(Source.of("MANUAL", "existing-track")));
+            givenStoredProducer(code, existingProducer);
 
             // When: Registering track
             Producer result = registerTrackService.registerTrack(TEST_ISRC, "test-correlation-id-2");
 
             // Then: Should use existing producer
-            verify(producerRepository).findByProducerCode(code);
-            verify(producerRepository).save(any(Producer.class));
-            verify(eventPublisherPort).publishTrackRegistered(any(TrackWasRegistered.class));
-
-            assertNotNull(result);
+            verify(producerRepository).findHeaderByProducerCode(code);
+            verify(producerRepository).findExistingIsrcs(existingProducer.id(), Set.of(ISRC.of(NORMALIZED_ISRC)));
+            verify(producerRepository).appendTracks(any(Producer.class), anyCollection());
+            verify(trackEventOutbox).append(anyList());
+
+            // Then: Should answer with the header and the registered track only
+            assertEquals(existingProducer.id(), result.id());
+            assertEquals("Queen Music", result.name());
+            assertEquals(List.of(ISRC.of(NORMALIZED_ISRC)), result.tracks().stream().map(Track::isrc).toList());
         }
 
         @Test
@@ -152,16 +219,13 @@ class RegisterTrackServiceTest {
             when(musicPlatformPort.getTrackByIsrc(TEST_ISRC)).thenReturn(mockMetadata);
 
             ProducerCode code = ProducerCode.with(ISRC.of(NORMALIZED_ISRC));
-            when(producerRepository.findByProducerCode(code)).thenReturn(Optional.empty());
-            when(producerRepository.save(any(Producer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            givenStoredProducer(code, null);
 
             // When: Registering track
             registerTrackService.registerTrack(TEST_ISRC, "test-correlation-id-3");
 
             // Then: Event should contain all artists
-            ArgumentCaptor<TrackWasRegistered> eventCaptor = ArgumentCaptor.forClass(TrackWasRegistered.class);
-            verify(eventPublisherPort).publishTrackRegistered(eventCaptor.capture());
-            TrackWasRegistered capturedEvent = eventCaptor.getValue();
+            TrackWasRegistered capturedEvent = stagedEvent();
             assertEquals(List.of(new ArtistCreditInfo("Queen", artistId1.toString()),
                     new ArtistCreditInfo("David Bowie", artistId2.toString())), capturedEvent.artistCredits());
         }
@@ -191,20 +255,23 @@ class RegisterTrackServiceTest {
                     "Bohemian Rhapsody",
                     List.of("Queen"),
                     List.of(Source.of("MANUAL", "existing-track")));
-            when(producerRepository.findByProducerCode(code)).thenReturn(Optional.of(existingProducer));
-            when(producerRepository.save(any(Producer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            givenStoredProducer(code, existingProducer);
 
             // When: Registering same track again
-            registerTrackService.registerTrack(TEST_ISRC, "test-correlation-id-4");
+            Producer result = registerTrackService.registerTrack(TEST_ISRC, "test-correlation-id-4");
+
+            // Then: Should still answer with the registered track
+            assertTrue(result.hasTrack(ISRC.of(NORMALIZED_ISRC)));
+            assertEquals(1, result.tracks().size());
 
             // Then: Should still call external API (for metadata)
             verify(musicPlatformPort).getTrackByIsrc(TEST_ISRC);
 
-            // Then: Should save producer (idempotent)
-            verify(producerRepository).save(any(Producer.class));
+            // Then: Should not write anything (idempotent)
+            verify(producerRepository, never()).appendTracks(any(Producer.class), anyCollection());
 
             // Then: Should NOT publish event for duplicate
-            verifyNoInteractions(eventPublisherPort);
+            verifyNoInteractions(trackEventOutbox, eventsStaged);
         }
 
         @Test
@@ -219,8 +286,7 @@ class RegisterTrackServiceTest {
             when(musicPlatformPort.getTrackByIsrc(anyString())).thenReturn(mockMetadata);
 
             ProducerCode code = ProducerCode.with(ISRC.of(NORMALIZED_ISRC));
-            when(producerRepository.findByProducerCode(code)).thenReturn(Optional.empty());
-            when(producerRepository.save(any(Producer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            givenStoredProducer(code, null);
 
             // When: Registering track with formatted ISRC
             registerTrackService.registerTrack("GB-UM7-15-07409", "test-correlation-id-5");
@@ -229,9 +295,7 @@ class RegisterTrackServiceTest {
             verify(musicPlatformPort).getTrackByIsrc("GB-UM7-15-07409");
 
             // Then: Should use normalized ISRC internally
-            ArgumentCaptor<TrackWasRegistered> eventCaptor = ArgumentCaptor.forClass(TrackWasRegistered.class);
-            verify(eventPublisherPort).publishTrackRegistered(eventCaptor.capture());
-            assertEquals(ISRC.of(NORMALIZED_ISRC), eventCaptor.getValue().isrc());
+            assertEquals(ISRC.of(NORMALIZED_ISRC), stagedEvent().isrc());
         }
     }
 
@@ -258,7 +322,7 @@ class RegisterTrackServiceTest {
 
             // Then: Should not interact with repository or event bus
             verifyNoInteractions(producerRepository);
-            verifyNoInteractions(eventPublisherPort);
+            verifyNoInteractions(trackEventOutbox, eventsStaged);
         }
 
         @Test
@@ -280,7 +344,7 @@ class RegisterTrackServiceTest {
 
             // Then: Should not interact with repository or event bus
             verifyNoInteractions(producerRepository);
-            verifyNoInteractions(eventPublisherPort);
+            verifyNoInteractions(trackEventOutbox, eventsStaged);
         }
 
         @Test
@@ -295,7 +359,7 @@ class RegisterTrackServiceTest {
                     () -> registerTrackService.registerTrack(TEST_ISRC, "test-correlation-id-8"));
 
             // Then: Should not publish any event
-            verifyNoInteractions(eventPublisherPort);
+            verifyNoInteractions(trackEventOutbox, eventsStaged);
             verifyNoInteractions(producerRepository);
         }
     }
@@ -314,15 +378,15 @@ class RegisterTrackServiceTest {
 
             // Given: Producer setup
             ProducerCode code = ProducerCode.with(ISRC.of(NORMALIZED_ISRC));
-            when(producerRepository.findByProducerCode(code)).thenReturn(Optional.empty());
-            when(producerRepository.save(any(Producer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            givenStoredProducer(code, null);
 
             // When: Registering track
             registerTrackService.registerTrack(TEST_ISRC, "test-correlation-id-9");
 
-            // Then: Should save first, then publish event (verified by method order)
-            verify(producerRepository).save(any(Producer.class));
-            verify(eventPublisherPort).publishTrackRegistered(any(TrackWasRegistered.class));
+            // Then: Should save first, then stage the event in the outbox
+            InOrder inOrder = inOrder(producerRepository, trackEventOutbox);
+            inOrder.verify(producerRepository).appendTracks(any(Producer.class), anyCollection());
+            inOrder.verify(trackEventOutbox).append(anyList());
         }
 
         @Test
@@ -335,16 +399,13 @@ class RegisterTrackServiceTest {
             when(musicPlatformPort.getTrackByIsrc(TEST_ISRC)).thenReturn(mockMetadata);
 
             ProducerCode code = ProducerCode.with(ISRC.of(NORMALIZED_ISRC));
-            when(producerRepository.findByProducerCode(code)).thenReturn(Optional.empty());
-            when(producerRepository.save(any(Producer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            givenStoredProducer(code, null);
 
             // When: Registering track
             registerTrackService.registerTrack(TEST_ISRC, "test-correlation-id-10");
 
             // Then: Event should have correct structure
-            ArgumentCaptor<TrackWasRegistered> eventCaptor = ArgumentCaptor.forClass(TrackWasRegistered.class);
-            verify(eventPublisherPort).publishTrackRegistered(eventCaptor.capture());
-            TrackWasRegistered event = eventCaptor.getValue();
+            TrackWasRegistered event = stagedEvent();
 
             assertNotNull(event.isrc());
             assertEquals(NORMALIZED_ISRC, event.isrc().value());
@@ -375,7 +436,7 @@ class RegisterTrackServiceTest {
             // Then: Should call external API but fail before repository
             verify(musicPlatformPort).getTrackByIsrc(null);
             verifyNoInteractions(producerRepository);
-            verifyNoInteractions(eventPublisherPort);
+            verifyNoInteractions(trackEventOutbox, eventsStaged);
         }
 
         @Test
@@ -396,7 +457,39 @@ class RegisterTrackServiceTest {
             // Then: Should call external API but fail before repository
             verify(musicPlatformPort).getTrackByIsrc("");
             verifyNoInteractions(producerRepository);
-            verifyNoInteractions(eventPublisherPort);
+            verifyNoInteractions(trackEventOutbox, eventsStaged);
+        }
+    }
+
+    @Nested
+    @DisplayName("Transaction Phases")
+    class TransactionPhases {
+
+        @Test
+        @DisplayName("Should time fetch and persist phases separately")
+        void shouldTimeFetchAndPersistPhasesSeparately() {
+            ExternalTrackMetadata mockMetadata = new ExternalTrackMetadata(
+                    TEST_ISRC, "Test Track", List.of(new ArtistCreditDto("Test Artist", null)), "tidal");
+            when(musicPlatformPort.getTrackByIsrc(TEST_ISRC)).thenReturn(mockMetadata);
+            givenStoredProducer(ProducerCode.with(ISRC.of(NORMALIZED_ISRC)), null);
+
+            registerTrackService.registerTrack(TEST_ISRC, "test-correlation-id-13");
+
+            assertEquals(1, meterRegistry.get(RegisterTrackService.PHASE_TIMER).tag("phase", "fetch").timer().count());
+            assertEquals(1, meterRegistry.get(RegisterTrackService.PHASE_TIMER).tag("phase", "persist").timer().count());
+        }
+
+        @Test
+        @DisplayName("Should never enter the persist phase when the fetch phase fails")
+        void shouldNotEnterPersistPhaseWhenFetchFails() {
+            when(musicPlatformPort.getTrackByIsrc(TEST_ISRC))
+                    .thenThrow(new ExternalServiceException("Service unavailable", TEST_ISRC, "tidal"));
+
+            assertThrows(ExternalServiceException.class,
+                    () -> registerTrackService.registerTrack(TEST_ISRC, "test-correlation-id-14"));
+
+            assertEquals(0, meterRegistry.get(RegisterTrackService.PHASE_TIMER).tag("phase", "persist").timer().count());
+            verifyNoInteractions(producerRepository);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package com.musichub.producer.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.musichub.producer.application.dto.ArtistCreditDto;
+import com.musichub.producer.application.dto.BatchRegistrationResult;
+import com.musichub.producer.application.dto.ExternalTrackMetadata;
+import com.musichub.producer.application.dto.RegistrationStatus;
+import com.musichub.producer.application.dto.TrackRegistrationOutcome;
+import com.musichub.producer.application.exception.ExternalServiceException;
+import com.musichub.producer.application.exception.TrackNotFoundException;
+import com.musichub.producer.application.ports.out.MusicPlatformPort;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.domain.values.ProducerCode;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RegisterTracksBatchService")
+class RegisterTracksBatchServiceTest {
+
+    @Mock
+    private MusicPlatformPort musicPlatformPort;
+
+    @Mock
+    private ProducerTrackWriter producerTrackWriter;
+
+    private RegisterTracksBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RegisterTracksBatchService(musicPlatformPort, producerTrackWriter, 4, 500);
+    }
+
+    private static ExternalTrackMetadata metadata(String isrc) {
+        return new ExternalTrackMetadata(isrc, "Title " + isrc, List.of(new ArtistCreditDto("Artist", null)), "tidal");
+    }
+
+    @Test
+    @DisplayName("Should save each producer once and report per-ISRC outcomes in request order")
+    @SuppressWarnings("unchecked")
+    void shouldGroupByProducerAndReportOutcomes() {
+        // Given: two ISRCs for GBUM7, one for FRLA1, one unknown, one failing
+        when(musicPlatformPort.getTrackByIsrc("GBUM71507409")).thenReturn(metadata("GBUM71507409"));
+        when(musicPlatformPort.getTrackByIsrc("GBUM71507410")).thenReturn(metadata("GBUM71507410"));
+        when(musicPlatformPort.getTrackByIsrc("FRLA12400001")).thenReturn(metadata("FRLA12400001"));
+        when(musicPlatformPort.getTrackByIsrc("FRLA12400002"))
+                .thenThrow(new TrackNotFoundException("not found", "FRLA12400002", "tidal"));
+        when(musicPlatformPort.getTrackByIsrc("USRC17607839"))
+                .thenThrow(new ExternalServiceException("HTTP 503", "USRC17607839", "tidal"));
+
+        when(producerTrackWriter.registerTracks(eq(ProducerCode.of("GBUM7")), anyMap())).thenReturn(List.of(
+                TrackRegistrationOutcome.added("GBUM71507409"),
+                TrackRegistrationOutcome.alreadyPresent("GBUM71507410")));
+        when(producerTrackWriter.registerTracks(eq(ProducerCode.of("FRLA1")), anyMap())).thenReturn(List.of(
+                TrackRegistrationOutcome.added("FRLA12400001")));
+
+        // When
+        BatchRegistrationResult result = service.registerTracks(List.of(
+                "GBUM71507409", "FRLA12400002", "gbum7-15-07410", "FRLA12400001", "USRC17607839", "GBUM71507409"),
+                "batch-correlation-id");
+
+        // Then: duplicates collapsed, request order preserved
+        assertEquals(List.of("GBUM71507409", "FRLA12400002", "GBUM71507410", "FRLA12400001", "USRC17607839"),
+                result.outcomes().stream().map(TrackRegistrationOutcome::isrc).toList());
+        assertEquals(List.of(RegistrationStatus.ADDED, RegistrationStatus.NOT_FOUND,
+                RegistrationStatus.ALREADY_PRESENT, RegistrationStatus.ADDED, RegistrationStatus.FAILED),
+                result.outcomes().stream().map(TrackRegistrationOutcome::status).toList());
+
+        // Then: one write per producer, carrying all of its tracks
+        ArgumentCaptor<Map<ISRC, ExternalTrackMetadata>> tracksCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(producerTrackWriter).registerTracks(eq(ProducerCode.of("GBUM7")), tracksCaptor.capture());
+        assertEquals(2, tracksCaptor.getValue().size());
+        verify(producerTrackWriter, times(2)).registerTracks(any(ProducerCode.class), anyMap());
+    }
+
+    @Test
+    @DisplayName("Should report invalid ISRCs as FAILED without calling the platform")
+    void shouldReportInvalidIsrcAsFailed() {
+        BatchRegistrationResult result = service.registerTracks(List.of("not-an-isrc"), "batch-correlation-id");
+
+        assertEquals(1, result.count(RegistrationStatus.FAILED));
+        verifyNoInteractions(musicPlatformPort, producerTrackWriter);
+    }
+
+    @Test
+    @DisplayName("Should mark every track of a producer as FAILED when persisting it fails")
+    void shouldMarkProducerTracksFailedWhenPersistFails() {
+        when(musicPlatformPort.getTrackByIsrc("GBUM71507409")).thenReturn(metadata("GBUM71507409"));
+        when(producerTrackWriter.registerTracks(eq(ProducerCode.of("GBUM7")), anyMap()))
+                .thenThrow(new IllegalStateException("database down"));
+
+        BatchRegistrationResult result = service.registerTracks(List.of("GBUM71507409"), "batch-correlation-id");
+
+        assertEquals(RegistrationStatus.FAILED, result.outcomes().get(0).status());
+    }
+
+    @Test
+    @DisplayName("Should reject empty and oversized batches")
+    void shouldRejectEmptyAndOversizedBatches() {
+        RegisterTracksBatchService small = new RegisterTracksBatchService(musicPlatformPort, producerTrackWriter, 4, 2);
+        List<String> tooMany = new ArrayList<>(List.of("GBUM71507409", "GBUM71507410", "GBUM71507411"));
+
+        assertThrows(IllegalArgumentException.class, () -> service.registerTracks(List.of(), "id"));
+        assertThrows(IllegalArgumentException.class, () -> small.registerTracks(tooMany, "id"));
+    }
+}
@@ -0,0 +1,212 @@
+package com.musichub.producer.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.musichub.producer.application.dto.PendingTrackEvent;
+import com.musichub.producer.application.ports.out.EventPublisherPort;
+import com.musichub.producer.application.ports.out.TrackEventOutbox;
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.events.ArtistCreditInfo;
+import com.musichub.shared.events.SourceInfo;
+import com.musichub.shared.events.TrackWasRegistered;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrackEventRelay Application Layer Tests")
+class TrackEventRelayTest {
+
+    private static final Duration RETENTION = Duration.ofHours(24);
+
+    @Mock
+    private TrackEventOutbox outbox;
+
+    @Mock
+    private EventPublisherPort eventPublisherPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TrackEventRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new TrackEventRelay(outbox, eventPublisherPort, RETENTION, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should publish a batch in staging order, then mark it dispatched at once")
+    void dispatchBatch_shouldPublishThenMarkDispatched() {
+        PendingTrackEvent first = pending(1L, "FRLA12400001");
+        PendingTrackEvent second = pending(2L, "FRLA12400002");
+        when(outbox.lockPending(100)).thenReturn(List.of(first, second));
+
+        int dispatched = relay.dispatchBatch(100);
+
+        assertThat(dispatched).isEqualTo(2);
+        InOrder inOrder = inOrder(eventPublisherPort, outbox);
+        inOrder.verify(eventPublisherPort).publishTrackRegistered(first.event());
+        inOrder.verify(eventPublisherPort).publishTrackRegistered(second.event());
+        inOrder.verify(outbox).markDispatched(eq(List.of(1L, 2L)), any(Instant.class));
+        assertThat(meterRegistry.get("producer.outbox.dispatched").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no event is pending")
+    void dispatchBatch_shouldReturnZero_whenOutboxEmpty() {
+        when(outbox.lockPending(100)).thenReturn(List.of());
+
+        assertThat(relay.dispatchBatch(100)).isZero();
+
+        verifyNoInteractions(eventPublisherPort);
+        verify(outbox, never()).markDispatched(anyCollection(), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Should stop at the first publishing failure and leave the rest pending")
+    void dispatchBatch_shouldStopAtFirstFailure() {
+        PendingTrackEvent first = pending(1L, "FRLA12400001");
+        PendingTrackEvent failing = pending(2L, "FRLA12400002");
+        PendingTrackEvent last = pending(3L, "FRLA12400003");
+        when(outbox.lockPending(100)).thenReturn(List.of(first, failing, last));
+        // One answer for every event: strict stubs reject a stubbing that other calls do not match
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0) == failing.event()) {
+                throw new IllegalStateException("event bus closed");
+            }
+            return null;
+        }).when(eventPublisherPort).publishTrackRegistered(any());
+
+        int dispatched = relay.dispatchBatch(100);
+
+        assertThat(dispatched).isEqualTo(1);
+        verify(eventPublisherPort, never()).publishTrackRegistered(last.event());
+        verify(outbox).markDispatched(eq(List.of(1L)), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Should leave the events after a failure pending and relay them on the next poll")
+    void dispatchBatch_shouldRelayLeftEventsOnNextPoll() {
+        InMemoryOutbox rows = new InMemoryOutbox();
+        PendingTrackEvent first = rows.stage("FRLA12400001");
+        PendingTrackEvent failing = rows.stage("FRLA12400002");
+        PendingTrackEvent last = rows.stage("FRLA12400003");
+        TrackEventRelay relayOverRows = new TrackEventRelay(rows, eventPublisherPort, RETENTION, meterRegistry);
+        AtomicBoolean busClosed = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0) == failing.event() && busClosed.getAndSet(false)) {
+                throw new IllegalStateException("event bus closed");
+            }
+            return null;
+        }).when(eventPublisherPort).publishTrackRegistered(any());
+
+        // First poll: the batch fails partway, the failed event and the ones after it stay pending
+        assertThat(relayOverRows.dispatchBatch(100)).isEqualTo(1);
+        assertThat(rows.pendingIds()).containsExactly(failing.id(), last.id());
+
+        // Next poll: they are picked up again, in staging order
+        assertThat(relayOverRows.dispatchBatch(100)).isEqualTo(2);
+        assertThat(rows.pendingIds()).isEmpty();
+
+        InOrder inOrder = inOrder(eventPublisherPort);
+        inOrder.verify(eventPublisherPort).publishTrackRegistered(first.event());
+        inOrder.verify(eventPublisherPort, times(2)).publishTrackRegistered(failing.event());
+        inOrder.verify(eventPublisherPort).publishTrackRegistered(last.event());
+        assertThat(meterRegistry.get("producer.outbox.dispatched").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should purge the events dispatched before the retention period")
+    void purgeDispatched_shouldDeleteEventsOlderThanRetention() {
+        when(outbox.purgeDispatched(any(Instant.class))).thenReturn(3L);
+        Instant before = Instant.now();
+
+        assertThat(relay.purgeDispatched()).isEqualTo(3L);
+
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(outbox).purgeDispatched(cutoff.capture());
+        assertThat(cutoff.getValue()).isBetween(before.minus(RETENTION), Instant.now().minus(RETENTION));
+    }
+
+    @Test
+    @DisplayName("Should reject a negative retention")
+    void constructor_shouldRejectNegativeRetention() {
+        assertThatThrownBy(() -> new TrackEventRelay(outbox, eventPublisherPort, Duration.ofSeconds(-1), meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PendingTrackEvent pending(long id, String isrc) {
+        return new PendingTrackEvent(id, new TrackWasRegistered(ISRC.of(isrc), "Track " + isrc, UUID.randomUUID(),
+                List.of(ArtistCreditInfo.withName("Artist Name")), List.of(new SourceInfo("TIDAL", isrc))));
+    }
+
+    /**
+     * Outbox rows kept in memory: a row stays pending until it is marked dispatched.
+     */
+    private static final class InMemoryOutbox implements TrackEventOutbox {
+
+        private final Map<Long, TrackWasRegistered> pending = new TreeMap<>();
+        private long nextId = 1;
+
+        PendingTrackEvent stage(String isrc) {
+            PendingTrackEvent event = pending(nextId++, isrc);
+            pending.put(event.id(), event.event());
+            return event;
+        }
+
+        List<Long> pendingIds() {
+            return List.copyOf(pending.keySet());
+        }
+
+        @Override
+        public void append(List<TrackWasRegistered> events) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<PendingTrackEvent> lockPending(int limit) {
+            return pending.entrySet().stream()
+                    .limit(limit)
+                    .map(row -> new PendingTrackEvent(row.getKey(), row.getValue()))
+                    .toList();
+        }
+
+        @Override
+        public void markDispatched(Collection<Long> ids, Instant dispatchedAt) {
+            ids.forEach(pending::remove);
+        }
+
+        @Override
+        public long purgeDispatched(Instant before) {
+            return 0;
+        }
+    }
+}
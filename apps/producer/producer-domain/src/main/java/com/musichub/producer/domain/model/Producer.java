@@ -6,9 +6,11 @@ import com.musichub.shared.domain.values.Source;
 import com.musichub.producer.domain.values.TrackStatus;
 import com.musichub.shared.domain.values.ISRC;
 import com.musichub.shared.domain.values.ProducerCode;
+import com.musichub.shared.domain.collection.IsrcMap;
 
+import java.util.AbstractSet;
 import java.util.Collections;
-import java.util.LinkedHashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -16,6 +18,9 @@ import java.util.Set;
 
 /**
  * Producer aggregate root. Owns a set of Track entities with complete metadata.
+ * <p>
+ * Tracks are indexed by their canonical ISRC, so lookups and additions are
+ * O(1) whatever the size of the catalogue.
  */
 public final class Producer {
 
@@ -24,19 +29,23 @@ public final class Producer {
     private final ProducerId id;
     private final ProducerCode producerCode;
     private String name; // optional, mutable business attribute
-    private final Set<Track> tracks; // Track entities with complete metadata
+    private final IsrcMap<Track> tracksByIsrc; // Track entities keyed by packed ISRC, in insertion order
+    private final Set<Track> tracksView = Collections.unmodifiableSet(new TrackSet());
 
     private Producer(ProducerId id, ProducerCode producerCode, String name, Set<Track> tracks) {
         this.id = Objects.requireNonNull(id, "Producer.id must not be null");
         this.producerCode = Objects.requireNonNull(producerCode, "Producer.producerCode must not be null");
         this.name = name; // nullable allowed
-        this.tracks = tracks == null ? new LinkedHashSet<>() : new LinkedHashSet<>(tracks);
+        this.tracksByIsrc = new IsrcMap<>(tracks == null ? 0 : tracks.size());
+        if (tracks != null) {
+            tracks.forEach(track -> tracksByIsrc.putIfAbsent(track.isrcKey(), track));
+        }
     }
 
     public static Producer createNew(ProducerCode producerCode, String name) {
         Objects.requireNonNull(producerCode, "ProducerCode must not be null");
         ProducerId producerId = ProducerId.fromProducerCode(producerCode);
-        return new Producer(producerId, producerCode, name, new LinkedHashSet<>());
+        return new Producer(producerId, producerCode, name, null);
     }
 
     public static Producer from(ProducerId id, ProducerCode producerCode, String name, Set<Track> tracks) {
@@ -60,19 +69,17 @@ public final class Producer {
     }
 
     public Set<Track> tracks() {
-        return Collections.unmodifiableSet(tracks);
+        return tracksView;
     }
 
     public boolean hasTrack(ISRC isrc) {
         Objects.requireNonNull(isrc, ISRC_MUST_NOT_BE_NULL);
-        return tracks.stream().anyMatch(track -> normalize(track.isrc()).equals(normalize(isrc)));
+        return tracksByIsrc.containsKey(Track.canonicalKey(isrc));
     }
 
     public Optional<Track> getTrack(ISRC isrc) {
         Objects.requireNonNull(isrc, ISRC_MUST_NOT_BE_NULL);
-        return tracks.stream()
-            .filter(track -> normalize(track.isrc()).equals(normalize(isrc)))
-            .findFirst();
+        return Optional.ofNullable(tracksByIsrc.get(Track.canonicalKey(isrc)));
     }
 
 
@@ -88,7 +95,7 @@ public final class Producer {
         if (!this.producerCode.equals(trackProducerCode)) {
             throw new IllegalArgumentException("Track producer code does not match aggregate producer code");
         }
-        return tracks.add(track); // idempotent due to Track.equals() based on ISRC
+        return tracksByIsrc.putIfAbsent(track.isrcKey(), track) == null; // idempotent: one track per canonical ISRC
     }
 
     /**
@@ -96,6 +103,19 @@ public final class Producer {
      * This enforces DDD principles by keeping track creation within the aggregate boundary.
      */
     public boolean registerTrack(ISRC isrc, String title, List<ArtistCredit> credits, List<Source> sources) {
+        Track track = newTrack(isrc, title, credits, sources);
+        return tracksByIsrc.putIfAbsent(track.isrcKey(), track) == null;
+    }
+
+    /**
+     * Builds the Track that {@link #registerTrack} would add, enforcing the same
+     * producer code rule, without adding it to this aggregate.
+     * <p>
+     * Used when the aggregate is loaded without its tracks: the caller is then
+     * responsible for checking that no track with the same ISRC is already
+     * stored before persisting the returned track.
+     */
+    public Track newTrack(ISRC isrc, String title, List<ArtistCredit> credits, List<Source> sources) {
         Objects.requireNonNull(isrc, ISRC_MUST_NOT_BE_NULL);
         Objects.requireNonNull(title, "title must not be null");
         Objects.requireNonNull(credits, "credits must not be null");
@@ -107,8 +127,7 @@ public final class Producer {
             throw new IllegalArgumentException("Track producer code does not match aggregate producer code");
         }
 
-        Track track = Track.of(normalize(isrc), title, credits, sources, TrackStatus.PROVISIONAL);
-        return tracks.add(track);
+        return Track.of(Track.canonical(isrc), title, credits, sources, TrackStatus.PROVISIONAL);
     }
 
     /**
@@ -120,11 +139,24 @@ public final class Producer {
         return registerTrack(isrc, title, credits, sources);
     }
 
-    private static ISRC normalize(ISRC isrc) {
-        return ISRC.of(normalizeIsrcString(isrc.value()));
-    }
+    /**
+     * Read-only set view over the track index; membership is an index lookup.
+     */
+    private final class TrackSet extends AbstractSet<Track> {
+
+        @Override
+        public Iterator<Track> iterator() {
+            return tracksByIsrc.iterator();
+        }
 
-    private static String normalizeIsrcString(String input) {
-        return input.replace("-", "").trim().toUpperCase();
+        @Override
+        public int size() {
+            return tracksByIsrc.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Track track && tracksByIsrc.containsKey(track.isrcKey());
+        }
     }
 }
@@ -5,6 +5,7 @@ import com.musichub.shared.domain.values.Source;
 import com.musichub.producer.domain.values.ProducerSourcePriority;
 import com.musichub.producer.domain.values.TrackStatus;
 import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.domain.values.IsrcCodec;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -22,6 +23,7 @@ import java.util.StringJoiner;
 public final class Track {
 
     private final ISRC isrc;
+    private final long isrcKey; // packed ISRC, computed once for equality and lookups
     private final String title;
     private final List<ArtistCredit> credits;
     private final List<Source> sources;
@@ -29,6 +31,7 @@ public final class Track {
 
     public Track(ISRC isrc, String title, List<ArtistCredit> credits, List<Source> sources, TrackStatus status) {
         this.isrc = Objects.requireNonNull(isrc, "ISRC must not be null");
+        this.isrcKey = canonicalKey(isrc);
         this.title = validateNonBlank(title, "title");
         this.credits = Collections.unmodifiableList(validateCredits(credits));
         this.sources = Collections.unmodifiableList(validateSources(sources));
@@ -72,6 +75,11 @@ public final class Track {
      * @return the unique ISRC identifier for this track
      */
     public ISRC isrc() { return isrc; }
+
+    /**
+     * @return this track's ISRC packed by {@link IsrcCodec}, as returned by {@link #canonicalKey(ISRC)}
+     */
+    long isrcKey() { return isrcKey; }
     
     /**
      * @return the track title (trimmed and validated)
@@ -177,21 +185,29 @@ public final class Track {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Track track = (Track) o;
-        // Normalize ISRC values for comparison to handle different formats
-        return normalizeIsrc(isrc.value()).equals(normalizeIsrc(track.isrc.value()));
+        // Canonical keys make differently formatted ISRCs compare equal
+        return isrcKey == track.isrcKey;
     }
 
     @Override
     public int hashCode() {
-        return normalizeIsrc(isrc.value()).hashCode();
+        return Long.hashCode(isrcKey);
     }
-    
+
+    /**
+     * Returns the canonical key of an ISRC: its packed form, which ignores
+     * dashes and is computed without allocating.
+     */
+    static long canonicalKey(ISRC isrc) {
+        return isrc.packed();
+    }
+
     /**
-     * Normalizes ISRC string by removing dashes, trimming, and converting to uppercase.
-     * This ensures consistent comparison across different ISRC formats.
+     * Returns {@code isrc} itself when it is already canonical, otherwise an
+     * ISRC holding its canonical value.
      */
-    private static String normalizeIsrc(String input) {
-        return input.replace("-", "").trim().toUpperCase();
+    static ISRC canonical(ISRC isrc) {
+        return isrc.value().length() == IsrcCodec.LENGTH ? isrc : ISRC.of(IsrcCodec.decode(isrc.packed()));
     }
 
     @Override
@@ -60,5 +60,59 @@ class ProducerTest {
             assertEquals(credits, track.credits());
             assertEquals(TrackStatus.PROVISIONAL, track.status());
         }
+
+        @Test
+        @DisplayName("Should build a new track without adding it to the aggregate")
+        void newTrack_buildsTrackWithoutAddingIt() {
+            // Given
+            Producer producer = Producer.createNew(ProducerCode.of("FRLA1"), null);
+            Source source = Source.of("SPOTIFY", "FRLA12400001");
+
+            // When
+            Track track = producer.newTrack(ISRC.of("FRLA12400001"), "Track Title",
+                List.of(ArtistCredit.withName("Artist Name")), List.of(source));
+
+            // Then
+            assertEquals(ISRC.of("FRLA12400001"), track.isrc());
+            assertEquals(TrackStatus.PROVISIONAL, track.status());
+            assertTrue(producer.tracks().isEmpty(), "newTrack must not modify the aggregate");
+        }
+
+        @Test
+        @DisplayName("Should reject a new track from another producer")
+        void newTrack_rejectsForeignProducerCode() {
+            Producer producer = Producer.createNew(ProducerCode.of("FRLA1"), null);
+            Source source = Source.of("SPOTIFY", "GBUM71507409");
+
+            assertThrows(IllegalArgumentException.class, () -> producer.newTrack(ISRC.of("GBUM71507409"),
+                "Track Title", List.of(ArtistCredit.withName("Artist Name")), List.of(source)));
+        }
+
+        @Test
+        @DisplayName("Should find tracks whatever the ISRC format")
+        void lookups_ignoreIsrcFormatting() {
+            Producer producer = Producer.createNew(ProducerCode.of("FRLA1"), null);
+            Source source = Source.of("SPOTIFY", "FRLA12400001");
+            producer.registerTrack(ISRC.of("FRLA12400001"), "Track Title", List.of(ArtistCredit.withName("Artist Name")), List.of(source));
+
+            assertTrue(producer.hasTrack(ISRC.of("FR-LA1-24-00001")));
+            assertEquals("Track Title", producer.getTrack(ISRC.of("FR-LA1-24-00001")).orElseThrow().title());
+            assertFalse(producer.hasTrack(ISRC.of("FRLA12400002")));
+            assertTrue(producer.getTrack(ISRC.of("FRLA12400002")).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should expose tracks as a read-only set in registration order")
+        void tracks_isReadOnlyAndOrdered() {
+            Producer producer = Producer.createNew(ProducerCode.of("FRLA1"), null);
+            Source source = Source.of("SPOTIFY", "FRLA12400001");
+            List<ArtistCredit> credits = List.of(ArtistCredit.withName("Artist Name"));
+            producer.registerTrack(ISRC.of("FRLA12400002"), "Second", credits, List.of(source));
+            producer.registerTrack(ISRC.of("FRLA12400001"), "First", credits, List.of(source));
+
+            assertEquals(List.of("Second", "First"), producer.tracks().stream().map(Track::title).toList());
+            assertTrue(producer.tracks().contains(Track.of(ISRC.of("FR-LA1-24-00001"), "Other", credits, List.of(source), TrackStatus.VERIFIED)));
+            assertThrows(UnsupportedOperationException.class, () -> producer.tracks().clear());
+        }
     }
-}
\ No newline at end of file
+}
@@ -45,6 +45,16 @@ class TrackTest {
         assertEquals(t1.hashCode(), t2.hashCode());
     }
 
+    @Test
+    @DisplayName("Canonical key should ignore dashes and reuse already canonical ISRCs")
+    void canonicalKeyStripsDashes() {
+        ISRC canonical = ISRC.of("FRLA12400001");
+
+        assertSame(canonical, Track.canonical(canonical));
+        assertEquals(Track.canonicalKey(canonical), Track.canonicalKey(ISRC.of("FR-LA1-24-00001")));
+        assertEquals(canonical, Track.canonical(ISRC.of("FR-LA1-24-00001")));
+    }
+
     @Test
     @DisplayName("Should validate inputs")
     void shouldValidateInputs() {
@@ -0,0 +1,191 @@
+package com.musichub.shared.domain.collection;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.domain.values.IsrcCodec;
+
+/**
+ * Insertion-ordered map keyed by packed ISRC ({@link IsrcCodec}), without
+ * boxing keys or allocating an entry per mapping.
+ * <p>
+ * Keys and values are stored densely in insertion order; a power-of-two
+ * open-addressing table, kept at most half full, maps a key to its position.
+ * Mappings can be added or replaced but not removed, which is all the
+ * in-memory ISRC indexes need. Not thread-safe.
+ *
+ * @param <V> the type of mapped values
+ */
+public final class IsrcMap<V> implements Iterable<V> {
+
+    private static final int MIN_CAPACITY = 8;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private int[] slots;     // entry index + 1, 0 for an empty slot
+    private long[] keys;     // packed ISRCs, in insertion order
+    private Object[] values; // values, aligned with keys
+    private int size;
+    private int shift;       // 64 - log2(slots.length)
+
+    public IsrcMap() {
+        this(0);
+    }
+
+    public IsrcMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        int entryCapacity = Math.max(MIN_CAPACITY, expectedSize);
+        keys = new long[entryCapacity];
+        values = new Object[entryCapacity];
+        allocateSlots(tableSizeFor(entryCapacity));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(ISRC isrc) {
+        return containsKey(isrc.packed());
+    }
+
+    public boolean containsKey(long packedIsrc) {
+        return indexOf(packedIsrc) >= 0;
+    }
+
+    public V get(ISRC isrc) {
+        return get(isrc.packed());
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long packedIsrc) {
+        int index = indexOf(packedIsrc);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    /**
+     * Associates {@code value} with {@code packedIsrc} unless the key is already mapped.
+     *
+     * @return the value already mapped, or null if {@code value} was added
+     */
+    @SuppressWarnings("unchecked")
+    public V putIfAbsent(long packedIsrc, V value) {
+        int slot = slotOf(packedIsrc);
+        if (slots[slot] != 0) {
+            return (V) values[slots[slot] - 1];
+        }
+        append(slot, packedIsrc, value);
+        return null;
+    }
+
+    /**
+     * Associates {@code value} with {@code packedIsrc}; a replaced value keeps its position.
+     *
+     * @return the previously mapped value, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long packedIsrc, V value) {
+        int slot = slotOf(packedIsrc);
+        if (slots[slot] != 0) {
+            int index = slots[slot] - 1;
+            V previous = (V) values[index];
+            values[index] = Objects.requireNonNull(value, "value must not be null");
+            return previous;
+        }
+        append(slot, packedIsrc, value);
+        return null;
+    }
+
+    /**
+     * @return the packed key of the {@code index}-th mapping, in insertion order
+     */
+    public long keyAt(int index) {
+        Objects.checkIndex(index, size);
+        return keys[index];
+    }
+
+    /**
+     * @return the values in insertion order; the iterator does not support removal
+     */
+    @Override
+    public Iterator<V> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public V next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return (V) values[next++];
+            }
+        };
+    }
+
+    private void append(int slot, long packedIsrc, V value) {
+        if (packedIsrc < 0) {
+            throw new IllegalArgumentException("Not a packed ISRC: " + packedIsrc);
+        }
+        Objects.requireNonNull(value, "value must not be null");
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        keys[size] = packedIsrc;
+        values[size] = value;
+        slots[slot] = ++size;
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+    }
+
+    private int indexOf(long packedIsrc) {
+        int entry = slots[slotOf(packedIsrc)];
+        return entry - 1;
+    }
+
+    /**
+     * @return the slot holding {@code packedIsrc}, or the empty slot where it belongs
+     */
+    private int slotOf(long packedIsrc) {
+        int mask = slots.length - 1;
+        int slot = (int) ((packedIsrc * GOLDEN_RATIO) >>> shift);
+        while (true) {
+            int entry = slots[slot];
+            if (entry == 0 || keys[entry - 1] == packedIsrc) {
+                return slot;
+            }
+            slot = (slot + 1) & mask; // linear probing
+        }
+    }
+
+    private void rehash(int tableSize) {
+        allocateSlots(tableSize);
+        for (int index = 0; index < size; index++) {
+            slots[slotOf(keys[index])] = index + 1;
+        }
+    }
+
+    private void allocateSlots(int tableSize) {
+        slots = new int[tableSize];
+        shift = Long.numberOfLeadingZeros(tableSize - 1L);
+    }
+
+    private static int tableSizeFor(int entries) {
+        // Smallest power of two keeping the table at most half full
+        return Integer.highestOneBit(Math.max(MIN_CAPACITY, entries) * 2 - 1) << 1;
+    }
+}
@@ -1,17 +1,15 @@
 package com.musichub.shared.domain.values;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 public record ISRC(String value) {
 
-    private static final Pattern ISRC_PATTERN = Pattern.compile("^[A-Z]{2}[A-Z0-9]{3}\\d{2}\\d{5}$");
     private static final String MESSAGE_ERROR_FORMAT = "ISRC value '%s' is invalid. The ISRC value must be composed of 12 alphanumeric characters, with two letters for the recording country, two letters or a digit for the label or producer, two letters for the artist or composer, and three letters or a digit for the recording value.";
 
 
     public ISRC {
         Objects.requireNonNull(value, "ISRC value cannot be null");
-        if (!ISRC_PATTERN.matcher(value.replace("-", "")).matches()) {
+        if (!IsrcCodec.isValid(value)) {
             throw new IllegalArgumentException(String.format(MESSAGE_ERROR_FORMAT, value));
         }
     }
@@ -20,4 +18,26 @@ public record ISRC(String value) {
         return new ISRC(value);
     }
 
+    /**
+     * Parses user input into a canonical ISRC (upper case, no dashes), accepting
+     * dashes, lower case letters and surrounding whitespace.
+     *
+     * @throws IllegalArgumentException if the input is not an ISRC
+     */
+    public static ISRC normalized(String input) {
+        Objects.requireNonNull(input, "ISRC value cannot be null");
+        long packed = IsrcCodec.tryEncodeLenient(input);
+        if (packed == IsrcCodec.INVALID) {
+            throw new IllegalArgumentException(String.format(MESSAGE_ERROR_FORMAT, input));
+        }
+        return new ISRC(IsrcCodec.decode(packed));
+    }
+
+    /**
+     * @return this ISRC packed by {@link IsrcCodec}; equal for every formatting of the same ISRC
+     */
+    public long packed() {
+        return IsrcCodec.tryEncode(value);
+    }
+
 }
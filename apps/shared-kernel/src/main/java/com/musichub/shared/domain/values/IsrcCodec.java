@@ -0,0 +1,154 @@
+package com.musichub.shared.domain.values;
+
+/**
+ * Packs an ISRC into a single {@code long}.
+ * <p>
+ * An ISRC has 12 significant characters with a fixed layout: two letters
+ * (country), three letters or digits (registrant), two digits (year) and five
+ * digits (designation). Each character is stored as a base-36 digit, digits
+ * ranking before letters as they do in ASCII, so comparing two packed values
+ * with {@link Long#compare} orders them exactly like their canonical strings.
+ * Packed values are never negative; {@link #INVALID} marks an input that is
+ * not an ISRC.
+ * <p>
+ * Validation is hand-written: one pass over the characters, no regex and no
+ * allocation.
+ */
+public final class IsrcCodec {
+
+    /** Returned by the {@code tryEncode} methods when the input is not an ISRC. */
+    public static final long INVALID = -1L;
+
+    /** Number of significant characters in an ISRC. */
+    public static final int LENGTH = 12;
+
+    private static final int RADIX = 36;
+    private static final long UPPER_BOUND = pow(RADIX, LENGTH);
+
+    private IsrcCodec() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Encodes an ISRC written in upper case, with optional dashes anywhere, as
+     * accepted by {@link ISRC}.
+     *
+     * @return the packed ISRC, or {@link #INVALID}
+     */
+    public static long tryEncode(CharSequence value) {
+        return encode(value, 0, value.length(), false);
+    }
+
+    /**
+     * Encodes user input: same as {@link #tryEncode(CharSequence)}, also
+     * accepting lower case letters and surrounding whitespace.
+     *
+     * @return the packed ISRC, or {@link #INVALID}
+     */
+    public static long tryEncodeLenient(CharSequence value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        return encode(value, start, end, true);
+    }
+
+    /**
+     * @return the packed ISRC
+     * @throws IllegalArgumentException if {@code value} is not an ISRC
+     */
+    public static long encode(CharSequence value) {
+        long packed = tryEncode(value);
+        if (packed == INVALID) {
+            throw new IllegalArgumentException(String.format("ISRC value '%s' is invalid", value));
+        }
+        return packed;
+    }
+
+    /**
+     * @return true if {@code value} is an ISRC as accepted by {@link ISRC}
+     */
+    public static boolean isValid(CharSequence value) {
+        return tryEncode(value) != INVALID;
+    }
+
+    /**
+     * @return the canonical ISRC string (12 characters, no dashes) of a packed value
+     * @throws IllegalArgumentException if {@code packed} was not produced by this codec
+     */
+    public static String decode(long packed) {
+        if (packed < 0 || packed >= UPPER_BOUND) {
+            throw new IllegalArgumentException("Not a packed ISRC: " + packed);
+        }
+        char[] chars = new char[LENGTH];
+        long remaining = packed;
+        for (int position = LENGTH - 1; position >= 0; position--) {
+            int digit = (int) (remaining % RADIX);
+            remaining /= RADIX;
+            if (!allowedAt(position, digit)) {
+                throw new IllegalArgumentException("Not a packed ISRC: " + packed);
+            }
+            chars[position] = (char) (digit < 10 ? '0' + digit : 'A' + digit - 10);
+        }
+        return new String(chars);
+    }
+
+    private static long encode(CharSequence value, int start, int end, boolean foldCase) {
+        long packed = 0;
+        int position = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            if (foldCase && c >= 'a' && c <= 'z') {
+                c = (char) (c - ('a' - 'A'));
+            }
+            int digit = digitOf(c);
+            if (position >= LENGTH || !allowedAt(position, digit)) {
+                return INVALID;
+            }
+            packed = packed * RADIX + digit;
+            position++;
+        }
+        return position == LENGTH ? packed : INVALID;
+    }
+
+    /**
+     * @return the base-36 digit of an upper case letter or a digit, or -1
+     */
+    private static int digitOf(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static boolean allowedAt(int position, int digit) {
+        if (digit < 0) {
+            return false;
+        }
+        if (position < 2) {
+            return digit >= 10; // country: letters only
+        }
+        if (position < 5) {
+            return true; // registrant: letters or digits
+        }
+        return digit < 10; // year and designation: digits only
+    }
+
+    private static long pow(long base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
@@ -13,6 +13,8 @@ import java.util.UUID;
  * - producerId: The ID of the producer that owns this track
  * - artistCredits: List of artist credits with names and optional IDs  
  * - sources: List of external sources where this track metadata was found
+ * Delivered at least once: consumers must tolerate a redelivered event, which they
+ * recognize by its ISRC.
  */
 public record TrackWasRegistered(
     ISRC isrc,
@@ -0,0 +1,82 @@
+package com.musichub.shared.domain.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.musichub.shared.domain.values.ISRC;
+import com.musichub.shared.domain.values.IsrcCodec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IsrcMapTest {
+
+    @Test
+    @DisplayName("Should find values by ISRC whatever the dashes")
+    void getIgnoresDashes() {
+        IsrcMap<String> map = new IsrcMap<>();
+        map.putIfAbsent(ISRC.of("USRC17607839").packed(), "track");
+
+        assertEquals("track", map.get(ISRC.of("US-RC1-76-07839")));
+        assertTrue(map.containsKey(ISRC.of("USRC17607839")));
+        assertNull(map.get(ISRC.of("USRC17607840")));
+        assertFalse(map.containsKey(IsrcCodec.INVALID));
+    }
+
+    @Test
+    @DisplayName("putIfAbsent should keep the first value and put should replace it in place")
+    void putSemantics() {
+        IsrcMap<String> map = new IsrcMap<>();
+        long first = IsrcCodec.encode("USRC17607839");
+        long second = IsrcCodec.encode("USRC17607840");
+
+        assertNull(map.putIfAbsent(first, "a"));
+        assertEquals("a", map.putIfAbsent(first, "b"));
+        assertNull(map.put(second, "c"));
+        assertEquals("c", map.put(second, "d"));
+
+        assertEquals(2, map.size());
+        assertEquals(List.of("a", "d"), values(map));
+        assertEquals(second, map.keyAt(1));
+    }
+
+    @Test
+    @DisplayName("Should grow and keep insertion order")
+    void growsAndKeepsInsertionOrder() {
+        IsrcMap<Integer> map = new IsrcMap<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int n = 0; n < 10_000; n++) {
+            // Descending keys, so insertion order differs from key order
+            map.putIfAbsent(isrc(9_999 - n), n);
+            expected.add(n);
+        }
+
+        assertEquals(10_000, map.size());
+        assertEquals(expected, values(map));
+        for (int n = 0; n < 10_000; n++) {
+            assertEquals(9_999 - n, map.get(isrc(n)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject null values and invalid keys")
+    void rejectsInvalidEntries() {
+        IsrcMap<String> map = new IsrcMap<>();
+
+        assertThrows(NullPointerException.class, () -> map.putIfAbsent(isrc(1), null));
+        assertThrows(IllegalArgumentException.class, () -> map.put(IsrcCodec.INVALID, "value"));
+        assertTrue(map.isEmpty());
+    }
+
+    private static long isrc(int n) {
+        return IsrcCodec.encode("FRLA124" + String.format("%05d", n));
+    }
+
+    private static <V> List<V> values(IsrcMap<V> map) {
+        List<V> values = new ArrayList<>();
+        map.forEach(values::add);
+        return values;
+    }
+}
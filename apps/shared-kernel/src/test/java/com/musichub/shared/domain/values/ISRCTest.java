@@ -129,4 +129,22 @@ class ISRCTest {
         assertNotEquals(withDashes, withoutDashes);
         assertNotEquals(withDashes.hashCode(), withoutDashes.hashCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Packed value should be the same whatever the dashes")
+    void packedValueIgnoresDashes() {
+        assertEquals(ISRC.of("USRC17607839").packed(), ISRC.of("US-RC1-76-07839").packed());
+        assertNotEquals(ISRC.of("USRC17607839").packed(), ISRC.of("USRC17607840").packed());
+    }
+
+    @Test
+    @DisplayName("Normalized should accept user input and return the canonical ISRC")
+    void normalizedReturnsCanonicalIsrc() {
+        assertEquals(ISRC.of("USRC17607839"), ISRC.normalized(" us-rc1-76-07839 "));
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> ISRC.normalized("US-RC1-76")
+        );
+        assertTrue(exception.getMessage().contains("is invalid"));
+    }
+}
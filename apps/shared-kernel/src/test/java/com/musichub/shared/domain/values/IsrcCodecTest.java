@@ -0,0 +1,79 @@
+package com.musichub.shared.domain.values;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IsrcCodecTest {
+
+    @Test
+    @DisplayName("Should decode an encoded ISRC to its canonical form")
+    void roundTrip() {
+        assertEquals("USRC17607839", IsrcCodec.decode(IsrcCodec.encode("USRC17607839")));
+        assertEquals("USRC17607839", IsrcCodec.decode(IsrcCodec.encode("US-RC1-76-07839")));
+        assertEquals("AA0000000000", IsrcCodec.decode(IsrcCodec.encode("AA0000000000")));
+        assertEquals("ZZZZZ9999999", IsrcCodec.decode(IsrcCodec.encode("ZZZZZ9999999")));
+    }
+
+    @Test
+    @DisplayName("Packed values should order like canonical strings")
+    void orderingMatchesStrings() {
+        Random random = new Random(42);
+        List<String> isrcs = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            isrcs.add(randomIsrc(random));
+        }
+        for (String left : isrcs) {
+            for (String right : isrcs) {
+                assertEquals(Integer.signum(left.compareTo(right)),
+                        Integer.signum(Long.compare(IsrcCodec.encode(left), IsrcCodec.encode(right))),
+                        left + " vs " + right);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "US123", "USRC176078391", "US-RC1-76", "usrc17607839", "US RC1 76 07839",
+            "US@C17607839", "1SRC17607839", "USRC1A607839", "USRC176078A9", "USRC17607839-X"})
+    @DisplayName("Should reject what ISRC rejects")
+    void rejectsInvalidIsrcs(String value) {
+        assertFalse(IsrcCodec.isValid(value));
+        assertEquals(IsrcCodec.INVALID, IsrcCodec.tryEncode(value));
+        assertThrows(IllegalArgumentException.class, () -> IsrcCodec.encode(value));
+    }
+
+    @Test
+    @DisplayName("Lenient encoding should fold case and trim whitespace")
+    void lenientEncoding() {
+        long expected = IsrcCodec.encode("USRC17607839");
+        assertEquals(expected, IsrcCodec.tryEncodeLenient("  us-rc1-76-07839\t"));
+        assertEquals(IsrcCodec.INVALID, IsrcCodec.tryEncodeLenient("us rc1 76 07839"));
+        assertEquals(IsrcCodec.INVALID, IsrcCodec.tryEncodeLenient("   "));
+    }
+
+    @Test
+    @DisplayName("Should reject values that are not packed ISRCs")
+    void decodeRejectsInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> IsrcCodec.decode(IsrcCodec.INVALID));
+        assertThrows(IllegalArgumentException.class, () -> IsrcCodec.decode(Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> IsrcCodec.decode(0L)); // "000000000000": no country
+    }
+
+    private static String randomIsrc(Random random) {
+        String letters = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        String alphanumerics = "0123456789" + letters;
+        StringBuilder isrc = new StringBuilder();
+        for (int position = 0; position < IsrcCodec.LENGTH; position++) {
+            String alphabet = position < 2 ? letters : position < 5 ? alphanumerics : "0123456789";
+            isrc.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return isrc.toString();
+    }
+}
@@ -1,13 +1,25 @@
 package com.musichub.shared.adapter.spi.auth;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.musichub.shared.util.concurrent.SingleFlight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -15,18 +27,23 @@ import jakarta.inject.Inject;
  * Service for managing Tidal OAuth2 authentication tokens.
  * Handles token acquisition, caching, and renewal.
  * <p>
- * This service implements the OAuth2 client credentials flow
- * and caches tokens until they expire.
+ * This service implements the OAuth2 client credentials flow. The current
+ * token is held in a single atomically swapped snapshot and is refreshed
+ * ahead of expiry ({@code tidal.auth.refresh-ahead}) by a background task, so
+ * request threads normally never wait on the auth server. Refreshes are
+ * single-flight: however many threads find the token stale, at most one token
+ * request is outstanding and every waiter reuses its result. After a failed
+ * background refresh, no other one starts before
+ * {@code tidal.auth.refresh-failure-backoff} has passed.
  */
 @ApplicationScoped
 public class TidalAuthService {
 
     private static final Logger logger = LoggerFactory.getLogger(TidalAuthService.class);
     private static final String GRANT_TYPE = "client_credentials";
-
-    @Inject
-    @RestClient
-    TidalAuthClient authClient;
+    private static final Duration DEFAULT_REFRESH_AHEAD = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_REFRESH_FAILURE_BACKOFF = Duration.ofSeconds(30);
+    private static final long DEFAULT_EXPIRES_IN_SECONDS = 3600L;
 
     @ConfigProperty(name = "tidal.auth.client-id")
     Optional<String> clientId;
@@ -37,20 +54,69 @@ public class TidalAuthService {
     @ConfigProperty(name = "tidal.auth.grant-type", defaultValue = GRANT_TYPE)
     String grantType;
 
-    // Token cache
-    private volatile TidalTokenResponse cachedToken;
-    private volatile Instant tokenExpiry;
+    @ConfigProperty(name = "tidal.auth.refresh-ahead", defaultValue = "PT5M")
+    Duration refreshAhead = DEFAULT_REFRESH_AHEAD;
+
+    @ConfigProperty(name = "tidal.auth.refresh-failure-backoff", defaultValue = "PT30S")
+    Duration refreshFailureBackoff = DEFAULT_REFRESH_FAILURE_BACKOFF;
+
+    private final TidalAuthClient authClient;
+
+    // Current token snapshot, swapped atomically after each successful refresh
+    private final AtomicReference<TokenState> tokenState = new AtomicReference<>();
+    private final AtomicBoolean backgroundRefreshPending = new AtomicBoolean();
+    // Time of the last failed background refresh, null until one fails
+    private volatile Instant backgroundRefreshFailedAt;
+    private final SingleFlight<String, TokenState> refreshFlight = new SingleFlight<>();
+    private final ScheduledExecutorService refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tidal-token-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Timer refreshSuccess;
+    private final Timer refreshFailure;
+    private final Counter coalescedRefreshes;
+
+    @Inject
+    public TidalAuthService(@RestClient TidalAuthClient authClient, MeterRegistry meterRegistry) {
+        this.authClient = authClient;
+        this.refreshSuccess = refreshTimer(meterRegistry, "success");
+        this.refreshFailure = refreshTimer(meterRegistry, "failure");
+        this.coalescedRefreshes = Counter.builder("tidal.auth.refresh.coalesced")
+                .description("Token refresh requests that joined an already outstanding refresh")
+                .register(meterRegistry);
+    }
+
+    private static Timer refreshTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("tidal.auth.refresh")
+                .description("Latency of Tidal OAuth2 token requests")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshScheduler.shutdownNow();
+    }
 
     /**
      * Get a valid access token for Tidal API calls.
      * Returns cached token if still valid, otherwise requests a new one.
+     * A token inside its refresh-ahead window is still returned, while a
+     * background refresh is started.
      *
      * @return access token or null if authentication fails
      */
     public String getAccessToken() {
-        if (isTokenValid()) {
+        TokenState current = tokenState.get();
+        Instant now = Instant.now();
+        if (current != null && current.isUsableAt(now)) {
+            if (current.shouldRefreshAt(now) && claimBackgroundRefresh(now)) {
+                refreshScheduler.execute(() -> refreshInBackground(current));
+            }
             logger.debug("Using cached Tidal access token");
-            return cachedToken.getAccessToken();
+            return current.accessToken();
         }
 
         return refreshAccessToken();
@@ -63,11 +129,17 @@ public class TidalAuthService {
      */
     public String getAuthorizationHeader() {
         String token = getAccessToken();
-        return token != null ? "Bearer " + token : null;
+        if (token == null) {
+            return null;
+        }
+        TokenState current = tokenState.get();
+        // Reuse the pre-built header of the current snapshot instead of concatenating per request
+        return current != null && token.equals(current.accessToken()) ? current.authorizationHeader() : "Bearer " + token;
     }
 
     /**
-     * Force refresh of the access token.
+     * Force refresh of the access token. Concurrent callers share one token
+     * request.
      *
      * @return new access token or null if authentication fails
      */
@@ -77,6 +149,23 @@ public class TidalAuthService {
             return null;
         }
 
+        TokenState previous = tokenState.get();
+        SingleFlight.Result<TokenState> result = refreshFlight.executeTracked(GRANT_TYPE, () -> {
+            // Another thread may have completed a refresh while this one was deciding to refresh
+            TokenState latest = tokenState.get();
+            if (latest != previous && latest != null && !latest.shouldRefreshAt(Instant.now())) {
+                return latest;
+            }
+            return requestToken();
+        });
+        if (result.shared()) {
+            coalescedRefreshes.increment();
+        }
+        return result.value() != null ? result.value().accessToken() : null;
+    }
+
+    private TokenState requestToken() {
+        long start = System.nanoTime();
         try {
             logger.debug("Requesting new Tidal access token");
 
@@ -86,32 +175,62 @@ public class TidalAuthService {
                     clientSecret.get());
 
             if (response != null && response.isValid()) {
-                cachedToken = response;
-                // Set expiry time with 5-minute buffer for safety
-                long expiresIn = response.getExpiresIn() != null ? response.getExpiresIn() : 3600L;
-                tokenExpiry = Instant.now().plusSeconds(expiresIn - 300);
+                long expiresIn = response.getExpiresIn() != null ? response.getExpiresIn() : DEFAULT_EXPIRES_IN_SECONDS;
+                TokenState state = TokenState.issued(response.getAccessToken(), Instant.now(), expiresIn, refreshAhead);
+                tokenState.set(state);
+                refreshSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                scheduleRefresh(state);
 
                 logger.info("Successfully obtained Tidal access token, expires in {} seconds", expiresIn);
-                return response.getAccessToken();
+                return state;
             } else {
+                refreshFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
                 logger.error("Invalid response from Tidal auth API");
                 return null;
             }
 
         } catch (Exception e) {
+            refreshFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             logger.error("Failed to obtain Tidal access token", e);
             return null;
         }
     }
 
+    private void scheduleRefresh(TokenState state) {
+        long delayMillis = Math.max(0, Duration.between(Instant.now(), state.refreshAt()).toMillis());
+        refreshScheduler.schedule(() -> {
+            if (claimBackgroundRefresh(Instant.now())) {
+                refreshInBackground(state);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return true if the caller may start a background refresh: none is
+     *         pending and the last failed one is older than the backoff
+     */
+    private boolean claimBackgroundRefresh(Instant now) {
+        Instant failedAt = backgroundRefreshFailedAt;
+        if (failedAt != null && now.isBefore(failedAt.plus(refreshFailureBackoff))) {
+            return false;
+        }
+        return backgroundRefreshPending.compareAndSet(false, true);
+    }
+
     /**
-     * Check if the cached token is still valid.
+     * Runs a background refresh. Only called by the winner of
+     * {@link #claimBackgroundRefresh}, which alone releases the claim.
      */
-    private boolean isTokenValid() {
-        return cachedToken != null
-                && cachedToken.isValid()
-                && tokenExpiry != null
-                && Instant.now().isBefore(tokenExpiry);
+    private void refreshInBackground(TokenState seen) {
+        try {
+            // Skip if a newer token already replaced the one that triggered this refresh
+            if (tokenState.get() == seen && refreshAccessToken() == null) {
+                backgroundRefreshFailedAt = Instant.now();
+                logger.warn("Background Tidal token refresh failed, next attempt in {}", refreshFailureBackoff);
+            }
+        } finally {
+            backgroundRefreshPending.set(false);
+        }
     }
 
     /**
@@ -124,4 +243,34 @@ public class TidalAuthService {
                 && !clientSecret.get().trim().isEmpty()
                 && !"changeme".equals(clientId.get());
     }
-}
\ No newline at end of file
+
+    /**
+     * Immutable snapshot of the current token.
+     *
+     * @param accessToken         the bearer token
+     * @param authorizationHeader pre-built "Bearer ..." header value
+     * @param refreshAt           when a background refresh should start
+     * @param expiresAt           when the token stops being handed out
+     */
+    record TokenState(String accessToken, String authorizationHeader, Instant refreshAt, Instant expiresAt) {
+
+        // Keep a margin so a token is never sent when it is about to expire in flight
+        private static final Duration EXPIRY_SAFETY_MARGIN = Duration.ofSeconds(30);
+
+        static TokenState issued(String accessToken, Instant now, long expiresInSeconds, Duration refreshAhead) {
+            Duration lifetime = Duration.ofSeconds(expiresInSeconds);
+            Duration lead = refreshAhead.compareTo(lifetime) < 0 ? refreshAhead : lifetime.dividedBy(2);
+            Duration margin = EXPIRY_SAFETY_MARGIN.compareTo(lead) < 0 ? EXPIRY_SAFETY_MARGIN : Duration.ZERO;
+            return new TokenState(accessToken, "Bearer " + accessToken,
+                    now.plus(lifetime).minus(lead), now.plus(lifetime).minus(margin));
+        }
+
+        boolean isUsableAt(Instant now) {
+            return now.isBefore(expiresAt);
+        }
+
+        boolean shouldRefreshAt(Instant now) {
+            return !now.isBefore(refreshAt);
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.musichub.shared.adapter.spi.auth;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.eclipse.microprofile.rest.client.ext.ClientHeadersFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.core.AbstractMultivaluedMap;
 import jakarta.ws.rs.core.MultivaluedMap;
-import jakarta.ws.rs.core.MultivaluedHashMap;
 
 /**
  * Client headers factory for Tidal API authentication.
@@ -18,37 +25,71 @@ import jakarta.ws.rs.core.MultivaluedHashMap;
  * 2. Adds proper Authorization headers with Bearer tokens
  * 3. Sets required content-type headers for Tidal's JSON:API
  * 4. Handles authentication failures gracefully
+ *
+ * The header set is built once per token and shared, read-only, by every
+ * request until the token changes.
  */
 @ApplicationScoped
 public class TidalClientHeadersFactory implements ClientHeadersFactory {
 
     private static final Logger logger = LoggerFactory.getLogger(TidalClientHeadersFactory.class);
 
+    private static final String JSON_API = "application/vnd.api+json";
+    private static final String USER_AGENT = "MusicHub/1.0.0";
+
     @Inject
     TidalAuthService authService;
 
+    private final AtomicReference<HeaderSet> current = new AtomicReference<>(HeaderSet.of(null));
+
     @Override
     public MultivaluedMap<String, String> update(MultivaluedMap<String, String> incomingHeaders,
                                                 MultivaluedMap<String, String> clientOutgoingHeaders) {
 
-        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
-
         // Get OAuth2 token from authentication service
         String authHeader = authService.getAuthorizationHeader();
-        if (authHeader != null) {
-            headers.add("Authorization", authHeader);
-            logger.debug("Added OAuth2 authorization header for Tidal API");
-        } else {
+        if (authHeader == null) {
             logger.warn("No valid authentication token available for Tidal API");
         }
 
-        // Always add required headers for Tidal API (JSON:API specification)
-        headers.add("Accept", "application/vnd.api+json");
-        headers.add("Content-Type", "application/vnd.api+json");
+        HeaderSet headerSet = current.get();
+        if (!Objects.equals(headerSet.authorization(), authHeader)) {
+            // Token changed: build the new header set once and publish it
+            headerSet = HeaderSet.of(authHeader);
+            current.set(headerSet);
+            logger.debug("Rebuilt Tidal API headers for new OAuth2 token");
+        }
+        return headerSet.headers();
+    }
 
-        // Add User-Agent for API identification and debugging
-        headers.add("User-Agent", "MusicHub/1.0.0");
+    /**
+     * Immutable headers for one Authorization value.
+     */
+    private record HeaderSet(String authorization, MultivaluedMap<String, String> headers) {
 
-        return headers;
+        static HeaderSet of(String authorization) {
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            if (authorization != null) {
+                headers.put("Authorization", List.of(authorization));
+            }
+            // Always add required headers for Tidal API (JSON:API specification)
+            headers.put("Accept", List.of(JSON_API));
+            headers.put("Content-Type", List.of(JSON_API));
+            // Add User-Agent for API identification and debugging
+            headers.put("User-Agent", List.of(USER_AGENT));
+            return new HeaderSet(authorization, new ReadOnlyHeaders(headers));
+        }
+    }
+
+    /**
+     * Multivalued view over an unmodifiable map: any mutation attempt fails.
+     */
+    private static final class ReadOnlyHeaders extends AbstractMultivaluedMap<String, String> {
+
+        private static final long serialVersionUID = 1L;
+
+        ReadOnlyHeaders(Map<String, List<String>> headers) {
+            super(Collections.unmodifiableMap(headers));
+        }
     }
-}
\ No newline at end of file
+}
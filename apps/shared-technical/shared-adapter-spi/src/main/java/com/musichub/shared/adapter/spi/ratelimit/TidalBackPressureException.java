@@ -0,0 +1,28 @@
+package com.musichub.shared.adapter.spi.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a Tidal call cannot obtain rate-limit capacity within the
+ * configured maximum wait. Carries the expected wait so callers can retry
+ * later (e.g. by surfacing it as a Retry-After header) instead of failing
+ * blindly.
+ */
+public class TidalBackPressureException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Duration retryAfter;
+
+    public TidalBackPressureException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return how long the caller should wait before trying again
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,28 @@
+package com.musichub.shared.adapter.spi.ratelimit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+
+/**
+ * Feeds the rate-limit headers of every Tidal response (and 429 answers) into
+ * {@link TidalRateLimiter}. Register it on every Tidal client, e.g. with
+ * {@code @RegisterProvider(TidalRateLimitResponseFilter.class)}.
+ */
+@ApplicationScoped
+public class TidalRateLimitResponseFilter implements ClientResponseFilter {
+
+    private final TidalRateLimiter rateLimiter;
+
+    @Inject
+    public TidalRateLimitResponseFilter(TidalRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+        rateLimiter.observe(responseContext.getStatus(), responseContext::getHeaderString);
+    }
+}
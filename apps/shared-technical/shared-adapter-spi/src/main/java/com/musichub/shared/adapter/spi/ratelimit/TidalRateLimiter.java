@@ -0,0 +1,287 @@
+package com.musichub.shared.adapter.spi.ratelimit;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.WebApplicationException;
+
+/**
+ * Client-side scheduler shared by every Tidal caller (producer and artist
+ * SPIs).
+ * <p>
+ * Capacity is a token bucket ({@code tidal.rate-limit.burst} tokens, refilled at
+ * {@code tidal.rate-limit.requests-per-second}). Callers waiting for a token
+ * are served by {@link TidalRequestPriority}, then in arrival order. The bucket
+ * adapts to what Tidal reports: a 429 pauses all traffic for the
+ * {@code Retry-After} delay, {@code X-RateLimit-Remaining: 0} drains local
+ * tokens, and {@code X-RateLimit-Replenish-Rate} caps the refill rate.
+ * <p>
+ * Callers block while waiting; when the expected wait exceeds
+ * {@code tidal.rate-limit.max-wait} they get a {@link TidalBackPressureException}
+ * carrying that wait rather than a generic failure.
+ */
+@ApplicationScoped
+public class TidalRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TidalRateLimiter.class);
+
+    static final String RETRY_AFTER = "Retry-After";
+    static final String RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+    static final String RATE_LIMIT_REPLENISH_RATE = "X-RateLimit-Replenish-Rate";
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final double capacity;
+    private final double configuredRatePerSecond;
+    private final long maxWaitNanos;
+    private final int maxRetries;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition stateChanged = lock.newCondition();
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+            Comparator.comparing(Waiter::priority).thenComparingLong(Waiter::sequence));
+
+    // Guarded by lock
+    private double tokens;
+    private double ratePerSecond;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+    private long sequence;
+
+    private final Timer throttleTimer;
+    private final Counter rejections;
+    private final Counter tooManyRequests;
+
+    @Inject
+    public TidalRateLimiter(
+            @ConfigProperty(name = "tidal.rate-limit.requests-per-second", defaultValue = "4") double requestsPerSecond,
+            @ConfigProperty(name = "tidal.rate-limit.burst", defaultValue = "8") int burst,
+            @ConfigProperty(name = "tidal.rate-limit.max-wait", defaultValue = "PT20S") Duration maxWait,
+            @ConfigProperty(name = "tidal.rate-limit.max-retries", defaultValue = "2") int maxRetries,
+            MeterRegistry meterRegistry) {
+        this(requestsPerSecond, burst, maxWait, maxRetries, meterRegistry, System::nanoTime);
+    }
+
+    TidalRateLimiter(double requestsPerSecond, int burst, Duration maxWait, int maxRetries,
+                     MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        if (requestsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Tidal rate limit must allow at least one request");
+        }
+        this.capacity = burst;
+        this.configuredRatePerSecond = requestsPerSecond;
+        this.ratePerSecond = requestsPerSecond;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.maxRetries = maxRetries;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+        this.pausedUntilNanos = lastRefillNanos;
+
+        Gauge.builder("tidal.ratelimit.queue.depth", waiters, PriorityQueue::size)
+                .description("Tidal calls waiting for rate-limit capacity")
+                .register(meterRegistry);
+        this.throttleTimer = Timer.builder("tidal.ratelimit.throttle")
+                .description("Time Tidal calls spent waiting for rate-limit capacity")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejections = Counter.builder("tidal.ratelimit.rejections")
+                .description("Tidal calls rejected because the expected wait exceeded the maximum")
+                .register(meterRegistry);
+        this.tooManyRequests = Counter.builder("tidal.ratelimit.responses.429")
+                .description("429 Too Many Requests responses received from Tidal")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs a Tidal call under the rate limit. A 429 answer is retried, up to
+     * {@code tidal.rate-limit.max-retries} times, once the bucket is no longer
+     * paused. The pause itself comes from {@link TidalRateLimitResponseFilter},
+     * which has already observed the response by the time the call fails.
+     *
+     * @param priority scheduling priority of the call
+     * @param call     the HTTP call
+     * @return the call's result
+     * @throws TidalBackPressureException when capacity is not available in time,
+     *                                     or Tidal still answers 429 once the retries are used up
+     */
+    public <T> T execute(TidalRequestPriority priority, Supplier<T> call) {
+        int attempt = 0;
+        while (true) {
+            acquire(priority);
+            try {
+                return call.get();
+            } catch (WebApplicationException e) {
+                if (e.getResponse() == null || e.getResponse().getStatus() != TOO_MANY_REQUESTS) {
+                    throw e;
+                }
+                if (attempt >= maxRetries) {
+                    throw new TidalBackPressureException(
+                            "Tidal still answered 429 after " + maxRetries + " retries",
+                            parseRetryAfter(e.getResponse().getHeaderString(RETRY_AFTER)));
+                }
+                attempt++;
+                logger.warn("Tidal answered 429, retrying after back-off (attempt {}/{})", attempt, maxRetries);
+            }
+        }
+    }
+
+    /**
+     * Blocks until a token is available for the caller, honouring priority and
+     * any Retry-After pause.
+     *
+     * @throws TidalBackPressureException if the expected wait exceeds the maximum
+     */
+    public void acquire(TidalRequestPriority priority) {
+        long start = nanoClock.getAsLong();
+        lock.lock();
+        try {
+            Waiter waiter = new Waiter(priority, sequence++);
+            waiters.add(waiter);
+            try {
+                while (true) {
+                    long now = nanoClock.getAsLong();
+                    refill(now);
+                    if (waiters.peek() == waiter && now >= pausedUntilNanos && tokens >= 1) {
+                        tokens -= 1;
+                        throttleTimer.record(now - start, TimeUnit.NANOSECONDS);
+                        return;
+                    }
+                    long expectedWait = expectedWaitNanos(waiter, now);
+                    if (now - start + expectedWait > maxWaitNanos) {
+                        rejections.increment();
+                        throw new TidalBackPressureException(
+                                "Tidal rate limit: expected wait exceeds " + Duration.ofNanos(maxWaitNanos),
+                                Duration.ofNanos(expectedWait));
+                    }
+                    stateChanged.awaitNanos(Math.max(expectedWait, TimeUnit.MILLISECONDS.toNanos(1)));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TidalBackPressureException("Interrupted while waiting for Tidal rate limit", Duration.ZERO);
+            } finally {
+                waiters.remove(waiter);
+                stateChanged.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adapts the bucket to the rate-limit information of a Tidal response.
+     *
+     * @param status HTTP status of the response
+     * @param header header lookup, returning null for absent headers
+     */
+    public void observe(int status, UnaryOperator<String> header) {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            refill(now);
+            if (status == TOO_MANY_REQUESTS) {
+                tooManyRequests.increment();
+                Duration retryAfter = parseRetryAfter(header.apply(RETRY_AFTER));
+                pausedUntilNanos = Math.max(pausedUntilNanos, now + retryAfter.toNanos());
+                tokens = 0;
+                logger.warn("Tidal rate limit hit, pausing all Tidal calls for {}", retryAfter);
+            }
+            String remaining = header.apply(RATE_LIMIT_REMAINING);
+            if ("0".equals(remaining != null ? remaining.trim() : null)) {
+                tokens = Math.min(tokens, 0);
+            }
+            Double replenishRate = parseDouble(header.apply(RATE_LIMIT_REPLENISH_RATE));
+            if (replenishRate != null && replenishRate > 0) {
+                ratePerSecond = Math.min(configuredRatePerSecond, replenishRate);
+            }
+            stateChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of callers currently waiting for capacity
+     */
+    public int queueDepth() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * ratePerSecond / TimeUnit.SECONDS.toNanos(1));
+            lastRefillNanos = now;
+        }
+    }
+
+    /**
+     * Estimates how long {@code waiter} still has to wait: the remaining pause,
+     * plus the time to refill a token for itself and every caller ahead of it.
+     */
+    private long expectedWaitNanos(Waiter waiter, long now) {
+        long ahead = waiters.stream().filter(other -> waiters.comparator().compare(other, waiter) < 0).count();
+        double missingTokens = Math.max(0, ahead + 1 - tokens);
+        long refillNanos = (long) (missingTokens * TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long pauseNanos = Math.max(0, pausedUntilNanos - now);
+        return pauseNanos + refillNanos;
+    }
+
+    static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT_RETRY_AFTER;
+        }
+        String trimmed = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(trimmed)));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                Duration untilDate = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME));
+                return untilDate.isNegative() ? Duration.ZERO : untilDate;
+            } catch (DateTimeParseException notADate) {
+                return DEFAULT_RETRY_AFTER;
+            }
+        }
+    }
+
+    private static Double parseDouble(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record Waiter(TidalRequestPriority priority, long sequence) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.musichub.shared.adapter.spi.ratelimit;
+
+/**
+ * Priority of a Tidal call when waiting for rate-limit capacity. Lower ordinal
+ * is served first.
+ */
+public enum TidalRequestPriority {
+    /** A user is waiting on the result (e.g. track registration). */
+    INTERACTIVE,
+    /** Asynchronous work that can absorb delays (e.g. artist enrichment). */
+    BACKGROUND
+}
@@ -1,15 +1,25 @@
 package com.musichub.shared.adapter.spi.auth;
 
 import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -25,17 +35,24 @@ class TidalAuthServiceTest {
     @RestClient
     TidalAuthClient authClient;
 
-    @InjectMocks
+    SimpleMeterRegistry meterRegistry;
     TidalAuthService authService;
 
     @BeforeEach
     void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        authService = new TidalAuthService(authClient, meterRegistry);
         // Use reflection to set the config properties since @ConfigProperty doesn't work in unit tests
         setConfigProperty("clientId", Optional.of("test-client-id"));
         setConfigProperty("clientSecret", Optional.of("test-client-secret"));
         setConfigProperty("grantType", "client_credentials");
     }
 
+    @AfterEach
+    void tearDown() {
+        authService.shutdown();
+    }
+
     @Test
     void getAccessToken_WhenValidCredentials_ShouldReturnToken() throws Exception {
         // Given: Valid token response from auth client
@@ -141,6 +158,96 @@ class TidalAuthServiceTest {
         assertEquals("refreshed-token", token);
     }
 
+    @Test
+    void refreshAccessToken_WhenCalledConcurrently_ShouldRequestTokenOnce() throws Exception {
+        // Given: A slow auth server
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch releaseResponse = new CountDownLatch(1);
+        when(authClient.getAccessToken(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            requestStarted.countDown();
+            assertTrue(releaseResponse.await(5, TimeUnit.SECONDS));
+            return new TidalTokenResponse("shared-token", 3600L);
+        });
+
+        // When: Many threads find no valid token at the same time
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> tokens = new ArrayList<>();
+            tokens.add(executor.submit(authService::getAccessToken));
+            assertTrue(requestStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 7; i++) {
+                tokens.add(executor.submit(authService::getAccessToken));
+            }
+            Thread.sleep(200);
+            releaseResponse.countDown();
+
+            // Then: Every thread gets the token of a single auth request
+            for (Future<String> token : tokens) {
+                assertEquals("shared-token", token.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(authClient, times(1)).getAccessToken(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void getAccessToken_WhenInsideRefreshWindow_ShouldRefreshInBackground() throws Exception {
+        // Given: A token whose lifetime is shorter than the refresh-ahead window
+        setConfigProperty("refreshAhead", Duration.ofMinutes(5));
+        when(authClient.getAccessToken(anyString(), anyString(), anyString()))
+                .thenReturn(new TidalTokenResponse("short-lived-token", 2L))
+                .thenReturn(new TidalTokenResponse("renewed-token", 3600L));
+
+        // When: The token is obtained and the refresh is due
+        assertEquals("short-lived-token", authService.getAccessToken());
+
+        // Then: A new token is fetched ahead of expiry without a caller asking for it
+        verify(authClient, timeout(5000).times(2)).getAccessToken(anyString(), anyString(), anyString());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"renewed-token".equals(authService.getAccessToken()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("renewed-token", authService.getAccessToken());
+    }
+
+    @Test
+    void getAccessToken_WhenBackgroundRefreshFails_ShouldBackOff() throws Exception {
+        // Given: A token due for refresh after one second, valid for 30 more, and a failing auth server
+        setConfigProperty("refreshAhead", Duration.ofSeconds(59));
+        setConfigProperty("refreshFailureBackoff", Duration.ofMinutes(1));
+        when(authClient.getAccessToken(anyString(), anyString(), anyString()))
+                .thenReturn(new TidalTokenResponse("current-token", 60L))
+                .thenThrow(new RuntimeException("Auth service unavailable"));
+        assertEquals("current-token", authService.getAccessToken());
+
+        // When: The scheduled background refresh fails
+        verify(authClient, timeout(5000).times(2)).getAccessToken(anyString(), anyString(), anyString());
+
+        // Then: Callers keep the current token and start no other refresh while backing off
+        for (int i = 0; i < 10; i++) {
+            assertEquals("current-token", authService.getAccessToken());
+        }
+        Thread.sleep(200);
+        verify(authClient, times(2)).getAccessToken(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void refreshAccessToken_ShouldRecordLatencyAndFailures() throws Exception {
+        // Given: One failing then one successful token request
+        when(authClient.getAccessToken(anyString(), anyString(), anyString()))
+                .thenThrow(new RuntimeException("Auth service unavailable"))
+                .thenReturn(new TidalTokenResponse("test-token", 3600L));
+
+        // When: Refreshing twice
+        assertNull(authService.refreshAccessToken());
+        assertEquals("test-token", authService.refreshAccessToken());
+
+        // Then: Both outcomes are timed
+        assertEquals(1, meterRegistry.get("tidal.auth.refresh").tag("outcome", "failure").timer().count());
+        assertEquals(1, meterRegistry.get("tidal.auth.refresh").tag("outcome", "success").timer().count());
+    }
+
     /**
      * Helper method to set config properties via reflection
      */
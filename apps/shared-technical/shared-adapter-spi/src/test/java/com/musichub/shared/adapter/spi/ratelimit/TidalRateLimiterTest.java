@@ -0,0 +1,190 @@
+package com.musichub.shared.adapter.spi.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+
+@DisplayName("TidalRateLimiter")
+class TidalRateLimiterTest {
+
+    private final AtomicLong fakeNanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private TidalRateLimiter fakeClockLimiter(double rate, int burst, Duration maxWait) {
+        return new TidalRateLimiter(rate, burst, maxWait, 2, meterRegistry, fakeNanos::get);
+    }
+
+    @Test
+    @DisplayName("Should grant the burst immediately, then push back with the expected wait")
+    void shouldGrantBurstThenPushBack() {
+        TidalRateLimiter limiter = fakeClockLimiter(2, 3, Duration.ZERO);
+
+        for (int i = 0; i < 3; i++) {
+            assertDoesNotThrow(() -> limiter.acquire(TidalRequestPriority.INTERACTIVE));
+        }
+        TidalBackPressureException rejected = assertThrows(TidalBackPressureException.class,
+                () -> limiter.acquire(TidalRequestPriority.INTERACTIVE));
+
+        assertEquals(Duration.ofMillis(500), rejected.getRetryAfter());
+        assertEquals(1.0, meterRegistry.get("tidal.ratelimit.rejections").counter().count());
+        assertEquals(0, limiter.queueDepth());
+    }
+
+    @Test
+    @DisplayName("Should refill tokens over time")
+    void shouldRefillOverTime() {
+        TidalRateLimiter limiter = fakeClockLimiter(2, 1, Duration.ZERO);
+        limiter.acquire(TidalRequestPriority.INTERACTIVE);
+
+        fakeNanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertDoesNotThrow(() -> limiter.acquire(TidalRequestPriority.INTERACTIVE));
+    }
+
+    @Test
+    @DisplayName("Should pause all calls for the Retry-After of a 429")
+    void shouldPauseOnTooManyRequests() {
+        TidalRateLimiter limiter = fakeClockLimiter(10, 10, Duration.ofSeconds(20));
+
+        limiter.observe(429, Map.of("Retry-After", "30")::get);
+
+        TidalBackPressureException rejected = assertThrows(TidalBackPressureException.class,
+                () -> limiter.acquire(TidalRequestPriority.INTERACTIVE));
+        assertTrue(rejected.getRetryAfter().compareTo(Duration.ofSeconds(30)) >= 0);
+        assertEquals(1.0, meterRegistry.get("tidal.ratelimit.responses.429").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should drain local tokens when Tidal reports none remaining")
+    void shouldDrainWhenRemainingIsZero() {
+        TidalRateLimiter limiter = fakeClockLimiter(1, 5, Duration.ZERO);
+
+        limiter.observe(200, Map.of("X-RateLimit-Remaining", "0")::get);
+
+        assertThrows(TidalBackPressureException.class, () -> limiter.acquire(TidalRequestPriority.INTERACTIVE));
+    }
+
+    @Test
+    @DisplayName("Should retry a call answered with 429, counting the 429 once")
+    void shouldRetryOnTooManyRequests() {
+        TidalRateLimiter limiter = new TidalRateLimiter(100, 5, Duration.ofSeconds(5), 2, meterRegistry);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = limiter.execute(TidalRequestPriority.INTERACTIVE, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                Response tooManyRequests = Response.status(429).header("Retry-After", "0").build();
+                // As TidalRateLimitResponseFilter does before the client throws
+                limiter.observe(429, tooManyRequests::getHeaderString);
+                throw new WebApplicationException(tooManyRequests);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(2, attempts.get());
+        assertEquals(1.0, meterRegistry.get("tidal.ratelimit.responses.429").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should push back with the last Retry-After once the 429 retries are used up")
+    void shouldPushBackWhenRetriesExhausted() {
+        TidalRateLimiter limiter = new TidalRateLimiter(100, 5, Duration.ofSeconds(5), 2, meterRegistry);
+        AtomicInteger attempts = new AtomicInteger();
+
+        TidalBackPressureException rejected = assertThrows(TidalBackPressureException.class,
+                () -> limiter.execute(TidalRequestPriority.INTERACTIVE, () -> {
+                    attempts.incrementAndGet();
+                    throw new WebApplicationException(Response.status(429).header("Retry-After", "0").build());
+                }));
+
+        assertEquals(3, attempts.get());
+        assertEquals(Duration.ZERO, rejected.getRetryAfter());
+    }
+
+    @Test
+    @DisplayName("Should serve interactive calls before background calls")
+    void shouldServeInteractiveFirst() throws Exception {
+        // Time only moves when the test says so: each step frees exactly one token
+        TidalRateLimiter limiter = fakeClockLimiter(5, 1, Duration.ofSeconds(5));
+        limiter.acquire(TidalRequestPriority.BACKGROUND);
+        List<TidalRequestPriority> served = new CopyOnWriteArrayList<>();
+        CountDownLatch interactiveServed = new CountDownLatch(1);
+        CountDownLatch backgroundServed = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.submit(() -> {
+                limiter.acquire(TidalRequestPriority.BACKGROUND);
+                served.add(TidalRequestPriority.BACKGROUND);
+                backgroundServed.countDown();
+            });
+            awaitQueueDepth(limiter, 1);
+            executor.submit(() -> {
+                limiter.acquire(TidalRequestPriority.INTERACTIVE);
+                served.add(TidalRequestPriority.INTERACTIVE);
+                interactiveServed.countDown();
+            });
+            awaitQueueDepth(limiter, 2);
+
+            releaseOneToken(limiter);
+            assertTrue(interactiveServed.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(TidalRequestPriority.INTERACTIVE), served);
+            assertEquals(1, limiter.queueDepth());
+
+            releaseOneToken(limiter);
+            assertTrue(backgroundServed.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(List.of(TidalRequestPriority.INTERACTIVE, TidalRequestPriority.BACKGROUND), served);
+    }
+
+    private void releaseOneToken(TidalRateLimiter limiter) {
+        fakeNanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+        // Any observed response wakes the waiters up to check the bucket again
+        limiter.observe(200, header -> null);
+    }
+
+    private static void awaitQueueDepth(TidalRateLimiter limiter, int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limiter.queueDepth() < depth) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for " + depth + " queued call(s)");
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should parse Retry-After as seconds, HTTP date or fall back to a default")
+    void shouldParseRetryAfter() {
+        assertEquals(Duration.ofSeconds(12), TidalRateLimiter.parseRetryAfter("12"));
+        assertEquals(Duration.ofSeconds(1), TidalRateLimiter.parseRetryAfter("not-a-delay"));
+        assertEquals(Duration.ofSeconds(1), TidalRateLimiter.parseRetryAfter(null));
+        assertEquals(Duration.ZERO, TidalRateLimiter.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.musichub.shared.util.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free buffer of the last items added, newest first.
+ * <p>
+ * Writers claim a sequence number and store their item in the slot it maps to,
+ * overwriting the oldest one once the ring is full; they never block each other
+ * nor readers. Readers walk back from the newest sequence and skip any slot
+ * that a concurrent writer has not filled yet or has already overwritten, so a
+ * read never sees a torn or out-of-order entry, at worst a few entries fewer
+ * than requested while writers race past it.
+ *
+ * @param <T> the item type
+ */
+public final class RecentItemsRing<T> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<Slot<T>> slots;
+    private final AtomicLong writes = new AtomicLong();
+
+    /**
+     * @param capacity how many of the latest items are kept
+     */
+    public RecentItemsRing(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive, got: " + capacity);
+        }
+        this.capacity = capacity;
+        // Power-of-two slot count so that a sequence maps to its slot with a mask
+        int length = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.mask = length - 1;
+        this.slots = new AtomicReferenceArray<>(length);
+    }
+
+    public void add(T item) {
+        Objects.requireNonNull(item, "item must not be null");
+        long sequence = writes.getAndIncrement();
+        slots.set((int) (sequence & mask), new Slot<>(sequence, item));
+    }
+
+    /**
+     * Copies up to {@code limit} of the latest items, newest first, into a
+     * list sized for the result.
+     */
+    public List<T> latest(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative, got: " + limit);
+        }
+        long head = writes.get();
+        long oldest = Math.max(0, head - capacity);
+        List<T> items = new ArrayList<>((int) Math.min(limit, head - oldest));
+        for (long sequence = head - 1; sequence >= oldest && items.size() < limit; sequence--) {
+            Slot<T> slot = slots.get((int) (sequence & mask));
+            if (slot != null && slot.sequence() == sequence) {
+                items.add(slot.item());
+            }
+        }
+        return items;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return how many items were ever added, including those since overwritten
+     */
+    public long writes() {
+        return writes.get();
+    }
+
+    /**
+     * @return how many items the ring currently holds
+     */
+    public int size() {
+        return (int) Math.min(capacity, writes.get());
+    }
+
+    private record Slot<T>(long sequence, T item) {
+    }
+}
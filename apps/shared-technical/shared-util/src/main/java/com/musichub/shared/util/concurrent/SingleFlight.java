@@ -0,0 +1,93 @@
+package com.musichub.shared.util.concurrent;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into a single execution.
+ * <p>
+ * The first caller for a key (the leader) runs the supplier on its own thread;
+ * callers arriving while it is in flight wait for and share its result or its
+ * exception. Once the call completes the key is released, so the next caller
+ * triggers a fresh execution: nothing is cached.
+ *
+ * @param <K> the key type
+ * @param <V> the result type
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Executes {@code call} for {@code key}, or joins the execution already in
+     * flight for it.
+     *
+     * @param key  the de-duplication key
+     * @param call the work to run when no call for {@code key} is in flight
+     * @return the call's result, as seen by every caller that shared it
+     */
+    public V execute(K key, Supplier<V> call) {
+        return executeTracked(key, call).value();
+    }
+
+    /**
+     * Same as {@link #execute(Object, Supplier)}, also telling whether this
+     * caller joined a call that was already in flight.
+     */
+    public Result<V> executeTracked(K key, Supplier<V> call) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(call, "call must not be null");
+
+        CompletableFuture<V> candidate = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, candidate);
+        if (existing != null) {
+            return new Result<>(await(existing), true);
+        }
+
+        try {
+            V value = call.get();
+            candidate.complete(value);
+            return new Result<>(value, false);
+        } catch (RuntimeException | Error e) {
+            candidate.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, candidate);
+        }
+    }
+
+    /**
+     * @return the number of keys currently in flight
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Outcome of a single-flight call.
+     *
+     * @param value  the shared result
+     * @param shared true if this caller joined another caller's execution
+     */
+    public record Result<V>(V value, boolean shared) {
+    }
+}
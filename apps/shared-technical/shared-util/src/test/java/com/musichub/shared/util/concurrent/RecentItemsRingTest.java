@@ -0,0 +1,123 @@
+package com.musichub.shared.util.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RecentItemsRing")
+class RecentItemsRingTest {
+
+    @Test
+    @DisplayName("Should return the latest items newest first")
+    void shouldReturnLatestNewestFirst() {
+        RecentItemsRing<Integer> ring = new RecentItemsRing<>(5);
+        for (int i = 1; i <= 3; i++) {
+            ring.add(i);
+        }
+
+        assertEquals(List.of(3, 2, 1), ring.latest(10));
+        assertEquals(List.of(3, 2), ring.latest(2));
+        assertEquals(3, ring.size());
+    }
+
+    @Test
+    @DisplayName("Should keep only the last items once full, for a capacity that is not a power of two")
+    void shouldOverwriteOldestWhenFull() {
+        RecentItemsRing<Integer> ring = new RecentItemsRing<>(3);
+        for (int i = 1; i <= 10; i++) {
+            ring.add(i);
+        }
+
+        assertEquals(List.of(10, 9, 8), ring.latest(5));
+        assertEquals(3, ring.size());
+        assertEquals(10, ring.writes());
+    }
+
+    @Test
+    @DisplayName("Should return an empty list when nothing was added")
+    void shouldReturnEmptyWhenEmpty() {
+        RecentItemsRing<String> ring = new RecentItemsRing<>(4);
+
+        assertTrue(ring.latest(4).isEmpty());
+        assertTrue(ring.latest(0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive capacity and a null item")
+    void shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RecentItemsRing<>(0));
+        assertThrows(NullPointerException.class, () -> new RecentItemsRing<String>(2).add(null));
+        assertThrows(IllegalArgumentException.class, () -> new RecentItemsRing<String>(2).latest(-1));
+    }
+
+    @Test
+    @DisplayName("Should return each writer's items newest first while writers race readers")
+    void shouldStayOrderedUnderConcurrentWrites() throws Exception {
+        RecentItemsRing<Long> ring = new RecentItemsRing<>(64);
+        int writers = 4;
+        int perWriter = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                long base = (long) w * perWriter;
+                futures.add(executor.submit(() -> {
+                    await(start);
+                    for (int i = 0; i < perWriter; i++) {
+                        ring.add(base + i);
+                    }
+                }));
+            }
+            Future<Integer> reader = executor.submit(() -> {
+                await(start);
+                int reads = 0;
+                while (ring.writes() < (long) writers * perWriter) {
+                    List<Long> latest = ring.latest(64);
+                    assertTrue(latest.size() <= 64);
+                    // Each writer adds increasing values, so newest first they must decrease per writer
+                    long[] previous = new long[writers];
+                    Arrays.fill(previous, Long.MAX_VALUE);
+                    for (long value : latest) {
+                        int writer = (int) (value / perWriter);
+                        assertTrue(value < previous[writer]);
+                        previous[writer] = value;
+                    }
+                    reads++;
+                }
+                return reads;
+            });
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            assertTrue(reader.get(30, TimeUnit.SECONDS) >= 0);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(64, ring.latest(64).size());
+        assertEquals((long) writers * perWriter, ring.writes());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
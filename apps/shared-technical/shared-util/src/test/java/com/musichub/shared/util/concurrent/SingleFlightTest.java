@@ -0,0 +1,124 @@
+package com.musichub.shared.util.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SingleFlight")
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("Should run concurrent calls for the same key once and share the result")
+    void shouldCoalesceConcurrentCalls() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<SingleFlight.Result<String>>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> singleFlight.executeTracked("key", () -> {
+                executions.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "value";
+            })));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+            CountDownLatch followersSubmitted = new CountDownLatch(callers - 1);
+            for (int i = 1; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    followersSubmitted.countDown();
+                    return singleFlight.executeTracked("key", () -> {
+                        executions.incrementAndGet();
+                        return "other";
+                    });
+                }));
+            }
+            assertTrue(followersSubmitted.await(5, TimeUnit.SECONDS));
+            // Give followers time to reach the in-flight call before the leader completes
+            Thread.sleep(200);
+            release.countDown();
+
+            int shared = 0;
+            for (Future<SingleFlight.Result<String>> future : futures) {
+                SingleFlight.Result<String> result = future.get(5, TimeUnit.SECONDS);
+                assertEquals("value", result.value());
+                if (result.shared()) {
+                    shared++;
+                }
+            }
+            assertEquals(1, executions.get());
+            assertEquals(callers - 1, shared);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should share the leader's exception with waiting callers")
+    void shouldShareFailure() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                leaderStarted.countDown();
+                await(release);
+                throw failure;
+            }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+            Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> "unused"));
+            Thread.sleep(200);
+            release.countDown();
+
+            ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+            ExecutionException followerError = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertSame(failure, leaderError.getCause());
+            assertSame(failure, followerError.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should release the key once the call completes")
+    void shouldReleaseKeyAfterCompletion() {
+        AtomicInteger executions = new AtomicInteger();
+
+        SingleFlight.Result<String> first = singleFlight.executeTracked("key", () -> "v" + executions.incrementAndGet());
+        SingleFlight.Result<String> second = singleFlight.executeTracked("key", () -> "v" + executions.incrementAndGet());
+
+        assertEquals("v1", first.value());
+        assertEquals("v2", second.value());
+        assertFalse(second.shared());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
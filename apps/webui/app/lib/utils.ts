@@ -37,7 +37,7 @@ export interface ProducerDto {
 function extractTrackInfo(data: ProducerDto): TrackInfo | undefined {
   if (!data.tracks || data.tracks.length === 0) return undefined;
   
-  const track = data.tracks[0]; // Get the first/latest track
+  const track = data.tracks[0]; // The registration response holds the registered track only
   if (!track.title || !track.artists || track.artists.length === 0) return undefined;
   
   return {